@@ -38,6 +38,15 @@ frameShapeDependencies {
    api(ihmc.sourceSetProject("frame"))
 }
 
+simdDependencies {
+   api(ihmc.sourceSetProject("main"))
+}
+
+// The Vector API is still incubating and has to be added explicitly to compile and run the SIMD kernels.
+ihmc.sourceSetProject("simd").tasks.withType<JavaCompile> {
+   options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+}
+
 testDependencies {
    api(ihmc.sourceSetProject("geometry"))
    api(ihmc.sourceSetProject("frame"))
@@ -47,3 +56,28 @@ testDependencies {
    api("org.ejml:ejml-ddense:0.39")
    api("us.ihmc:ihmc-commons-testing:0.34.0")
 }
+
+// The SIMD tests are kept apart such that the main test suite runs on any JVM and against the scalar kernel.
+ihmc.sourceSetProject("simd-test").tasks.withType<JavaCompile> {
+   options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+}
+
+ihmc.sourceSetProject("simd-test").tasks.withType<Test> {
+   jvmArgs("--add-modules", "jdk.incubator.vector")
+}
+
+simdTestDependencies {
+   api(ihmc.sourceSetProject("simd"))
+   api(ihmc.sourceSetProject("test"))
+}
+
+benchmarksDependencies {
+   api(ihmc.sourceSetProject("geometry"))
+   api(ihmc.sourceSetProject("frame"))
+   api(ihmc.sourceSetProject("shape"))
+   api(ihmc.sourceSetProject("frame-shape"))
+   api(ihmc.sourceSetProject("simd"))
+
+   api("org.openjdk.jmh:jmh-core:1.36")
+   annotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:1.36")
+}
@@ -0,0 +1,38 @@
+package us.ihmc.euclid;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for running the Euclid benchmarks.
+ * <p>
+ * Each benchmark reports its average time in nanoseconds per operation and is run with the
+ * {@link GCProfiler} such that the allocation rate, i.e. {@code gc.alloc.rate.norm} in bytes per
+ * operation, is reported alongside. The results are also saved in a JSON file so they can be
+ * compared from one version of Euclid to the next.
+ * </p>
+ * <p>
+ * Usage: {@code EuclidBenchmarkRunner [includeRegex] [resultFile]}, where {@code includeRegex}
+ * selects the benchmarks to run, all by default, and {@code resultFile} is the path to the JSON
+ * file to write, {@code "euclid-benchmarks.json"} by default.
+ * </p>
+ */
+public class EuclidBenchmarkRunner
+{
+   public static void main(String[] args) throws RunnerException
+   {
+      String include = args.length > 0 ? args[0] : "us\\.ihmc\\.euclid\\..*Benchmark.*";
+      String resultFile = args.length > 1 ? args[1] : "euclid-benchmarks.json";
+
+      Options options = new OptionsBuilder().include(include)
+                                            .addProfiler(GCProfiler.class)
+                                            .resultFormat(ResultFormatType.JSON)
+                                            .result(resultFile)
+                                            .build();
+      new Runner(options).run();
+   }
+}
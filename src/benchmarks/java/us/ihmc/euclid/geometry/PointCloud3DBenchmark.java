@@ -0,0 +1,93 @@
+package us.ihmc.euclid.geometry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.tuple3D.Point3D;
+
+/**
+ * Benchmarks for refilling and iterating over a large point cloud stored as a
+ * {@code List<Point3D>} versus a {@link PointCloud3D}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PointCloud3DBenchmark
+{
+   private final int numberOfPoints = 300000;
+   private float[] scan;
+   private List<Point3D> pointList;
+   private PointCloud3D pointCloud;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(3458);
+      scan = new float[3 * numberOfPoints];
+      for (int i = 0; i < scan.length; i++)
+         scan[i] = 10.0f * (random.nextFloat() - 0.5f);
+
+      pointList = new ArrayList<>(numberOfPoints);
+      pointCloud = new PointCloud3D(numberOfPoints);
+      refillList();
+      refillCloud();
+   }
+
+   @Benchmark
+   public List<Point3D> refillList()
+   {
+      pointList.clear();
+      for (int i = 0; i < numberOfPoints; i++)
+         pointList.add(new Point3D(scan[3 * i], scan[3 * i + 1], scan[3 * i + 2]));
+      return pointList;
+   }
+
+   @Benchmark
+   public PointCloud3D refillCloud()
+   {
+      pointCloud.clear();
+      pointCloud.addAll(scan, 0, numberOfPoints);
+      return pointCloud;
+   }
+
+   @Benchmark
+   public Point3D centroidList()
+   {
+      Point3D centroid = new Point3D();
+      for (int i = 0; i < pointList.size(); i++)
+         centroid.add(pointList.get(i));
+      centroid.scale(1.0 / pointList.size());
+      return centroid;
+   }
+
+   @Benchmark
+   public Point3D centroidCloud()
+   {
+      double x = 0.0, y = 0.0, z = 0.0;
+      for (int i = 0; i < pointCloud.getNumberOfVertices(); i++)
+      {
+         x += pointCloud.getX(i);
+         y += pointCloud.getY(i);
+         z += pointCloud.getZ(i);
+      }
+      Point3D centroid = new Point3D(x, y, z);
+      centroid.scale(1.0 / pointCloud.getNumberOfVertices());
+      return centroid;
+   }
+}
@@ -0,0 +1,79 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.referenceFrame.tools.EuclidFrameChangeTools;
+import us.ihmc.euclid.referenceFrame.tools.EuclidFrameRandomTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+/**
+ * Benchmarks for changing the frame of a large collection of points, such as a point cloud from a
+ * camera, one point at a time versus with {@link EuclidFrameChangeTools}.
+ * <p>
+ * Each operation changes the frame of all the points to the desired frame and back to the camera
+ * frame.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FrameChangeBenchmark
+{
+   @Param({"root", "pelvis"})
+   public String desiredFrameName;
+
+   private final int numberOfPoints = 10000;
+   private final RigidBodyTransform transform = new RigidBodyTransform();
+   private ReferenceFrame cameraFrame;
+   private ReferenceFrame desiredFrame;
+   private List<FramePoint3D> points;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(8923);
+      HumanoidFrameTree tree = new HumanoidFrameTree("humanoid");
+      tree.updateJointFrames(0.3);
+      cameraFrame = tree.getEndEffectorFrames().get(0);
+      desiredFrame = desiredFrameName.equals("root") ? tree.getRootFrame() : tree.getPelvisFrame();
+      points = new ArrayList<>();
+      for (int i = 0; i < numberOfPoints; i++)
+         points.add(EuclidFrameRandomTools.nextFramePoint3D(random, cameraFrame));
+   }
+
+   @Benchmark
+   public List<FramePoint3D> changeFramePointByPoint()
+   {
+      for (int i = 0; i < points.size(); i++)
+         points.get(i).changeFrame(desiredFrame);
+      for (int i = 0; i < points.size(); i++)
+         points.get(i).changeFrame(cameraFrame);
+      return points;
+   }
+
+   @Benchmark
+   public List<FramePoint3D> changeFrameInBatch()
+   {
+      EuclidFrameChangeTools.changeFrame(points, desiredFrame, transform);
+      EuclidFrameChangeTools.changeFrame(points, cameraFrame, transform);
+      return points;
+   }
+}
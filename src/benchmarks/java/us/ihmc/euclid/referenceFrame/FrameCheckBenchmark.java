@@ -0,0 +1,88 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.referenceFrame.tools.EuclidFrameRandomTools;
+
+/**
+ * Benchmarks for common frame geometry operations, run with the reference frame checks enabled and,
+ * in {@link WithoutFrameChecks}, with the checks disabled, see
+ * {@link ReferenceFrame#FRAME_CHECKS_ENABLED}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FrameCheckBenchmark
+{
+   private FramePoint3D point;
+   private FramePoint3D otherPoint;
+   private FrameVector3D vector;
+   private FrameVector3D vectorA;
+   private FrameVector3D vectorB;
+   private FrameConvexPolygon2D polygon;
+   private FramePoint2D point2D;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(3476);
+      ReferenceFrame frame = EuclidFrameRandomTools.nextReferenceFrame(random);
+      point = EuclidFrameRandomTools.nextFramePoint3D(random, frame);
+      otherPoint = EuclidFrameRandomTools.nextFramePoint3D(random, frame);
+      vector = EuclidFrameRandomTools.nextFrameVector3D(random, frame);
+      vectorA = EuclidFrameRandomTools.nextFrameVector3D(random, frame);
+      vectorB = EuclidFrameRandomTools.nextFrameVector3D(random, frame);
+      polygon = EuclidFrameRandomTools.nextFrameConvexPolygon2D(random, frame, 1.0, 10);
+      point2D = EuclidFrameRandomTools.nextFramePoint2D(random, frame);
+   }
+
+   @Benchmark
+   public FramePoint3D addPoints()
+   {
+      point.add(otherPoint);
+      point.scale(0.5);
+      return point;
+   }
+
+   @Benchmark
+   public double distanceBetweenPoints()
+   {
+      return point.distance(otherPoint);
+   }
+
+   @Benchmark
+   public FrameVector3D crossVectors()
+   {
+      vector.cross(vectorA, vectorB);
+      return vector;
+   }
+
+   @Benchmark
+   public boolean isPointInsidePolygon()
+   {
+      return polygon.isPointInside(point2D);
+   }
+
+   /**
+    * Same benchmarks run in a JVM with the reference frame checks disabled.
+    */
+   @Fork(value = 1, jvmArgsAppend = "-Deuclid.referenceFrame.frameChecksEnabled=false")
+   public static class WithoutFrameChecks extends FrameCheckBenchmark
+   {
+   }
+}
@@ -0,0 +1,221 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import us.ihmc.euclid.referenceFrame.tools.ReferenceFrameTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Vector3D;
+
+/**
+ * Tree of reference frames with the structure of a humanoid robot, used to benchmark the reference
+ * frame framework on a realistic tree.
+ * <p>
+ * Every joint is represented by a {@link JointFrame} rotating about one axis, followed by a fixed
+ * link frame which is the parent of the next joint. The tree has two 6-joint legs, a 3-joint spine,
+ * a 2-joint neck, and two 7-joint arms, each ending with a hand with five 3-joint fingers, for a
+ * total of 140 frames. The path from the root frame to a finger tip is 31 frames long.
+ * </p>
+ */
+public class HumanoidFrameTree
+{
+   private static final int YAW = 0, PITCH = 1, ROLL = 2;
+   private static final int[] LEG_AXES = {YAW, ROLL, PITCH, PITCH, PITCH, ROLL};
+   private static final int[] SPINE_AXES = {YAW, PITCH, ROLL};
+   private static final int[] NECK_AXES = {YAW, PITCH};
+   private static final int[] ARM_AXES = {PITCH, ROLL, YAW, PITCH, YAW, PITCH, ROLL};
+   private static final int[] FINGER_AXES = {PITCH, PITCH, PITCH};
+
+   private final ReferenceFrame rootFrame;
+   private final List<ReferenceFrame> allFrames = new ArrayList<>();
+   private final List<JointFrame> jointFrames = new ArrayList<>();
+   private final List<ReferenceFrame> endEffectorFrames = new ArrayList<>();
+   private final ReferenceFrame pelvisFrame;
+   private ReferenceFrame deepestFrame;
+
+   /**
+    * Creates a new humanoid tree under a new root frame.
+    *
+    * @param name the name of the root frame.
+    */
+   public HumanoidFrameTree(String name)
+   {
+      rootFrame = ReferenceFrameTools.constructARootFrame(name);
+      allFrames.add(rootFrame);
+
+      pelvisFrame = addChain("pelvis", rootFrame, new int[] {YAW}, new Vector3D(0.0, 0.0, 1.0));
+
+      for (String side : new String[] {"left", "right"})
+      {
+         double sign = side.equals("left") ? 1.0 : -1.0;
+         ReferenceFrame ankle = addChain(side + "Leg", pelvisFrame, LEG_AXES, new Vector3D(0.0, sign * 0.1, -0.15));
+         endEffectorFrames.add(addFixedFrame(side + "Sole", ankle, new Vector3D(0.05, 0.0, -0.08)));
+      }
+
+      ReferenceFrame chest = addChain("spine", pelvisFrame, SPINE_AXES, new Vector3D(0.0, 0.0, 0.12));
+      ReferenceFrame head = addChain("neck", chest, NECK_AXES, new Vector3D(0.0, 0.0, 0.08));
+      endEffectorFrames.add(addFixedFrame("camera", head, new Vector3D(0.1, 0.0, 0.05)));
+
+      for (String side : new String[] {"left", "right"})
+      {
+         double sign = side.equals("left") ? 1.0 : -1.0;
+         ReferenceFrame wrist = addChain(side + "Arm", chest, ARM_AXES, new Vector3D(0.0, sign * 0.1, 0.0));
+         ReferenceFrame hand = addFixedFrame(side + "Hand", wrist, new Vector3D(0.0, 0.0, -0.08));
+
+         for (int finger = 0; finger < 5; finger++)
+         {
+            ReferenceFrame lastPhalanx = addChain(side + "Finger" + finger, hand, FINGER_AXES, new Vector3D(0.02 * (finger - 2), 0.0, -0.05));
+            ReferenceFrame fingerTip = addFixedFrame(side + "FingerTip" + finger, lastPhalanx, new Vector3D(0.0, 0.0, -0.02));
+            endEffectorFrames.add(fingerTip);
+            deepestFrame = fingerTip;
+         }
+      }
+   }
+
+   private ReferenceFrame addChain(String name, ReferenceFrame parentFrame, int[] axes, Vector3D linkOffset)
+   {
+      ReferenceFrame linkFrame = parentFrame;
+
+      for (int i = 0; i < axes.length; i++)
+      {
+         JointFrame jointFrame = new JointFrame(name + "Joint" + i, linkFrame, axes[i], i == 0 ? linkOffset : new Vector3D(0.0, 0.0, -0.05));
+         jointFrames.add(jointFrame);
+         allFrames.add(jointFrame);
+         linkFrame = addFixedFrame(name + "Link" + i, jointFrame, new Vector3D(0.01, 0.0, -0.1));
+      }
+
+      return linkFrame;
+   }
+
+   private ReferenceFrame addFixedFrame(String name, ReferenceFrame parentFrame, Vector3D translation)
+   {
+      ReferenceFrame frame = ReferenceFrameTools.constructFrameWithUnchangingTranslationFromParent(name, parentFrame, translation);
+      allFrames.add(frame);
+      return frame;
+   }
+
+   /**
+    * Sets the angle of every joint to a different function of the given phase and updates all the
+    * joint frames in order starting from the root.
+    *
+    * @param phase the phase used to compute the joint angles.
+    */
+   public void updateJointFrames(double phase)
+   {
+      setJointAngles(phase);
+
+      for (int i = 0; i < jointFrames.size(); i++)
+         jointFrames.get(i).update();
+   }
+
+   /**
+    * Sets the angle of every joint to a different function of the given phase without updating the
+    * frames.
+    *
+    * @param phase the phase used to compute the joint angles.
+    */
+   public void setJointAngles(double phase)
+   {
+      for (int i = 0; i < jointFrames.size(); i++)
+         jointFrames.get(i).setJointAngle(Math.sin(phase + i));
+   }
+
+   /**
+    * Gets the root frame of this tree.
+    *
+    * @return the root frame.
+    */
+   public ReferenceFrame getRootFrame()
+   {
+      return rootFrame;
+   }
+
+   /**
+    * Gets the frame of the pelvis, which is the parent of the legs and the spine.
+    *
+    * @return the pelvis frame.
+    */
+   public ReferenceFrame getPelvisFrame()
+   {
+      return pelvisFrame;
+   }
+
+   /**
+    * Gets all the frames of this tree, parents before children.
+    *
+    * @return the list of all the frames, starting with the root frame.
+    */
+   public List<ReferenceFrame> getAllFrames()
+   {
+      return allFrames;
+   }
+
+   /**
+    * Gets the joint frames of this tree, parents before children.
+    *
+    * @return the list of the joint frames.
+    */
+   public List<JointFrame> getJointFrames()
+   {
+      return jointFrames;
+   }
+
+   /**
+    * Gets the frames at the end of each limb: the soles, the camera, and the finger tips.
+    *
+    * @return the list of end-effector frames.
+    */
+   public List<ReferenceFrame> getEndEffectorFrames()
+   {
+      return endEffectorFrames;
+   }
+
+   /**
+    * Gets one of the frames the farthest away from the root frame.
+    *
+    * @return a finger tip frame.
+    */
+   public ReferenceFrame getDeepestFrame()
+   {
+      return deepestFrame;
+   }
+
+   /**
+    * Reference frame rotating about one of its parent's axes.
+    */
+   public static class JointFrame extends ReferenceFrame
+   {
+      private final int axis;
+      private final Vector3D offset;
+      private double jointAngle = 0.0;
+
+      private JointFrame(String name, ReferenceFrame parentFrame, int axis, Vector3D offset)
+      {
+         super(name, parentFrame);
+         this.axis = axis;
+         this.offset = offset;
+      }
+
+      /**
+       * Sets the joint angle to use at the next update.
+       *
+       * @param jointAngle the new joint angle.
+       */
+      public void setJointAngle(double jointAngle)
+      {
+         this.jointAngle = jointAngle;
+      }
+
+      @Override
+      protected void updateTransformToParent(RigidBodyTransform transformToParent)
+      {
+         if (axis == YAW)
+            transformToParent.getRotation().setToYawOrientation(jointAngle);
+         else if (axis == PITCH)
+            transformToParent.getRotation().setToPitchOrientation(jointAngle);
+         else
+            transformToParent.getRotation().setToRollOrientation(jointAngle);
+         transformToParent.getTranslation().set(offset);
+      }
+   }
+}
@@ -0,0 +1,128 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+/**
+ * Benchmarks for the computation of the transforms to root of a {@link HumanoidFrameTree}, comparing
+ * the default mode of {@link ReferenceFrame} with the dirty propagation mode, see
+ * {@link ReferenceFrame#setDirtyPropagationEnabled(boolean)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReferenceFrameBenchmark
+{
+   @Param({"false", "true"})
+   public boolean dirtyPropagation;
+
+   private HumanoidFrameTree tree;
+   private List<ReferenceFrame> endEffectorFrames;
+   private ReferenceFrame deepestFrame;
+   private ReferenceFrame pelvisJointFrame;
+   private ReferenceFrame fingerBaseFrame;
+   private final RigidBodyTransform transform = new RigidBodyTransform();
+   private double phase = 0.0;
+
+   @Setup
+   public void setup()
+   {
+      tree = new HumanoidFrameTree("humanoid");
+      tree.getRootFrame().setDirtyPropagationEnabled(dirtyPropagation);
+      tree.updateJointFrames(phase);
+      endEffectorFrames = tree.getEndEffectorFrames();
+      deepestFrame = tree.getDeepestFrame();
+      pelvisJointFrame = tree.getJointFrames().get(0);
+      fingerBaseFrame = deepestFrame.getParent().getParent().getParent().getParent();
+   }
+
+   /**
+    * Queries the transform to root of the deepest frame while nothing has changed since the last
+    * query.
+    */
+   @Benchmark
+   public RigidBodyTransform getTransformToRootUnchanged()
+   {
+      return deepestFrame.getTransformToRoot();
+   }
+
+   /**
+    * Queries the transforms to root of all the end-effectors while nothing has changed since the last
+    * query.
+    */
+   @Benchmark
+   public RigidBodyTransform getEndEffectorTransformsUnchanged()
+   {
+      RigidBodyTransform last = null;
+      for (int i = 0; i < endEffectorFrames.size(); i++)
+         last = endEffectorFrames.get(i).getTransformToRoot();
+      return last;
+   }
+
+   /**
+    * Typical control tick: updates all the joints, then queries the transforms to root of all the
+    * end-effectors.
+    */
+   @Benchmark
+   public RigidBodyTransform updateAllAndGetEndEffectorTransforms()
+   {
+      phase += 0.01;
+      tree.updateJointFrames(phase);
+
+      RigidBodyTransform last = null;
+      for (int i = 0; i < endEffectorFrames.size(); i++)
+         last = endEffectorFrames.get(i).getTransformToRoot();
+      return last;
+   }
+
+   /**
+    * Updates only the pelvis joint, which invalidates the entire tree, then queries the transform to
+    * root of the deepest frame.
+    */
+   @Benchmark
+   public RigidBodyTransform updatePelvisAndGetTransformToRoot()
+   {
+      pelvisJointFrame.update();
+      return deepestFrame.getTransformToRoot();
+   }
+
+   /**
+    * Queries the transform from a finger tip to the frame 4 levels above it while nothing has changed
+    * since the last query.
+    */
+   @Benchmark
+   public RigidBodyTransform getTransformToFingerBaseUnchanged()
+   {
+      deepestFrame.getTransformToDesiredFrame(transform, fingerBaseFrame);
+      return transform;
+   }
+
+   /**
+    * Updates only the pelvis joint, which invalidates the entire tree, then queries the transform from
+    * a finger tip to the frame 4 levels above it.
+    */
+   @Benchmark
+   public RigidBodyTransform updatePelvisAndGetTransformToFingerBase()
+   {
+      pelvisJointFrame.update();
+      deepestFrame.getTransformToDesiredFrame(transform, fingerBaseFrame);
+      return transform;
+   }
+}
@@ -0,0 +1,74 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.referenceFrame.tools.EuclidFrameRandomTools;
+import us.ihmc.euclid.referenceFrame.tools.ReferenceFrameTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+/**
+ * Benchmarks for the churn of short-lived frames, such as the frames of detected objects created and
+ * dropped by perception code, attached to a parent with long-lived children.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReferenceFrameChurnBenchmark
+{
+   @Param({"10", "1000"})
+   public int numberOfLongLivedChildren;
+
+   private final Random random = new Random(6342);
+   private final RigidBodyTransform transformToParent = new RigidBodyTransform();
+   private ReferenceFrame[] longLivedChildren;
+   private ReferenceFrame parentFrame;
+
+   @Setup
+   public void setup()
+   {
+      parentFrame = EuclidFrameRandomTools.nextReferenceFrame("parent", random, ReferenceFrameTools.constructARootFrame("root"));
+      longLivedChildren = new ReferenceFrame[numberOfLongLivedChildren];
+      for (int i = 0; i < numberOfLongLivedChildren; i++)
+         longLivedChildren[i] = EuclidFrameRandomTools.nextReferenceFrame("child" + i, random, parentFrame);
+   }
+
+   /**
+    * Creates a frame, uses it, and drops it such that it is eventually garbage collected, then counts
+    * the children of the parent as a traversal of the tree would.
+    */
+   @Benchmark
+   public int createAndDropFrame()
+   {
+      ReferenceFrame frame = ReferenceFrameTools.constructFrameWithUnchangingTransformToParent("transient", parentFrame, transformToParent);
+      frame.getTransformToRoot();
+      return parentFrame.getNumberOfChildren();
+   }
+
+   /**
+    * Creates a frame, uses it, and explicitly removes it from the tree.
+    */
+   @Benchmark
+   public int createAndRemoveFrame()
+   {
+      ReferenceFrame frame = ReferenceFrameTools.constructFrameWithUnchangingTransformToParent("transient", parentFrame, transformToParent);
+      frame.getTransformToRoot();
+      frame.remove();
+      return parentFrame.getNumberOfChildren();
+   }
+}
@@ -0,0 +1,81 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.referenceFrame.tools.EuclidFrameRandomTools;
+import us.ihmc.euclid.referenceFrame.tools.ReferenceFrameTools;
+
+/**
+ * Benchmarks for the name related operations on large frame trees: the construction of a tree with
+ * unique frame names enforced and the lookup of frames by name.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReferenceFrameNameBenchmark
+{
+   @Param({"100", "1000", "5000"})
+   public int numberOfFrames;
+
+   private final Random random = new Random(4562);
+   private ReferenceFrame[] frames;
+   private String[] frameNames;
+   private int index = 0;
+
+   @Setup
+   public void setup()
+   {
+      frames = EuclidFrameRandomTools.nextReferenceFrameTree("frame", random, ReferenceFrameTools.constructARootFrame("root"), numberOfFrames);
+      frameNames = new String[frames.length];
+      for (int i = 0; i < frames.length; i++)
+         frameNames[i] = frames[i].getName();
+   }
+
+   /**
+    * Constructs a tree in which each frame name has to be unique, see
+    * {@link FrameNameRestrictionLevel#FRAME_NAME}.
+    */
+   @Benchmark
+   public ReferenceFrame constructTreeWithUniqueFrameNames()
+   {
+      ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root");
+      root.setNameRestrictionLevel(FrameNameRestrictionLevel.FRAME_NAME);
+      return EuclidFrameRandomTools.nextReferenceFrameTree("frame", random, root, numberOfFrames)[numberOfFrames];
+   }
+
+   /**
+    * Constructs a tree without name restriction, see {@link FrameNameRestrictionLevel#NONE}.
+    */
+   @Benchmark
+   public ReferenceFrame constructTreeWithoutNameRestriction()
+   {
+      ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root");
+      return EuclidFrameRandomTools.nextReferenceFrameTree("frame", random, root, numberOfFrames)[numberOfFrames];
+   }
+
+   /**
+    * Looks up a frame of the tree by its name.
+    */
+   @Benchmark
+   public ReferenceFrame findFrameInTreeByName()
+   {
+      index = (index + 1) % frameNames.length;
+      return frames[0].findFrameInTreeByName(frameNames[index]);
+   }
+}
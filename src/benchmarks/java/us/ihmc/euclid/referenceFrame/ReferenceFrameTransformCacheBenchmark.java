@@ -0,0 +1,111 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+/**
+ * Benchmarks for repeated queries of the transforms between the end-effectors of a
+ * {@link HumanoidFrameTree} and its pelvis, comparing {@link ReferenceFrame} with
+ * {@link ReferenceFrameTransformCache}, with and without dirty propagation, see
+ * {@link ReferenceFrame#setDirtyPropagationEnabled(boolean)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReferenceFrameTransformCacheBenchmark
+{
+   @Param({"false", "true"})
+   public boolean dirtyPropagation;
+
+   private HumanoidFrameTree tree;
+   private List<ReferenceFrame> endEffectorFrames;
+   private ReferenceFrame pelvisFrame;
+   private ReferenceFrameTransformCache cache;
+   private final RigidBodyTransform transform = new RigidBodyTransform();
+   private double phase = 0.0;
+
+   @Setup
+   public void setup()
+   {
+      tree = new HumanoidFrameTree("humanoid");
+      tree.getRootFrame().setDirtyPropagationEnabled(dirtyPropagation);
+      tree.updateJointFrames(phase);
+      endEffectorFrames = tree.getEndEffectorFrames();
+      pelvisFrame = tree.getPelvisFrame();
+      cache = new ReferenceFrameTransformCache(64);
+   }
+
+   /**
+    * Queries the transform from each end-effector to the pelvis while nothing has changed.
+    */
+   @Benchmark
+   public RigidBodyTransform getEndEffectorToPelvisUnchanged()
+   {
+      for (int i = 0; i < endEffectorFrames.size(); i++)
+         endEffectorFrames.get(i).getTransformToDesiredFrame(transform, pelvisFrame);
+      return transform;
+   }
+
+   /**
+    * Same queries as {@link #getEndEffectorToPelvisUnchanged()} using the cache.
+    */
+   @Benchmark
+   public RigidBodyTransform getEndEffectorToPelvisUnchangedCached()
+   {
+      for (int i = 0; i < endEffectorFrames.size(); i++)
+         cache.getTransformToDesiredFrame(endEffectorFrames.get(i), pelvisFrame, transform);
+      return transform;
+   }
+
+   /**
+    * Typical control tick: updates all the joints, then queries the transform from each end-effector
+    * to the pelvis 10 times.
+    */
+   @Benchmark
+   public RigidBodyTransform updateAllAndGetEndEffectorToPelvis()
+   {
+      phase += 0.01;
+      tree.updateJointFrames(phase);
+
+      for (int j = 0; j < 10; j++)
+      {
+         for (int i = 0; i < endEffectorFrames.size(); i++)
+            endEffectorFrames.get(i).getTransformToDesiredFrame(transform, pelvisFrame);
+      }
+      return transform;
+   }
+
+   /**
+    * Same as {@link #updateAllAndGetEndEffectorToPelvis()} using the cache.
+    */
+   @Benchmark
+   public RigidBodyTransform updateAllAndGetEndEffectorToPelvisCached()
+   {
+      phase += 0.01;
+      tree.updateJointFrames(phase);
+
+      for (int j = 0; j < 10; j++)
+      {
+         for (int i = 0; i < endEffectorFrames.size(); i++)
+            cache.getTransformToDesiredFrame(endEffectorFrames.get(i), pelvisFrame, transform);
+      }
+      return transform;
+   }
+}
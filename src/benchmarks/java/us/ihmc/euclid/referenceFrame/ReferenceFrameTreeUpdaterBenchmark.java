@@ -0,0 +1,108 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+/**
+ * Benchmarks for a control tick on a {@link HumanoidFrameTree}, comparing the update of the joint
+ * frames one by one followed by lazy queries of the end-effector transforms, with the batch update
+ * of {@link ReferenceFrameTreeUpdater}, run serially or with the limbs updated in parallel.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReferenceFrameTreeUpdaterBenchmark
+{
+   @Param({"false", "true"})
+   public boolean dirtyPropagation;
+
+   private HumanoidFrameTree tree;
+   private List<ReferenceFrame> endEffectorFrames;
+   private ForkJoinPool pool;
+   private ReferenceFrameTreeUpdater serialUpdater;
+   private ReferenceFrameTreeUpdater parallelUpdater;
+   private double phase = 0.0;
+
+   @Setup
+   public void setup()
+   {
+      tree = new HumanoidFrameTree("humanoid");
+      tree.getRootFrame().setDirtyPropagationEnabled(dirtyPropagation);
+      endEffectorFrames = tree.getEndEffectorFrames();
+      pool = new ForkJoinPool(4);
+      serialUpdater = new ReferenceFrameTreeUpdater(tree.getRootFrame());
+      // Splits the tree into the legs, the arms, and the fingers.
+      parallelUpdater = new ReferenceFrameTreeUpdater(tree.getRootFrame(), pool, 10);
+   }
+
+   @TearDown
+   public void tearDown()
+   {
+      pool.shutdown();
+   }
+
+   /**
+    * Updates the joint frames one by one, then queries the transforms to root of all the
+    * end-effectors.
+    */
+   @Benchmark
+   public RigidBodyTransform updateFramesIndividually()
+   {
+      phase += 0.01;
+      tree.updateJointFrames(phase);
+      return getEndEffectorTransforms();
+   }
+
+   /**
+    * Updates the entire tree from the calling thread, then queries the transforms to root of all the
+    * end-effectors.
+    */
+   @Benchmark
+   public RigidBodyTransform updateTreeSerially()
+   {
+      phase += 0.01;
+      tree.setJointAngles(phase);
+      serialUpdater.update();
+      return getEndEffectorTransforms();
+   }
+
+   /**
+    * Updates the entire tree with the large subtrees updated in parallel, then queries the transforms
+    * to root of all the end-effectors.
+    */
+   @Benchmark
+   public RigidBodyTransform updateTreeInParallel()
+   {
+      phase += 0.01;
+      tree.setJointAngles(phase);
+      parallelUpdater.update();
+      return getEndEffectorTransforms();
+   }
+
+   private RigidBodyTransform getEndEffectorTransforms()
+   {
+      RigidBodyTransform last = null;
+      for (int i = 0; i < endEffectorFrames.size(); i++)
+         last = endEffectorFrames.get(i).getTransformToRoot();
+      return last;
+   }
+}
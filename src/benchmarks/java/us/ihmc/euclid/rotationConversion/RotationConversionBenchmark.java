@@ -0,0 +1,142 @@
+package us.ihmc.euclid.rotationConversion;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.axisAngle.AxisAngle;
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.yawPitchRoll.YawPitchRoll;
+
+/**
+ * Benchmarks for the conversions between the different representations of a 3D orientation
+ * gathered in the {@code rotationConversion} package.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RotationConversionBenchmark
+{
+   private Quaternion quaternion;
+   private RotationMatrix rotationMatrix;
+   private AxisAngle axisAngle;
+   private YawPitchRoll yawPitchRoll;
+   private Vector3D rotationVector;
+
+   private final Quaternion quaternionResult = new Quaternion();
+   private final RotationMatrix matrixResult = new RotationMatrix();
+   private final AxisAngle axisAngleResult = new AxisAngle();
+   private final YawPitchRoll yawPitchRollResult = new YawPitchRoll();
+   private final Vector3D rotationVectorResult = new Vector3D();
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(8734);
+      quaternion = EuclidCoreRandomTools.nextQuaternion(random);
+      rotationMatrix = EuclidCoreRandomTools.nextRotationMatrix(random);
+      axisAngle = EuclidCoreRandomTools.nextAxisAngle(random);
+      yawPitchRoll = EuclidCoreRandomTools.nextYawPitchRoll(random);
+      rotationVector = EuclidCoreRandomTools.nextRotationVector(random);
+   }
+
+   @Benchmark
+   public Quaternion matrixToQuaternion()
+   {
+      QuaternionConversion.convertMatrixToQuaternion(rotationMatrix, quaternionResult);
+      return quaternionResult;
+   }
+
+   @Benchmark
+   public Quaternion axisAngleToQuaternion()
+   {
+      QuaternionConversion.convertAxisAngleToQuaternion(axisAngle, quaternionResult);
+      return quaternionResult;
+   }
+
+   @Benchmark
+   public Quaternion yawPitchRollToQuaternion()
+   {
+      QuaternionConversion.convertYawPitchRollToQuaternion(yawPitchRoll, quaternionResult);
+      return quaternionResult;
+   }
+
+   @Benchmark
+   public Quaternion rotationVectorToQuaternion()
+   {
+      QuaternionConversion.convertRotationVectorToQuaternion(rotationVector, quaternionResult);
+      return quaternionResult;
+   }
+
+   @Benchmark
+   public RotationMatrix quaternionToMatrix()
+   {
+      RotationMatrixConversion.convertQuaternionToMatrix(quaternion, matrixResult);
+      return matrixResult;
+   }
+
+   @Benchmark
+   public RotationMatrix yawPitchRollToMatrix()
+   {
+      RotationMatrixConversion.convertYawPitchRollToMatrix(yawPitchRoll, matrixResult);
+      return matrixResult;
+   }
+
+   @Benchmark
+   public AxisAngle quaternionToAxisAngle()
+   {
+      AxisAngleConversion.convertQuaternionToAxisAngle(quaternion, axisAngleResult);
+      return axisAngleResult;
+   }
+
+   @Benchmark
+   public AxisAngle matrixToAxisAngle()
+   {
+      AxisAngleConversion.convertMatrixToAxisAngle(rotationMatrix, axisAngleResult);
+      return axisAngleResult;
+   }
+
+   @Benchmark
+   public YawPitchRoll quaternionToYawPitchRoll()
+   {
+      YawPitchRollConversion.convertQuaternionToYawPitchRoll(quaternion, yawPitchRollResult);
+      return yawPitchRollResult;
+   }
+
+   @Benchmark
+   public YawPitchRoll matrixToYawPitchRoll()
+   {
+      YawPitchRollConversion.convertMatrixToYawPitchRoll(rotationMatrix, yawPitchRollResult);
+      return yawPitchRollResult;
+   }
+
+   @Benchmark
+   public Vector3D quaternionToRotationVector()
+   {
+      RotationVectorConversion.convertQuaternionToRotationVector(quaternion, rotationVectorResult);
+      return rotationVectorResult;
+   }
+
+   @Benchmark
+   public Vector3D matrixToRotationVector()
+   {
+      RotationVectorConversion.convertMatrixToRotationVector(rotationMatrix, rotationVectorResult);
+      return rotationVectorResult;
+   }
+}
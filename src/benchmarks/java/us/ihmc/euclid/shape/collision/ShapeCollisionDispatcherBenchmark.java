@@ -0,0 +1,143 @@
+package us.ihmc.euclid.shape.collision;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.shape.collision.ShapeCollisionDispatcher.ShapeType;
+import us.ihmc.euclid.shape.collision.epa.ExpandingPolytopeAlgorithm;
+import us.ihmc.euclid.shape.primitives.interfaces.Capsule3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Cylinder3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DBasics;
+import us.ihmc.euclid.shape.tools.EuclidShapeRandomTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+/**
+ * Benchmarks for the analytical routines of {@link ShapeCollisionDispatcher} versus
+ * {@link ExpandingPolytopeAlgorithm} on the same pairs of shapes, separately for colliding and
+ * separated pairs.
+ * <p>
+ * The capsule-cylinder routine is registered explicitly such that it is measured whether or not the
+ * dispatcher uses it by default.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShapeCollisionDispatcherBenchmark
+{
+   @Param({"Sphere-Box", "Capsule-Capsule", "Capsule-Box", "Capsule-Cylinder"})
+   public String shapes;
+
+   private final int numberOfPairs = 64;
+   private final Shape3DBasics[][] collidingPairs = new Shape3DBasics[numberOfPairs][];
+   private final Shape3DBasics[][] separatedPairs = new Shape3DBasics[numberOfPairs][];
+   private final ShapeCollisionDispatcher dispatcher = new ShapeCollisionDispatcher();
+   private final ExpandingPolytopeAlgorithm epa = new ExpandingPolytopeAlgorithm();
+   private final EuclidShape3DCollisionResult result = new EuclidShape3DCollisionResult();
+
+   @Setup
+   public void setup()
+   {
+      dispatcher.setCollisionFunction(ShapeType.CAPSULE,
+                                      ShapeType.CYLINDER,
+                                      (a, b, result) -> EuclidShapeCollisionTools.evaluateCapsule3DCylinder3DCollision((Capsule3DReadOnly) a,
+                                                                                                                       (Cylinder3DReadOnly) b,
+                                                                                                                       result));
+
+      Random random = new Random(4532);
+      int numberOfCollidingPairs = 0;
+      int numberOfSeparatedPairs = 0;
+
+      while (numberOfCollidingPairs < numberOfPairs || numberOfSeparatedPairs < numberOfPairs)
+      {
+         Shape3DBasics[] pair = nextPair(random);
+
+         if (epa.evaluateCollision(pair[0], pair[1], result))
+         {
+            if (numberOfCollidingPairs < numberOfPairs)
+               collidingPairs[numberOfCollidingPairs++] = pair;
+         }
+         else
+         {
+            if (numberOfSeparatedPairs < numberOfPairs)
+               separatedPairs[numberOfSeparatedPairs++] = pair;
+         }
+      }
+   }
+
+   private Shape3DBasics[] nextPair(Random random)
+   {
+      String[] shapeNames = shapes.split("-");
+      Shape3DBasics shapeA = nextShape(random, shapeNames[0]);
+      Shape3DBasics shapeB = nextShape(random, shapeNames[1]);
+      RigidBodyTransform translation = new RigidBodyTransform();
+      translation.getTranslation().sub(shapeB.getCentroid(), shapeA.getCentroid());
+      translation.getTranslation().scale(random.nextDouble());
+      shapeA.applyTransform(translation);
+      return new Shape3DBasics[] {shapeA, shapeB};
+   }
+
+   private static Shape3DBasics nextShape(Random random, String shapeName)
+   {
+      switch (shapeName)
+      {
+         case "Sphere":
+            return EuclidShapeRandomTools.nextSphere3D(random);
+         case "Capsule":
+            return EuclidShapeRandomTools.nextCapsule3D(random);
+         case "Box":
+            return EuclidShapeRandomTools.nextBox3D(random);
+         case "Cylinder":
+            return EuclidShapeRandomTools.nextCylinder3D(random);
+         default:
+            throw new IllegalArgumentException("Unexpected shape: " + shapeName);
+      }
+   }
+
+   @Benchmark
+   public EuclidShape3DCollisionResult dispatcherColliding()
+   {
+      for (Shape3DBasics[] pair : collidingPairs)
+         dispatcher.evaluateCollision(pair[0], pair[1], result);
+      return result;
+   }
+
+   @Benchmark
+   public EuclidShape3DCollisionResult expandingPolytopeColliding()
+   {
+      for (Shape3DBasics[] pair : collidingPairs)
+         epa.evaluateCollision(pair[0], pair[1], result);
+      return result;
+   }
+
+   @Benchmark
+   public EuclidShape3DCollisionResult dispatcherSeparated()
+   {
+      for (Shape3DBasics[] pair : separatedPairs)
+         dispatcher.evaluateCollision(pair[0], pair[1], result);
+      return result;
+   }
+
+   @Benchmark
+   public EuclidShape3DCollisionResult expandingPolytopeSeparated()
+   {
+      for (Shape3DBasics[] pair : separatedPairs)
+         epa.evaluateCollision(pair[0], pair[1], result);
+      return result;
+   }
+}
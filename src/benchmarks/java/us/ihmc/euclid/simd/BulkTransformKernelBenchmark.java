@@ -0,0 +1,88 @@
+package us.ihmc.euclid.simd;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.tools.BulkTransformKernel;
+import us.ihmc.euclid.tools.ScalarBulkTransformKernel;
+
+/**
+ * Benchmarks for transforming points stored as a structure of arrays with the scalar kernel versus
+ * the kernel using the Java Vector API.
+ * <p>
+ * Each operation transforms all the points and transforms them back. For large numbers of points
+ * the arrays do not fit in the cache and the operation becomes limited by the memory bandwidth.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Thread)
+public class BulkTransformKernelBenchmark
+{
+   @Param({"scalar", "vectorized"})
+   public String kernelName;
+
+   @Param({"1000", "10000", "300000"})
+   public int numberOfPoints;
+
+   private final double[] c = new double[12];
+   private BulkTransformKernel kernel;
+   private double[] xs, ys, zs;
+   private float[] xsFloat, ysFloat, zsFloat;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(2389);
+      kernel = kernelName.equals("scalar") ? new ScalarBulkTransformKernel() : new VectorizedBulkTransformKernel();
+      for (int i = 0; i < c.length; i++)
+         c[i] = random.nextDouble();
+      xs = new double[numberOfPoints];
+      ys = new double[numberOfPoints];
+      zs = new double[numberOfPoints];
+      xsFloat = new float[numberOfPoints];
+      ysFloat = new float[numberOfPoints];
+      zsFloat = new float[numberOfPoints];
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         xsFloat[i] = (float) (xs[i] = random.nextDouble());
+         ysFloat[i] = (float) (ys[i] = random.nextDouble());
+         zsFloat[i] = (float) (zs[i] = random.nextDouble());
+      }
+   }
+
+   @Benchmark
+   public double[] transformDouble()
+   {
+      kernel.transformStructureOfArrays(c[0], c[1], c[2], c[3], c[4], c[5], c[6], c[7], c[8], c[9], c[10], c[11], false,
+                                        xs, ys, zs, 0, xs, ys, zs, 0, numberOfPoints);
+      kernel.transformStructureOfArrays(c[0], c[1], c[2], c[3], c[4], c[5], c[6], c[7], c[8], c[9], c[10], c[11], true,
+                                        xs, ys, zs, 0, xs, ys, zs, 0, numberOfPoints);
+      return xs;
+   }
+
+   @Benchmark
+   public float[] transformFloat()
+   {
+      kernel.transformStructureOfArrays(c[0], c[1], c[2], c[3], c[4], c[5], c[6], c[7], c[8], c[9], c[10], c[11], false,
+                                        xsFloat, ysFloat, zsFloat, 0, xsFloat, ysFloat, zsFloat, 0, numberOfPoints);
+      kernel.transformStructureOfArrays(c[0], c[1], c[2], c[3], c[4], c[5], c[6], c[7], c[8], c[9], c[10], c[11], true,
+                                        xsFloat, ysFloat, zsFloat, 0, xsFloat, ysFloat, zsFloat, 0, numberOfPoints);
+      return xsFloat;
+   }
+}
@@ -0,0 +1,119 @@
+package us.ihmc.euclid.tools;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+/**
+ * Benchmarks for operating on a large number of quaternions one {@link Quaternion} at a time versus
+ * with {@link BulkQuaternionTools}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkQuaternionToolsBenchmark
+{
+   private final int numberOfQuaternions = 10000;
+   private Quaternion constant;
+   private Quaternion q0, qf;
+   private Quaternion[] quaternions;
+   private Quaternion[] quaternionResults;
+   private Vector3D[] vectors;
+   private Vector3D[] vectorResults;
+   private double[] alphas;
+   private double[] packedQuaternions;
+   private double[] packedQuaternionResults;
+   private double[] packedVectors;
+   private double[] packedVectorResults;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(8734);
+      constant = EuclidCoreRandomTools.nextQuaternion(random);
+      q0 = EuclidCoreRandomTools.nextQuaternion(random);
+      qf = EuclidCoreRandomTools.nextQuaternion(random);
+
+      quaternions = new Quaternion[numberOfQuaternions];
+      quaternionResults = new Quaternion[numberOfQuaternions];
+      vectors = new Vector3D[numberOfQuaternions];
+      vectorResults = new Vector3D[numberOfQuaternions];
+      alphas = new double[numberOfQuaternions];
+      packedQuaternions = new double[4 * numberOfQuaternions];
+      packedQuaternionResults = new double[4 * numberOfQuaternions];
+      packedVectors = new double[3 * numberOfQuaternions];
+      packedVectorResults = new double[3 * numberOfQuaternions];
+
+      for (int i = 0; i < numberOfQuaternions; i++)
+      {
+         quaternions[i] = EuclidCoreRandomTools.nextQuaternion(random);
+         quaternionResults[i] = new Quaternion();
+         vectors[i] = EuclidCoreRandomTools.nextVector3D(random, 5.0);
+         vectorResults[i] = new Vector3D();
+         alphas[i] = (double) i / (numberOfQuaternions - 1);
+         quaternions[i].get(4 * i, packedQuaternions);
+         vectors[i].get(3 * i, packedVectors);
+      }
+   }
+
+   @Benchmark
+   public Quaternion[] multiplyOneByOne()
+   {
+      for (int i = 0; i < numberOfQuaternions; i++)
+         QuaternionTools.multiply(constant, quaternions[i], quaternionResults[i]);
+      return quaternionResults;
+   }
+
+   @Benchmark
+   public double[] multiplyBulk()
+   {
+      BulkQuaternionTools.multiply(constant, packedQuaternions, 0, packedQuaternionResults, 0, numberOfQuaternions);
+      return packedQuaternionResults;
+   }
+
+   @Benchmark
+   public Vector3D[] transformOneByOne()
+   {
+      for (int i = 0; i < numberOfQuaternions; i++)
+         QuaternionTools.transform(quaternions[i], vectors[i], vectorResults[i]);
+      return vectorResults;
+   }
+
+   @Benchmark
+   public double[] transformBulk()
+   {
+      BulkQuaternionTools.transform(packedQuaternions, 0, packedVectors, 0, packedVectorResults, 0, numberOfQuaternions);
+      return packedVectorResults;
+   }
+
+   @Benchmark
+   public Quaternion[] interpolateOneByOne()
+   {
+      for (int i = 0; i < numberOfQuaternions; i++)
+         QuaternionTools.interpolate(q0, qf, alphas[i], quaternionResults[i]);
+      return quaternionResults;
+   }
+
+   @Benchmark
+   public double[] interpolateBulk()
+   {
+      BulkQuaternionTools.interpolate(q0, qf, alphas, 0, packedQuaternionResults, 0, numberOfQuaternions);
+      return packedQuaternionResults;
+   }
+}
@@ -0,0 +1,101 @@
+package us.ihmc.euclid.tools;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+/**
+ * Benchmarks for the main operations of {@link QuaternionTools}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QuaternionToolsBenchmark
+{
+   private Quaternion q1;
+   private Quaternion q2;
+   private RotationMatrix rotationMatrix;
+   private Vector3D vector;
+   private double alpha;
+
+   private final Quaternion quaternionResult = new Quaternion();
+   private final Vector3D vectorResult = new Vector3D();
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(2342);
+      q1 = EuclidCoreRandomTools.nextQuaternion(random);
+      q2 = EuclidCoreRandomTools.nextQuaternion(random);
+      rotationMatrix = EuclidCoreRandomTools.nextRotationMatrix(random);
+      vector = EuclidCoreRandomTools.nextVector3D(random);
+      alpha = random.nextDouble();
+   }
+
+   @Benchmark
+   public Quaternion multiply()
+   {
+      QuaternionTools.multiply(q1, q2, quaternionResult);
+      return quaternionResult;
+   }
+
+   @Benchmark
+   public Quaternion multiplyConjugateLeft()
+   {
+      QuaternionTools.multiplyConjugateLeft(q1, q2, quaternionResult);
+      return quaternionResult;
+   }
+
+   @Benchmark
+   public Quaternion multiplyWithRotationMatrix()
+   {
+      QuaternionTools.multiply(q1, false, rotationMatrix, false, quaternionResult);
+      return quaternionResult;
+   }
+
+   @Benchmark
+   public Vector3D transform()
+   {
+      QuaternionTools.transform(q1, vector, vectorResult);
+      return vectorResult;
+   }
+
+   @Benchmark
+   public Vector3D inverseTransform()
+   {
+      QuaternionTools.inverseTransform(q1, vector, vectorResult);
+      return vectorResult;
+   }
+
+   @Benchmark
+   public Quaternion interpolate()
+   {
+      QuaternionTools.interpolate(q1, q2, alpha, quaternionResult);
+      return quaternionResult;
+   }
+
+   @Benchmark
+   public Quaternion normalize()
+   {
+      quaternionResult.setUnsafe(q1.getX(), q1.getY(), q1.getZ(), q1.getS());
+      quaternionResult.normalize();
+      return quaternionResult;
+   }
+}
@@ -0,0 +1,94 @@
+package us.ihmc.euclid.tools;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+/**
+ * Benchmarks for the main operations of {@link RotationMatrixTools} and the rotation matrix
+ * transform of a 3D tuple.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RotationMatrixToolsBenchmark
+{
+   private RotationMatrix m1;
+   private RotationMatrix m2;
+   private Quaternion quaternion;
+   private Vector3D vector;
+   private double alpha;
+
+   private final RotationMatrix matrixResult = new RotationMatrix();
+   private final Vector3D vectorResult = new Vector3D();
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(9843);
+      m1 = EuclidCoreRandomTools.nextRotationMatrix(random);
+      m2 = EuclidCoreRandomTools.nextRotationMatrix(random);
+      quaternion = EuclidCoreRandomTools.nextQuaternion(random);
+      vector = EuclidCoreRandomTools.nextVector3D(random);
+      alpha = random.nextDouble();
+   }
+
+   @Benchmark
+   public RotationMatrix multiply()
+   {
+      RotationMatrixTools.multiply(m1, m2, matrixResult);
+      return matrixResult;
+   }
+
+   @Benchmark
+   public RotationMatrix multiplyTransposeLeft()
+   {
+      RotationMatrixTools.multiplyTransposeLeft(m1, m2, matrixResult);
+      return matrixResult;
+   }
+
+   @Benchmark
+   public RotationMatrix multiplyWithQuaternion()
+   {
+      RotationMatrixTools.multiply(m1, false, quaternion, false, matrixResult);
+      return matrixResult;
+   }
+
+   @Benchmark
+   public Vector3D transform()
+   {
+      m1.transform(vector, vectorResult);
+      return vectorResult;
+   }
+
+   @Benchmark
+   public Vector3D inverseTransform()
+   {
+      m1.inverseTransform(vector, vectorResult);
+      return vectorResult;
+   }
+
+   @Benchmark
+   public RotationMatrix interpolate()
+   {
+      RotationMatrixTools.interpolate(m1, m2, alpha, matrixResult);
+      return matrixResult;
+   }
+}
@@ -0,0 +1,103 @@
+package us.ihmc.euclid.transform;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.tools.BulkTransformTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformReadOnly;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+/**
+ * Benchmarks for transforming a depth image worth of points one {@link Point3D} at a time versus
+ * with {@link BulkTransformTools}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkTransformBenchmark
+{
+   @Param({"RigidBodyTransform", "QuaternionBasedTransform"})
+   public String transformType;
+
+   private final int numberOfPoints = 300000;
+   private RigidBodyTransformReadOnly transform;
+   private Point3D[] points;
+   private double[] interleavedPoints;
+   private float[] interleavedFloatPoints;
+   private double[] xs, ys, zs;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(2376);
+      RigidBodyTransform rigidBodyTransform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+      transform = transformType.equals("RigidBodyTransform") ? rigidBodyTransform : new QuaternionBasedTransform(rigidBodyTransform);
+
+      points = new Point3D[numberOfPoints];
+      interleavedPoints = new double[3 * numberOfPoints];
+      interleavedFloatPoints = new float[3 * numberOfPoints];
+      xs = new double[numberOfPoints];
+      ys = new double[numberOfPoints];
+      zs = new double[numberOfPoints];
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         points[i] = EuclidCoreRandomTools.nextPoint3D(random, 5.0);
+         points[i].get(3 * i, interleavedPoints);
+         points[i].get(3 * i, interleavedFloatPoints);
+         xs[i] = points[i].getX();
+         ys[i] = points[i].getY();
+         zs[i] = points[i].getZ();
+      }
+   }
+
+   @Benchmark
+   public Point3D[] transformPointByPoint()
+   {
+      for (Point3D point : points)
+         transform.transform(point);
+      for (Point3D point : points)
+         transform.inverseTransform(point);
+      return points;
+   }
+
+   @Benchmark
+   public double[] transformInterleaved()
+   {
+      transform.transformPoints(interleavedPoints, 0, interleavedPoints, 0, numberOfPoints);
+      transform.inverseTransformPoints(interleavedPoints, 0, interleavedPoints, 0, numberOfPoints);
+      return interleavedPoints;
+   }
+
+   @Benchmark
+   public float[] transformInterleavedFloat()
+   {
+      transform.transformPoints(interleavedFloatPoints, 0, interleavedFloatPoints, 0, numberOfPoints);
+      transform.inverseTransformPoints(interleavedFloatPoints, 0, interleavedFloatPoints, 0, numberOfPoints);
+      return interleavedFloatPoints;
+   }
+
+   @Benchmark
+   public double[] transformStructureOfArrays()
+   {
+      transform.transformPoints(xs, ys, zs, 0, xs, ys, zs, 0, numberOfPoints);
+      transform.inverseTransformPoints(xs, ys, zs, 0, xs, ys, zs, 0, numberOfPoints);
+      return xs;
+   }
+}
@@ -0,0 +1,122 @@
+package us.ihmc.euclid.transform;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+
+/**
+ * Benchmarks for the composition and application of {@link RigidBodyTransform} and
+ * {@link QuaternionBasedTransform}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RigidBodyTransformBenchmark
+{
+   private RigidBodyTransform transform1;
+   private RigidBodyTransform transform2;
+   private QuaternionBasedTransform quaternionBasedTransform1;
+   private QuaternionBasedTransform quaternionBasedTransform2;
+   private Point3D point;
+   private Vector3D vector;
+
+   private final RigidBodyTransform transformResult = new RigidBodyTransform();
+   private final QuaternionBasedTransform quaternionBasedTransformResult = new QuaternionBasedTransform();
+   private final Point3D pointResult = new Point3D();
+   private final Vector3D vectorResult = new Vector3D();
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(6547);
+      transform1 = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+      transform2 = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+      quaternionBasedTransform1 = new QuaternionBasedTransform(transform1);
+      quaternionBasedTransform2 = new QuaternionBasedTransform(transform2);
+      point = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+      vector = EuclidCoreRandomTools.nextVector3D(random);
+   }
+
+   @Benchmark
+   public RigidBodyTransform multiply()
+   {
+      transformResult.set(transform1);
+      transformResult.multiply(transform2);
+      return transformResult;
+   }
+
+   @Benchmark
+   public RigidBodyTransform multiplyInvertOther()
+   {
+      transformResult.set(transform1);
+      transformResult.multiplyInvertOther(transform2);
+      return transformResult;
+   }
+
+   @Benchmark
+   public RigidBodyTransform invert()
+   {
+      transformResult.setAndInvert(transform1);
+      return transformResult;
+   }
+
+   @Benchmark
+   public Point3D transformPoint()
+   {
+      transform1.transform(point, pointResult);
+      return pointResult;
+   }
+
+   @Benchmark
+   public Vector3D transformVector()
+   {
+      transform1.transform(vector, vectorResult);
+      return vectorResult;
+   }
+
+   @Benchmark
+   public Point3D inverseTransformPoint()
+   {
+      transform1.inverseTransform(point, pointResult);
+      return pointResult;
+   }
+
+   @Benchmark
+   public QuaternionBasedTransform quaternionBasedMultiply()
+   {
+      quaternionBasedTransformResult.set(quaternionBasedTransform1);
+      quaternionBasedTransformResult.multiply(quaternionBasedTransform2);
+      return quaternionBasedTransformResult;
+   }
+
+   @Benchmark
+   public Point3D quaternionBasedTransformPoint()
+   {
+      quaternionBasedTransform1.transform(point, pointResult);
+      return pointResult;
+   }
+
+   @Benchmark
+   public Point3D quaternionBasedInverseTransformPoint()
+   {
+      quaternionBasedTransform1.inverseTransform(point, pointResult);
+      return pointResult;
+   }
+}
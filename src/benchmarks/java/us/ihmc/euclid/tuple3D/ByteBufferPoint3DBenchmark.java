@@ -0,0 +1,83 @@
+package us.ihmc.euclid.tuple3D;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+/**
+ * Benchmarks for transforming a point cloud received in a direct {@code ByteBuffer}, such as from a
+ * sensor driver, by copying it into {@link Point3D32} objects versus operating on the buffer with a
+ * {@link ByteBufferPoint3D32}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ByteBufferPoint3DBenchmark
+{
+   private final int numberOfPoints = 100000;
+   private final RigidBodyTransform transform = new RigidBodyTransform();
+   private ByteBuffer buffer;
+   private ByteBufferPoint3D32 cursor;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(2374);
+      transform.set(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      buffer = ByteBuffer.allocateDirect(numberOfPoints * ByteBufferPoint3D32.SIZE_IN_BYTES).order(ByteOrder.nativeOrder());
+      for (int i = 0; i < 3 * numberOfPoints; i++)
+         buffer.putFloat(i * Float.BYTES, random.nextFloat());
+      cursor = new ByteBufferPoint3D32(buffer, 0);
+   }
+
+   @Benchmark
+   public ByteBuffer transformCopies()
+   {
+      Point3D32[] points = new Point3D32[numberOfPoints];
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         int offset = i * ByteBufferPoint3D32.SIZE_IN_BYTES;
+         points[i] = new Point3D32(buffer.getFloat(offset), buffer.getFloat(offset + Float.BYTES), buffer.getFloat(offset + 2 * Float.BYTES));
+         points[i].applyTransform(transform);
+      }
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         int offset = i * ByteBufferPoint3D32.SIZE_IN_BYTES;
+         buffer.putFloat(offset, points[i].getX32());
+         buffer.putFloat(offset + Float.BYTES, points[i].getY32());
+         buffer.putFloat(offset + 2 * Float.BYTES, points[i].getZ32());
+      }
+      return buffer;
+   }
+
+   @Benchmark
+   public ByteBuffer transformInPlace()
+   {
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         cursor.setOffset(i * ByteBufferPoint3D32.SIZE_IN_BYTES);
+         cursor.applyTransform(transform);
+      }
+      return buffer;
+   }
+}
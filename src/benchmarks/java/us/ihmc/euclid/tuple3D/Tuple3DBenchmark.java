@@ -0,0 +1,103 @@
+package us.ihmc.euclid.tuple3D;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+
+/**
+ * Benchmarks for the elementary arithmetic of {@link Point3D} and {@link Vector3D}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Tuple3DBenchmark
+{
+   private Point3D point1;
+   private Point3D point2;
+   private Vector3D vector1;
+   private Vector3D vector2;
+   private double alpha;
+
+   private final Point3D pointResult = new Point3D();
+   private final Vector3D vectorResult = new Vector3D();
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(4353);
+      point1 = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+      point2 = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+      vector1 = EuclidCoreRandomTools.nextVector3D(random);
+      vector2 = EuclidCoreRandomTools.nextVector3D(random);
+      alpha = random.nextDouble();
+   }
+
+   @Benchmark
+   public Point3D add()
+   {
+      pointResult.add(point1, vector1);
+      return pointResult;
+   }
+
+   @Benchmark
+   public Vector3D sub()
+   {
+      vectorResult.sub(point1, point2);
+      return vectorResult;
+   }
+
+   @Benchmark
+   public Point3D scaleAdd()
+   {
+      pointResult.scaleAdd(alpha, vector1, point1);
+      return pointResult;
+   }
+
+   @Benchmark
+   public Point3D interpolate()
+   {
+      pointResult.interpolate(point1, point2, alpha);
+      return pointResult;
+   }
+
+   @Benchmark
+   public double dot()
+   {
+      return vector1.dot(vector2);
+   }
+
+   @Benchmark
+   public Vector3D cross()
+   {
+      vectorResult.cross(vector1, vector2);
+      return vectorResult;
+   }
+
+   @Benchmark
+   public Vector3D normalize()
+   {
+      vectorResult.setAndNormalize(vector1);
+      return vectorResult;
+   }
+
+   @Benchmark
+   public double distance()
+   {
+      return point1.distance(point2);
+   }
+}
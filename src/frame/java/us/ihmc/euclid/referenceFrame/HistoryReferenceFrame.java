@@ -0,0 +1,320 @@
+package us.ihmc.euclid.referenceFrame;
+
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformBasics;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformReadOnly;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+/**
+ * Reference frame which keeps a history of its transform to parent such that its pose can be
+ * queried at a past instant.
+ * <p>
+ * Each call to {@link #setTransformAndUpdate(long, RigidBodyTransformReadOnly)} updates this frame
+ * as usual and records the new transform to parent along with its timestamp in a fixed-capacity
+ * ring buffer. Once the buffer is full, the oldest sample is overwritten. The samples are stored in
+ * primitive arrays, such that recording and querying the history does not generate garbage.
+ * </p>
+ * <p>
+ * The transform to parent at a given timestamp is interpolated between the two samples surrounding
+ * the timestamp: the translation is interpolated linearly and the rotation with a spherical linear
+ * interpolation. Timestamps outside the history are clamped to the oldest or newest sample.
+ * </p>
+ * <p>
+ * {@link #getTransformToDesiredFrame(long, RigidBodyTransformBasics, ReferenceFrame)} composes the
+ * transforms at the given timestamp along the path between this frame and the desired frame. Every
+ * {@code HistoryReferenceFrame} of the path contributes its interpolated transform to parent, while
+ * the other frames contribute their current transform to parent.
+ * </p>
+ * <p>
+ * This frame is not thread-safe: the history and the temporary variables used to record and query
+ * it are shared by all the calls. It should be updated and queried from a single thread, including
+ * when concurrent access is enabled for its tree, see
+ * {@link ReferenceFrame#setConcurrentAccessEnabled(boolean)}.
+ * </p>
+ */
+public class HistoryReferenceFrame extends ReferenceFrame
+{
+   private static final int SAMPLE_SIZE = 7;
+
+   private final long[] timestamps;
+   /** The samples stored as: qx, qy, qz, qs, x, y, z. */
+   private final double[] samples;
+   private int newestIndex = -1;
+   private int numberOfSamples = 0;
+
+   private final RigidBodyTransform transformToParentToSet = new RigidBodyTransform();
+
+   private final Quaternion previousOrientation = new Quaternion();
+   private final Quaternion nextOrientation = new Quaternion();
+   private final RigidBodyTransform pathTransform = new RigidBodyTransform();
+
+   /**
+    * Creates a new frame with an empty history.
+    *
+    * @param frameName   the name of the new frame.
+    * @param parentFrame the parent of the frame.
+    * @param capacity    the maximum number of samples kept in the history.
+    * @throws IllegalArgumentException if {@code capacity} is less than 1.
+    */
+   public HistoryReferenceFrame(String frameName, ReferenceFrame parentFrame, int capacity)
+   {
+      super(frameName, parentFrame);
+
+      if (capacity < 1)
+         throw new IllegalArgumentException("The capacity has to be at least 1, was: " + capacity);
+
+      timestamps = new long[capacity];
+      samples = new double[SAMPLE_SIZE * capacity];
+   }
+
+   /**
+    * Sets the transform to parent of this frame, updates this frame, and records the transform in the
+    * history.
+    * <p>
+    * When {@code timestamp} is equal to the newest timestamp of the history, the newest sample is
+    * replaced.
+    * </p>
+    *
+    * @param timestamp         the time at which the transform was measured.
+    * @param transformToParent the new transform from this frame to its parent. Not modified.
+    * @throws IllegalArgumentException if {@code timestamp} is older than the newest timestamp of the
+    *                                  history.
+    */
+   public void setTransformAndUpdate(long timestamp, RigidBodyTransformReadOnly transformToParent)
+   {
+      if (numberOfSamples > 0 && timestamp < timestamps[newestIndex])
+         throw new IllegalArgumentException("The timestamp " + timestamp + " is older than the newest timestamp: " + timestamps[newestIndex]);
+
+      transformToParentToSet.set(transformToParent);
+      update();
+
+      // Advancing the history only once the update succeeded such that a failed update does not leave an unwritten sample.
+      if (numberOfSamples == 0 || timestamp != timestamps[newestIndex])
+      {
+         newestIndex = (newestIndex + 1) % timestamps.length;
+         numberOfSamples = Math.min(numberOfSamples + 1, timestamps.length);
+      }
+
+      // Recording the transform as updated such that it is consistent with the current transform to parent.
+      RigidBodyTransform recordedTransform = pathTransform;
+      getTransformToParent(recordedTransform);
+      timestamps[newestIndex] = timestamp;
+      int offset = SAMPLE_SIZE * newestIndex;
+      previousOrientation.set(recordedTransform.getRotation());
+      samples[offset++] = previousOrientation.getX();
+      samples[offset++] = previousOrientation.getY();
+      samples[offset++] = previousOrientation.getZ();
+      samples[offset++] = previousOrientation.getS();
+      samples[offset++] = recordedTransform.getTranslationX();
+      samples[offset++] = recordedTransform.getTranslationY();
+      samples[offset] = recordedTransform.getTranslationZ();
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   protected void updateTransformToParent(RigidBodyTransform transformToParent)
+   {
+      transformToParent.set(transformToParentToSet);
+   }
+
+   /**
+    * Packs the transform from this frame to its parent at the given timestamp.
+    * <p>
+    * When the history is empty, the current transform to parent is used.
+    * </p>
+    *
+    * @param timestamp       the time of the query.
+    * @param transformToPack the transform in which the result is stored. Modified.
+    */
+   public void getTransformToParent(long timestamp, RigidBodyTransformBasics transformToPack)
+   {
+      checkIfRemoved();
+
+      if (numberOfSamples == 0)
+      {
+         getTransformToParent(transformToPack);
+         return;
+      }
+
+      int previous = indexOfLastSampleNotAfter(timestamp);
+
+      if (previous == -1)
+      { // Older than the history.
+         packSample(oldestIndex(), transformToPack);
+      }
+      else if (previous == newestIndex)
+      { // Newer than or exactly at the newest sample.
+         packSample(previous, transformToPack);
+      }
+      else
+      {
+         int next = (previous + 1) % timestamps.length;
+         double alpha = (double) (timestamp - timestamps[previous]) / (double) (timestamps[next] - timestamps[previous]);
+
+         int previousOffset = SAMPLE_SIZE * previous;
+         int nextOffset = SAMPLE_SIZE * next;
+         previousOrientation.set(samples[previousOffset], samples[previousOffset + 1], samples[previousOffset + 2], samples[previousOffset + 3]);
+         nextOrientation.set(samples[nextOffset], samples[nextOffset + 1], samples[nextOffset + 2], samples[nextOffset + 3]);
+         previousOrientation.interpolate(nextOrientation, alpha);
+         transformToPack.getRotation().set(previousOrientation);
+         transformToPack.getTranslation().set(EuclidCoreTools.interpolate(samples[previousOffset + 4], samples[nextOffset + 4], alpha),
+                                              EuclidCoreTools.interpolate(samples[previousOffset + 5], samples[nextOffset + 5], alpha),
+                                              EuclidCoreTools.interpolate(samples[previousOffset + 6], samples[nextOffset + 6], alpha));
+      }
+   }
+
+   /**
+    * Packs the transform that can be used to transform a geometry object defined in this frame at the
+    * given timestamp to obtain its equivalent expressed in the {@code desiredFrame} at the same
+    * timestamp.
+    * <p>
+    * The transforms are composed from the lowest common ancestor of the two frames, frames above it
+    * do not affect the result.
+    * </p>
+    *
+    * @param timestamp       the time of the query.
+    * @param transformToPack the transform in which the result is stored. Modified.
+    * @param desiredFrame    the goal frame. Not modified.
+    * @throws RuntimeException if the frames do not share the same root frame.
+    */
+   public void getTransformToDesiredFrame(long timestamp, RigidBodyTransformBasics transformToPack, ReferenceFrame desiredFrame)
+   {
+      checkIfRemoved();
+      verifySameRoots(desiredFrame);
+
+      ReferenceFrame[] thisPath = getFramesStartingWithRootEndingWithThis();
+      ReferenceFrame[] desiredPath = desiredFrame.getFramesStartingWithRootEndingWithThis();
+      int commonAncestorIndex = indexOfLowestCommonAncestor(desiredFrame);
+
+      transformToPack.setToZero();
+
+      for (int i = commonAncestorIndex + 1; i < thisPath.length; i++)
+      {
+         packTransformToParent(thisPath[i], timestamp, pathTransform);
+         transformToPack.multiply(pathTransform);
+      }
+
+      for (int i = commonAncestorIndex + 1; i < desiredPath.length; i++)
+      {
+         packTransformToParent(desiredPath[i], timestamp, pathTransform);
+         transformToPack.preMultiplyInvertOther(pathTransform);
+      }
+
+      transformToPack.normalizeRotationPart();
+   }
+
+   private static void packTransformToParent(ReferenceFrame frame, long timestamp, RigidBodyTransform transformToPack)
+   {
+      if (frame instanceof HistoryReferenceFrame)
+         ((HistoryReferenceFrame) frame).getTransformToParent(timestamp, transformToPack);
+      else
+         frame.getTransformToParent(transformToPack);
+   }
+
+   /**
+    * Finds the newest sample with a timestamp older than or equal to the given timestamp.
+    *
+    * @return the index of the sample, or {@code -1} if the timestamp is older than the history.
+    */
+   private int indexOfLastSampleNotAfter(long timestamp)
+   {
+      int oldestIndex = oldestIndex();
+      int low = 0;
+      int high = numberOfSamples - 1;
+      int result = -1;
+
+      // Binary search over the samples in chronological order.
+      while (low <= high)
+      {
+         int mid = (low + high) >>> 1;
+         int index = (oldestIndex + mid) % timestamps.length;
+
+         if (timestamps[index] <= timestamp)
+         {
+            result = index;
+            low = mid + 1;
+         }
+         else
+         {
+            high = mid - 1;
+         }
+      }
+
+      return result;
+   }
+
+   private int oldestIndex()
+   {
+      return (newestIndex - numberOfSamples + 1 + timestamps.length) % timestamps.length;
+   }
+
+   private void packSample(int index, RigidBodyTransformBasics transformToPack)
+   {
+      int offset = SAMPLE_SIZE * index;
+      previousOrientation.set(samples[offset], samples[offset + 1], samples[offset + 2], samples[offset + 3]);
+      transformToPack.getRotation().set(previousOrientation);
+      transformToPack.getTranslation().set(samples[offset + 4], samples[offset + 5], samples[offset + 6]);
+   }
+
+   /**
+    * Clears the history, the current transform to parent is not modified.
+    */
+   public void clearHistory()
+   {
+      newestIndex = -1;
+      numberOfSamples = 0;
+   }
+
+   /**
+    * Gets the maximum number of samples kept in the history.
+    *
+    * @return the capacity of the history.
+    */
+   public int getCapacity()
+   {
+      return timestamps.length;
+   }
+
+   /**
+    * Gets the number of samples currently in the history.
+    *
+    * @return the number of samples.
+    */
+   public int getNumberOfSamples()
+   {
+      return numberOfSamples;
+   }
+
+   /**
+    * Gets the timestamp of the oldest sample of the history.
+    *
+    * @return the oldest timestamp.
+    * @throws IllegalStateException if the history is empty.
+    */
+   public long getOldestTimestamp()
+   {
+      checkHistoryNotEmpty();
+      return timestamps[oldestIndex()];
+   }
+
+   /**
+    * Gets the timestamp of the newest sample of the history.
+    *
+    * @return the newest timestamp.
+    * @throws IllegalStateException if the history is empty.
+    */
+   public long getNewestTimestamp()
+   {
+      checkHistoryNotEmpty();
+      return timestamps[newestIndex];
+   }
+
+   private void checkHistoryNotEmpty()
+   {
+      if (numberOfSamples == 0)
+         throw new IllegalStateException("The history of " + getName() + " is empty.");
+   }
+}
@@ -10,9 +10,13 @@ import us.ihmc.euclid.transform.RigidBodyTransform;
 import us.ihmc.euclid.transform.interfaces.RigidBodyTransformBasics;
 import us.ihmc.euclid.transform.interfaces.RigidBodyTransformReadOnly;
 
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.function.Predicate;
 
 /**
@@ -58,11 +62,31 @@ public abstract class ReferenceFrame
 {
    /** A string used to separate frame names in the {@link #nameId} of the reference frame */
    public static final String SEPARATOR = ":";
+   /**
+    * Maximum number of transforms to parent composed when computing the transform between two frames
+    * from their lowest common ancestor, beyond which the transforms to root are used instead.
+    */
+   private static final int MAXIMUM_BRANCH_LENGTHS_FOR_COMPOSITION = 4;
 
    public static FrameNameRestrictionLevel DEFAULT_RESTRICTION_LEVEL = FrameNameRestrictionLevel.loadFromEnvironment("euclid.referenceFrame.restrictionLevel",
                                                                                                                      "FrameNameRestrictionLevel",
                                                                                                                      FrameNameRestrictionLevel.NONE);
 
+   /**
+    * Whether the reference frame checks are performed, see
+    * {@link #checkReferenceFrameMatch(ReferenceFrame)}.
+    * <p>
+    * The checks are enabled by default. They can be disabled in production, once the frame consistency
+    * of the code has been verified by testing, by setting the system property
+    * {@code euclid.referenceFrame.frameChecksEnabled} or the environment variable
+    * {@code ReferenceFrameChecksEnabled} to {@code false}. The value is read only once when this class
+    * is initialized, such that the JIT compiler can entirely remove the checks when disabled.
+    * </p>
+    */
+   public static final boolean FRAME_CHECKS_ENABLED = loadBooleanFromEnvironment("euclid.referenceFrame.frameChecksEnabled",
+                                                                                 "ReferenceFrameChecksEnabled",
+                                                                                 true);
+
    /** The name of this reference frame. The name should preferably be unique. */
    private final String frameName;
 
@@ -119,14 +143,42 @@ public abstract class ReferenceFrame
    /**
     * A collection of all children of this reference frame. The use of {@code WeakReference} allows the
     * garbage collector to dispose of the children that are not referenced outside this class.
+    * <p>
+    * The references to removed or garbage collected children are pruned lazily, see
+    * {@link #numberOfDeadChildren}.
+    * </p>
+    */
+   private final List<ChildReference> children = new ArrayList<>();
+
+   /**
+    * Number of references in {@link #children} to frames that are known to have been removed or garbage
+    * collected. These references are pruned all at once when they make up half of the list, such that
+    * the pruning cost is amortized over the children.
+    */
+   private int numberOfDeadChildren = 0;
+
+   /**
+    * The reference to this frame held in the {@link #children} of its parent, {@code null} for a root
+    * frame.
     */
-   private final List<WeakReference<ReferenceFrame>> children = new ArrayList<>();
+   private final ChildReference referenceInParent;
 
    /**
-    * List containing the {@link #frameName} of this frame's {@link #children}.
-    * This is only used when {@link #nameRestrictionLevel} is set to {@link FrameNameRestrictionLevel#NAME_ID}.
+    * Queue onto which the garbage collector enqueues the references to the collected frames of this
+    * tree. Only the root frame holds the queue, it is {@code null} for any other frame.
     */
-   private final List<String> childrenNames = new ArrayList<>();
+   private final ReferenceQueue<ReferenceFrame> collectedFrames;
+
+   /**
+    * Index of all the frames of this tree by {@link #frameName} and {@link #nameId}, used for checking
+    * the {@link #nameRestrictionLevel} and for looking up frames by name.
+    * <p>
+    * Only the root frame holds the registry, it is {@code null} for any other frame. The registry is
+    * only created the first time it is needed, such that trees without name restriction that are never
+    * searched by name do not pay for its maintenance.
+    * </p>
+    */
+   private ReferenceFrameNameRegistry nameRegistry = null;
 
    /**
     * If this frame has restriction level {@link FrameNameRestrictionLevel#FRAME_NAME}, this object stores the highest
@@ -163,6 +215,22 @@ public abstract class ReferenceFrame
    static long nextTransformToRootID = 1;
 
    long transformToRootID = Long.MIN_VALUE;
+   /**
+    * Incremented every time {@link #transformToParent} is updated, used to validate cached values
+    * derived from it, see {@link ReferenceFrameTransformCache}.
+    */
+   long transformToParentVersion = 0;
+   /**
+    * Incremented every time a frame of the tree is updated, for the root frame only. It allows to
+    * validate all the values cached from a tree at once when none of its frames has been updated.
+    * <p>
+    * Frames of the same tree can be updated from different threads, see
+    * {@link ReferenceFrameTreeUpdater}, such that it is only incremented atomically via
+    * {@link #TREE_VERSION_UPDATER}, ensuring it never goes backwards.
+    * </p>
+    */
+   volatile long treeVersion = 0;
+   private static final AtomicLongFieldUpdater<ReferenceFrame> TREE_VERSION_UPDATER = AtomicLongFieldUpdater.newUpdater(ReferenceFrame.class, "treeVersion");
 
    /**
     * The current transform from this reference frame to the root frame.
@@ -176,6 +244,24 @@ public abstract class ReferenceFrame
    private boolean accessingTransformToRoot = false;
    /** Condition for the root frame only. */
    private Predicate<ReferenceFrame> treeUpdateCondition = null;
+   /** Whether the frames of the tree can be accessed from multiple threads, for the root frame only. */
+   private volatile boolean concurrentAccessEnabled = false;
+   /** Whether the transforms to root are invalidated when updating the frames, for the root frame only. */
+   private boolean dirtyPropagationEnabled = false;
+   /**
+    * Whether {@link #transformToRoot} is out-of-date, only used when dirty propagation is enabled.
+    * <p>
+    * When a frame is dirty, all its descendants are dirty as well.
+    * </p>
+    */
+   private boolean transformToRootDirty = true;
+   /**
+    * Immutable copy of {@link #transformToParent} published at each update when concurrent access is
+    * enabled.
+    */
+   private volatile RigidBodyTransform publishedTransformToParent = null;
+   /** The last transform to root computed when concurrent access is enabled. */
+   private volatile TransformToRootSnapshot transformToRootSnapshot = null;
 
    /**
     * Field initialized at construction time that specifies if this reference frame represents a
@@ -407,6 +493,9 @@ public abstract class ReferenceFrame
 
          if (nameRestrictionLevel == FrameNameRestrictionLevel.FRAME_NAME)
             topFrameNameRestriction = this;
+
+         referenceInParent = null;
+         collectedFrames = new ReferenceQueue<>();
       }
       else
       {
@@ -419,8 +508,16 @@ public abstract class ReferenceFrame
 
          checkAndProcessNewFrameName();
 
+         ReferenceFrameNameRegistry nameRegistry = framesStartingWithRootEndingWithThis[0].nameRegistry;
+         if (nameRegistry != null)
+            nameRegistry.register(this, frameName, nameId);
+
+         ReferenceFrame rootFrame = framesStartingWithRootEndingWithThis[0];
+         rootFrame.pruneCollectedFrames();
          frameIndex = parentFrame.incrementFramesAdded();
-         parentFrame.children.add(new WeakReference<>(this));
+         referenceInParent = new ChildReference(this, parentFrame, rootFrame.collectedFrames);
+         parentFrame.children.add(referenceInParent);
+         collectedFrames = null;
 
          transformToRoot = new RigidBodyTransform();
          this.transformToParent = new RigidBodyTransform();
@@ -438,6 +535,9 @@ public abstract class ReferenceFrame
          this.isZupFrame = isZupFrame;
          this.isFixedInParent = isFixedInParent;
 
+         if (framesStartingWithRootEndingWithThis[0].concurrentAccessEnabled)
+            publishTransformToParent();
+
          notifyListeners(ChangeType.FRAME_ADDED, this, parentFrame);
       }
    }
@@ -449,9 +549,8 @@ public abstract class ReferenceFrame
    {
       if (parentFrame.nameRestrictionLevel == FrameNameRestrictionLevel.NAME_ID)
       {
-         if (parentFrame.childrenNames.contains(frameName))
+         if (getNameRegistry().findFrameByNameId(nameId, other -> other.parentFrame == parentFrame) != null)
             throw new RuntimeException("Duplicate reference frame: " + nameId);
-         parentFrame.childrenNames.add(frameName);
       }
       else if (nameRestrictionLevel == FrameNameRestrictionLevel.FRAME_NAME)
       {
@@ -465,27 +564,45 @@ public abstract class ReferenceFrame
     */
    private void checkUniqueFrameNameInSubtree(ReferenceFrame frameToCheck)
    {
-      checkUniqueFrameNames(this, frameToCheck);
-
-      for (int i = 0; i < children.size(); i++)
+      int depth = framesStartingWithRootEndingWithThis.length - 1;
+      ReferenceFrame duplicate = getNameRegistry().findFrameByName(frameToCheck.frameName, other ->
       {
-         ReferenceFrame childFrame = children.get(i).get();
-         if (childFrame != null)
-            childFrame.checkUniqueFrameNameInSubtree(frameToCheck);
-      }
+         if (other == frameToCheck || other.framesStartingWithRootEndingWithThis.length <= depth)
+            return false;
+         return other.framesStartingWithRootEndingWithThis[depth] == this;
+      });
+
+      if (duplicate != null)
+         throw new RuntimeException("Duplicate reference frame names detected: " + frameToCheck.frameName);
    }
 
    /**
-    * Performs a check that the two given frames have unique {@link #frameName}'s unless they are the same object.
+    * Gets the registry of the tree this frame belongs to, creating it and registering all the frames
+    * of the tree if it does not exist yet.
     */
-   private static void checkUniqueFrameNames(ReferenceFrame frameA, ReferenceFrame frameB)
+   private ReferenceFrameNameRegistry getNameRegistry()
    {
-      if (frameA == frameB)
-         return;
-      if (frameA.frameName.hashCode() != frameB.frameName.hashCode())
-         return;
-      if (frameA.frameName.equals(frameB.frameName))
-         throw new RuntimeException("Duplicate reference frame names detected: " + frameA.frameName);
+      ReferenceFrame rootFrame = framesStartingWithRootEndingWithThis[0];
+
+      if (rootFrame.nameRegistry == null)
+      {
+         rootFrame.nameRegistry = new ReferenceFrameNameRegistry();
+         rootFrame.registerSubtree(rootFrame.nameRegistry);
+      }
+
+      return rootFrame.nameRegistry;
+   }
+
+   private void registerSubtree(ReferenceFrameNameRegistry nameRegistry)
+   {
+      nameRegistry.register(this, frameName, nameId);
+
+      for (int i = 0; i < children.size(); i++)
+      {
+         ReferenceFrame childFrame = children.get(i).get();
+         if (childFrame != null)
+            childFrame.registerSubtree(nameRegistry);
+      }
    }
 
    /**
@@ -538,19 +655,16 @@ public abstract class ReferenceFrame
    private void setAndCheckNameIdRestrictionRecursively()
    {
       this.nameRestrictionLevel = FrameNameRestrictionLevel.NAME_ID;
+      Set<String> childrenNames = new HashSet<>();
       for (int i = 0; i < children.size(); i++)
       {
          ReferenceFrame childFrame = children.get(i).get();
          if (childFrame == null)
-         { // children and childrenNames are kept in same order. This will be cleared on the next updateChildren
-            childrenNames.add(null);
             continue;
-         }
-         if (childrenNames.contains(childFrame.frameName))
+         if (!childrenNames.add(childFrame.frameName))
          {
             throw new RuntimeException("Duplicate ReferenceFrame nameId's detected: " + childFrame.nameId);
          }
-         childrenNames.add(childFrame.frameName);
          childFrame.setAndCheckNameIdRestrictionRecursively();
       }
    }
@@ -661,6 +775,11 @@ public abstract class ReferenceFrame
     * Note that it is not necessary to call update on reference frames with an unchanging transform to
     * parent, even if the parent frame is moving.
     * </p>
+    * <p>
+    * When concurrent access is enabled, see {@link #setConcurrentAccessEnabled(boolean)}, the new
+    * transform to parent is published to the other threads once updated. A given frame should not be
+    * updated by more than one thread at a time.
+    * </p>
     */
    public void update()
    {
@@ -673,6 +792,102 @@ public abstract class ReferenceFrame
 
       updateTransformToParent(transformToParent);
       transformToRootID = Long.MIN_VALUE;
+      transformToParentVersion++;
+      TREE_VERSION_UPDATER.incrementAndGet(framesStartingWithRootEndingWithThis[0]);
+
+      if (framesStartingWithRootEndingWithThis[0].dirtyPropagationEnabled)
+         markTransformToRootDirty();
+
+      if (framesStartingWithRootEndingWithThis[0].concurrentAccessEnabled)
+         publishTransformToParent();
+   }
+
+   /**
+    * Updates this frame and computes its transform to root from the transform to root of its parent.
+    * <p>
+    * This method is used by {@link ReferenceFrameTreeUpdater} which visits the frames parents first.
+    * The parent's transform to root is assumed to be up-to-date and is not verified.
+    * </p>
+    *
+    * @param transformToRootID the id to mark the new transform to root with, has to be greater than
+    *                          the ids of the ancestors of this frame.
+    */
+   void updateAndComputeTransformToRoot(long transformToRootID)
+   {
+      update();
+
+      if (parentFrame == null)
+         return;
+
+      if (framesStartingWithRootEndingWithThis[0].concurrentAccessEnabled)
+      {
+         // The root frame has no snapshot, its children are computed from a null parent snapshot.
+         TransformToRootSnapshot parentSnapshot = parentFrame.transformToRootSnapshot;
+
+         if (parentSnapshot == null && parentFrame.parentFrame != null)
+         { // The parent's snapshot has never been computed, falling back to the computation of the entire path.
+            concurrentComputeTransform();
+         }
+         else
+         { // Only the last snapshot in the path to this frame has to be recomputed.
+            transformToRootSnapshot = new TransformToRootSnapshot(parentSnapshot, publishedTransformToParent);
+         }
+         return;
+      }
+
+      RigidBodyTransform parentsTransformToRoot = parentFrame.transformToRoot;
+
+      if (parentsTransformToRoot != null)
+      {
+         transformToRoot.set(parentsTransformToRoot);
+         transformToRoot.multiply(transformToParent);
+         transformToRoot.normalizeRotationPart();
+      }
+      else
+      {
+         transformToRoot.set(transformToParent);
+      }
+
+      this.transformToRootID = transformToRootID;
+      transformToRootDirty = false;
+   }
+
+   /**
+    * Reserves a new id for marking transforms to root as up-to-date, see
+    * {@link #updateAndComputeTransformToRoot(long)}.
+    */
+   static long nextTransformToRootID()
+   {
+      return ++nextTransformToRootID;
+   }
+
+   private void markTransformToRootDirty()
+   {
+      // If this frame is already dirty, so is the rest of the subtree.
+      if (transformToRootDirty)
+         return;
+
+      transformToRootDirty = true;
+
+      for (int i = 0; i < children.size(); i++)
+      {
+         ReferenceFrame child = children.get(i).get();
+         if (child != null)
+            child.markTransformToRootDirty();
+      }
+   }
+
+   private void publishTransformToParent()
+   {
+      publishedTransformToParent = new RigidBodyTransform(transformToParent);
+   }
+
+   /**
+    * Gets the transform to parent that can be read given the current access mode of the tree.
+    */
+   private RigidBodyTransform safeTransformToParent()
+   {
+      return framesStartingWithRootEndingWithThis[0].concurrentAccessEnabled ? publishedTransformToParent : transformToParent;
    }
 
    /**
@@ -748,7 +963,7 @@ public abstract class ReferenceFrame
    public void getTransformToParent(RigidBodyTransform transformToPack)
    {
       checkIfRemoved();
-      transformToPack.set(transformToParent);
+      transformToPack.set(safeTransformToParent());
    }
 
    /**
@@ -765,7 +980,7 @@ public abstract class ReferenceFrame
    public void getTransformToParent(RigidBodyTransformBasics transformToPack)
    {
       checkIfRemoved();
-      transformToPack.set(transformToParent);
+      transformToPack.set(safeTransformToParent());
    }
 
    /**
@@ -803,6 +1018,43 @@ public abstract class ReferenceFrame
       return nameId;
    }
 
+   /**
+    * Searches the entire tree this frame belongs to for a frame with the given name.
+    * <p>
+    * The frames of a tree are indexed by name, such that the lookup does not depend on the size of the
+    * tree. When several frames of the tree share the given name, which is only possible with the
+    * {@link FrameNameRestrictionLevel#NONE} and {@link FrameNameRestrictionLevel#NAME_ID} restriction
+    * levels, any of them may be returned.
+    * </p>
+    *
+    * @param frameName the name of the frame to find.
+    * @return a frame of this tree with the given name, or {@code null} if there is none.
+    * @see #getName()
+    */
+   public ReferenceFrame findFrameInTreeByName(String frameName)
+   {
+      checkIfRemoved();
+      return getNameRegistry().findFrameByName(frameName, null);
+   }
+
+   /**
+    * Searches the entire tree this frame belongs to for a frame with the given nameId.
+    * <p>
+    * The frames of a tree are indexed by nameId, such that the lookup does not depend on the size of
+    * the tree. When several frames of the tree share the given nameId, which is only possible with the
+    * {@link FrameNameRestrictionLevel#NONE} restriction level, any of them may be returned.
+    * </p>
+    *
+    * @param nameId the nameId of the frame to find, e.g. "World:elevator:pelvis".
+    * @return a frame of this tree with the given nameId, or {@code null} if there is none.
+    * @see #getNameId()
+    */
+   public ReferenceFrame findFrameInTreeByNameId(String nameId)
+   {
+      checkIfRemoved();
+      return getNameRegistry().findFrameByNameId(nameId, null);
+   }
+
    /**
     * Returns the transform that can be used to transform a geometry object defined in this frame to
     * obtain its equivalent expressed in the {@code desiredFrame}.
@@ -896,11 +1148,11 @@ public abstract class ReferenceFrame
          }
          else if (isParentFrame(desiredFrame))
          { // Test direct connection between the frames:
-            transformToPack.set(transformToParent);
+            transformToPack.set(safeTransformToParent());
          }
          else if (desiredFrame.isParentFrame(this))
          { // Test direct connection between the frames:
-            transformToPack.setAndInvert(desiredFrame.transformToParent);
+            transformToPack.setAndInvert(desiredFrame.safeTransformToParent());
          }
          else if (parentFrame == desiredFrame.parentFrame)
          {
@@ -909,25 +1161,39 @@ public abstract class ReferenceFrame
              * simple (rotation only or translation only) whereas the transformToRoot of most frame is a complex
              * transform.
              */
-            transformToPack.setAndInvert(desiredFrame.transformToParent);
-            transformToPack.multiply(transformToParent);
+            transformToPack.setAndInvert(desiredFrame.safeTransformToParent());
+            transformToPack.multiply(safeTransformToParent());
          }
          else if (parentFrame.parentFrame == desiredFrame)
          { // Look at a distance of 2, which would involve the multiplication of 2 transforms that will often be simple (rotation only or translation only).
-            transformToPack.set(transformToParent);
+            transformToPack.set(safeTransformToParent());
             if (!parentFrame.isRootFrame()) // If it is the root, then parentFrame.transformToParent is identity.
-               transformToPack.preMultiply(parentFrame.transformToParent);
+               transformToPack.preMultiply(parentFrame.safeTransformToParent());
          }
          else if (this == desiredFrame.parentFrame.parentFrame)
          { // Look at a distance of 2, which would involve the multiplication of 2 transforms that will often be simple (rotation only or translation only).
-            transformToPack.setAndInvert(desiredFrame.transformToParent);
+            transformToPack.setAndInvert(desiredFrame.safeTransformToParent());
             if (!desiredFrame.parentFrame.isRootFrame()) // If it is the root, then desiredFrame.parentFrame.transformToParent is identity.
-               transformToPack.multiplyInvertOther(desiredFrame.parentFrame.transformToParent);
+               transformToPack.multiplyInvertOther(desiredFrame.parentFrame.safeTransformToParent());
          }
          else
-         { // This is the general scenario:
-            transformToPack.setAndInvert(desiredFrame.getTransformToRoot());
-            transformToPack.multiply(getTransformToRoot());
+         {
+            int commonAncestorIndex = indexOfCloseCommonAncestor(desiredFrame);
+
+            if (commonAncestorIndex > 0)
+            { // The frames share an ancestor other than the root, composing the transforms along the two branches.
+               transformToPack.setToZero();
+               for (int i = commonAncestorIndex + 1; i < framesStartingWithRootEndingWithThis.length; i++)
+                  transformToPack.multiply(framesStartingWithRootEndingWithThis[i].safeTransformToParent());
+               for (int i = commonAncestorIndex + 1; i < desiredFrame.framesStartingWithRootEndingWithThis.length; i++)
+                  transformToPack.preMultiplyInvertOther(desiredFrame.framesStartingWithRootEndingWithThis[i].safeTransformToParent());
+               transformToPack.normalizeRotationPart();
+            }
+            else
+            { // This is the general scenario:
+               transformToPack.setAndInvert(desiredFrame.getTransformToRoot());
+               transformToPack.multiply(getTransformToRoot());
+            }
          }
       }
       catch (NotARotationMatrixException e)
@@ -937,6 +1203,72 @@ public abstract class ReferenceFrame
       }
    }
 
+   /**
+    * Searches for the lowest common ancestor of this frame and {@code other} when it is close enough
+    * to both frames for the transform between them to be composed along the two branches rather than
+    * through the root frame.
+    * <p>
+    * Composing the branches avoids bringing the transforms to root of both frames up-to-date and
+    * avoids the round-off errors of two transforms to root when the frames are far from the root.
+    * </p>
+    *
+    * @param other the other frame, assumed to be in the same tree as this frame.
+    * @return the index of the common ancestor in {@link #framesStartingWithRootEndingWithThis}, which
+    *         is {@code 0} for the root frame, or {@code -1} if the branches are too long.
+    */
+   private int indexOfCloseCommonAncestor(ReferenceFrame other)
+   {
+      int branchLengths = framesStartingWithRootEndingWithThis.length + other.framesStartingWithRootEndingWithThis.length - 2;
+      return indexOfLowestCommonAncestor(other, (branchLengths - MAXIMUM_BRANCH_LENGTHS_FOR_COMPOSITION + 1) / 2);
+   }
+
+   /**
+    * Searches for the lowest common ancestor of this frame and {@code other}.
+    *
+    * @param other the other frame, assumed to be in the same tree as this frame.
+    * @return the index of the common ancestor in {@link #framesStartingWithRootEndingWithThis}, which
+    *         is {@code 0} for the root frame.
+    */
+   int indexOfLowestCommonAncestor(ReferenceFrame other)
+   {
+      return indexOfLowestCommonAncestor(other, 0);
+   }
+
+   private int indexOfLowestCommonAncestor(ReferenceFrame other, int minimumIndex)
+   {
+      ReferenceFrame[] thisPath = framesStartingWithRootEndingWithThis;
+      ReferenceFrame[] otherPath = other.framesStartingWithRootEndingWithThis;
+      // Going up from the deepest candidate, the first ancestor shared by both paths is the lowest one.
+      int index = Math.min(thisPath.length, otherPath.length) - 1;
+
+      for (; index >= minimumIndex; index--)
+      {
+         if (thisPath[index] == otherPath[index])
+            return index;
+      }
+
+      return -1;
+   }
+
+   /**
+    * Sums the versions of the transforms to parent of the frames in the path from the ancestor at
+    * {@code ancestorIndex}, excluded, to this frame.
+    * <p>
+    * As the versions only increase, the sum changes whenever one of these frames is updated. Unlike
+    * {@link #getTransformToRoot()}, this does not bring any transform up-to-date.
+    * </p>
+    *
+    * @param ancestorIndex the index of the ancestor in {@link #framesStartingWithRootEndingWithThis}.
+    * @return the sum of the versions of the branch.
+    */
+   long branchTransformToParentVersion(int ancestorIndex)
+   {
+      long version = 0;
+      for (int i = ancestorIndex + 1; i < framesStartingWithRootEndingWithThis.length; i++)
+         version += framesStartingWithRootEndingWithThis[i].transformToParentVersion;
+      return version;
+   }
+
    /**
     * Test whether the given frame is the parent of this frame.
     *
@@ -1058,11 +1390,11 @@ public abstract class ReferenceFrame
       }
       else if (isParentFrame(desiredFrame))
       { // Test direct connection between the frames:
-         objectToTransform.applyTransform(transformToParent);
+         objectToTransform.applyTransform(safeTransformToParent());
       }
       else if (desiredFrame.isParentFrame(this))
       { // Test direct connection between the frames:
-         objectToTransform.applyInverseTransform(desiredFrame.transformToParent);
+         objectToTransform.applyInverseTransform(desiredFrame.safeTransformToParent());
       }
       else if (parentFrame == desiredFrame.parentFrame)
       {
@@ -1071,21 +1403,21 @@ public abstract class ReferenceFrame
           * simple (rotation only or translation only) whereas the transformToRoot of most frame is a complex
           * transform.
           */
-         objectToTransform.applyTransform(transformToParent);
-         objectToTransform.applyInverseTransform(desiredFrame.transformToParent);
+         objectToTransform.applyTransform(safeTransformToParent());
+         objectToTransform.applyInverseTransform(desiredFrame.safeTransformToParent());
       }
       else if (parentFrame.parentFrame == desiredFrame)
       { // Look at a distance of 2, which involves 2 transformations with transforms that will often be simple (rotation only or translation only).
 
-         objectToTransform.applyTransform(transformToParent);
+         objectToTransform.applyTransform(safeTransformToParent());
          if (!parentFrame.isRootFrame()) // If it is the root, then parentFrame.transformToParent is identity.
-            objectToTransform.applyTransform(parentFrame.transformToParent);
+            objectToTransform.applyTransform(parentFrame.safeTransformToParent());
       }
       else if (this == desiredFrame.parentFrame.parentFrame)
       { // Look at a distance of 2, which involves 2 transformations with transforms that will often be simple (rotation only or translation only).
          if (!desiredFrame.parentFrame.isRootFrame()) // If it is the root, then desiredFrame.parentFrame.transformToParent is identity.
-            objectToTransform.applyInverseTransform(desiredFrame.parentFrame.transformToParent);
-         objectToTransform.applyInverseTransform(desiredFrame.transformToParent);
+            objectToTransform.applyInverseTransform(desiredFrame.parentFrame.safeTransformToParent());
+         objectToTransform.applyInverseTransform(desiredFrame.safeTransformToParent());
       }
       else
       { // This is the general scenario:
@@ -1100,15 +1432,116 @@ public abstract class ReferenceFrame
     * The transform can be used to transform a geometry object defined in this frame to obtain its
     * equivalent expressed in the root frame.
     * </p>
+    * <p>
+    * When concurrent access is enabled, see {@link #setConcurrentAccessEnabled(boolean)}, the returned
+    * transform is an immutable snapshot that is shared among threads and must not be modified.
+    * </p>
     *
     * @return the internal reference to the transform from this frame to the root frame.
     */
    public RigidBodyTransform getTransformToRoot()
    {
-      efficientComputeTransform();
+      ReferenceFrame rootFrame = framesStartingWithRootEndingWithThis[0];
+
+      if (rootFrame.concurrentAccessEnabled)
+         return concurrentComputeTransform();
+
+      if (rootFrame.dirtyPropagationEnabled)
+         dirtyPropagationComputeTransform();
+      else
+         efficientComputeTransform();
       return transformToRoot;
    }
 
+   /**
+    * Alternative to {@link #efficientComputeTransform()} used when dirty propagation is enabled.
+    * <p>
+    * As {@link #update()} marks the entire subtree of the updated frame as dirty, a clean frame
+    * returns right away. Otherwise, the transforms to root are recomputed from the first dirty frame
+    * in the path from the root to this frame.
+    * </p>
+    */
+   private void dirtyPropagationComputeTransform()
+   {
+      checkIfRemoved();
+
+      if (parentFrame == null || !transformToRootDirty)
+         return;
+
+      Predicate<ReferenceFrame> treeUpdateCondition = framesStartingWithRootEndingWithThis[0].treeUpdateCondition;
+
+      if (treeUpdateCondition != null && !treeUpdateCondition.test(this))
+         return;
+
+      int chainLength = framesStartingWithRootEndingWithThis.length;
+      int firstDirtyIndex = 1;
+
+      while (!framesStartingWithRootEndingWithThis[firstDirtyIndex].transformToRootDirty)
+         firstDirtyIndex++;
+
+      for (int i = firstDirtyIndex; i < chainLength; i++)
+      {
+         ReferenceFrame referenceFrame = framesStartingWithRootEndingWithThis[i];
+         RigidBodyTransform parentsTransformToRoot = referenceFrame.parentFrame.transformToRoot;
+
+         if (parentsTransformToRoot != null)
+         {
+            referenceFrame.transformToRoot.set(parentsTransformToRoot);
+            referenceFrame.transformToRoot.multiply(referenceFrame.transformToParent);
+            referenceFrame.transformToRoot.normalizeRotationPart();
+         }
+         else
+         {
+            referenceFrame.transformToRoot.set(referenceFrame.transformToParent);
+         }
+
+         referenceFrame.transformToRootDirty = false;
+      }
+   }
+
+   /**
+    * Thread-safe alternative to {@link #efficientComputeTransform()}.
+    * <p>
+    * Each frame holds a snapshot of its transform to root along with the references to the published
+    * transform to parent and the parent's snapshot it was computed from. A snapshot is reused as long
+    * as these references are still current, otherwise a new snapshot is computed and published. When
+    * several threads race to compute the same snapshot, they all compute the same value such that it
+    * does not matter which one is published last.
+    * </p>
+    */
+   private RigidBodyTransform concurrentComputeTransform()
+   {
+      if (parentFrame == null)
+         return transformToRoot;
+
+      Predicate<ReferenceFrame> treeUpdateCondition = framesStartingWithRootEndingWithThis[0].treeUpdateCondition;
+      TransformToRootSnapshot snapshot = transformToRootSnapshot;
+
+      if (snapshot != null && treeUpdateCondition != null && !treeUpdateCondition.test(this))
+         return snapshot.transformToRoot;
+
+      checkIfRemoved();
+
+      TransformToRootSnapshot parentSnapshot = null;
+
+      for (int i = 1; i < framesStartingWithRootEndingWithThis.length; i++)
+      {
+         ReferenceFrame referenceFrame = framesStartingWithRootEndingWithThis[i];
+         RigidBodyTransform transformToParent = referenceFrame.publishedTransformToParent;
+         snapshot = referenceFrame.transformToRootSnapshot;
+
+         if (snapshot == null || snapshot.parentSnapshot != parentSnapshot || snapshot.transformToParent != transformToParent)
+         {
+            snapshot = new TransformToRootSnapshot(parentSnapshot, transformToParent);
+            referenceFrame.transformToRootSnapshot = snapshot;
+         }
+
+         parentSnapshot = snapshot;
+      }
+
+      return parentSnapshot.transformToRoot;
+   }
+
    private void efficientComputeTransform()
    {
       Predicate<ReferenceFrame> treeUpdateCondition = framesStartingWithRootEndingWithThis[0].treeUpdateCondition;
@@ -1200,28 +1633,68 @@ public abstract class ReferenceFrame
       return frameName; // + "\nTransform to Parent = " + this.transformToParent;
    }
 
+   /**
+    * Reads a boolean from the system property with the given key, or if not defined, from the
+    * environment variable with the given name.
+    *
+    * @param propertyKey             the key of the system property, can be {@code null}.
+    * @param environmentVariableName the name of the environment variable, can be {@code null}.
+    * @param defaultValue            the value returned when neither is defined as {@code "true"} or
+    *                                {@code "false"}.
+    * @return the value read.
+    */
+   static boolean loadBooleanFromEnvironment(String propertyKey, String environmentVariableName, boolean defaultValue)
+   {
+      if (propertyKey != null)
+      {
+         String stringValue = System.getProperty(propertyKey);
+         if ("true".equalsIgnoreCase(stringValue) || "false".equalsIgnoreCase(stringValue))
+            return Boolean.parseBoolean(stringValue);
+      }
+
+      if (environmentVariableName != null)
+      {
+         String stringValue = System.getenv(environmentVariableName);
+         if ("true".equalsIgnoreCase(stringValue) || "false".equalsIgnoreCase(stringValue))
+            return Boolean.parseBoolean(stringValue);
+      }
+
+      return defaultValue;
+   }
+
    /**
     * Checks if the query holds onto this reference frame.
     * <p>
     * This is usually used from verifying that a geometry is expressed in a specific frame.
     * </p>
+    * <p>
+    * This method does nothing when {@link #FRAME_CHECKS_ENABLED} is {@code false}.
+    * </p>
     *
     * @param referenceFrameHolder the query holding a reference frame.
     * @throws ReferenceFrameMismatchException if the query holds onto a different frame than this.
     */
    public void checkReferenceFrameMatch(ReferenceFrameHolder referenceFrameHolder) throws ReferenceFrameMismatchException
    {
+      if (!FRAME_CHECKS_ENABLED)
+         return;
       checkReferenceFrameMatch(referenceFrameHolder.getReferenceFrame());
    }
 
    /**
     * Check if this frame and the query are the same.
+    * <p>
+    * This method does nothing when {@link #FRAME_CHECKS_ENABLED} is {@code false}.
+    * </p>
     *
     * @param referenceFrame the query.
     * @throws ReferenceFrameMismatchException if the query and this are two different frame.
     */
    public void checkReferenceFrameMatch(ReferenceFrame referenceFrame) throws ReferenceFrameMismatchException
    {
+      if (!FRAME_CHECKS_ENABLED)
+         return;
+
       checkIfRemoved();
       if (this != referenceFrame)
       {
@@ -1386,41 +1859,79 @@ public abstract class ReferenceFrame
    {
       if (!hasBeenRemoved && parentFrame != null)
       {
-         parentFrame.updateChildren();
-
-         for (int i = 0; i < parentFrame.children.size(); i++)
-         {
-            if (parentFrame.children.get(i).get() == this)
-            {
-               parentFrame.children.remove(i);
-               if (parentFrame.nameRestrictionLevel == FrameNameRestrictionLevel.NAME_ID)
-                  parentFrame.childrenNames.remove(i);
-               break;
-            }
-         }
+         framesStartingWithRootEndingWithThis[0].pruneCollectedFrames();
+         // Clearing the reference prevents it from being enqueued once this frame is garbage collected.
+         referenceInParent.clear();
+         parentFrame.addDeadChild(referenceInParent);
 
          notifyListeners(ChangeType.FRAME_REMOVED, this, parentFrame);
          disableRecursivly();
       }
    }
 
-   private void updateChildren()
+   /**
+    * Processes the frames of this frame's tree that have been garbage collected since the last call:
+    * the references to these frames are pruned from the children of their parent and a notification is
+    * sent to the listeners for each frame, see
+    * {@link ReferenceFrameChangedListener.Change#wasGarbageCollected()}.
+    * <p>
+    * This is also done whenever a frame is added to or removed from the tree, such that calling this
+    * method is only needed to get notified of garbage collected frames without modifying the tree.
+    * </p>
+    */
+   public void pruneGarbageCollectedFrames()
+   {
+      checkIfRemoved();
+      framesStartingWithRootEndingWithThis[0].pruneCollectedFrames();
+   }
+
+   private void pruneCollectedFrames()
    {
-      boolean hasChildBeenGCed = false;
+      ChildReference reference;
 
-      for (int i = children.size() - 1; i >= 0; i--)
+      while ((reference = (ChildReference) collectedFrames.poll()) != null)
       {
-         if (children.get(i).get() == null)
-         {
-            children.remove(i);
-            if (nameRestrictionLevel == FrameNameRestrictionLevel.NAME_ID)
-               childrenNames.remove(i);
-            hasChildBeenGCed = true;
-         }
+         ReferenceFrame parent = reference.parent;
+
+         if (parent.hasBeenRemoved)
+            continue;
+
+         parent.addDeadChild(reference);
+         parent.notifyListeners(ChangeType.FRAME_GCED, null, parent);
+      }
+   }
+
+   private void addDeadChild(ChildReference reference)
+   {
+      if (reference.pruned)
+         return;
+
+      numberOfDeadChildren++;
+
+      if (2 * numberOfDeadChildren >= children.size())
+         pruneChildren();
+   }
+
+   /**
+    * Removes the references to the children that have been removed or garbage collected, including
+    * the children collected but not enqueued yet.
+    */
+   private void pruneChildren()
+   {
+      int numberOfLiveChildren = 0;
+
+      for (int i = 0; i < children.size(); i++)
+      {
+         ChildReference reference = children.get(i);
+
+         if (reference.get() == null)
+            reference.pruned = true;
+         else
+            children.set(numberOfLiveChildren++, reference);
       }
 
-      if (hasChildBeenGCed)
-         notifyListeners(ChangeType.FRAME_GCED, null, this);
+      children.subList(numberOfLiveChildren, children.size()).clear();
+      numberOfDeadChildren = 0;
    }
 
    /**
@@ -1435,16 +1946,28 @@ public abstract class ReferenceFrame
    public void clearChildren()
    {
       checkIfRemoved();
+      framesStartingWithRootEndingWithThis[0].pruneCollectedFrames();
       children.stream().map(WeakReference::get).filter(child -> child != null).forEach(child -> child.disableRecursivly());
+      for (int i = 0; i < children.size(); i++)
+      {
+         children.get(i).pruned = true;
+         children.get(i).clear();
+      }
       children.clear();
-      childrenNames.clear();
+      numberOfDeadChildren = 0;
 
       if (isRootFrame())
+      {
          framesAddedToTree = 0L;
+         nameRegistry = null;
+      }
    }
 
    private void disableRecursivly()
    {
+      ReferenceFrameNameRegistry nameRegistry = framesStartingWithRootEndingWithThis[0].nameRegistry;
+      if (nameRegistry != null)
+         nameRegistry.unregister(this, frameName);
       hasBeenRemoved = true;
       children.stream().map(WeakReference::get).filter(child -> child != null).forEach(child -> child.disableRecursivly());
       changedListeners = null;
@@ -1458,7 +1981,9 @@ public abstract class ReferenceFrame
    public int getNumberOfChildren()
    {
       checkIfRemoved();
-      updateChildren();
+      framesStartingWithRootEndingWithThis[0].pruneCollectedFrames();
+      // A child can be collected before its reference is enqueued, scanning the list such that getChild(int) does not return null within the count.
+      pruneChildren();
       return children.size();
    }
 
@@ -1516,6 +2041,107 @@ public abstract class ReferenceFrame
       getRootFrame().treeUpdateCondition = treeUpdateCondition;
    }
 
+   /**
+    * Enables or disables the concurrent access mode for the tree this reference frame belongs to.
+    * <p>
+    * By default, the transforms to root are cached in mutable transforms that are not safe to access
+    * from multiple threads. When concurrent access is enabled, the methods
+    * {@link #getTransformToRoot()}, {@link #getTransformToDesiredFrame(RigidBodyTransformBasics, ReferenceFrame)},
+    * {@link #transformFromThisToDesiredFrame(ReferenceFrame, Transformable)}, and
+    * {@link #getTransformToParent(RigidBodyTransformBasics)} can be called simultaneously from any
+    * number of threads without locking. Each reading thread observes, for every frame, either the
+    * transform to parent before or after a concurrent {@link #update()}.
+    * </p>
+    * <p>
+    * WARNING: When concurrent access is enabled, updating a frame and recomputing a transform to root
+    * generate garbage.
+    * </p>
+    * <p>
+    * The mode should be set while setting up the tree, i.e. before the tree is shared among threads.
+    * Frames should not be added or removed while other threads access the tree.
+    * </p>
+    *
+    * @param enable {@code true} to enable the concurrent access mode, {@code false} to revert to the
+    *               default mode.
+    */
+   public void setConcurrentAccessEnabled(boolean enable)
+   {
+      checkIfRemoved();
+      ReferenceFrame rootFrame = getRootFrame();
+
+      if (enable && !rootFrame.concurrentAccessEnabled)
+         rootFrame.publishTransformToParentRecursively();
+
+      rootFrame.concurrentAccessEnabled = enable;
+   }
+
+   /**
+    * Whether the concurrent access mode is enabled for the tree this reference frame belongs to.
+    *
+    * @return {@code true} if the frames of the tree can be accessed from multiple threads.
+    * @see #setConcurrentAccessEnabled(boolean)
+    */
+   public boolean isConcurrentAccessEnabled()
+   {
+      checkIfRemoved();
+      return getRootFrame().concurrentAccessEnabled;
+   }
+
+   /**
+    * Enables or disables the dirty propagation mode for the tree this reference frame belongs to.
+    * <p>
+    * By default, every call to {@link #getTransformToRoot()} walks the path from the root frame to
+    * the queried frame to find out whether the transform to root has to be recomputed, such that the
+    * cost of a query grows with the depth of the frame even when nothing has changed. When dirty
+    * propagation is enabled, {@link #update()} instead marks the entire subtree of the updated frame
+    * as dirty and the transform to root of a frame that is not dirty is returned in constant time.
+    * This mode is preferable for deep trees in which frames are queried more often than they are
+    * updated.
+    * </p>
+    * <p>
+    * This mode does not apply when concurrent access is enabled, see
+    * {@link #setConcurrentAccessEnabled(boolean)}.
+    * </p>
+    *
+    * @param enable {@code true} to enable the dirty propagation, {@code false} to revert to the
+    *               default mode.
+    */
+   public void setDirtyPropagationEnabled(boolean enable)
+   {
+      checkIfRemoved();
+      ReferenceFrame rootFrame = getRootFrame();
+
+      if (enable && !rootFrame.dirtyPropagationEnabled)
+         rootFrame.markTransformToRootDirtyRecursively();
+
+      rootFrame.dirtyPropagationEnabled = enable;
+   }
+
+   /**
+    * Whether the dirty propagation mode is enabled for the tree this reference frame belongs to.
+    *
+    * @return {@code true} if the transforms to root are invalidated when updating the frames.
+    * @see #setDirtyPropagationEnabled(boolean)
+    */
+   public boolean isDirtyPropagationEnabled()
+   {
+      checkIfRemoved();
+      return getRootFrame().dirtyPropagationEnabled;
+   }
+
+   private void markTransformToRootDirtyRecursively()
+   {
+      transformToRootDirty = true;
+      children.stream().map(WeakReference::get).filter(child -> child != null).forEach(child -> child.markTransformToRootDirtyRecursively());
+   }
+
+   private void publishTransformToParentRecursively()
+   {
+      if (parentFrame != null)
+         publishTransformToParent();
+      children.stream().map(WeakReference::get).filter(child -> child != null).forEach(child -> child.publishTransformToParentRecursively());
+   }
+
    /**
     * Adds a listener to this reference frame.
     *
@@ -1567,6 +2193,23 @@ public abstract class ReferenceFrame
          parentFrame.notifyListeners(type, target, targetParent);
    }
 
+   /**
+    * Weak reference to a child frame, enqueued once the child is garbage collected such that it can be
+    * pruned from the children of its parent without scanning.
+    */
+   private static class ChildReference extends WeakReference<ReferenceFrame>
+   {
+      private final ReferenceFrame parent;
+      /** Whether this reference has been removed from the children of the parent. */
+      private boolean pruned = false;
+
+      public ChildReference(ReferenceFrame child, ReferenceFrame parent, ReferenceQueue<ReferenceFrame> queue)
+      {
+         super(child, queue);
+         this.parent = parent;
+      }
+   }
+
    private enum ChangeType
    {
       FRAME_ADDED, FRAME_REMOVED, FRAME_GCED
@@ -1620,4 +2263,32 @@ public abstract class ReferenceFrame
          return targetParent;
       }
    }
+
+   /**
+    * Immutable transform to root computed from the published transform to parent of a frame and the
+    * snapshot of its parent frame.
+    */
+   private static final class TransformToRootSnapshot
+   {
+      private final TransformToRootSnapshot parentSnapshot;
+      private final RigidBodyTransform transformToParent;
+      private final RigidBodyTransform transformToRoot = new RigidBodyTransform();
+
+      private TransformToRootSnapshot(TransformToRootSnapshot parentSnapshot, RigidBodyTransform transformToParent)
+      {
+         this.parentSnapshot = parentSnapshot;
+         this.transformToParent = transformToParent;
+
+         if (parentSnapshot == null)
+         { // The parent is the root frame.
+            transformToRoot.set(transformToParent);
+         }
+         else
+         {
+            transformToRoot.set(parentSnapshot.transformToRoot);
+            transformToRoot.multiply(transformToParent);
+            transformToRoot.normalizeRotationPart();
+         }
+      }
+   }
 }
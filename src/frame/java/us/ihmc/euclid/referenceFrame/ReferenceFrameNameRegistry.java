@@ -0,0 +1,162 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Index of the frames of a reference frame tree by {@link ReferenceFrame#getName() name} and by
+ * {@link ReferenceFrame#getNameId() nameId}, owned by the root frame of the tree.
+ * <p>
+ * Frames are registered at construction and unregistered when removed. The frames are only weakly
+ * referenced, the entries of garbage collected frames are enqueued by the garbage collector and
+ * pruned at the next operation on this registry.
+ * </p>
+ */
+final class ReferenceFrameNameRegistry
+{
+   private final Map<String, List<FrameReference>> framesByName = new HashMap<>();
+   private final Map<String, List<FrameReference>> framesByNameId = new HashMap<>();
+   private final ReferenceQueue<ReferenceFrame> collectedFrames = new ReferenceQueue<>();
+   private int size = 0;
+
+   void register(ReferenceFrame frame, String frameName, String nameId)
+   {
+      pruneCollectedFrames();
+
+      FrameReference reference = new FrameReference(frame, frameName, nameId, collectedFrames);
+      framesByName.computeIfAbsent(frameName, key -> new ArrayList<>(1)).add(reference);
+      framesByNameId.computeIfAbsent(nameId, key -> new ArrayList<>(1)).add(reference);
+      size++;
+   }
+
+   void unregister(ReferenceFrame frame, String frameName)
+   {
+      pruneCollectedFrames();
+
+      List<FrameReference> references = framesByName.get(frameName);
+
+      if (references == null)
+         return;
+
+      for (int i = 0; i < references.size(); i++)
+      {
+         FrameReference reference = references.get(i);
+
+         if (reference.get() == frame)
+         {
+            reference.clear();
+            remove(reference);
+            return;
+         }
+      }
+   }
+
+   /**
+    * Finds a frame with the given name that passes the filter.
+    *
+    * @param frameName the name of the frame to find.
+    * @param filter    the additional condition the frame has to satisfy, can be {@code null}.
+    * @return one of the matching frames, or {@code null} if there is none.
+    */
+   ReferenceFrame findFrameByName(String frameName, Predicate<ReferenceFrame> filter)
+   {
+      pruneCollectedFrames();
+      return find(framesByName.get(frameName), filter);
+   }
+
+   /**
+    * Finds a frame with the given nameId that passes the filter.
+    *
+    * @param nameId the nameId of the frame to find.
+    * @param filter the additional condition the frame has to satisfy, can be {@code null}.
+    * @return one of the matching frames, or {@code null} if there is none.
+    */
+   ReferenceFrame findFrameByNameId(String nameId, Predicate<ReferenceFrame> filter)
+   {
+      pruneCollectedFrames();
+      return find(framesByNameId.get(nameId), filter);
+   }
+
+   private static ReferenceFrame find(List<FrameReference> references, Predicate<ReferenceFrame> filter)
+   {
+      if (references == null)
+         return null;
+
+      for (int i = 0; i < references.size(); i++)
+      {
+         ReferenceFrame frame = references.get(i).get();
+
+         // The frame may have been garbage collected but not pruned yet.
+         if (frame != null && (filter == null || filter.test(frame)))
+            return frame;
+      }
+
+      return null;
+   }
+
+   /**
+    * Removes the entries of the frames that have been garbage collected since the last call.
+    */
+   void pruneCollectedFrames()
+   {
+      FrameReference reference;
+
+      while ((reference = (FrameReference) collectedFrames.poll()) != null)
+         remove(reference);
+   }
+
+   private void remove(FrameReference reference)
+   {
+      if (remove(framesByName, reference.frameName, reference))
+         size--;
+      remove(framesByNameId, reference.nameId, reference);
+   }
+
+   private static boolean remove(Map<String, List<FrameReference>> map, String key, FrameReference reference)
+   {
+      List<FrameReference> references = map.get(key);
+
+      if (references == null)
+         return false;
+
+      for (int i = 0; i < references.size(); i++)
+      {
+         if (references.get(i) == reference)
+         {
+            references.remove(i);
+            if (references.isEmpty())
+               map.remove(key);
+            return true;
+         }
+      }
+
+      return false;
+   }
+
+   /**
+    * Gets the number of frames in this registry, including the frames that have been garbage collected
+    * but not pruned yet.
+    */
+   int size()
+   {
+      return size;
+   }
+
+   private static class FrameReference extends WeakReference<ReferenceFrame>
+   {
+      private final String frameName;
+      private final String nameId;
+
+      private FrameReference(ReferenceFrame frame, String frameName, String nameId, ReferenceQueue<ReferenceFrame> queue)
+      {
+         super(frame, queue);
+         this.frameName = frameName;
+         this.nameId = nameId;
+      }
+   }
+}
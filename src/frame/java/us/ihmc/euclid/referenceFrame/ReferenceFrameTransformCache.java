@@ -0,0 +1,424 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.lang.ref.WeakReference;
+
+import us.ihmc.euclid.interfaces.Transformable;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformBasics;
+
+/**
+ * Bounded cache of the transforms between pairs of reference frames, evicting the least recently
+ * used pair when full.
+ * <p>
+ * In the general case, {@link ReferenceFrame#getTransformToDesiredFrame(RigidBodyTransformBasics, ReferenceFrame)}
+ * inverts the transform to root of the desired frame and multiplies it with the transform to root
+ * of the other frame. When the same pairs of frames are queried repeatedly, for instance several
+ * times per control tick, this cache stores the resulting transform along with the version stamps
+ * it was computed from. A cached transform is reused as long as none of the frames in the path
+ * between the two frames has been updated since.
+ * </p>
+ * <p>
+ * The validity of a cached transform is checked without bringing any transform to root up-to-date:
+ * when no frame of the tree has been updated, all the cached transforms are valid, otherwise the
+ * versions of the transforms to parent along both branches from the lowest common ancestor of the
+ * pair are compared.
+ * </p>
+ * <p>
+ * Pairs that do not require a transform multiplication, i.e. when either frame is a root frame or
+ * when one frame is the parent of the other, are not cached and are directly delegated to
+ * {@link ReferenceFrame}. The cache is also bypassed for trees with concurrent access enabled, see
+ * {@link ReferenceFrame#setConcurrentAccessEnabled(boolean)}.
+ * </p>
+ * <p>
+ * This cache is not thread-safe. It only holds weak references to the frames of the cached pairs
+ * such that it does not delay their garbage collection, the entry of a collected frame is never hit
+ * again and is the next one to be evicted.
+ * </p>
+ */
+public class ReferenceFrameTransformCache
+{
+   private final Entry[] entries;
+   private final Entry[] buckets;
+   private final int bucketMask;
+   private int size = 0;
+   /** Most recently used entry, the head of the usage list. */
+   private Entry head = null;
+   /** Least recently used entry, the tail of the usage list. */
+   private Entry tail = null;
+
+   private long numberOfHits = 0;
+   private long numberOfMisses = 0;
+   private long numberOfEvictions = 0;
+
+   /**
+    * Creates a new cache that can hold up to {@code capacity} pairs of frames.
+    *
+    * @param capacity the maximum number of pairs of frames cached.
+    * @throws IllegalArgumentException if {@code capacity} is less than 1.
+    */
+   public ReferenceFrameTransformCache(int capacity)
+   {
+      if (capacity < 1)
+         throw new IllegalArgumentException("The capacity has to be at least 1, was: " + capacity);
+
+      entries = new Entry[capacity];
+      for (int i = 0; i < capacity; i++)
+         entries[i] = new Entry();
+
+      int numberOfBuckets = Integer.highestOneBit(Math.max(1, 2 * capacity - 1)) << 1;
+      buckets = new Entry[numberOfBuckets];
+      bucketMask = numberOfBuckets - 1;
+   }
+
+   /**
+    * Packs the transform that can be used to transform a geometry object defined in {@code frame} to
+    * obtain its equivalent expressed in the {@code desiredFrame}.
+    * <p>
+    * The result is identical to
+    * {@link ReferenceFrame#getTransformToDesiredFrame(RigidBodyTransformBasics, ReferenceFrame)}.
+    * </p>
+    *
+    * @param frame           the frame in which the geometry is expressed. Not modified.
+    * @param desiredFrame    the goal frame. Not modified.
+    * @param transformToPack the transform in which the result is stored. Modified.
+    */
+   public void getTransformToDesiredFrame(ReferenceFrame frame, ReferenceFrame desiredFrame, RigidBodyTransformBasics transformToPack)
+   {
+      Entry entry = lookup(frame, desiredFrame);
+
+      if (entry == null)
+         frame.getTransformToDesiredFrame(transformToPack, desiredFrame);
+      else
+         transformToPack.set(entry.transform);
+   }
+
+   /**
+    * Transforms the given {@code objectToTransform} from {@code frame} to {@code desiredFrame}.
+    * <p>
+    * The result is identical to
+    * {@link ReferenceFrame#transformFromThisToDesiredFrame(ReferenceFrame, Transformable)}.
+    * </p>
+    *
+    * @param frame             the frame in which the object is currently expressed. Not modified.
+    * @param desiredFrame      the target frame for the transformation. Not modified.
+    * @param objectToTransform the object to apply the transformation on. Modified.
+    */
+   public void transformFromThisToDesiredFrame(ReferenceFrame frame, ReferenceFrame desiredFrame, Transformable objectToTransform)
+   {
+      Entry entry = lookup(frame, desiredFrame);
+
+      if (entry == null)
+         frame.transformFromThisToDesiredFrame(desiredFrame, objectToTransform);
+      else
+         objectToTransform.applyTransform(entry.transform);
+   }
+
+   /**
+    * Gets the up-to-date entry for the given pair, computing it if needed, or returns {@code null} if
+    * the pair is not to be cached.
+    */
+   private Entry lookup(ReferenceFrame frame, ReferenceFrame desiredFrame)
+   {
+      ReferenceFrame rootFrame = getCacheableRootFrame(frame, desiredFrame);
+
+      if (rootFrame == null)
+         return null;
+
+      long treeVersion = rootFrame.treeVersion;
+      long frameIndex = frame.getFrameIndex();
+      long desiredFrameIndex = desiredFrame.getFrameIndex();
+      int bucketIndex = hash(frameIndex, desiredFrameIndex) & bucketMask;
+      Entry entry = buckets[bucketIndex];
+
+      while (entry != null && !entry.isPair(frame, frameIndex, desiredFrame, desiredFrameIndex))
+      {
+         if (entry.isCollected() && entry != tail)
+         { // One of the frames has been garbage collected, the entry is recycled first.
+            removeFromUsageList(entry);
+            addToTail(entry);
+         }
+         entry = entry.nextInBucket;
+      }
+
+      if (entry != null)
+      {
+         moveToHead(entry);
+
+         if (entry.treeVersion == treeVersion)
+         { // No frame of the tree has been updated.
+            numberOfHits++;
+            return entry;
+         }
+
+         long branchesVersion = branchesVersion(frame, desiredFrame, entry.commonAncestorIndex);
+         entry.treeVersion = treeVersion;
+
+         if (entry.branchesVersion == branchesVersion)
+         { // Only frames outside the path between the two frames have been updated.
+            numberOfHits++;
+            return entry;
+         }
+
+         entry.branchesVersion = branchesVersion;
+      }
+      else
+      {
+         entry = newEntry(frame, frameIndex, desiredFrame, desiredFrameIndex, bucketIndex);
+         entry.treeVersion = treeVersion;
+         entry.branchesVersion = branchesVersion(frame, desiredFrame, entry.commonAncestorIndex);
+      }
+
+      numberOfMisses++;
+      frame.getTransformToDesiredFrame(entry.transform, desiredFrame);
+      return entry;
+   }
+
+   private static long branchesVersion(ReferenceFrame frame, ReferenceFrame desiredFrame, int commonAncestorIndex)
+   {
+      return frame.branchTransformToParentVersion(commonAncestorIndex) + desiredFrame.branchTransformToParentVersion(commonAncestorIndex);
+   }
+
+   /**
+    * Gets the root frame of the given pair, or returns {@code null} if the pair is not to be cached.
+    */
+   private static ReferenceFrame getCacheableRootFrame(ReferenceFrame frame, ReferenceFrame desiredFrame)
+   {
+      if (frame == desiredFrame || frame.isRootFrame() || desiredFrame.isRootFrame())
+         return null;
+      if (frame.getParent() == desiredFrame || desiredFrame.getParent() == frame)
+         return null;
+      // Frames from different trees are delegated to the frame which throws the appropriate exception.
+      ReferenceFrame rootFrame = frame.getRootFrame();
+      if (rootFrame != desiredFrame.getRootFrame() || rootFrame.isConcurrentAccessEnabled())
+         return null;
+      return rootFrame;
+   }
+
+   private static int hash(long frameIndex, long desiredFrameIndex)
+   {
+      long hash = frameIndex * 0x9E3779B97F4A7C15L + desiredFrameIndex;
+      hash ^= hash >>> 32;
+      return (int) (hash ^ hash >>> 16);
+   }
+
+   private Entry newEntry(ReferenceFrame frame, long frameIndex, ReferenceFrame desiredFrame, long desiredFrameIndex, int bucketIndex)
+   {
+      Entry entry;
+
+      if (size < entries.length)
+      {
+         entry = entries[size++];
+      }
+      else
+      { // Evicting the least recently used entry.
+         entry = tail;
+         removeFromBucket(entry);
+         removeFromUsageList(entry);
+         entry.clear();
+         numberOfEvictions++;
+      }
+
+      entry.frameReference = new WeakReference<>(frame);
+      entry.frameIndex = frameIndex;
+      entry.desiredFrameReference = new WeakReference<>(desiredFrame);
+      entry.desiredFrameIndex = desiredFrameIndex;
+      entry.commonAncestorIndex = frame.indexOfLowestCommonAncestor(desiredFrame);
+      entry.bucketIndex = bucketIndex;
+      entry.nextInBucket = buckets[bucketIndex];
+      buckets[bucketIndex] = entry;
+      addToHead(entry);
+      return entry;
+   }
+
+   private void removeFromBucket(Entry entry)
+   {
+      Entry previous = null;
+      Entry current = buckets[entry.bucketIndex];
+
+      while (current != entry)
+      {
+         previous = current;
+         current = current.nextInBucket;
+      }
+
+      if (previous == null)
+         buckets[entry.bucketIndex] = entry.nextInBucket;
+      else
+         previous.nextInBucket = entry.nextInBucket;
+      entry.nextInBucket = null;
+   }
+
+   private void moveToHead(Entry entry)
+   {
+      if (entry == head)
+         return;
+
+      removeFromUsageList(entry);
+      addToHead(entry);
+   }
+
+   private void addToHead(Entry entry)
+   {
+      entry.previous = null;
+      entry.next = head;
+      if (head != null)
+         head.previous = entry;
+      head = entry;
+      if (tail == null)
+         tail = entry;
+   }
+
+   private void addToTail(Entry entry)
+   {
+      entry.next = null;
+      entry.previous = tail;
+      if (tail != null)
+         tail.next = entry;
+      tail = entry;
+      if (head == null)
+         head = entry;
+   }
+
+   private void removeFromUsageList(Entry entry)
+   {
+      if (entry.previous == null)
+         head = entry.next;
+      else
+         entry.previous.next = entry.next;
+
+      if (entry.next == null)
+         tail = entry.previous;
+      else
+         entry.next.previous = entry.previous;
+
+      entry.previous = null;
+      entry.next = null;
+   }
+
+   /**
+    * Removes all the cached pairs, releasing the references to their frames. The statistics are not
+    * reset.
+    */
+   public void clear()
+   {
+      for (int i = 0; i < size; i++)
+         entries[i].clear();
+      for (int i = 0; i < buckets.length; i++)
+         buckets[i] = null;
+      size = 0;
+      head = null;
+      tail = null;
+   }
+
+   /**
+    * Resets the number of hits, misses, and evictions to zero.
+    */
+   public void resetStatistics()
+   {
+      numberOfHits = 0;
+      numberOfMisses = 0;
+      numberOfEvictions = 0;
+   }
+
+   /**
+    * Gets the number of pairs of frames currently cached.
+    *
+    * @return the number of cached pairs.
+    */
+   public int size()
+   {
+      return size;
+   }
+
+   /**
+    * Gets the maximum number of pairs of frames this cache can hold.
+    *
+    * @return the capacity of this cache.
+    */
+   public int getCapacity()
+   {
+      return entries.length;
+   }
+
+   /**
+    * Gets the number of queries that were answered with a cached transform.
+    *
+    * @return the number of hits.
+    */
+   public long getNumberOfHits()
+   {
+      return numberOfHits;
+   }
+
+   /**
+    * Gets the number of cacheable queries for which the transform had to be computed, either because
+    * the pair was not cached or because the cached transform was out-of-date.
+    *
+    * @return the number of misses.
+    */
+   public long getNumberOfMisses()
+   {
+      return numberOfMisses;
+   }
+
+   /**
+    * Gets the number of pairs that were evicted to make room for new pairs.
+    *
+    * @return the number of evictions.
+    */
+   public long getNumberOfEvictions()
+   {
+      return numberOfEvictions;
+   }
+
+   /**
+    * Gets the ratio of cacheable queries that were answered with a cached transform.
+    *
+    * @return the hit rate in [0, 1], or {@link Double#NaN} if no cacheable query was made.
+    */
+   public double getHitRate()
+   {
+      return (double) numberOfHits / (double) (numberOfHits + numberOfMisses);
+   }
+
+   @Override
+   public String toString()
+   {
+      return "Transform cache: size " + size + "/" + entries.length + ", hits: " + numberOfHits + ", misses: " + numberOfMisses + ", evictions: "
+            + numberOfEvictions;
+   }
+
+   private static class Entry
+   {
+      private WeakReference<ReferenceFrame> frameReference, desiredFrameReference;
+      private long frameIndex, desiredFrameIndex;
+      private int commonAncestorIndex;
+      private long treeVersion, branchesVersion;
+      private final RigidBodyTransform transform = new RigidBodyTransform();
+      private int bucketIndex;
+      private Entry nextInBucket;
+      private Entry previous, next;
+
+      private boolean isPair(ReferenceFrame frame, long frameIndex, ReferenceFrame desiredFrame, long desiredFrameIndex)
+      {
+         // The indices are compared first to avoid dereferencing the weak references of most of the other entries.
+         if (this.frameIndex != frameIndex || this.desiredFrameIndex != desiredFrameIndex)
+            return false;
+         return frameReference.get() == frame && desiredFrameReference.get() == desiredFrame;
+      }
+
+      private boolean isCollected()
+      {
+         return frameReference.get() == null || desiredFrameReference.get() == null;
+      }
+
+      private void clear()
+      {
+         frameReference = null;
+         desiredFrameReference = null;
+         nextInBucket = null;
+         previous = null;
+         next = null;
+      }
+   }
+}
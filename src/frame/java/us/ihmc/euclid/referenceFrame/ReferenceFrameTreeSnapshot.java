@@ -0,0 +1,322 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import us.ihmc.euclid.interfaces.Transformable;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformBasics;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformReadOnly;
+
+/**
+ * Read-only view of the transforms of a subtree of reference frames captured at a given instant.
+ * <p>
+ * Snapshots are captured and published by a {@link ReferenceFrameTreeSnapshotBuffer}. The
+ * transforms of the frames are stored in flat arrays indexed in the order of
+ * {@link us.ihmc.euclid.referenceFrame.tools.ReferenceFrameTools#collectFramesInSubtree(ReferenceFrame)},
+ * such that the root of the subtree has the index {@code 0} and every frame comes after its
+ * parent. The transforms to root, i.e. to the root of the subtree, are computed once at capture
+ * time such that querying the transform between two frames costs a single transform multiplication.
+ * </p>
+ * <p>
+ * A snapshot is obtained with {@link ReferenceFrameTreeSnapshotBuffer#acquire()} and has to be
+ * released with {@link #release()} once the reader is done with it, preferably using a
+ * try-with-resources statement. While acquired, a snapshot is never modified and can be queried
+ * from any number of threads without locking and without generating garbage.
+ * </p>
+ */
+public class ReferenceFrameTreeSnapshot implements AutoCloseable
+{
+   /** The number of readers currently holding this snapshot. */
+   final AtomicInteger numberOfReaders = new AtomicInteger(0);
+
+   private long sequenceNumber = -1L;
+   private ReferenceFrame[] frames = new ReferenceFrame[0];
+   private int[] parentIndices = new int[0];
+   private Map<ReferenceFrame, Integer> frameIndices;
+   private RigidBodyTransform[] transformsToParent = new RigidBodyTransform[0];
+   private RigidBodyTransform[] transformsToRoot = new RigidBodyTransform[0];
+
+   ReferenceFrameTreeSnapshot()
+   {
+   }
+
+   /**
+    * Captures the current transforms of the given frames.
+    * <p>
+    * This method is only called by the buffer on a snapshot that is not held by any reader.
+    * </p>
+    */
+   void capture(ReferenceFrame[] frames, int[] parentIndices, Map<ReferenceFrame, Integer> frameIndices, long sequenceNumber)
+   {
+      this.frames = frames;
+      this.parentIndices = parentIndices;
+      this.frameIndices = frameIndices;
+      this.sequenceNumber = sequenceNumber;
+
+      if (transformsToParent.length < frames.length)
+      {
+         int previousLength = transformsToParent.length;
+         transformsToParent = Arrays.copyOf(transformsToParent, frames.length);
+         transformsToRoot = Arrays.copyOf(transformsToRoot, frames.length);
+
+         for (int i = previousLength; i < frames.length; i++)
+         {
+            transformsToParent[i] = new RigidBodyTransform();
+            transformsToRoot[i] = new RigidBodyTransform();
+         }
+      }
+
+      // The root of the subtree is the reference of this snapshot.
+      transformsToParent[0].setToZero();
+      transformsToRoot[0].setToZero();
+
+      for (int i = 1; i < frames.length; i++)
+      {
+         RigidBodyTransform transformToParent = transformsToParent[i];
+         RigidBodyTransform transformToRoot = transformsToRoot[i];
+         frames[i].getTransformToParent(transformToParent);
+
+         int parentIndex = parentIndices[i];
+
+         if (parentIndex == 0)
+         {
+            transformToRoot.set(transformToParent);
+         }
+         else
+         {
+            transformToRoot.set(transformsToRoot[parentIndex]);
+            transformToRoot.multiply(transformToParent);
+            transformToRoot.normalizeRotationPart();
+         }
+      }
+   }
+
+   /**
+    * Releases this snapshot such that it can be recycled by the buffer it was acquired from.
+    * <p>
+    * This snapshot should not be accessed after being released.
+    * </p>
+    *
+    * @throws IllegalStateException if this snapshot is not currently acquired.
+    */
+   public void release()
+   {
+      if (numberOfReaders.decrementAndGet() < 0)
+      {
+         numberOfReaders.incrementAndGet();
+         throw new IllegalStateException("This snapshot has not been acquired.");
+      }
+   }
+
+   /**
+    * Releases this snapshot, see {@link #release()}.
+    */
+   @Override
+   public void close()
+   {
+      release();
+   }
+
+   /**
+    * Gets the sequence number of this snapshot, which is incremented at each capture of the buffer.
+    *
+    * @return the sequence number of this snapshot.
+    */
+   public long getSequenceNumber()
+   {
+      return sequenceNumber;
+   }
+
+   /**
+    * Gets the root of the subtree captured in this snapshot.
+    *
+    * @return the root of the subtree.
+    */
+   public ReferenceFrame getRootFrame()
+   {
+      return frames[0];
+   }
+
+   /**
+    * Gets the number of frames captured in this snapshot, including the root of the subtree.
+    *
+    * @return the number of frames.
+    */
+   public int getNumberOfFrames()
+   {
+      return frames.length;
+   }
+
+   /**
+    * Gets the frame at the given index in this snapshot.
+    *
+    * @param index the index of the frame.
+    * @return the frame.
+    */
+   public ReferenceFrame getFrame(int index)
+   {
+      return frames[index];
+   }
+
+   /**
+    * Gets the index of the parent of the index-th frame.
+    *
+    * @param index the index of the frame.
+    * @return the index of the parent frame, or {@code -1} for the root of the subtree.
+    */
+   public int getParentIndex(int index)
+   {
+      return parentIndices[index];
+   }
+
+   /**
+    * Gets the index of the given frame in this snapshot.
+    *
+    * @param frame the query. Not modified.
+    * @return the index of the frame, or {@code -1} if the frame is not part of this snapshot.
+    */
+   public int indexOf(ReferenceFrame frame)
+   {
+      Integer index = frameIndices.get(frame);
+      return index == null ? -1 : index.intValue();
+   }
+
+   /**
+    * Tests whether the given frame was captured in this snapshot.
+    *
+    * @param frame the query. Not modified.
+    * @return {@code true} if the frame is part of this snapshot, {@code false} otherwise.
+    */
+   public boolean contains(ReferenceFrame frame)
+   {
+      return frameIndices.containsKey(frame);
+   }
+
+   /**
+    * Gets the read-only reference to the captured transform from the index-th frame to its parent.
+    *
+    * @param index the index of the frame.
+    * @return the transform to parent, the identity for the root of the subtree.
+    */
+   public RigidBodyTransformReadOnly getTransformToParent(int index)
+   {
+      return transformsToParent[index];
+   }
+
+   /**
+    * Gets the read-only reference to the captured transform from the index-th frame to the root of
+    * the subtree.
+    *
+    * @param index the index of the frame.
+    * @return the transform to the root of the subtree.
+    */
+   public RigidBodyTransformReadOnly getTransformToRoot(int index)
+   {
+      return transformsToRoot[index];
+   }
+
+   /**
+    * Gets the read-only reference to the captured transform from the given frame to its parent.
+    *
+    * @param frame the query. Not modified.
+    * @return the transform to parent, the identity for the root of the subtree.
+    * @throws IllegalArgumentException if the frame is not part of this snapshot.
+    */
+   public RigidBodyTransformReadOnly getTransformToParent(ReferenceFrame frame)
+   {
+      return transformsToParent[checkedIndexOf(frame)];
+   }
+
+   /**
+    * Gets the read-only reference to the captured transform from the given frame to the root of the
+    * subtree.
+    *
+    * @param frame the query. Not modified.
+    * @return the transform to the root of the subtree.
+    * @throws IllegalArgumentException if the frame is not part of this snapshot.
+    */
+   public RigidBodyTransformReadOnly getTransformToRoot(ReferenceFrame frame)
+   {
+      return transformsToRoot[checkedIndexOf(frame)];
+   }
+
+   /**
+    * Packs the captured transform that can be used to transform a geometry object defined in
+    * {@code frame} to obtain its equivalent expressed in the {@code desiredFrame}.
+    *
+    * @param frame           the frame in which the geometry is expressed. Not modified.
+    * @param desiredFrame    the goal frame. Not modified.
+    * @param transformToPack the transform in which the result is stored. Modified.
+    * @throws IllegalArgumentException if any of the frames is not part of this snapshot.
+    */
+   public void getTransformToDesiredFrame(ReferenceFrame frame, ReferenceFrame desiredFrame, RigidBodyTransformBasics transformToPack)
+   {
+      getTransformToDesiredFrame(checkedIndexOf(frame), checkedIndexOf(desiredFrame), transformToPack);
+   }
+
+   /**
+    * Packs the captured transform that can be used to transform a geometry object defined in the
+    * index-th frame to obtain its equivalent expressed in the desired frame.
+    *
+    * @param index           the index of the frame in which the geometry is expressed.
+    * @param desiredIndex    the index of the goal frame.
+    * @param transformToPack the transform in which the result is stored. Modified.
+    */
+   public void getTransformToDesiredFrame(int index, int desiredIndex, RigidBodyTransformBasics transformToPack)
+   {
+      if (index == desiredIndex)
+      {
+         transformToPack.setToZero();
+      }
+      else if (parentIndices[index] == desiredIndex)
+      {
+         transformToPack.set(transformsToParent[index]);
+      }
+      else if (parentIndices[desiredIndex] == index)
+      {
+         transformToPack.setAndInvert(transformsToParent[desiredIndex]);
+      }
+      else
+      {
+         transformToPack.setAndInvert(transformsToRoot[desiredIndex]);
+         transformToPack.multiply(transformsToRoot[index]);
+      }
+   }
+
+   /**
+    * Transforms the given {@code objectToTransform} using the captured transform from {@code frame} to
+    * {@code desiredFrame}.
+    *
+    * @param frame             the frame in which the object is currently expressed. Not modified.
+    * @param desiredFrame      the target frame for the transformation. Not modified.
+    * @param objectToTransform the object to apply the transformation on. Modified.
+    * @throws IllegalArgumentException if any of the frames is not part of this snapshot.
+    */
+   public void transformFromThisToDesiredFrame(ReferenceFrame frame, ReferenceFrame desiredFrame, Transformable objectToTransform)
+   {
+      int index = checkedIndexOf(frame);
+      int desiredIndex = checkedIndexOf(desiredFrame);
+
+      if (index == desiredIndex)
+         return;
+
+      objectToTransform.applyTransform(transformsToRoot[index]);
+      objectToTransform.applyInverseTransform(transformsToRoot[desiredIndex]);
+   }
+
+   private int checkedIndexOf(ReferenceFrame frame)
+   {
+      int index = indexOf(frame);
+      if (index == -1)
+         throw new IllegalArgumentException("The frame " + frame + " is not part of this snapshot.");
+      return index;
+   }
+
+   @Override
+   public String toString()
+   {
+      return "Snapshot " + sequenceNumber + " of the subtree of " + frames[0] + ", number of frames: " + frames.length;
+   }
+}
@@ -0,0 +1,170 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import us.ihmc.euclid.referenceFrame.tools.ReferenceFrameTools;
+
+/**
+ * Double buffer of {@link ReferenceFrameTreeSnapshot}s used to share a consistent view of a
+ * subtree of reference frames between the thread updating the frames and reader threads.
+ * <p>
+ * The thread updating the frames calls {@link #capture()} once the frames are updated, which
+ * copies the transform to parent of every frame of the subtree into the back snapshot and then
+ * atomically publishes it as the front snapshot. Reader threads call {@link #acquire()} to get the
+ * front snapshot and {@link ReferenceFrameTreeSnapshot#release()} when done with it:
+ *
+ * <pre>
+ * try (ReferenceFrameTreeSnapshot snapshot = buffer.acquire())
+ * {
+ *    snapshot.getTransformToDesiredFrame(frameA, frameB, transformToPack);
+ * }
+ * </pre>
+ * </p>
+ * <p>
+ * Neither the readers nor the writer ever block. A snapshot is only recycled by the writer once all
+ * its readers have released it. When a reader still holds the back snapshot at the time of a
+ * capture, the writer allocates a new snapshot instead of waiting, such that the buffer is
+ * garbage-free as long as the readers do not hold a snapshot for longer than two captures.
+ * </p>
+ * <p>
+ * The frames of the subtree are collected at construction and referenced by the buffer. When frames
+ * are added to or removed from the subtree, {@link #refreshFrames()} has to be called by the writer
+ * thread before the next capture.
+ * </p>
+ */
+public class ReferenceFrameTreeSnapshotBuffer
+{
+   private final ReferenceFrame rootFrame;
+
+   private ReferenceFrame[] frames;
+   private int[] parentIndices;
+   private Map<ReferenceFrame, Integer> frameIndices;
+
+   private volatile ReferenceFrameTreeSnapshot front = new ReferenceFrameTreeSnapshot();
+   private ReferenceFrameTreeSnapshot back = new ReferenceFrameTreeSnapshot();
+   private long sequenceNumber = -1L;
+   private long numberOfAllocatedSnapshots = 2L;
+
+   /**
+    * Creates a new buffer for the subtree starting at {@code rootFrame} and captures a first
+    * snapshot.
+    *
+    * @param rootFrame the root of the subtree to capture. Reference saved.
+    */
+   public ReferenceFrameTreeSnapshotBuffer(ReferenceFrame rootFrame)
+   {
+      this.rootFrame = rootFrame;
+      refreshFrames();
+      capture();
+   }
+
+   /**
+    * Collects the frames of the subtree.
+    * <p>
+    * This method has to be called by the writer thread when the structure of the subtree has changed
+    * and is applied at the next capture.
+    * </p>
+    * <p>
+    * WARNING: This method generates garbage.
+    * </p>
+    */
+   public void refreshFrames()
+   {
+      List<ReferenceFrame> frameList = ReferenceFrameTools.collectFramesInSubtree(rootFrame);
+      ReferenceFrame[] frames = frameList.toArray(new ReferenceFrame[frameList.size()]);
+      int[] parentIndices = new int[frames.length];
+      Map<ReferenceFrame, Integer> frameIndices = new IdentityHashMap<>(frames.length);
+
+      for (int i = 0; i < frames.length; i++)
+      {
+         frameIndices.put(frames[i], i);
+         // The frames are collected in depth-first order, the parent has already been indexed.
+         parentIndices[i] = i == 0 ? -1 : frameIndices.get(frames[i].getParent());
+      }
+
+      this.frames = frames;
+      this.parentIndices = parentIndices;
+      this.frameIndices = frameIndices;
+   }
+
+   /**
+    * Captures the current transforms of the frames of the subtree and publishes the new snapshot.
+    * <p>
+    * This method should only be called by the thread updating the frames.
+    * </p>
+    */
+   public void capture()
+   {
+      ReferenceFrameTreeSnapshot snapshot = back;
+
+      if (snapshot.numberOfReaders.get() != 0)
+      { // A reader is still holding onto it, it cannot be recycled.
+         snapshot = new ReferenceFrameTreeSnapshot();
+         numberOfAllocatedSnapshots++;
+      }
+
+      snapshot.capture(frames, parentIndices, frameIndices, ++sequenceNumber);
+      back = front;
+      front = snapshot;
+   }
+
+   /**
+    * Acquires the last published snapshot.
+    * <p>
+    * The snapshot will not be modified until released with
+    * {@link ReferenceFrameTreeSnapshot#release()}. This method does not block and does not generate
+    * garbage.
+    * </p>
+    *
+    * @return the last published snapshot.
+    */
+   public ReferenceFrameTreeSnapshot acquire()
+   {
+      while (true)
+      {
+         ReferenceFrameTreeSnapshot snapshot = front;
+         snapshot.numberOfReaders.incrementAndGet();
+
+         // The writer may have started recycling the snapshot before it was marked as acquired.
+         if (snapshot == front)
+            return snapshot;
+
+         snapshot.numberOfReaders.decrementAndGet();
+      }
+   }
+
+   /**
+    * Gets the root of the subtree captured by this buffer.
+    *
+    * @return the root of the subtree.
+    */
+   public ReferenceFrame getRootFrame()
+   {
+      return rootFrame;
+   }
+
+   /**
+    * Gets the sequence number of the last published snapshot.
+    *
+    * @return the sequence number of the last capture.
+    */
+   public long getSequenceNumber()
+   {
+      return front.getSequenceNumber();
+   }
+
+   /**
+    * Gets the number of snapshots that have been allocated by this buffer so far.
+    * <p>
+    * This number only increases above 2 when readers hold snapshots for too long.
+    * </p>
+    *
+    * @return the number of allocated snapshots.
+    */
+   public long getNumberOfAllocatedSnapshots()
+   {
+      return numberOfAllocatedSnapshots;
+   }
+}
@@ -0,0 +1,283 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import us.ihmc.euclid.referenceFrame.tools.ReferenceFrameTools;
+
+/**
+ * Updates an entire subtree of reference frames in one pass.
+ * <p>
+ * Instead of calling {@link ReferenceFrame#update()} on each frame individually and then computing
+ * the transforms to root lazily on demand, {@link #update()} visits the frames of the subtree
+ * parents first, updates each frame, and eagerly computes its transform to root from its parent's.
+ * Each transform to root is computed exactly once per pass, and the following queries of
+ * {@link ReferenceFrame#getTransformToRoot()} do not recompute anything, whichever the mode of the
+ * tree is.
+ * </p>
+ * <p>
+ * When created with a {@link ForkJoinPool}, the subtrees that have at least a given number of frames
+ * are updated in parallel, for instance the limbs of a robot. Updating the frames of independent
+ * subtrees from different threads is safe as long as no other thread accesses the frames during the
+ * update, and as long as the frames' {@link ReferenceFrame#updateTransformToParent} implementations
+ * do not share state.
+ * </p>
+ * <p>
+ * The frames of the subtree are collected at construction. When frames are added to or removed from
+ * the subtree, {@link #refreshFrames()} has to be called before the next update. The
+ * {@link ReferenceFrame#setTreeUpdateCondition(java.util.function.Predicate) tree update condition}
+ * is not considered by this updater.
+ * </p>
+ */
+public class ReferenceFrameTreeUpdater
+{
+   private final ReferenceFrame rootFrame;
+   private final ForkJoinPool pool;
+   private final int minimumSubtreeSizeForParallelUpdate;
+
+   /** The frames of the subtree, parents first in depth-first order. */
+   private ReferenceFrame[] frames;
+   /** For each frame, the index following the last frame of its subtree. */
+   private int[] subtreeEndIndices;
+   /**
+    * For each frame, the task to update its subtree in parallel, {@code null} if too small or when
+    * updating from the calling thread only.
+    */
+   private SubtreeUpdateTask[] subtreeTasks;
+   /** For each frame, whether its descendants include subtrees to be updated in separate tasks. */
+   private boolean[] containsParallelSubtrees;
+
+   private long transformToRootID;
+
+   /**
+    * Creates a new updater for the subtree starting at {@code rootFrame} updating all the frames from
+    * the calling thread.
+    *
+    * @param rootFrame the root of the subtree to update. Reference saved.
+    */
+   public ReferenceFrameTreeUpdater(ReferenceFrame rootFrame)
+   {
+      this(rootFrame, null, Integer.MAX_VALUE);
+   }
+
+   /**
+    * Creates a new updater for the subtree starting at {@code rootFrame} updating large subtrees in
+    * parallel.
+    *
+    * @param rootFrame                          the root of the subtree to update. Reference saved.
+    * @param pool                               the pool used to update subtrees in parallel.
+    *                                           Reference saved.
+    * @param minimumSubtreeSizeForParallelUpdate the minimum number of frames a subtree has to have to be
+    *                                           updated in a separate task. Smaller subtrees are
+    *                                           updated by the task of their parent.
+    * @throws IllegalArgumentException if {@code minimumSubtreeSizeForParallelUpdate} is less than 1.
+    */
+   public ReferenceFrameTreeUpdater(ReferenceFrame rootFrame, ForkJoinPool pool, int minimumSubtreeSizeForParallelUpdate)
+   {
+      if (minimumSubtreeSizeForParallelUpdate < 1)
+         throw new IllegalArgumentException("The minimum subtree size has to be at least 1, was: " + minimumSubtreeSizeForParallelUpdate);
+
+      this.rootFrame = rootFrame;
+      this.pool = pool;
+      this.minimumSubtreeSizeForParallelUpdate = minimumSubtreeSizeForParallelUpdate;
+      refreshFrames();
+   }
+
+   /**
+    * Collects the frames of the subtree.
+    * <p>
+    * This method has to be called when the structure of the subtree has changed.
+    * </p>
+    * <p>
+    * WARNING: This method generates garbage.
+    * </p>
+    */
+   public void refreshFrames()
+   {
+      List<ReferenceFrame> frameList = ReferenceFrameTools.collectFramesInSubtree(rootFrame);
+      ReferenceFrame[] frames = frameList.toArray(new ReferenceFrame[frameList.size()]);
+      int[] subtreeEndIndices = new int[frames.length];
+      SubtreeUpdateTask[] subtreeTasks = new SubtreeUpdateTask[frames.length];
+      Map<ReferenceFrame, Integer> frameIndices = new IdentityHashMap<>(frames.length);
+      int[] subtreeSizes = new int[frames.length];
+
+      for (int i = 0; i < frames.length; i++)
+      {
+         frameIndices.put(frames[i], i);
+         subtreeSizes[i] = 1;
+      }
+
+      // Children come after their parent, the size of a subtree is complete once all the following frames have been visited.
+      for (int i = frames.length - 1; i > 0; i--)
+         subtreeSizes[frameIndices.get(frames[i].getParent())] += subtreeSizes[i];
+
+      for (int i = 0; i < frames.length; i++)
+      {
+         // The frames are collected in depth-first order, the subtree of a frame is contiguous.
+         subtreeEndIndices[i] = i + subtreeSizes[i];
+      }
+
+      boolean[] containsParallelSubtrees = new boolean[frames.length];
+
+      if (pool != null)
+      {
+         subtreeTasks[0] = new SubtreeUpdateTask(0);
+
+         for (int i = frames.length - 1; i > 0; i--)
+         {
+            ReferenceFrame parent = frames[i].getParent();
+            int parentIndex = frameIndices.get(parent);
+
+            // Only siblings are independent, a single child is updated by the task of its parent.
+            if (parent.getNumberOfChildren() > 1 && subtreeSizes[i] >= minimumSubtreeSizeForParallelUpdate)
+               subtreeTasks[i] = new SubtreeUpdateTask(i);
+
+            if (subtreeTasks[i] != null || containsParallelSubtrees[i])
+               containsParallelSubtrees[parentIndex] = true;
+         }
+      }
+
+      this.frames = frames;
+      this.subtreeEndIndices = subtreeEndIndices;
+      this.subtreeTasks = subtreeTasks;
+      this.containsParallelSubtrees = containsParallelSubtrees;
+   }
+
+   /**
+    * Updates every frame of the subtree, parents first, and computes their transforms to root.
+    * <p>
+    * The root of the subtree is updated as well, unless it is the root of its tree. This method does
+    * not generate garbage unless concurrent access is enabled on the tree, see
+    * {@link ReferenceFrame#setConcurrentAccessEnabled(boolean)}.
+    * </p>
+    */
+   public void update()
+   {
+      rootFrame.update();
+      rootFrame.getTransformToRoot();
+
+      if (frames.length == 1)
+         return;
+
+      // Reserved after computing the root's transform such that the descendants are up-to-date with respect to it.
+      transformToRootID = ReferenceFrame.nextTransformToRootID();
+
+      if (pool == null)
+      {
+         updateRange(1, frames.length);
+      }
+      else
+      {
+         subtreeTasks[0].reinitialize();
+         pool.invoke(subtreeTasks[0]);
+      }
+   }
+
+   private void updateRange(int start, int end)
+   {
+      for (int i = start; i < end; i++)
+         frames[i].updateAndComputeTransformToRoot(transformToRootID);
+   }
+
+   /**
+    * Updates the descendants of the index-th frame, assuming the frame itself is up-to-date. The
+    * children with large subtrees are forked into separate tasks.
+    */
+   private void updateDescendants(int index)
+   {
+      int end = subtreeEndIndices[index];
+      SubtreeUpdateTask firstForkedTask = null;
+      SubtreeUpdateTask lastForkedTask = null;
+
+      for (int child = index + 1; child < end; child = subtreeEndIndices[child])
+      {
+         SubtreeUpdateTask task = subtreeTasks[child];
+
+         if (task == null)
+         {
+            if (containsParallelSubtrees[child])
+            {
+               frames[child].updateAndComputeTransformToRoot(transformToRootID);
+               updateDescendants(child);
+            }
+            else
+            {
+               updateRange(child, subtreeEndIndices[child]);
+            }
+         }
+         else
+         {
+            task.reinitialize();
+            task.nextForkedTask = null;
+            if (lastForkedTask == null)
+               firstForkedTask = task;
+            else
+               lastForkedTask.nextForkedTask = task;
+            lastForkedTask = task;
+            task.fork();
+         }
+      }
+
+      for (SubtreeUpdateTask task = firstForkedTask; task != null; task = task.nextForkedTask)
+         task.join();
+   }
+
+   /**
+    * Gets the root of the subtree updated by this updater.
+    *
+    * @return the root of the subtree.
+    */
+   public ReferenceFrame getRootFrame()
+   {
+      return rootFrame;
+   }
+
+   /**
+    * Gets the number of frames updated by this updater, including the root of the subtree.
+    *
+    * @return the number of frames.
+    */
+   public int getNumberOfFrames()
+   {
+      return frames.length;
+   }
+
+   /**
+    * Gets the number of subtrees updated in separate tasks, the root of the subtree excluded.
+    *
+    * @return the number of subtrees updated in parallel.
+    */
+   public int getNumberOfParallelSubtrees()
+   {
+      int count = 0;
+      for (int i = 1; i < subtreeTasks.length; i++)
+      {
+         if (subtreeTasks[i] != null)
+            count++;
+      }
+      return count;
+   }
+
+   @SuppressWarnings("serial")
+   private class SubtreeUpdateTask extends RecursiveAction
+   {
+      private final int index;
+      private SubtreeUpdateTask nextForkedTask;
+
+      private SubtreeUpdateTask(int index)
+      {
+         this.index = index;
+      }
+
+      @Override
+      protected void compute()
+      {
+         if (index != 0)
+            frames[index].updateAndComputeTransformToRoot(transformToRootID);
+         updateDescendants(index);
+      }
+   }
+}
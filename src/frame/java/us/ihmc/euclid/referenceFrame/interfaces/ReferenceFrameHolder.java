@@ -16,6 +16,9 @@ public interface ReferenceFrameHolder
 {
    /**
     * Checks if the frames held by {@code this} and {@code other} match.
+    * <p>
+    * This method does nothing when {@link ReferenceFrame#FRAME_CHECKS_ENABLED} is {@code false}.
+    * </p>
     *
     * @param other the other object holding onto the reference frame to compare against the reference
     *              frame held by {@code this}. Not modified.
@@ -24,6 +27,8 @@ public interface ReferenceFrameHolder
     */
    default void checkReferenceFrameMatch(ReferenceFrameHolder other) throws ReferenceFrameMismatchException
    {
+      if (!ReferenceFrame.FRAME_CHECKS_ENABLED)
+         return;
       checkReferenceFrameMatch(other.getReferenceFrame());
    }
 
@@ -95,6 +100,8 @@ public interface ReferenceFrameHolder
     */
    default void checkReferenceFrameMatch(ReferenceFrame referenceFrame) throws ReferenceFrameMismatchException
    {
+      if (!ReferenceFrame.FRAME_CHECKS_ENABLED)
+         return;
       getReferenceFrame().checkReferenceFrameMatch(referenceFrame);
    }
 
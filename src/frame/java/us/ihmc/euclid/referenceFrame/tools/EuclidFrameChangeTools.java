@@ -0,0 +1,221 @@
+package us.ihmc.euclid.referenceFrame.tools;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import us.ihmc.euclid.referenceFrame.ReferenceFrame;
+import us.ihmc.euclid.referenceFrame.exceptions.ReferenceFrameMismatchException;
+import us.ihmc.euclid.referenceFrame.interfaces.FrameChangeable;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+/**
+ * This class provides tools for changing the reference frame of collections of frame geometries.
+ * <p>
+ * Calling {@link FrameChangeable#changeFrame(ReferenceFrame)} on each geometry of a collection
+ * transforms each geometry to the root frame and then to the desired frame. The tools of this class
+ * instead compute the transform from the source frame to the desired frame once and apply it to all
+ * the geometries of the collection.
+ * </p>
+ */
+public class EuclidFrameChangeTools
+{
+   private EuclidFrameChangeTools()
+   {
+      // Suppresses default constructor, ensuring non-instantiability.
+   }
+
+   /**
+    * Changes the frame of all the given geometries, which have to be expressed in the same reference
+    * frame, to {@code desiredFrame}.
+    * <p>
+    * WARNING: This method generates garbage.
+    * </p>
+    *
+    * @param objectsToTransform the geometries to transform. Modified.
+    * @param desiredFrame       the reference frame in which the geometries are to be expressed.
+    * @throws ReferenceFrameMismatchException if the geometries are not all expressed in the same
+    *                                         reference frame.
+    */
+   public static void changeFrame(List<? extends FrameChangeable> objectsToTransform, ReferenceFrame desiredFrame)
+   {
+      changeFrame(objectsToTransform, desiredFrame, new RigidBodyTransform());
+   }
+
+   /**
+    * Changes the frame of all the given geometries, which have to be expressed in the same reference
+    * frame, to {@code desiredFrame}.
+    *
+    * @param objectsToTransform the geometries to transform. Modified.
+    * @param desiredFrame       the reference frame in which the geometries are to be expressed.
+    * @param transformToUse     used to store the transform from the current frame of the geometries
+    *                           to {@code desiredFrame}. Modified.
+    * @throws ReferenceFrameMismatchException if the geometries are not all expressed in the same
+    *                                         reference frame.
+    */
+   public static void changeFrame(List<? extends FrameChangeable> objectsToTransform, ReferenceFrame desiredFrame, RigidBodyTransform transformToUse)
+   {
+      if (objectsToTransform.isEmpty())
+         return;
+
+      ReferenceFrame sourceFrame = objectsToTransform.get(0).getReferenceFrame();
+
+      for (int i = 1; i < objectsToTransform.size(); i++)
+         objectsToTransform.get(i).checkReferenceFrameMatch(sourceFrame);
+
+      if (sourceFrame == desiredFrame)
+         return;
+
+      sourceFrame.getTransformToDesiredFrame(transformToUse, desiredFrame);
+
+      for (int i = 0; i < objectsToTransform.size(); i++)
+      {
+         FrameChangeable objectToTransform = objectsToTransform.get(i);
+         objectToTransform.applyTransform(transformToUse);
+         objectToTransform.setReferenceFrame(desiredFrame);
+      }
+   }
+
+   /**
+    * Changes the frame of all the given geometries, which have to be expressed in the same reference
+    * frame, to {@code desiredFrame}.
+    * <p>
+    * WARNING: This method generates garbage.
+    * </p>
+    *
+    * @param objectsToTransform the geometries to transform. Modified.
+    * @param desiredFrame       the reference frame in which the geometries are to be expressed.
+    * @throws ReferenceFrameMismatchException if the geometries are not all expressed in the same
+    *                                         reference frame.
+    */
+   public static void changeFrame(FrameChangeable[] objectsToTransform, ReferenceFrame desiredFrame)
+   {
+      changeFrame(objectsToTransform, desiredFrame, new RigidBodyTransform());
+   }
+
+   /**
+    * Changes the frame of all the given geometries, which have to be expressed in the same reference
+    * frame, to {@code desiredFrame}.
+    *
+    * @param objectsToTransform the geometries to transform. Modified.
+    * @param desiredFrame       the reference frame in which the geometries are to be expressed.
+    * @param transformToUse     used to store the transform from the current frame of the geometries
+    *                           to {@code desiredFrame}. Modified.
+    * @throws ReferenceFrameMismatchException if the geometries are not all expressed in the same
+    *                                         reference frame.
+    */
+   public static void changeFrame(FrameChangeable[] objectsToTransform, ReferenceFrame desiredFrame, RigidBodyTransform transformToUse)
+   {
+      if (objectsToTransform.length == 0)
+         return;
+
+      ReferenceFrame sourceFrame = objectsToTransform[0].getReferenceFrame();
+
+      for (int i = 1; i < objectsToTransform.length; i++)
+         objectsToTransform[i].checkReferenceFrameMatch(sourceFrame);
+
+      if (sourceFrame == desiredFrame)
+         return;
+
+      sourceFrame.getTransformToDesiredFrame(transformToUse, desiredFrame);
+
+      for (FrameChangeable objectToTransform : objectsToTransform)
+      {
+         objectToTransform.applyTransform(transformToUse);
+         objectToTransform.setReferenceFrame(desiredFrame);
+      }
+   }
+
+   /**
+    * Changes the frame of all the given geometries, which can be expressed in different reference
+    * frames, to {@code desiredFrame}.
+    * <p>
+    * The transform to {@code desiredFrame} is computed once for each distinct reference frame the
+    * geometries are expressed in.
+    * </p>
+    * <p>
+    * WARNING: This method generates garbage.
+    * </p>
+    *
+    * @param objectsToTransform the geometries to transform. Modified.
+    * @param desiredFrame       the reference frame in which the geometries are to be expressed.
+    */
+   public static void changeFrameGroupingBySourceFrame(List<? extends FrameChangeable> objectsToTransform, ReferenceFrame desiredFrame)
+   {
+      // Reference frames are compared by identity, their equals(Object) is based on their nameId.
+      Map<ReferenceFrame, RigidBodyTransform> transforms = new IdentityHashMap<>();
+      ReferenceFrame previousFrame = null;
+      RigidBodyTransform previousTransform = null;
+
+      for (int i = 0; i < objectsToTransform.size(); i++)
+      {
+         FrameChangeable objectToTransform = objectsToTransform.get(i);
+         ReferenceFrame sourceFrame = objectToTransform.getReferenceFrame();
+
+         if (sourceFrame == desiredFrame)
+            continue;
+
+         if (sourceFrame != previousFrame)
+         {
+            previousFrame = sourceFrame;
+            previousTransform = transforms.get(sourceFrame);
+
+            if (previousTransform == null)
+            {
+               previousTransform = new RigidBodyTransform();
+               sourceFrame.getTransformToDesiredFrame(previousTransform, desiredFrame);
+               transforms.put(sourceFrame, previousTransform);
+            }
+         }
+
+         objectToTransform.applyTransform(previousTransform);
+         objectToTransform.setReferenceFrame(desiredFrame);
+      }
+   }
+
+   /**
+    * Changes the frame of all the given geometries, which can be expressed in different reference
+    * frames, to {@code desiredFrame}.
+    * <p>
+    * The transform to {@code desiredFrame} is computed once for each distinct reference frame the
+    * geometries are expressed in.
+    * </p>
+    * <p>
+    * WARNING: This method generates garbage.
+    * </p>
+    *
+    * @param objectsToTransform the geometries to transform. Modified.
+    * @param desiredFrame       the reference frame in which the geometries are to be expressed.
+    */
+   public static void changeFrameGroupingBySourceFrame(FrameChangeable[] objectsToTransform, ReferenceFrame desiredFrame)
+   {
+      // Reference frames are compared by identity, their equals(Object) is based on their nameId.
+      Map<ReferenceFrame, RigidBodyTransform> transforms = new IdentityHashMap<>();
+      ReferenceFrame previousFrame = null;
+      RigidBodyTransform previousTransform = null;
+
+      for (FrameChangeable objectToTransform : objectsToTransform)
+      {
+         ReferenceFrame sourceFrame = objectToTransform.getReferenceFrame();
+
+         if (sourceFrame == desiredFrame)
+            continue;
+
+         if (sourceFrame != previousFrame)
+         {
+            previousFrame = sourceFrame;
+            previousTransform = transforms.get(sourceFrame);
+
+            if (previousTransform == null)
+            {
+               previousTransform = new RigidBodyTransform();
+               sourceFrame.getTransformToDesiredFrame(previousTransform, desiredFrame);
+               transforms.put(sourceFrame, previousTransform);
+            }
+         }
+
+         objectToTransform.applyTransform(previousTransform);
+         objectToTransform.setReferenceFrame(desiredFrame);
+      }
+   }
+}
@@ -4128,6 +4128,152 @@ public class EuclidFrameTools
       return numberOfIntersections;
    }
 
+   /**
+    * Computes the coordinates of the possible intersections between a ray and an axis-aligned bounding
+    * box.
+    * <p>
+    * <a href=
+    * "https://www.scratchapixel.com/lessons/3d-basic-rendering/minimal-ray-tracer-rendering-simple-shapes/ray-box-intersection">Useful
+    * link</a>.
+    * </p>
+    * <p>
+    * Intersection(s) between the ray and the bounding box cannot exist before the origin of the ray.
+    * </p>
+    * <p>
+    * In the case the ray and the bounding box do not intersect, this method returns {@code 0} and
+    * {@code firstIntersectionToPack} and {@code secondIntersectionToPack} are set to
+    * {@link Double#NaN}.
+    * </p>
+    * <p>
+    * In the case only one intersection exists between the ray and the bounding box,
+    * {@code firstIntersectionToPack} will contain the coordinate of the intersection and
+    * {@code secondIntersectionToPack} will be set to contain only {@link Double#NaN}.
+    * </p>
+    *
+    * @param boundingBoxMinX          the minimum x-coordinate of the bounding box.
+    * @param boundingBoxMinY          the minimum y-coordinate of the bounding box.
+    * @param boundingBoxMinZ          the minimum z-coordinate of the bounding box.
+    * @param boundingBoxMaxX          the maximum x-coordinate of the bounding box.
+    * @param boundingBoxMaxY          the maximum y-coordinate of the bounding box.
+    * @param boundingBoxMaxZ          the maximum z-coordinate of the bounding box.
+    * @param rayOrigin                the coordinate of the ray origin. Not modified.
+    * @param rayDirection             the direction of the ray. Not modified.
+    * @param firstIntersectionToPack  the coordinate of the first intersection. Can be {@code null}.
+    *                                 Modified.
+    * @param secondIntersectionToPack the coordinate of the second intersection. Can be {@code null}.
+    *                                 Modified.
+    * @return the number of intersections between the ray and the bounding box. It is either equal to
+    *         0, 1, or 2.
+    * @throws BoundingBoxException            if any of the minimum coordinates of the bounding box is
+    *                                         strictly greater than the maximum coordinate of the
+    *                                         bounding box on the same axis.
+    * @throws ReferenceFrameMismatchException if the arguments are not all expressed in the same
+    *                                         reference frame.
+    */
+   public static int intersectionBetweenRay3DAndBoundingBox3D(double boundingBoxMinX,
+                                                              double boundingBoxMinY,
+                                                              double boundingBoxMinZ,
+                                                              double boundingBoxMaxX,
+                                                              double boundingBoxMaxY,
+                                                              double boundingBoxMaxZ,
+                                                              FramePoint3DReadOnly rayOrigin,
+                                                              FrameVector3DReadOnly rayDirection,
+                                                              FixedFramePoint3DBasics firstIntersectionToPack,
+                                                              FixedFramePoint3DBasics secondIntersectionToPack)
+   {
+      rayOrigin.checkReferenceFrameMatch(rayDirection);
+      if (firstIntersectionToPack != null)
+         rayOrigin.checkReferenceFrameMatch(firstIntersectionToPack);
+      if (secondIntersectionToPack != null)
+         rayOrigin.checkReferenceFrameMatch(secondIntersectionToPack);
+      int numberOfIntersections = EuclidGeometryTools.intersectionBetweenRay3DAndBoundingBox3D(boundingBoxMinX,
+                                                                                               boundingBoxMinY,
+                                                                                               boundingBoxMinZ,
+                                                                                               boundingBoxMaxX,
+                                                                                               boundingBoxMaxY,
+                                                                                               boundingBoxMaxZ,
+                                                                                               rayOrigin,
+                                                                                               rayDirection,
+                                                                                               firstIntersectionToPack,
+                                                                                               secondIntersectionToPack);
+
+      return numberOfIntersections;
+   }
+
+   /**
+    * Computes the coordinates of the possible intersections between a ray and an axis-aligned bounding
+    * box.
+    * <p>
+    * <a href=
+    * "https://www.scratchapixel.com/lessons/3d-basic-rendering/minimal-ray-tracer-rendering-simple-shapes/ray-box-intersection">Useful
+    * link</a>.
+    * </p>
+    * <p>
+    * Intersection(s) between the ray and the bounding box cannot exist before the origin of the ray.
+    * </p>
+    * <p>
+    * In the case the ray and the bounding box do not intersect, this method returns {@code 0} and
+    * {@code firstIntersectionToPack} and {@code secondIntersectionToPack} are set to
+    * {@link Double#NaN}.
+    * </p>
+    * <p>
+    * In the case only one intersection exists between the ray and the bounding box,
+    * {@code firstIntersectionToPack} will contain the coordinate of the intersection and
+    * {@code secondIntersectionToPack} will be set to contain only {@link Double#NaN}.
+    * </p>
+    *
+    * @param boundingBoxMinX          the minimum x-coordinate of the bounding box.
+    * @param boundingBoxMinY          the minimum y-coordinate of the bounding box.
+    * @param boundingBoxMinZ          the minimum z-coordinate of the bounding box.
+    * @param boundingBoxMaxX          the maximum x-coordinate of the bounding box.
+    * @param boundingBoxMaxY          the maximum y-coordinate of the bounding box.
+    * @param boundingBoxMaxZ          the maximum z-coordinate of the bounding box.
+    * @param rayOrigin                the coordinate of the ray origin. Not modified.
+    * @param rayDirection             the direction of the ray. Not modified.
+    * @param firstIntersectionToPack  the coordinate of the first intersection. Can be {@code null}.
+    *                                 Modified.
+    * @param secondIntersectionToPack the coordinate of the second intersection. Can be {@code null}.
+    *                                 Modified.
+    * @return the number of intersections between the ray and the bounding box. It is either equal to
+    *         0, 1, or 2.
+    * @throws BoundingBoxException            if any of the minimum coordinates of the bounding box is
+    *                                         strictly greater than the maximum coordinate of the
+    *                                         bounding box on the same axis.
+    * @throws ReferenceFrameMismatchException if the read-only arguments are not all expressed in the same
+    *                                         reference frame.
+    */
+   public static int intersectionBetweenRay3DAndBoundingBox3D(double boundingBoxMinX,
+                                                              double boundingBoxMinY,
+                                                              double boundingBoxMinZ,
+                                                              double boundingBoxMaxX,
+                                                              double boundingBoxMaxY,
+                                                              double boundingBoxMaxZ,
+                                                              FramePoint3DReadOnly rayOrigin,
+                                                              FrameVector3DReadOnly rayDirection,
+                                                              FramePoint3DBasics firstIntersectionToPack,
+                                                              FramePoint3DBasics secondIntersectionToPack)
+   {
+      rayOrigin.checkReferenceFrameMatch(rayDirection);
+      int numberOfIntersections = EuclidGeometryTools.intersectionBetweenRay3DAndBoundingBox3D(boundingBoxMinX,
+                                                                                               boundingBoxMinY,
+                                                                                               boundingBoxMinZ,
+                                                                                               boundingBoxMaxX,
+                                                                                               boundingBoxMaxY,
+                                                                                               boundingBoxMaxZ,
+                                                                                               rayOrigin,
+                                                                                               rayDirection,
+                                                                                               firstIntersectionToPack,
+                                                                                               secondIntersectionToPack);
+
+      // Set the correct reference frame.
+      if (firstIntersectionToPack != null)
+         firstIntersectionToPack.setReferenceFrame(rayOrigin.getReferenceFrame());
+      if (secondIntersectionToPack != null)
+         secondIntersectionToPack.setReferenceFrame(rayOrigin.getReferenceFrame());
+
+      return numberOfIntersections;
+   }
+
    /**
     * Computes the coordinates of the possible intersections between a ray and a cylinder.
     * <p>
@@ -0,0 +1,866 @@
+package us.ihmc.euclid.geometry;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import us.ihmc.euclid.geometry.interfaces.BoundingBox3DBasics;
+import us.ihmc.euclid.geometry.interfaces.BoundingBox3DReadOnly;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+
+/**
+ * Dynamic bounding volume hierarchy of 3D axis-aligned bounding boxes.
+ * <p>
+ * Each leaf of the tree holds the bounding box of a user object and is identified by an integer id
+ * returned by {@link #insert(BoundingBox3DReadOnly, Object)}. Each internal node holds the union of
+ * the bounding boxes of its two children. The tree is kept balanced while leaves are inserted and
+ * removed using the surface area heuristic to select where to insert new leaves and tree rotations
+ * to correct the imbalance.
+ * </p>
+ * <p>
+ * The leaves can be fattened by a margin when inserted, such that the tree only needs to be
+ * updated when a leaf moves out of its fattened bounding box, see
+ * {@link #update(int, BoundingBox3DReadOnly)}. The queries are then performed against the fattened
+ * bounding boxes.
+ * </p>
+ * <p>
+ * The nodes are stored in flat primitive arrays indexed by node id rather than in individual node
+ * objects, such that the tree remains compact and cache-friendly for large numbers of leaves.
+ * Removed nodes are recycled and the arrays only grow when the tree exceeds its current capacity.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @param <T> the type of the user objects associated to the leaves.
+ */
+public class DynamicBoundingBoxTree3D<T>
+{
+   /** Id used to indicate the absence of a node. */
+   public static final int NULL_NODE = -1;
+
+   private static final int MIN_X = 0, MIN_Y = 1, MIN_Z = 2, MAX_X = 3, MAX_Y = 4, MAX_Z = 5;
+
+   /** The margin used to fatten the leaves. */
+   private final double margin;
+
+   /** The bounds of each node stored as: minX, minY, minZ, maxX, maxY, maxZ. */
+   private double[] bounds;
+   /** The parent of each node, or the next free node for the nodes that are not in use. */
+   private int[] parents;
+   /** The first child of each node, {@link #NULL_NODE} for the leaves. */
+   private int[] children1;
+   /** The second child of each node, {@link #NULL_NODE} for the leaves. */
+   private int[] children2;
+   /** The height of each node in the tree, 0 for the leaves and -1 for the nodes not in use. */
+   private int[] heights;
+   /** The user objects associated to the leaves. */
+   private Object[] userData;
+
+   private int capacity;
+   private int root = NULL_NODE;
+   private int freeList = NULL_NODE;
+   private int numberOfNodes = 0;
+   private int numberOfLeaves = 0;
+
+   /** Stack used for traversing the tree without recursion. */
+   private int[] stack = new int[64];
+   private final Point3D intersection = new Point3D();
+
+   /**
+    * Creates a new empty tree with no margin.
+    */
+   public DynamicBoundingBoxTree3D()
+   {
+      this(0.0);
+   }
+
+   /**
+    * Creates a new empty tree.
+    *
+    * @param margin the distance by which the leaves are fattened in every direction when inserted.
+    * @throws IllegalArgumentException if {@code margin} is negative.
+    */
+   public DynamicBoundingBoxTree3D(double margin)
+   {
+      this(margin, 16);
+   }
+
+   /**
+    * Creates a new empty tree.
+    *
+    * @param margin          the distance by which the leaves are fattened in every direction when
+    *                        inserted.
+    * @param initialCapacity the number of nodes the tree can hold before having to grow. Note that a
+    *                        tree with {@code n} leaves has {@code 2n - 1} nodes.
+    * @throws IllegalArgumentException if {@code margin} is negative.
+    */
+   public DynamicBoundingBoxTree3D(double margin, int initialCapacity)
+   {
+      if (margin < 0.0)
+         throw new IllegalArgumentException("The margin cannot be negative: " + margin);
+
+      this.margin = margin;
+      capacity = Math.max(initialCapacity, 1);
+      bounds = new double[6 * capacity];
+      parents = new int[capacity];
+      children1 = new int[capacity];
+      children2 = new int[capacity];
+      heights = new int[capacity];
+      userData = new Object[capacity];
+      buildFreeList(0);
+   }
+
+   private void buildFreeList(int start)
+   {
+      for (int i = start; i < capacity - 1; i++)
+      {
+         parents[i] = i + 1;
+         heights[i] = -1;
+      }
+
+      parents[capacity - 1] = NULL_NODE;
+      heights[capacity - 1] = -1;
+      freeList = start;
+   }
+
+   private int allocateNode()
+   {
+      if (freeList == NULL_NODE)
+      {
+         int oldCapacity = capacity;
+         capacity *= 2;
+         bounds = Arrays.copyOf(bounds, 6 * capacity);
+         parents = Arrays.copyOf(parents, capacity);
+         children1 = Arrays.copyOf(children1, capacity);
+         children2 = Arrays.copyOf(children2, capacity);
+         heights = Arrays.copyOf(heights, capacity);
+         userData = Arrays.copyOf(userData, capacity);
+         buildFreeList(oldCapacity);
+      }
+
+      int node = freeList;
+      freeList = parents[node];
+      parents[node] = NULL_NODE;
+      children1[node] = NULL_NODE;
+      children2[node] = NULL_NODE;
+      heights[node] = 0;
+      userData[node] = null;
+      numberOfNodes++;
+      return node;
+   }
+
+   private void freeNode(int node)
+   {
+      parents[node] = freeList;
+      heights[node] = -1;
+      userData[node] = null;
+      freeList = node;
+      numberOfNodes--;
+   }
+
+   /**
+    * Removes all the leaves from this tree.
+    */
+   public void clear()
+   {
+      Arrays.fill(userData, null);
+      root = NULL_NODE;
+      numberOfNodes = 0;
+      numberOfLeaves = 0;
+      buildFreeList(0);
+   }
+
+   /**
+    * Inserts a new leaf in this tree.
+    *
+    * @param boundingBox the bounding box of the new leaf. Not modified.
+    * @param data        the user object to associate to the new leaf. Reference saved.
+    * @return the id of the new leaf.
+    */
+   public int insert(BoundingBox3DReadOnly boundingBox, T data)
+   {
+      int leaf = allocateNode();
+      setFattenedBounds(leaf, boundingBox);
+      userData[leaf] = data;
+      insertLeaf(leaf);
+      numberOfLeaves++;
+      return leaf;
+   }
+
+   /**
+    * Removes a leaf from this tree.
+    *
+    * @param leaf the id of the leaf to remove.
+    * @return the user object that was associated to the leaf.
+    * @throws IllegalArgumentException if {@code leaf} is not the id of a leaf of this tree.
+    */
+   @SuppressWarnings("unchecked")
+   public T remove(int leaf)
+   {
+      checkLeaf(leaf);
+      T data = (T) userData[leaf];
+      removeLeaf(leaf);
+      freeNode(leaf);
+      numberOfLeaves--;
+      return data;
+   }
+
+   /**
+    * Updates the bounding box of a leaf.
+    * <p>
+    * When the new bounding box is still contained in the fattened bounding box of the leaf, the tree
+    * is left unchanged. Otherwise, the leaf is removed and re-inserted with a new fattened bounding
+    * box, and its ancestors are refit.
+    * </p>
+    *
+    * @param leaf        the id of the leaf to update.
+    * @param boundingBox the new bounding box of the leaf. Not modified.
+    * @return {@code true} if the tree was modified, {@code false} otherwise.
+    * @throws IllegalArgumentException if {@code leaf} is not the id of a leaf of this tree.
+    */
+   public boolean update(int leaf, BoundingBox3DReadOnly boundingBox)
+   {
+      checkLeaf(leaf);
+
+      int offset = 6 * leaf;
+      if (bounds[offset + MIN_X] <= boundingBox.getMinX() && bounds[offset + MIN_Y] <= boundingBox.getMinY()
+            && bounds[offset + MIN_Z] <= boundingBox.getMinZ() && bounds[offset + MAX_X] >= boundingBox.getMaxX()
+            && bounds[offset + MAX_Y] >= boundingBox.getMaxY() && bounds[offset + MAX_Z] >= boundingBox.getMaxZ())
+         return false;
+
+      removeLeaf(leaf);
+      setFattenedBounds(leaf, boundingBox);
+      insertLeaf(leaf);
+      return true;
+   }
+
+   private void setFattenedBounds(int node, BoundingBox3DReadOnly boundingBox)
+   {
+      int offset = 6 * node;
+      bounds[offset + MIN_X] = boundingBox.getMinX() - margin;
+      bounds[offset + MIN_Y] = boundingBox.getMinY() - margin;
+      bounds[offset + MIN_Z] = boundingBox.getMinZ() - margin;
+      bounds[offset + MAX_X] = boundingBox.getMaxX() + margin;
+      bounds[offset + MAX_Y] = boundingBox.getMaxY() + margin;
+      bounds[offset + MAX_Z] = boundingBox.getMaxZ() + margin;
+   }
+
+   private void insertLeaf(int leaf)
+   {
+      if (root == NULL_NODE)
+      {
+         root = leaf;
+         parents[leaf] = NULL_NODE;
+         return;
+      }
+
+      // Finding the best sibling for the new leaf using the surface area heuristic.
+      int index = root;
+
+      while (!isLeaf(index))
+      {
+         int child1 = children1[index];
+         int child2 = children2[index];
+
+         double area = surfaceArea(index);
+         double combinedArea = combinedSurfaceArea(index, leaf);
+
+         // Cost of creating a new parent for this node and the new leaf.
+         double cost = 2.0 * combinedArea;
+         // Minimum cost of pushing the leaf further down the tree.
+         double inheritanceCost = 2.0 * (combinedArea - area);
+
+         double cost1 = descendCost(child1, leaf) + inheritanceCost;
+         double cost2 = descendCost(child2, leaf) + inheritanceCost;
+
+         if (cost < cost1 && cost < cost2)
+            break;
+
+         index = cost1 < cost2 ? child1 : child2;
+      }
+
+      int sibling = index;
+
+      // Creating a new parent.
+      int oldParent = parents[sibling];
+      int newParent = allocateNode();
+      parents[newParent] = oldParent;
+      setCombinedBounds(newParent, leaf, sibling);
+      heights[newParent] = heights[sibling] + 1;
+
+      if (oldParent != NULL_NODE)
+      {
+         if (children1[oldParent] == sibling)
+            children1[oldParent] = newParent;
+         else
+            children2[oldParent] = newParent;
+      }
+      else
+      {
+         root = newParent;
+      }
+
+      children1[newParent] = sibling;
+      children2[newParent] = leaf;
+      parents[sibling] = newParent;
+      parents[leaf] = newParent;
+
+      refitAncestors(parents[leaf]);
+   }
+
+   private double descendCost(int child, int leaf)
+   {
+      if (isLeaf(child))
+         return combinedSurfaceArea(child, leaf);
+      else
+         return combinedSurfaceArea(child, leaf) - surfaceArea(child);
+   }
+
+   private void removeLeaf(int leaf)
+   {
+      if (leaf == root)
+      {
+         root = NULL_NODE;
+         return;
+      }
+
+      int parent = parents[leaf];
+      int grandParent = parents[parent];
+      int sibling = children1[parent] == leaf ? children2[parent] : children1[parent];
+
+      if (grandParent != NULL_NODE)
+      {
+         // Destroying the parent and connecting the sibling to the grand parent.
+         if (children1[grandParent] == parent)
+            children1[grandParent] = sibling;
+         else
+            children2[grandParent] = sibling;
+         parents[sibling] = grandParent;
+         freeNode(parent);
+
+         refitAncestors(grandParent);
+      }
+      else
+      {
+         root = sibling;
+         parents[sibling] = NULL_NODE;
+         freeNode(parent);
+      }
+
+      parents[leaf] = NULL_NODE;
+   }
+
+   /**
+    * Walks back up the tree from the given node, re-balancing and refitting each node on the way.
+    */
+   private void refitAncestors(int index)
+   {
+      while (index != NULL_NODE)
+      {
+         index = balance(index);
+
+         int child1 = children1[index];
+         int child2 = children2[index];
+         heights[index] = 1 + Math.max(heights[child1], heights[child2]);
+         setCombinedBounds(index, child1, child2);
+
+         index = parents[index];
+      }
+   }
+
+   /**
+    * Performs a left or right rotation if the node {@code a} is imbalanced.
+    *
+    * @return the id of the node now at the position of {@code a}.
+    */
+   private int balance(int a)
+   {
+      if (isLeaf(a) || heights[a] < 2)
+         return a;
+
+      int b = children1[a];
+      int c = children2[a];
+      int imbalance = heights[c] - heights[b];
+
+      if (imbalance > 1)
+         return rotate(a, c, b, true);
+      if (imbalance < -1)
+         return rotate(a, b, c, false);
+      return a;
+   }
+
+   /**
+    * Promotes the child {@code up} of the node {@code a} in place of {@code a}.
+    *
+    * @param a          the imbalanced node.
+    * @param up         the highest child of {@code a}, which is promoted.
+    * @param other      the other child of {@code a}.
+    * @param upIsChild2 whether {@code up} is the second child of {@code a}.
+    * @return the id of {@code up}.
+    */
+   private int rotate(int a, int up, int other, boolean upIsChild2)
+   {
+      int f = children1[up];
+      int g = children2[up];
+
+      // Swapping a and up.
+      children1[up] = a;
+      parents[up] = parents[a];
+      parents[a] = up;
+
+      // a's old parent should point to up.
+      if (parents[up] != NULL_NODE)
+      {
+         if (children1[parents[up]] == a)
+            children1[parents[up]] = up;
+         else
+            children2[parents[up]] = up;
+      }
+      else
+      {
+         root = up;
+      }
+
+      // Keeping the highest grand-child under up and moving the other one under a.
+      int kept, moved;
+
+      if (heights[f] > heights[g])
+      {
+         kept = f;
+         moved = g;
+      }
+      else
+      {
+         kept = g;
+         moved = f;
+      }
+
+      children2[up] = kept;
+      parents[moved] = a;
+
+      if (upIsChild2)
+         children2[a] = moved;
+      else
+         children1[a] = moved;
+
+      setCombinedBounds(a, other, moved);
+      setCombinedBounds(up, a, kept);
+      heights[a] = 1 + Math.max(heights[other], heights[moved]);
+      heights[up] = 1 + Math.max(heights[a], heights[kept]);
+
+      return up;
+   }
+
+   private boolean isLeaf(int node)
+   {
+      return children1[node] == NULL_NODE;
+   }
+
+   private void setCombinedBounds(int node, int a, int b)
+   {
+      int offset = 6 * node, offsetA = 6 * a, offsetB = 6 * b;
+      bounds[offset + MIN_X] = Math.min(bounds[offsetA + MIN_X], bounds[offsetB + MIN_X]);
+      bounds[offset + MIN_Y] = Math.min(bounds[offsetA + MIN_Y], bounds[offsetB + MIN_Y]);
+      bounds[offset + MIN_Z] = Math.min(bounds[offsetA + MIN_Z], bounds[offsetB + MIN_Z]);
+      bounds[offset + MAX_X] = Math.max(bounds[offsetA + MAX_X], bounds[offsetB + MAX_X]);
+      bounds[offset + MAX_Y] = Math.max(bounds[offsetA + MAX_Y], bounds[offsetB + MAX_Y]);
+      bounds[offset + MAX_Z] = Math.max(bounds[offsetA + MAX_Z], bounds[offsetB + MAX_Z]);
+   }
+
+   private double surfaceArea(int node)
+   {
+      int offset = 6 * node;
+      double dx = bounds[offset + MAX_X] - bounds[offset + MIN_X];
+      double dy = bounds[offset + MAX_Y] - bounds[offset + MIN_Y];
+      double dz = bounds[offset + MAX_Z] - bounds[offset + MIN_Z];
+      return 2.0 * (dx * dy + dy * dz + dz * dx);
+   }
+
+   private double combinedSurfaceArea(int a, int b)
+   {
+      int offsetA = 6 * a, offsetB = 6 * b;
+      double dx = Math.max(bounds[offsetA + MAX_X], bounds[offsetB + MAX_X]) - Math.min(bounds[offsetA + MIN_X], bounds[offsetB + MIN_X]);
+      double dy = Math.max(bounds[offsetA + MAX_Y], bounds[offsetB + MAX_Y]) - Math.min(bounds[offsetA + MIN_Y], bounds[offsetB + MIN_Y]);
+      double dz = Math.max(bounds[offsetA + MAX_Z], bounds[offsetB + MAX_Z]) - Math.min(bounds[offsetA + MIN_Z], bounds[offsetB + MIN_Z]);
+      return 2.0 * (dx * dy + dy * dz + dz * dx);
+   }
+
+   private void push(int stackSize, int node)
+   {
+      if (stackSize == stack.length)
+         stack = Arrays.copyOf(stack, 2 * stack.length);
+      stack[stackSize] = node;
+   }
+
+   /**
+    * Finds all the leaves whose bounding box intersects the given bounding box.
+    * <p>
+    * Bounding boxes that are only touching are considered to be intersecting.
+    * </p>
+    *
+    * @param query        the bounding box to test against the leaves. Not modified.
+    * @param leafConsumer the consumer to which the ids of the intersecting leaves are passed.
+    * @return the number of leaves passed to the consumer.
+    */
+   public int queryOverlaps(BoundingBox3DReadOnly query, IntConsumer leafConsumer)
+   {
+      if (root == NULL_NODE)
+         return 0;
+
+      double queryMinX = query.getMinX(), queryMinY = query.getMinY(), queryMinZ = query.getMinZ();
+      double queryMaxX = query.getMaxX(), queryMaxY = query.getMaxY(), queryMaxZ = query.getMaxZ();
+      int numberOfResults = 0;
+      int stackSize = 0;
+      push(stackSize++, root);
+
+      while (stackSize > 0)
+      {
+         int node = stack[--stackSize];
+         int offset = 6 * node;
+
+         if (bounds[offset + MIN_X] > queryMaxX || bounds[offset + MAX_X] < queryMinX)
+            continue;
+         if (bounds[offset + MIN_Y] > queryMaxY || bounds[offset + MAX_Y] < queryMinY)
+            continue;
+         if (bounds[offset + MIN_Z] > queryMaxZ || bounds[offset + MAX_Z] < queryMinZ)
+            continue;
+
+         if (isLeaf(node))
+         {
+            leafConsumer.accept(node);
+            numberOfResults++;
+         }
+         else
+         {
+            push(stackSize++, children1[node]);
+            push(stackSize++, children2[node]);
+         }
+      }
+
+      return numberOfResults;
+   }
+
+   /**
+    * Finds all the leaves whose bounding box is intersected by the given ray.
+    * <p>
+    * The bounding boxes are tested using
+    * {@link EuclidGeometryTools#intersectionBetweenRay3DAndBoundingBox3D(double, double, double, double, double, double, Point3DReadOnly, Vector3DReadOnly, Point3DBasics, Point3DBasics)}.
+    * </p>
+    *
+    * @param rayOrigin    the origin of the ray. Not modified.
+    * @param rayDirection the direction of the ray. Not modified.
+    * @param leafConsumer the consumer to which the ids of the intersected leaves are passed.
+    * @return the number of leaves passed to the consumer.
+    */
+   public int queryRay(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, IntConsumer leafConsumer)
+   {
+      if (root == NULL_NODE)
+         return 0;
+
+      int numberOfResults = 0;
+      int stackSize = 0;
+      push(stackSize++, root);
+
+      while (stackSize > 0)
+      {
+         int node = stack[--stackSize];
+
+         if (!intersectsRay(node, rayOrigin, rayDirection, null))
+            continue;
+
+         if (isLeaf(node))
+         {
+            leafConsumer.accept(node);
+            numberOfResults++;
+         }
+         else
+         {
+            push(stackSize++, children1[node]);
+            push(stackSize++, children2[node]);
+         }
+      }
+
+      return numberOfResults;
+   }
+
+   /**
+    * Finds the leaf whose bounding box is the first to be intersected by the given ray.
+    * <p>
+    * A leaf which bounding box contains the ray origin is considered to be intersected at the origin.
+    * </p>
+    *
+    * @param rayOrigin          the origin of the ray. Not modified.
+    * @param rayDirection       the direction of the ray. Not modified.
+    * @param intersectionToPack the point where the ray enters the bounding box of the leaf. Can be
+    *                           {@code null}. Modified.
+    * @return the id of the first leaf intersected by the ray, or {@link #NULL_NODE} if the ray does
+    *         not intersect any leaf.
+    */
+   public int queryRayClosest(Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, Point3DBasics intersectionToPack)
+   {
+      int closestLeaf = NULL_NODE;
+      double closestDistanceSquared = Double.POSITIVE_INFINITY;
+
+      if (root != NULL_NODE)
+      {
+         int stackSize = 0;
+         push(stackSize++, root);
+
+         while (stackSize > 0)
+         {
+            int node = stack[--stackSize];
+
+            if (!intersectsRay(node, rayOrigin, rayDirection, intersection))
+               continue;
+
+            double distanceSquared = intersection.distanceSquared(rayOrigin);
+
+            if (distanceSquared >= closestDistanceSquared)
+               continue;
+
+            if (isLeaf(node))
+            {
+               closestLeaf = node;
+               closestDistanceSquared = distanceSquared;
+               if (intersectionToPack != null)
+                  intersectionToPack.set(intersection);
+            }
+            else
+            {
+               push(stackSize++, children1[node]);
+               push(stackSize++, children2[node]);
+            }
+         }
+      }
+
+      if (closestLeaf == NULL_NODE && intersectionToPack != null)
+         intersectionToPack.setToNaN();
+
+      return closestLeaf;
+   }
+
+   /**
+    * Tests whether the ray intersects the bounding box of the given node and packs the point where
+    * the ray enters the bounding box, or the ray origin if it is inside the bounding box.
+    */
+   private boolean intersectsRay(int node, Point3DReadOnly rayOrigin, Vector3DReadOnly rayDirection, Point3DBasics entryPointToPack)
+   {
+      int offset = 6 * node;
+      double minX = bounds[offset + MIN_X], minY = bounds[offset + MIN_Y], minZ = bounds[offset + MIN_Z];
+      double maxX = bounds[offset + MAX_X], maxY = bounds[offset + MAX_Y], maxZ = bounds[offset + MAX_Z];
+
+      if (rayOrigin.getX() >= minX && rayOrigin.getX() <= maxX && rayOrigin.getY() >= minY && rayOrigin.getY() <= maxY && rayOrigin.getZ() >= minZ
+            && rayOrigin.getZ() <= maxZ)
+      {
+         if (entryPointToPack != null)
+            entryPointToPack.set(rayOrigin);
+         return true;
+      }
+
+      return EuclidGeometryTools.intersectionBetweenRay3DAndBoundingBox3D(minX,
+                                                                          minY,
+                                                                          minZ,
+                                                                          maxX,
+                                                                          maxY,
+                                                                          maxZ,
+                                                                          rayOrigin,
+                                                                          rayDirection,
+                                                                          entryPointToPack,
+                                                                          null) > 0;
+   }
+
+   /**
+    * Finds the leaf whose bounding box is the closest to the given point.
+    * <p>
+    * The distance from a point to a bounding box is zero when the point is inside the bounding box.
+    * When several leaves are at the same distance, any of them can be returned.
+    * </p>
+    *
+    * @param query the query point. Not modified.
+    * @return the id of the closest leaf, or {@link #NULL_NODE} if this tree is empty.
+    */
+   public int queryNearest(Point3DReadOnly query)
+   {
+      if (root == NULL_NODE)
+         return NULL_NODE;
+
+      double x = query.getX(), y = query.getY(), z = query.getZ();
+      int closestLeaf = NULL_NODE;
+      double closestDistanceSquared = Double.POSITIVE_INFINITY;
+      int stackSize = 0;
+      push(stackSize++, root);
+
+      while (stackSize > 0)
+      {
+         int node = stack[--stackSize];
+         double distanceSquared = distanceSquared(node, x, y, z);
+
+         if (distanceSquared >= closestDistanceSquared)
+            continue;
+
+         if (isLeaf(node))
+         {
+            closestLeaf = node;
+            closestDistanceSquared = distanceSquared;
+         }
+         else
+         {
+            int child1 = children1[node];
+            int child2 = children2[node];
+
+            // Pushing the closest child last such that it is visited first.
+            if (distanceSquared(child1, x, y, z) < distanceSquared(child2, x, y, z))
+            {
+               push(stackSize++, child2);
+               push(stackSize++, child1);
+            }
+            else
+            {
+               push(stackSize++, child1);
+               push(stackSize++, child2);
+            }
+         }
+      }
+
+      return closestLeaf;
+   }
+
+   private double distanceSquared(int node, double x, double y, double z)
+   {
+      int offset = 6 * node;
+      double dx = Math.max(0.0, Math.max(bounds[offset + MIN_X] - x, x - bounds[offset + MAX_X]));
+      double dy = Math.max(0.0, Math.max(bounds[offset + MIN_Y] - y, y - bounds[offset + MAX_Y]));
+      double dz = Math.max(0.0, Math.max(bounds[offset + MIN_Z] - z, z - bounds[offset + MAX_Z]));
+      return dx * dx + dy * dy + dz * dz;
+   }
+
+   private void checkLeaf(int leaf)
+   {
+      if (leaf < 0 || leaf >= capacity || heights[leaf] != 0)
+         throw new IllegalArgumentException("The id " + leaf + " is not a leaf of this tree.");
+   }
+
+   /**
+    * Gets the fattened bounding box of a leaf.
+    *
+    * @param leaf              the id of the leaf.
+    * @param boundingBoxToPack the bounding box in which the bounds of the leaf are stored. Modified.
+    * @throws IllegalArgumentException if {@code leaf} is not the id of a leaf of this tree.
+    */
+   public void getBoundingBox(int leaf, BoundingBox3DBasics boundingBoxToPack)
+   {
+      checkLeaf(leaf);
+      int offset = 6 * leaf;
+      boundingBoxToPack.set(bounds[offset + MIN_X],
+                            bounds[offset + MIN_Y],
+                            bounds[offset + MIN_Z],
+                            bounds[offset + MAX_X],
+                            bounds[offset + MAX_Y],
+                            bounds[offset + MAX_Z]);
+   }
+
+   /**
+    * Gets the user object associated to a leaf.
+    *
+    * @param leaf the id of the leaf.
+    * @return the user object.
+    * @throws IllegalArgumentException if {@code leaf} is not the id of a leaf of this tree.
+    */
+   @SuppressWarnings("unchecked")
+   public T getUserData(int leaf)
+   {
+      checkLeaf(leaf);
+      return (T) userData[leaf];
+   }
+
+   /**
+    * Gets the number of leaves in this tree.
+    *
+    * @return the number of leaves.
+    */
+   public int getNumberOfLeaves()
+   {
+      return numberOfLeaves;
+   }
+
+   /**
+    * Gets the number of nodes, leaves and internal nodes, in this tree.
+    *
+    * @return the number of nodes.
+    */
+   public int getNumberOfNodes()
+   {
+      return numberOfNodes;
+   }
+
+   /**
+    * Gets the height of this tree, i.e. the number of edges on the longest path from the root to a
+    * leaf.
+    *
+    * @return the height of this tree, or -1 if this tree is empty.
+    */
+   public int getHeight()
+   {
+      return root == NULL_NODE ? -1 : heights[root];
+   }
+
+   /**
+    * Gets the margin used to fatten the leaves.
+    *
+    * @return the margin.
+    */
+   public double getMargin()
+   {
+      return margin;
+   }
+
+   /**
+    * Verifies the integrity of the tree structure, the heights and bounds of the internal nodes, and
+    * the number of nodes.
+    *
+    * @throws IllegalStateException if the tree is corrupted.
+    */
+   void validate()
+   {
+      if (root != NULL_NODE && parents[root] != NULL_NODE)
+         throw new IllegalStateException("The root has a parent.");
+
+      int count = root == NULL_NODE ? 0 : validate(root);
+      if (count != numberOfNodes)
+         throw new IllegalStateException("Expected " + numberOfNodes + " nodes, found " + count);
+   }
+
+   private int validate(int node)
+   {
+      if (isLeaf(node))
+      {
+         if (heights[node] != 0)
+            throw new IllegalStateException("Leaf " + node + " has a height of " + heights[node]);
+         return 1;
+      }
+
+      int child1 = children1[node];
+      int child2 = children2[node];
+
+      if (parents[child1] != node || parents[child2] != node)
+         throw new IllegalStateException("Inconsistent parent for the children of " + node);
+      if (heights[node] != 1 + Math.max(heights[child1], heights[child2]))
+         throw new IllegalStateException("Inconsistent height for " + node);
+
+      int offset = 6 * node, offset1 = 6 * child1, offset2 = 6 * child2;
+
+      for (int i = 0; i < 3; i++)
+      {
+         if (bounds[offset + i] != Math.min(bounds[offset1 + i], bounds[offset2 + i]))
+            throw new IllegalStateException("Inconsistent bounds for " + node);
+         if (bounds[offset + 3 + i] != Math.max(bounds[offset1 + 3 + i], bounds[offset2 + 3 + i]))
+            throw new IllegalStateException("Inconsistent bounds for " + node);
+      }
+
+      return 1 + validate(child1) + validate(child2);
+   }
+}
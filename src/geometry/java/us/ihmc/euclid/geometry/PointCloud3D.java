@@ -0,0 +1,671 @@
+package us.ihmc.euclid.geometry;
+
+import java.util.Arrays;
+
+import us.ihmc.euclid.geometry.interfaces.Vertex3DSupplier;
+import us.ihmc.euclid.interfaces.EuclidGeometry;
+import us.ihmc.euclid.interfaces.Transformable;
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.transform.interfaces.AffineTransformReadOnly;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformReadOnly;
+import us.ihmc.euclid.transform.interfaces.Transform;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+
+/**
+ * Collection of 3D points stored as a structure of arrays.
+ * <p>
+ * The coordinates of the points are stored in three primitive arrays, one per axis, instead of one
+ * {@code Point3D} object per point. Large point clouds, such as the ones produced by a lidar, then
+ * use a fraction of the memory of a {@code List<Point3D>} and iterating over them does not require
+ * following one reference per point.
+ * </p>
+ * <p>
+ * Adding points only allocates when the cloud exceeds its current capacity and {@link #clear()}
+ * retains the storage, such that a cloud can be refilled at every update without generating
+ * garbage. The points can be accessed by index through the coordinate getters and setters, or
+ * through a {@link PointView} which is a {@link Point3DBasics} backed by the arrays of this cloud.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ */
+public class PointCloud3D implements Vertex3DSupplier, Transformable
+{
+   private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+   /** The x-coordinates of the points. */
+   private double[] xs;
+   /** The y-coordinates of the points. */
+   private double[] ys;
+   /** The z-coordinates of the points. */
+   private double[] zs;
+   /** The number of points in this cloud. */
+   private int size = 0;
+
+   /** View used internally to transform the points. */
+   private final PointView transformView = new PointView();
+
+   /**
+    * Creates a new empty point cloud.
+    */
+   public PointCloud3D()
+   {
+      this(DEFAULT_INITIAL_CAPACITY);
+   }
+
+   /**
+    * Creates a new empty point cloud.
+    *
+    * @param initialCapacity the number of points the cloud can hold before having to grow.
+    * @throws IllegalArgumentException if {@code initialCapacity} is negative.
+    */
+   public PointCloud3D(int initialCapacity)
+   {
+      if (initialCapacity < 0)
+         throw new IllegalArgumentException("The initial capacity cannot be negative: " + initialCapacity);
+
+      xs = new double[initialCapacity];
+      ys = new double[initialCapacity];
+      zs = new double[initialCapacity];
+   }
+
+   /**
+    * Creates a new point cloud and initializes it to hold a copy of the vertices of the given
+    * supplier.
+    *
+    * @param vertex3DSupplier the supplier of the points to copy. Not modified.
+    */
+   public PointCloud3D(Vertex3DSupplier vertex3DSupplier)
+   {
+      this(vertex3DSupplier.getNumberOfVertices());
+      addAll(vertex3DSupplier);
+   }
+
+   /**
+    * Sets this cloud to be a copy of {@code other}.
+    * <p>
+    * This method only allocates when this cloud has to grow to hold the points of {@code other}.
+    * </p>
+    *
+    * @param other the other cloud to copy. Not modified.
+    */
+   public void set(PointCloud3D other)
+   {
+      if (other == this)
+         return;
+
+      size = 0;
+      ensureCapacity(other.size);
+      System.arraycopy(other.xs, 0, xs, 0, other.size);
+      System.arraycopy(other.ys, 0, ys, 0, other.size);
+      System.arraycopy(other.zs, 0, zs, 0, other.size);
+      size = other.size;
+   }
+
+   /**
+    * Removes all the points of this cloud.
+    * <p>
+    * The storage is retained such that the cloud can be refilled without allocating.
+    * </p>
+    */
+   public void clear()
+   {
+      size = 0;
+   }
+
+   /**
+    * Ensures that this cloud can hold at least {@code minimumCapacity} points without having to
+    * grow.
+    *
+    * @param minimumCapacity the desired minimum capacity.
+    */
+   public void ensureCapacity(int minimumCapacity)
+   {
+      if (minimumCapacity <= xs.length)
+         return;
+
+      int newCapacity = Math.max(minimumCapacity, xs.length + (xs.length >> 1) + 1);
+      xs = Arrays.copyOf(xs, newCapacity);
+      ys = Arrays.copyOf(ys, newCapacity);
+      zs = Arrays.copyOf(zs, newCapacity);
+   }
+
+   /**
+    * Reduces the storage of this cloud to its current number of points.
+    */
+   public void trimToSize()
+   {
+      if (size == xs.length)
+         return;
+
+      xs = Arrays.copyOf(xs, size);
+      ys = Arrays.copyOf(ys, size);
+      zs = Arrays.copyOf(zs, size);
+   }
+
+   /**
+    * Adds a point to this cloud.
+    *
+    * @param x the x-coordinate of the new point.
+    * @param y the y-coordinate of the new point.
+    * @param z the z-coordinate of the new point.
+    */
+   public void add(double x, double y, double z)
+   {
+      if (size == xs.length)
+         ensureCapacity(size + 1);
+
+      xs[size] = x;
+      ys[size] = y;
+      zs[size] = z;
+      size++;
+   }
+
+   /**
+    * Adds a point to this cloud.
+    *
+    * @param point the coordinates of the new point. Not modified.
+    */
+   public void add(Tuple3DReadOnly point)
+   {
+      add(point.getX(), point.getY(), point.getZ());
+   }
+
+   /**
+    * Adds points to this cloud from an array storing their coordinates in sequence as: x0, y0, z0,
+    * x1, y1, z1, ...
+    *
+    * @param coordinates    the array containing the coordinates of the points. Not modified.
+    * @param startIndex     the index in the array of the x-coordinate of the first point to add.
+    * @param numberOfPoints the number of points to add.
+    * @throws IndexOutOfBoundsException if {@code coordinates} is too small.
+    */
+   public void addAll(double[] coordinates, int startIndex, int numberOfPoints)
+   {
+      checkArrayRange(coordinates.length, startIndex, numberOfPoints);
+      ensureCapacity(size + numberOfPoints);
+
+      for (int i = 0, index = startIndex; i < numberOfPoints; i++)
+      {
+         xs[size] = coordinates[index++];
+         ys[size] = coordinates[index++];
+         zs[size] = coordinates[index++];
+         size++;
+      }
+   }
+
+   /**
+    * Adds points to this cloud from an array storing their coordinates in sequence as: x0, y0, z0,
+    * x1, y1, z1, ...
+    *
+    * @param coordinates    the array containing the coordinates of the points. Not modified.
+    * @param startIndex     the index in the array of the x-coordinate of the first point to add.
+    * @param numberOfPoints the number of points to add.
+    * @throws IndexOutOfBoundsException if {@code coordinates} is too small.
+    */
+   public void addAll(float[] coordinates, int startIndex, int numberOfPoints)
+   {
+      checkArrayRange(coordinates.length, startIndex, numberOfPoints);
+      ensureCapacity(size + numberOfPoints);
+
+      for (int i = 0, index = startIndex; i < numberOfPoints; i++)
+      {
+         xs[size] = coordinates[index++];
+         ys[size] = coordinates[index++];
+         zs[size] = coordinates[index++];
+         size++;
+      }
+   }
+
+   /**
+    * Adds all the vertices of the given supplier to this cloud.
+    *
+    * @param vertex3DSupplier the supplier of the points to add. Not modified.
+    */
+   public void addAll(Vertex3DSupplier vertex3DSupplier)
+   {
+      if (vertex3DSupplier instanceof PointCloud3D)
+      {
+         addAll((PointCloud3D) vertex3DSupplier);
+         return;
+      }
+
+      int numberOfVertices = vertex3DSupplier.getNumberOfVertices();
+      ensureCapacity(size + numberOfVertices);
+
+      for (int i = 0; i < numberOfVertices; i++)
+      {
+         Point3DReadOnly vertex = vertex3DSupplier.getVertex(i);
+         xs[size] = vertex.getX();
+         ys[size] = vertex.getY();
+         zs[size] = vertex.getZ();
+         size++;
+      }
+   }
+
+   /**
+    * Adds all the points of the given cloud to this cloud.
+    *
+    * @param other the cloud containing the points to add. Not modified.
+    */
+   public void addAll(PointCloud3D other)
+   {
+      int otherSize = other.size;
+      ensureCapacity(size + otherSize);
+      System.arraycopy(other.xs, 0, xs, size, otherSize);
+      System.arraycopy(other.ys, 0, ys, size, otherSize);
+      System.arraycopy(other.zs, 0, zs, size, otherSize);
+      size += otherSize;
+   }
+
+   /**
+    * Removes the point at the given index by replacing it with the last point of this cloud.
+    * <p>
+    * This operation does not preserve the order of the points.
+    * </p>
+    *
+    * @param index the index of the point to remove.
+    * @throws IndexOutOfBoundsException if {@code index} is negative or greater or equal than the
+    *                                   number of points.
+    */
+   public void removeFast(int index)
+   {
+      checkIndexInBoundaries(index);
+      size--;
+      xs[index] = xs[size];
+      ys[index] = ys[size];
+      zs[index] = zs[size];
+   }
+
+   /**
+    * Sets the coordinates of the point at the given index.
+    *
+    * @param index the index of the point to modify.
+    * @param x     the new x-coordinate.
+    * @param y     the new y-coordinate.
+    * @param z     the new z-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} is negative or greater or equal than the
+    *                                   number of points.
+    */
+   public void set(int index, double x, double y, double z)
+   {
+      checkIndexInBoundaries(index);
+      xs[index] = x;
+      ys[index] = y;
+      zs[index] = z;
+   }
+
+   /**
+    * Sets the coordinates of the point at the given index.
+    *
+    * @param index the index of the point to modify.
+    * @param point the new coordinates. Not modified.
+    * @throws IndexOutOfBoundsException if {@code index} is negative or greater or equal than the
+    *                                   number of points.
+    */
+   public void set(int index, Tuple3DReadOnly point)
+   {
+      set(index, point.getX(), point.getY(), point.getZ());
+   }
+
+   /**
+    * Gets the x-coordinate of the point at the given index.
+    *
+    * @param index the index of the point.
+    * @return the x-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} is negative or greater or equal than the
+    *                                   number of points.
+    */
+   public double getX(int index)
+   {
+      checkIndexInBoundaries(index);
+      return xs[index];
+   }
+
+   /**
+    * Gets the y-coordinate of the point at the given index.
+    *
+    * @param index the index of the point.
+    * @return the y-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} is negative or greater or equal than the
+    *                                   number of points.
+    */
+   public double getY(int index)
+   {
+      checkIndexInBoundaries(index);
+      return ys[index];
+   }
+
+   /**
+    * Gets the z-coordinate of the point at the given index.
+    *
+    * @param index the index of the point.
+    * @return the z-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} is negative or greater or equal than the
+    *                                   number of points.
+    */
+   public double getZ(int index)
+   {
+      checkIndexInBoundaries(index);
+      return zs[index];
+   }
+
+   /**
+    * Packs the coordinates of the point at the given index.
+    *
+    * @param index       the index of the point.
+    * @param pointToPack the tuple in which the coordinates are stored. Modified.
+    * @throws IndexOutOfBoundsException if {@code index} is negative or greater or equal than the
+    *                                   number of points.
+    */
+   public void get(int index, Tuple3DBasics pointToPack)
+   {
+      checkIndexInBoundaries(index);
+      pointToPack.set(xs[index], ys[index], zs[index]);
+   }
+
+   /**
+    * Creates a new view of the point at the given index.
+    * <p>
+    * The view is backed by this cloud: modifying the view modifies this cloud and vice versa. The
+    * same view can be moved to another point with {@link PointView#setIndex(int)}, such that iterating
+    * over the points with a single view does not generate garbage.
+    * </p>
+    * <p>
+    * WARNING: This method generates garbage.
+    * </p>
+    *
+    * @param index the index of the point.
+    * @return the view of the point.
+    * @throws IndexOutOfBoundsException if {@code index} is negative or greater or equal than the
+    *                                   number of points.
+    */
+   @Override
+   public PointView getVertex(int index)
+   {
+      PointView view = new PointView();
+      view.setIndex(index);
+      return view;
+   }
+
+   /**
+    * Creates a new view that is not yet attached to any point of this cloud.
+    * <p>
+    * {@link PointView#setIndex(int)} has to be called before accessing the view.
+    * </p>
+    * <p>
+    * WARNING: This method generates garbage.
+    * </p>
+    *
+    * @return the new view.
+    */
+   public PointView newPointView()
+   {
+      return new PointView();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public int getNumberOfVertices()
+   {
+      return size;
+   }
+
+   /**
+    * Gets the number of points this cloud can hold before having to grow.
+    *
+    * @return the capacity of this cloud.
+    */
+   public int getCapacity()
+   {
+      return xs.length;
+   }
+
+   /**
+    * Transforms all the points of this cloud by the given transform.
+    * <p>
+    * Rigid-body and affine transforms are applied with a single loop over the coordinate arrays, see
+    * {@link RigidBodyTransformReadOnly#transformPoints(double[], double[], double[], int, double[], double[], double[], int, int)}.
+    * </p>
+    *
+    * @param transform the transform to apply. Not modified.
+    */
+   @Override
+   public void applyTransform(Transform transform)
+   {
+      if (transform instanceof RigidBodyTransformReadOnly)
+      {
+         ((RigidBodyTransformReadOnly) transform).transformPoints(xs, ys, zs, 0, xs, ys, zs, 0, size);
+         return;
+      }
+      else if (transform instanceof AffineTransformReadOnly)
+      {
+         ((AffineTransformReadOnly) transform).transformPoints(xs, ys, zs, 0, xs, ys, zs, 0, size);
+         return;
+      }
+
+      for (int i = 0; i < size; i++)
+      {
+         transformView.index = i;
+         transform.transform(transformView);
+      }
+   }
+
+   /**
+    * Transforms all the points of this cloud by the inverse of the given transform.
+    *
+    * @param transform the transform to apply. Not modified.
+    */
+   @Override
+   public void applyInverseTransform(Transform transform)
+   {
+      if (transform instanceof RigidBodyTransformReadOnly)
+      {
+         ((RigidBodyTransformReadOnly) transform).inverseTransformPoints(xs, ys, zs, 0, xs, ys, zs, 0, size);
+         return;
+      }
+      else if (transform instanceof AffineTransformReadOnly)
+      {
+         ((AffineTransformReadOnly) transform).inverseTransformPoints(xs, ys, zs, 0, xs, ys, zs, 0, size);
+         return;
+      }
+
+      for (int i = 0; i < size; i++)
+      {
+         transformView.index = i;
+         transform.inverseTransform(transformView);
+      }
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public boolean equals(EuclidGeometry geometry)
+   {
+      if (!(geometry instanceof PointCloud3D))
+         return Vertex3DSupplier.super.equals(geometry);
+
+      PointCloud3D other = (PointCloud3D) geometry;
+
+      if (size != other.size)
+         return false;
+
+      for (int i = 0; i < size; i++)
+      {
+         if (xs[i] != other.xs[i] || ys[i] != other.ys[i] || zs[i] != other.zs[i])
+            return false;
+      }
+
+      return true;
+   }
+
+   /**
+    * Tests if the given {@code object} is a {@link Vertex3DSupplier}, in which case the method returns
+    * {@link #equals(EuclidGeometry)}, it returns {@code false} otherwise.
+    *
+    * @param object the object to compare against this. Not modified.
+    * @return {@code true} if {@code object} and this are exactly equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean equals(Object object)
+   {
+      if (object instanceof Vertex3DSupplier)
+         return equals((EuclidGeometry) object);
+      else
+         return false;
+   }
+
+   /**
+    * Calculates and returns a hash code value from the value of each component of each point of this
+    * cloud.
+    *
+    * @return the hash code value for this cloud.
+    */
+   @Override
+   public int hashCode()
+   {
+      long bits = 1;
+      for (int i = 0; i < size; i++)
+      {
+         // Same as hashing a Point3D such that equal suppliers have the same hash code.
+         bits = EuclidHashCodeTools.addToHashCode(bits, EuclidHashCodeTools.toIntHashCode(xs[i], ys[i], zs[i]));
+      }
+      return EuclidHashCodeTools.toIntHashCode(bits);
+   }
+
+   /**
+    * Provides a {@code String} representation of this cloud as follows:
+    *
+    * <pre>
+    * Vertex 3D Supplier: [( 0.174,  0.732, -0.222 ), (-0.558, -0.380,  0.130 )]
+    * </pre>
+    *
+    * @return the {@code String} representing this cloud.
+    */
+   @Override
+   public String toString()
+   {
+      return toString(EuclidCoreIOTools.DEFAULT_FORMAT);
+   }
+
+   private void checkIndexInBoundaries(int index)
+   {
+      if (index < 0)
+         throw new IndexOutOfBoundsException("index < 0");
+      if (index >= size)
+         throw new IndexOutOfBoundsException("index >= numberOfPoints. numberOfPoints = " + size);
+   }
+
+   private static void checkArrayRange(int arrayLength, int startIndex, int numberOfPoints)
+   {
+      if (startIndex < 0 || numberOfPoints < 0 || startIndex + 3 * numberOfPoints > arrayLength)
+         throw new IndexOutOfBoundsException("The array is too small. Array length = " + arrayLength + ", expected minimum length = "
+               + (startIndex + 3 * numberOfPoints));
+   }
+
+   /**
+    * Flyweight {@link Point3DBasics} backed by the point of a {@link PointCloud3D} at a given index.
+    * <p>
+    * The view holds no coordinates: reading or writing the view reads or writes the arrays of the
+    * cloud. The view remains valid when the cloud grows, but accessing it after the point it refers
+    * to has been removed results in undefined values.
+    * </p>
+    */
+   public class PointView implements Point3DBasics
+   {
+      private int index = -1;
+
+      private PointView()
+      {
+      }
+
+      /**
+       * Attaches this view to the point at the given index.
+       *
+       * @param index the index of the point.
+       * @throws IndexOutOfBoundsException if {@code index} is negative or greater or equal than the
+       *                                   number of points of the cloud.
+       */
+      public void setIndex(int index)
+      {
+         checkIndexInBoundaries(index);
+         this.index = index;
+      }
+
+      /**
+       * Gets the index of the point this view is attached to.
+       *
+       * @return the index of the point, or {@code -1} if this view is not attached yet.
+       */
+      public int getIndex()
+      {
+         return index;
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public void setX(double x)
+      {
+         xs[index] = x;
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public void setY(double y)
+      {
+         ys[index] = y;
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public void setZ(double z)
+      {
+         zs[index] = z;
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public double getX()
+      {
+         return xs[index];
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public double getY()
+      {
+         return ys[index];
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public double getZ()
+      {
+         return zs[index];
+      }
+
+      @Override
+      public int hashCode()
+      {
+         return EuclidHashCodeTools.toIntHashCode(getX(), getY(), getZ());
+      }
+
+      @Override
+      public boolean equals(Object object)
+      {
+         if (object instanceof Point3DReadOnly)
+            return equals((Point3DReadOnly) object);
+         else
+            return false;
+      }
+
+      @Override
+      public String toString()
+      {
+         return toString(EuclidCoreIOTools.DEFAULT_FORMAT);
+      }
+   }
+}
@@ -6437,6 +6437,91 @@ public class EuclidGeometryTools
                                                            secondIntersectionToPack);
    }
 
+   /**
+    * Computes the coordinates of the possible intersections between a ray and an axis-aligned bounding
+    * box.
+    * <p>
+    * <a href=
+    * "https://www.scratchapixel.com/lessons/3d-basic-rendering/minimal-ray-tracer-rendering-simple-shapes/ray-box-intersection">Useful
+    * link</a>.
+    * </p>
+    * <p>
+    * Intersection(s) between the ray and the bounding box cannot exist before the origin of the ray.
+    * </p>
+    * <p>
+    * In the case the ray and the bounding box do not intersect, this method returns {@code 0} and
+    * {@code firstIntersectionToPack} and {@code secondIntersectionToPack} are set to
+    * {@link Double#NaN}.
+    * </p>
+    * <p>
+    * In the case only one intersection exists between the ray and the bounding box,
+    * {@code firstIntersectionToPack} will contain the coordinate of the intersection and
+    * {@code secondIntersectionToPack} will be set to contain only {@link Double#NaN}.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if the start of the ray lies on the surface of the bounding box it is considered as
+    * intersection point.
+    * <li>if the ray is colinear with a surface of the bounding box, the points where the ray
+    * first/last intersects with the bounding box (on the bounding box boundary) are returned as
+    * intersection points.
+    * </ul>
+    * </p>
+    *
+    * @param boundingBoxMinX          the minimum x-coordinate of the bounding box.
+    * @param boundingBoxMinY          the minimum y-coordinate of the bounding box.
+    * @param boundingBoxMinZ          the minimum z-coordinate of the bounding box.
+    * @param boundingBoxMaxX          the maximum x-coordinate of the bounding box.
+    * @param boundingBoxMaxY          the maximum y-coordinate of the bounding box.
+    * @param boundingBoxMaxZ          the maximum z-coordinate of the bounding box.
+    * @param rayOrigin                the coordinate of the ray origin. Not modified.
+    * @param rayDirection             the direction of the ray. Not modified.
+    * @param firstIntersectionToPack  the coordinate of the first intersection. Can be {@code null}.
+    *                                 Modified.
+    * @param secondIntersectionToPack the coordinate of the second intersection. Can be {@code null}.
+    *                                 Modified.
+    * @return the number of intersections between the ray and the bounding box. It is either equal to
+    *       0, 1, or 2.
+    * @throws BoundingBoxException if any of the minimum coordinates of the bounding box is strictly
+    *       greater than the maximum coordinate of the bounding box on the same
+    *       axis.
+    */
+   public static int intersectionBetweenRay3DAndBoundingBox3D(double boundingBoxMinX,
+                                                              double boundingBoxMinY,
+                                                              double boundingBoxMinZ,
+                                                              double boundingBoxMaxX,
+                                                              double boundingBoxMaxY,
+                                                              double boundingBoxMaxZ,
+                                                              Point3DReadOnly rayOrigin,
+                                                              Vector3DReadOnly rayDirection,
+                                                              Point3DBasics firstIntersectionToPack,
+                                                              Point3DBasics secondIntersectionToPack)
+   {
+      double firstPointOnLineX = rayOrigin.getX();
+      double firstPointOnLineY = rayOrigin.getY();
+      double firstPointOnLineZ = rayOrigin.getZ();
+      double secondPointOnLineX = rayOrigin.getX() + rayDirection.getX();
+      double secondPointOnLineY = rayOrigin.getY() + rayDirection.getY();
+      double secondPointOnLineZ = rayOrigin.getZ() + rayDirection.getZ();
+      return intersectionBetweenLine3DAndBoundingBox3DImpl(boundingBoxMinX,
+                                                           boundingBoxMinY,
+                                                           boundingBoxMinZ,
+                                                           boundingBoxMaxX,
+                                                           boundingBoxMaxY,
+                                                           boundingBoxMaxZ,
+                                                           firstPointOnLineX,
+                                                           firstPointOnLineY,
+                                                           firstPointOnLineZ,
+                                                           false,
+                                                           secondPointOnLineX,
+                                                           secondPointOnLineY,
+                                                           secondPointOnLineZ,
+                                                           true,
+                                                           firstIntersectionToPack,
+                                                           secondIntersectionToPack);
+   }
+
    /**
     * Computes the coordinates of the possible intersections between a 3D ray and a 3D box
     * <p>
@@ -0,0 +1,589 @@
+package us.ihmc.euclid.tools;
+
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
+
+/**
+ * Tools for operating on large numbers of quaternions stored in primitive arrays.
+ * <p>
+ * The quaternions are stored in sequence as: x0, y0, z0, s0, x1, y1, z1, s1, ..., which is the
+ * layout used by {@link QuaternionReadOnly#get(int, double[])}, and the 3D tuples are stored as:
+ * x0, y0, z0, x1, y1, z1, .... None of the methods generate garbage, and the constant quaternions
+ * are read once before processing the arrays.
+ * </p>
+ * <p>
+ * Each method performs the same operations as its counterpart in {@link QuaternionTools} applied to
+ * one {@link us.ihmc.euclid.tuple4D.Quaternion} at a time. In particular, the quaternions resulting
+ * from a multiplication or an interpolation are normalized.
+ * </p>
+ * <p>
+ * The input and output arrays can be the same to perform in-place operations as long as the start
+ * indices are also the same.
+ * </p>
+ */
+public class BulkQuaternionTools
+{
+   private BulkQuaternionTools()
+   {
+      // Suppresses default constructor, ensuring non-instantiability.
+   }
+
+   /**
+    * Multiplies the quaternions of {@code quaternions1} and {@code quaternions2} pairwise and
+    * stores the results in {@code quaternionsToPack}.
+    * <p>
+    * quaternionsToPack[i] = quaternions1[i] * quaternions2[i]
+    * </p>
+    *
+    * @param quaternions1        the array containing the first quaternions in the multiplications.
+    *                            Not modified.
+    * @param startIndex1         the index in {@code quaternions1} of the x-component of the first
+    *                            quaternion.
+    * @param quaternions2        the array containing the second quaternions in the multiplications.
+    *                            Not modified.
+    * @param startIndex2         the index in {@code quaternions2} of the x-component of the first
+    *                            quaternion.
+    * @param quaternionsToPack   the array in which the results are stored. Modified.
+    * @param startIndexToPack    the index in {@code quaternionsToPack} of the x-component of the
+    *                            first result.
+    * @param numberOfQuaternions the number of multiplications to perform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    */
+   public static void multiply(double[] quaternions1,
+                               int startIndex1,
+                               double[] quaternions2,
+                               int startIndex2,
+                               double[] quaternionsToPack,
+                               int startIndexToPack,
+                               int numberOfQuaternions)
+   {
+      checkRange(quaternions1.length, startIndex1, numberOfQuaternions, 4);
+      checkRange(quaternions2.length, startIndex2, numberOfQuaternions, 4);
+      checkRange(quaternionsToPack.length, startIndexToPack, numberOfQuaternions, 4);
+
+      for (int i = 0; i < 4 * numberOfQuaternions; i += 4)
+      {
+         int index1 = startIndex1 + i;
+         int index2 = startIndex2 + i;
+         multiplyAndStore(quaternions1[index1], quaternions1[index1 + 1], quaternions1[index1 + 2], quaternions1[index1 + 3],
+                          quaternions2[index2], quaternions2[index2 + 1], quaternions2[index2 + 2], quaternions2[index2 + 3],
+                          quaternionsToPack, startIndexToPack + i);
+      }
+   }
+
+   /**
+    * Pre-multiplies each quaternion of {@code quaternions2} by {@code q1} and stores the results in
+    * {@code quaternionsToPack}.
+    * <p>
+    * quaternionsToPack[i] = q1 * quaternions2[i]
+    * </p>
+    *
+    * @param q1                  the first quaternion in the multiplications. Not modified.
+    * @param quaternions2        the array containing the second quaternions in the multiplications.
+    *                            Not modified.
+    * @param startIndex2         the index in {@code quaternions2} of the x-component of the first
+    *                            quaternion.
+    * @param quaternionsToPack   the array in which the results are stored. Modified.
+    * @param startIndexToPack    the index in {@code quaternionsToPack} of the x-component of the
+    *                            first result.
+    * @param numberOfQuaternions the number of multiplications to perform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    */
+   public static void multiply(QuaternionReadOnly q1,
+                               double[] quaternions2,
+                               int startIndex2,
+                               double[] quaternionsToPack,
+                               int startIndexToPack,
+                               int numberOfQuaternions)
+   {
+      checkRange(quaternions2.length, startIndex2, numberOfQuaternions, 4);
+      checkRange(quaternionsToPack.length, startIndexToPack, numberOfQuaternions, 4);
+
+      double q1x = q1.getX();
+      double q1y = q1.getY();
+      double q1z = q1.getZ();
+      double q1s = q1.getS();
+
+      for (int i = 0; i < 4 * numberOfQuaternions; i += 4)
+      {
+         int index2 = startIndex2 + i;
+         multiplyAndStore(q1x, q1y, q1z, q1s,
+                          quaternions2[index2], quaternions2[index2 + 1], quaternions2[index2 + 2], quaternions2[index2 + 3],
+                          quaternionsToPack, startIndexToPack + i);
+      }
+   }
+
+   /**
+    * Post-multiplies each quaternion of {@code quaternions1} by {@code q2} and stores the results
+    * in {@code quaternionsToPack}.
+    * <p>
+    * quaternionsToPack[i] = quaternions1[i] * q2
+    * </p>
+    *
+    * @param quaternions1        the array containing the first quaternions in the multiplications.
+    *                            Not modified.
+    * @param startIndex1         the index in {@code quaternions1} of the x-component of the first
+    *                            quaternion.
+    * @param q2                  the second quaternion in the multiplications. Not modified.
+    * @param quaternionsToPack   the array in which the results are stored. Modified.
+    * @param startIndexToPack    the index in {@code quaternionsToPack} of the x-component of the
+    *                            first result.
+    * @param numberOfQuaternions the number of multiplications to perform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    */
+   public static void multiply(double[] quaternions1,
+                               int startIndex1,
+                               QuaternionReadOnly q2,
+                               double[] quaternionsToPack,
+                               int startIndexToPack,
+                               int numberOfQuaternions)
+   {
+      checkRange(quaternions1.length, startIndex1, numberOfQuaternions, 4);
+      checkRange(quaternionsToPack.length, startIndexToPack, numberOfQuaternions, 4);
+
+      double q2x = q2.getX();
+      double q2y = q2.getY();
+      double q2z = q2.getZ();
+      double q2s = q2.getS();
+
+      for (int i = 0; i < 4 * numberOfQuaternions; i += 4)
+      {
+         int index1 = startIndex1 + i;
+         multiplyAndStore(quaternions1[index1], quaternions1[index1 + 1], quaternions1[index1 + 2], quaternions1[index1 + 3],
+                          q2x, q2y, q2z, q2s,
+                          quaternionsToPack, startIndexToPack + i);
+      }
+   }
+
+   /**
+    * Normalizes in place the quaternions stored in {@code quaternions}.
+    * <p>
+    * As for {@link us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics#normalize()}, a quaternion
+    * containing {@link Double#NaN} is not modified and a quaternion with a norm equal to zero is
+    * set to the neutral quaternion.
+    * </p>
+    *
+    * @param quaternions         the array containing the quaternions to normalize. Modified.
+    * @param startIndex          the index in {@code quaternions} of the x-component of the first
+    *                            quaternion.
+    * @param numberOfQuaternions the number of quaternions to normalize.
+    * @throws IndexOutOfBoundsException if the array is too small.
+    */
+   public static void normalize(double[] quaternions, int startIndex, int numberOfQuaternions)
+   {
+      checkRange(quaternions.length, startIndex, numberOfQuaternions, 4);
+
+      int endIndex = startIndex + 4 * numberOfQuaternions;
+
+      for (int index = startIndex; index < endIndex; index += 4)
+         normalizeAndStore(quaternions[index], quaternions[index + 1], quaternions[index + 2], quaternions[index + 3], quaternions, index);
+   }
+
+   /**
+    * Conjugates in place the quaternions stored in {@code quaternions}.
+    *
+    * @param quaternions         the array containing the quaternions to conjugate. Modified.
+    * @param startIndex          the index in {@code quaternions} of the x-component of the first
+    *                            quaternion.
+    * @param numberOfQuaternions the number of quaternions to conjugate.
+    * @throws IndexOutOfBoundsException if the array is too small.
+    */
+   public static void conjugate(double[] quaternions, int startIndex, int numberOfQuaternions)
+   {
+      checkRange(quaternions.length, startIndex, numberOfQuaternions, 4);
+
+      int endIndex = startIndex + 4 * numberOfQuaternions;
+
+      for (int index = startIndex; index < endIndex; index += 4)
+      {
+         quaternions[index] = -quaternions[index];
+         quaternions[index + 1] = -quaternions[index + 1];
+         quaternions[index + 2] = -quaternions[index + 2];
+      }
+   }
+
+   /**
+    * Transforms the 3D tuples stored in {@code tuplesOriginal} using {@code quaternion} and stores
+    * the results in {@code tuplesTransformed}.
+    * <p>
+    * tuplesTransformed[i] = quaternion * tuplesOriginal[i] * quaternion<sup>-1</sup>
+    * </p>
+    *
+    * @param quaternion            the quaternion used to transform the tuples. Not modified.
+    * @param tuplesOriginal        the array containing the tuples to transform. Not modified.
+    * @param originalStartIndex    the index in {@code tuplesOriginal} of the x-coordinate of the
+    *                              first tuple.
+    * @param tuplesTransformed     the array in which the transformed tuples are stored. Modified.
+    * @param transformedStartIndex the index in {@code tuplesTransformed} of the x-coordinate of the
+    *                              first transformed tuple.
+    * @param numberOfTuples        the number of tuples to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    * @see QuaternionTools#transform(QuaternionReadOnly,
+    *      us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly,
+    *      us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics)
+    */
+   public static void transform(QuaternionReadOnly quaternion,
+                                double[] tuplesOriginal,
+                                int originalStartIndex,
+                                double[] tuplesTransformed,
+                                int transformedStartIndex,
+                                int numberOfTuples)
+   {
+      transform(quaternion, false, tuplesOriginal, originalStartIndex, tuplesTransformed, transformedStartIndex, numberOfTuples);
+   }
+
+   /**
+    * Performs the inverse of the transform of the 3D tuples stored in {@code tuplesOriginal} using
+    * {@code quaternion} and stores the results in {@code tuplesTransformed}.
+    * <p>
+    * tuplesTransformed[i] = quaternion<sup>-1</sup> * tuplesOriginal[i] * quaternion
+    * </p>
+    *
+    * @param quaternion            the quaternion used to transform the tuples. Not modified.
+    * @param tuplesOriginal        the array containing the tuples to transform. Not modified.
+    * @param originalStartIndex    the index in {@code tuplesOriginal} of the x-coordinate of the
+    *                              first tuple.
+    * @param tuplesTransformed     the array in which the transformed tuples are stored. Modified.
+    * @param transformedStartIndex the index in {@code tuplesTransformed} of the x-coordinate of the
+    *                              first transformed tuple.
+    * @param numberOfTuples        the number of tuples to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    * @see QuaternionTools#inverseTransform(QuaternionReadOnly,
+    *      us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly,
+    *      us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics)
+    */
+   public static void inverseTransform(QuaternionReadOnly quaternion,
+                                       double[] tuplesOriginal,
+                                       int originalStartIndex,
+                                       double[] tuplesTransformed,
+                                       int transformedStartIndex,
+                                       int numberOfTuples)
+   {
+      transform(quaternion, true, tuplesOriginal, originalStartIndex, tuplesTransformed, transformedStartIndex, numberOfTuples);
+   }
+
+   private static void transform(QuaternionReadOnly quaternion,
+                                 boolean conjugateQuaternion,
+                                 double[] tuplesOriginal,
+                                 int originalStartIndex,
+                                 double[] tuplesTransformed,
+                                 int transformedStartIndex,
+                                 int numberOfTuples)
+   {
+      checkRange(tuplesOriginal.length, originalStartIndex, numberOfTuples, 3);
+      checkRange(tuplesTransformed.length, transformedStartIndex, numberOfTuples, 3);
+
+      double qx = quaternion.getX();
+      double qy = quaternion.getY();
+      double qz = quaternion.getZ();
+      double qs = quaternion.getS();
+
+      if (conjugateQuaternion)
+      {
+         qx = -qx;
+         qy = -qy;
+         qz = -qz;
+      }
+
+      for (int i = 0; i < 3 * numberOfTuples; i += 3)
+      {
+         int originalIndex = originalStartIndex + i;
+         transformAndStore(qx, qy, qz, qs,
+                           tuplesOriginal[originalIndex], tuplesOriginal[originalIndex + 1], tuplesOriginal[originalIndex + 2],
+                           tuplesTransformed, transformedStartIndex + i);
+      }
+   }
+
+   /**
+    * Transforms each 3D tuple stored in {@code tuplesOriginal} using the quaternion with the same
+    * index in {@code quaternions} and stores the results in {@code tuplesTransformed}.
+    * <p>
+    * tuplesTransformed[i] = quaternions[i] * tuplesOriginal[i] * quaternions[i]<sup>-1</sup>
+    * </p>
+    *
+    * @param quaternions           the array containing the quaternions used to transform the
+    *                              tuples. Not modified.
+    * @param quaternionsStartIndex the index in {@code quaternions} of the x-component of the first
+    *                              quaternion.
+    * @param tuplesOriginal        the array containing the tuples to transform. Not modified.
+    * @param originalStartIndex    the index in {@code tuplesOriginal} of the x-coordinate of the
+    *                              first tuple.
+    * @param tuplesTransformed     the array in which the transformed tuples are stored. Modified.
+    * @param transformedStartIndex the index in {@code tuplesTransformed} of the x-coordinate of the
+    *                              first transformed tuple.
+    * @param numberOfTuples        the number of tuples to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    */
+   public static void transform(double[] quaternions,
+                                int quaternionsStartIndex,
+                                double[] tuplesOriginal,
+                                int originalStartIndex,
+                                double[] tuplesTransformed,
+                                int transformedStartIndex,
+                                int numberOfTuples)
+   {
+      checkRange(quaternions.length, quaternionsStartIndex, numberOfTuples, 4);
+      checkRange(tuplesOriginal.length, originalStartIndex, numberOfTuples, 3);
+      checkRange(tuplesTransformed.length, transformedStartIndex, numberOfTuples, 3);
+
+      for (int i = 0; i < numberOfTuples; i++)
+      {
+         int quaternionIndex = quaternionsStartIndex + 4 * i;
+         int originalIndex = originalStartIndex + 3 * i;
+         transformAndStore(quaternions[quaternionIndex],
+                           quaternions[quaternionIndex + 1],
+                           quaternions[quaternionIndex + 2],
+                           quaternions[quaternionIndex + 3],
+                           tuplesOriginal[originalIndex], tuplesOriginal[originalIndex + 1], tuplesOriginal[originalIndex + 2],
+                           tuplesTransformed, transformedStartIndex + 3 * i);
+      }
+   }
+
+   /**
+    * Performs a spherical linear interpolation, or SLERP, from each quaternion of
+    * {@code quaternions0} to the quaternion with the same index in {@code quaternionsF} and stores
+    * the results in {@code quaternionsToPack}.
+    *
+    * @param quaternions0        the array containing the quaternions to interpolate from. Not
+    *                            modified.
+    * @param startIndex0         the index in {@code quaternions0} of the x-component of the first
+    *                            quaternion.
+    * @param quaternionsF        the array containing the quaternions to interpolate to. Not
+    *                            modified.
+    * @param startIndexF         the index in {@code quaternionsF} of the x-component of the first
+    *                            quaternion.
+    * @param alpha               the percentage used for all the interpolations. A value of 0
+    *                            results in the quaternions of {@code quaternions0}, while a value
+    *                            of 1 results in the quaternions of {@code quaternionsF}.
+    * @param quaternionsToPack   the array in which the results are stored. Modified.
+    * @param startIndexToPack    the index in {@code quaternionsToPack} of the x-component of the
+    *                            first result.
+    * @param numberOfQuaternions the number of interpolations to perform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    * @see QuaternionTools#interpolate(QuaternionReadOnly, QuaternionReadOnly, double,
+    *      us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics)
+    */
+   public static void interpolate(double[] quaternions0,
+                                  int startIndex0,
+                                  double[] quaternionsF,
+                                  int startIndexF,
+                                  double alpha,
+                                  double[] quaternionsToPack,
+                                  int startIndexToPack,
+                                  int numberOfQuaternions)
+   {
+      checkRange(quaternions0.length, startIndex0, numberOfQuaternions, 4);
+      checkRange(quaternionsF.length, startIndexF, numberOfQuaternions, 4);
+      checkRange(quaternionsToPack.length, startIndexToPack, numberOfQuaternions, 4);
+
+      for (int i = 0; i < 4 * numberOfQuaternions; i += 4)
+      {
+         int index0 = startIndex0 + i;
+         int indexf = startIndexF + i;
+         double q0x = quaternions0[index0];
+         double q0y = quaternions0[index0 + 1];
+         double q0z = quaternions0[index0 + 2];
+         double q0s = quaternions0[index0 + 3];
+         double qfx = quaternionsF[indexf];
+         double qfy = quaternionsF[indexf + 1];
+         double qfz = quaternionsF[indexf + 2];
+         double qfs = quaternionsF[indexf + 3];
+
+         double cosHalfTheta = q0x * qfx + q0y * qfy + q0z * qfz + q0s * qfs;
+
+         if (cosHalfTheta < 0.0)
+         {
+            qfx = -qfx;
+            qfy = -qfy;
+            qfz = -qfz;
+            qfs = -qfs;
+            cosHalfTheta = -cosHalfTheta;
+         }
+
+         double alpha0 = 1.0 - alpha;
+         double alphaf = alpha;
+
+         if (1.0 - cosHalfTheta > 1.0e-12)
+         {
+            double sinHalfTheta = EuclidCoreTools.squareRoot(1.0 - cosHalfTheta * cosHalfTheta);
+            double halfTheta = EuclidCoreTools.atan2(sinHalfTheta, cosHalfTheta);
+            alpha0 = EuclidCoreTools.sin(alpha0 * halfTheta) / sinHalfTheta;
+            alphaf = EuclidCoreTools.sin(alphaf * halfTheta) / sinHalfTheta;
+         }
+
+         normalizeAndStore(alpha0 * q0x + alphaf * qfx,
+                           alpha0 * q0y + alphaf * qfy,
+                           alpha0 * q0z + alphaf * qfz,
+                           alpha0 * q0s + alphaf * qfs,
+                           quaternionsToPack,
+                           startIndexToPack + i);
+      }
+   }
+
+   /**
+    * Performs a sequence of spherical linear interpolations, or SLERPs, from {@code q0} to
+    * {@code qf}, one for each of the percentages stored in {@code alphas}, and stores the results
+    * in {@code quaternionsToPack}.
+    * <p>
+    * This is typically used to sample an orientation trajectory, the angle between the two
+    * quaternions is computed only once for the entire sequence.
+    * </p>
+    *
+    * @param q0                  the quaternion to interpolate from. Not modified.
+    * @param qf                  the quaternion to interpolate to. Not modified.
+    * @param alphas              the array containing the percentages to use for the interpolations.
+    *                            A value of 0 results in {@code q0}, while a value of 1 results in
+    *                            {@code qf}. Not modified.
+    * @param alphasStartIndex    the index in {@code alphas} of the first percentage.
+    * @param quaternionsToPack   the array in which the results are stored. Modified.
+    * @param startIndexToPack    the index in {@code quaternionsToPack} of the x-component of the
+    *                            first result.
+    * @param numberOfQuaternions the number of interpolations to perform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    * @see QuaternionTools#interpolate(QuaternionReadOnly, QuaternionReadOnly, double,
+    *      us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics)
+    */
+   public static void interpolate(QuaternionReadOnly q0,
+                                  QuaternionReadOnly qf,
+                                  double[] alphas,
+                                  int alphasStartIndex,
+                                  double[] quaternionsToPack,
+                                  int startIndexToPack,
+                                  int numberOfQuaternions)
+   {
+      checkRange(alphas.length, alphasStartIndex, numberOfQuaternions, 1);
+      checkRange(quaternionsToPack.length, startIndexToPack, numberOfQuaternions, 4);
+
+      double q0x = q0.getX();
+      double q0y = q0.getY();
+      double q0z = q0.getZ();
+      double q0s = q0.getS();
+      double qfx = qf.getX();
+      double qfy = qf.getY();
+      double qfz = qf.getZ();
+      double qfs = qf.getS();
+
+      double cosHalfTheta = q0x * qfx + q0y * qfy + q0z * qfz + q0s * qfs;
+
+      if (cosHalfTheta < 0.0)
+      {
+         qfx = -qfx;
+         qfy = -qfy;
+         qfz = -qfz;
+         qfs = -qfs;
+         cosHalfTheta = -cosHalfTheta;
+      }
+
+      boolean isSpherical = 1.0 - cosHalfTheta > 1.0e-12;
+      double sinHalfTheta = isSpherical ? EuclidCoreTools.squareRoot(1.0 - cosHalfTheta * cosHalfTheta) : 0.0;
+      double halfTheta = isSpherical ? EuclidCoreTools.atan2(sinHalfTheta, cosHalfTheta) : 0.0;
+
+      for (int i = 0; i < numberOfQuaternions; i++)
+      {
+         double alpha = alphas[alphasStartIndex + i];
+         double alpha0 = 1.0 - alpha;
+         double alphaf = alpha;
+
+         if (isSpherical)
+         {
+            alpha0 = EuclidCoreTools.sin(alpha0 * halfTheta) / sinHalfTheta;
+            alphaf = EuclidCoreTools.sin(alphaf * halfTheta) / sinHalfTheta;
+         }
+
+         normalizeAndStore(alpha0 * q0x + alphaf * qfx,
+                           alpha0 * q0y + alphaf * qfy,
+                           alpha0 * q0z + alphaf * qfz,
+                           alpha0 * q0s + alphaf * qfs,
+                           quaternionsToPack,
+                           startIndexToPack + 4 * i);
+      }
+   }
+
+   private static void multiplyAndStore(double q1x,
+                                        double q1y,
+                                        double q1z,
+                                        double q1s,
+                                        double q2x,
+                                        double q2y,
+                                        double q2z,
+                                        double q2s,
+                                        double[] quaternionsToPack,
+                                        int index)
+   {
+      double x = q1s * q2x + q1x * q2s + q1y * q2z - q1z * q2y;
+      double y = q1s * q2y - q1x * q2z + q1y * q2s + q1z * q2x;
+      double z = q1s * q2z + q1x * q2y - q1y * q2x + q1z * q2s;
+      double s = q1s * q2s - q1x * q2x - q1y * q2y - q1z * q2z;
+      normalizeAndStore(x, y, z, s, quaternionsToPack, index);
+   }
+
+   // Same as QuaternionBasics.set(double, double, double, double).
+   private static void normalizeAndStore(double qx, double qy, double qz, double qs, double[] quaternionsToPack, int index)
+   {
+      if (!EuclidCoreTools.containsNaN(qx, qy, qz, qs))
+      {
+         double norm = EuclidCoreTools.fastSquareRoot(EuclidCoreTools.normSquared(qx, qy, qz, qs));
+
+         if (norm == 0.0)
+         {
+            qx = 0.0;
+            qy = 0.0;
+            qz = 0.0;
+            qs = 1.0;
+         }
+         else
+         {
+            norm = 1.0 / norm;
+            qx *= norm;
+            qy *= norm;
+            qz *= norm;
+            qs *= norm;
+         }
+      }
+
+      quaternionsToPack[index] = qx;
+      quaternionsToPack[index + 1] = qy;
+      quaternionsToPack[index + 2] = qz;
+      quaternionsToPack[index + 3] = qs;
+   }
+
+   // Same as QuaternionTools.transform(QuaternionReadOnly, Tuple3DReadOnly, Tuple3DBasics).
+   private static void transformAndStore(double qx, double qy, double qz, double qs, double x, double y, double z, double[] tuplesTransformed, int index)
+   {
+      double norm = EuclidCoreTools.fastSquareRoot(EuclidCoreTools.normSquared(qx, qy, qz, qs));
+
+      if (norm < QuaternionTools.EPS)
+      {
+         tuplesTransformed[index] = x;
+         tuplesTransformed[index + 1] = y;
+         tuplesTransformed[index + 2] = z;
+         return;
+      }
+
+      norm = 1.0 / norm;
+      qx *= norm;
+      qy *= norm;
+      qz *= norm;
+      qs *= norm;
+
+      // t = 2.0 * cross(q.xyz, v);
+      // v' = v + q.s * t + cross(q.xyz, t);
+      double crossX = 2.0 * (qy * z - qz * y);
+      double crossY = 2.0 * (qz * x - qx * z);
+      double crossZ = 2.0 * (qx * y - qy * x);
+
+      double crossCrossX = qy * crossZ - qz * crossY;
+      double crossCrossY = qz * crossX - qx * crossZ;
+      double crossCrossZ = qx * crossY - qy * crossX;
+
+      tuplesTransformed[index] = x + qs * crossX + crossCrossX;
+      tuplesTransformed[index + 1] = y + qs * crossY + crossCrossY;
+      tuplesTransformed[index + 2] = z + qs * crossZ + crossCrossZ;
+   }
+
+   private static void checkRange(int arrayLength, int startIndex, int numberOfElements, int elementSize)
+   {
+      if (startIndex < 0 || numberOfElements < 0 || startIndex + elementSize * numberOfElements > arrayLength)
+         throw new IndexOutOfBoundsException("The array is too small. Array length = " + arrayLength + ", expected minimum length = "
+               + (startIndex + elementSize * numberOfElements));
+   }
+}
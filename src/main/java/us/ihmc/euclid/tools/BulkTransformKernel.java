@@ -0,0 +1,117 @@
+package us.ihmc.euclid.tools;
+
+/**
+ * Implementation of the loops used by {@link BulkTransformTools} to transform points stored in
+ * primitive arrays.
+ * <p>
+ * The transform is given as a 3-by-3 matrix {@code M} and a translation {@code t}, for each point
+ * {@code p}:
+ * <ul>
+ * <li>if {@code inverse} is {@code false}: p' = M * p + t,
+ * <li>if {@code inverse} is {@code true}: p' = M * (p - t).
+ * </ul>
+ * The arguments are validated by {@link BulkTransformTools} before calling the kernel, an
+ * implementation does not need to check the array ranges.
+ * </p>
+ * <p>
+ * The default implementation is {@link ScalarBulkTransformKernel}. Alternative implementations, for
+ * instance relying on SIMD instructions, can be provided as a service registered under this
+ * interface's name in {@code META-INF/services}, see {@link BulkTransformTools#getKernel()}.
+ * </p>
+ */
+public interface BulkTransformKernel
+{
+   /**
+    * Transforms points stored in interleaved arrays: x0, y0, z0, x1, y1, z1, ...
+    *
+    * @param m00                   the 1st row 1st column coefficient of the matrix.
+    * @param m01                   the 1st row 2nd column coefficient of the matrix.
+    * @param m02                   the 1st row 3rd column coefficient of the matrix.
+    * @param m10                   the 2nd row 1st column coefficient of the matrix.
+    * @param m11                   the 2nd row 2nd column coefficient of the matrix.
+    * @param m12                   the 2nd row 3rd column coefficient of the matrix.
+    * @param m20                   the 3rd row 1st column coefficient of the matrix.
+    * @param m21                   the 3rd row 2nd column coefficient of the matrix.
+    * @param m22                   the 3rd row 3rd column coefficient of the matrix.
+    * @param tx                    the x-component of the translation.
+    * @param ty                    the y-component of the translation.
+    * @param tz                    the z-component of the translation.
+    * @param inverse               whether the translation is subtracted before applying the matrix
+    *                              instead of being added after.
+    * @param pointsOriginal        the coordinates of the points to transform. Not modified.
+    * @param originalStartIndex    the index of the x-coordinate of the first point to transform.
+    * @param pointsTransformed     the array in which the transformed coordinates are stored.
+    *                              Modified.
+    * @param transformedStartIndex the index of the x-coordinate of the first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    */
+   void transformInterleaved(double m00, double m01, double m02,
+                             double m10, double m11, double m12,
+                             double m20, double m21, double m22,
+                             double tx, double ty, double tz,
+                             boolean inverse,
+                             double[] pointsOriginal,
+                             int originalStartIndex,
+                             double[] pointsTransformed,
+                             int transformedStartIndex,
+                             int numberOfPoints);
+
+   /**
+    * Same as
+    * {@link #transformInterleaved(double, double, double, double, double, double, double, double, double, double, double, double, boolean, double[], int, double[], int, int)}
+    * for single precision arrays. The coefficients are rounded to single precision and the
+    * computation is performed in single precision.
+    */
+   void transformInterleaved(double m00, double m01, double m02,
+                             double m10, double m11, double m12,
+                             double m20, double m21, double m22,
+                             double tx, double ty, double tz,
+                             boolean inverse,
+                             float[] pointsOriginal,
+                             int originalStartIndex,
+                             float[] pointsTransformed,
+                             int transformedStartIndex,
+                             int numberOfPoints);
+
+   /**
+    * Same as
+    * {@link #transformInterleaved(double, double, double, double, double, double, double, double, double, double, double, double, boolean, double[], int, double[], int, int)}
+    * for points stored as a structure of arrays, the start indices being the index of the first point
+    * in each array.
+    */
+   void transformStructureOfArrays(double m00, double m01, double m02,
+                                   double m10, double m11, double m12,
+                                   double m20, double m21, double m22,
+                                   double tx, double ty, double tz,
+                                   boolean inverse,
+                                   double[] xsOriginal,
+                                   double[] ysOriginal,
+                                   double[] zsOriginal,
+                                   int originalStartIndex,
+                                   double[] xsTransformed,
+                                   double[] ysTransformed,
+                                   double[] zsTransformed,
+                                   int transformedStartIndex,
+                                   int numberOfPoints);
+
+   /**
+    * Same as
+    * {@link #transformStructureOfArrays(double, double, double, double, double, double, double, double, double, double, double, double, boolean, double[], double[], double[], int, double[], double[], double[], int, int)}
+    * for single precision arrays. The coefficients are rounded to single precision and the
+    * computation is performed in single precision.
+    */
+   void transformStructureOfArrays(double m00, double m01, double m02,
+                                   double m10, double m11, double m12,
+                                   double m20, double m21, double m22,
+                                   double tx, double ty, double tz,
+                                   boolean inverse,
+                                   float[] xsOriginal,
+                                   float[] ysOriginal,
+                                   float[] zsOriginal,
+                                   int originalStartIndex,
+                                   float[] xsTransformed,
+                                   float[] ysTransformed,
+                                   float[] zsTransformed,
+                                   int transformedStartIndex,
+                                   int numberOfPoints);
+}
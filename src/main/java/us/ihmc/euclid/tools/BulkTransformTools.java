@@ -0,0 +1,862 @@
+package us.ihmc.euclid.tools;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import us.ihmc.euclid.exceptions.SingularMatrixException;
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
+import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
+import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
+import us.ihmc.euclid.transform.interfaces.AffineTransformReadOnly;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
+
+/**
+ * Tools for transforming large numbers of 3D points stored in primitive arrays.
+ * <p>
+ * The coefficients of the transform are read once and kept in local variables, the points are then
+ * transformed in a single loop over the arrays. When processing entire point clouds or depth images,
+ * this avoids the calls and checks performed for each {@code Point3D} and, for quaternion-based
+ * transforms, the quaternion being normalized for each point.
+ * </p>
+ * <p>
+ * Two layouts are supported:
+ * <ul>
+ * <li>interleaved: the coordinates of the points are stored in sequence in a single array as: x0,
+ * y0, z0, x1, y1, z1, ...
+ * <li>structure of arrays: the coordinates of the points are stored in three arrays, one per axis.
+ * </ul>
+ * For each layout, the original and transformed arrays can be the same to perform in-place
+ * transformation as long as the start indices are also the same.
+ * </p>
+ * <p>
+ * The loops are implemented by the {@link BulkTransformKernel} returned by {@link #getKernel()}.
+ * </p>
+ */
+public class BulkTransformTools
+{
+   /**
+    * The system property that can be set to {@code false} to disable the lookup of alternative
+    * kernels, in which case {@link ScalarBulkTransformKernel} is always used.
+    */
+   public static final String ALTERNATIVE_KERNEL_ENABLED_PROPERTY = "euclid.bulkTransform.alternativeKernelEnabled";
+
+   private static final BulkTransformKernel kernel = loadKernel();
+
+   private BulkTransformTools()
+   {
+      // Suppresses default constructor, ensuring non-instantiability.
+   }
+
+   /**
+    * Transforms the points stored in {@code pointsOriginal} with the given rigid-body transform and
+    * stores the result in {@code pointsTransformed}, both arrays using the interleaved layout.
+    *
+    * @param transform             the transform to apply. Not modified.
+    * @param pointsOriginal        the array containing the coordinates of the points to transform.
+    *                              Not modified.
+    * @param originalStartIndex    the index in {@code pointsOriginal} of the x-coordinate of the first
+    *                              point to transform.
+    * @param pointsTransformed     the array in which the transformed coordinates are stored.
+    *                              Modified.
+    * @param transformedStartIndex the index in {@code pointsTransformed} of the x-coordinate of the
+    *                              first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    */
+   public static void transformPoints(RigidBodyTransformReadOnly transform,
+                                      double[] pointsOriginal,
+                                      int originalStartIndex,
+                                      double[] pointsTransformed,
+                                      int transformedStartIndex,
+                                      int numberOfPoints)
+   {
+      checkInterleavedRange(pointsOriginal.length, originalStartIndex, numberOfPoints);
+      checkInterleavedRange(pointsTransformed.length, transformedStartIndex, numberOfPoints);
+
+      Orientation3DReadOnly r = toMatrixOrQuaternion(transform.getRotation());
+      Tuple3DReadOnly t = transform.getTranslation();
+      kernel.transformInterleaved(rotationElement(r, 0, 0), rotationElement(r, 0, 1), rotationElement(r, 0, 2),
+                                  rotationElement(r, 1, 0), rotationElement(r, 1, 1), rotationElement(r, 1, 2),
+                                  rotationElement(r, 2, 0), rotationElement(r, 2, 1), rotationElement(r, 2, 2),
+                                  t.getX(), t.getY(), t.getZ(), false,
+                                  pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   /**
+    * Transforms the points stored in {@code pointsOriginal} with the given rigid-body transform and
+    * stores the result in {@code pointsTransformed}, both arrays using the interleaved layout.
+    * <p>
+    * The coefficients of the transform are rounded to single precision and the computation is
+    * performed in single precision.
+    * </p>
+    *
+    * @param transform             the transform to apply. Not modified.
+    * @param pointsOriginal        the array containing the coordinates of the points to transform.
+    *                              Not modified.
+    * @param originalStartIndex    the index in {@code pointsOriginal} of the x-coordinate of the first
+    *                              point to transform.
+    * @param pointsTransformed     the array in which the transformed coordinates are stored.
+    *                              Modified.
+    * @param transformedStartIndex the index in {@code pointsTransformed} of the x-coordinate of the
+    *                              first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    */
+   public static void transformPoints(RigidBodyTransformReadOnly transform,
+                                      float[] pointsOriginal,
+                                      int originalStartIndex,
+                                      float[] pointsTransformed,
+                                      int transformedStartIndex,
+                                      int numberOfPoints)
+   {
+      checkInterleavedRange(pointsOriginal.length, originalStartIndex, numberOfPoints);
+      checkInterleavedRange(pointsTransformed.length, transformedStartIndex, numberOfPoints);
+
+      Orientation3DReadOnly r = toMatrixOrQuaternion(transform.getRotation());
+      Tuple3DReadOnly t = transform.getTranslation();
+      kernel.transformInterleaved(rotationElement(r, 0, 0), rotationElement(r, 0, 1), rotationElement(r, 0, 2),
+                                  rotationElement(r, 1, 0), rotationElement(r, 1, 1), rotationElement(r, 1, 2),
+                                  rotationElement(r, 2, 0), rotationElement(r, 2, 1), rotationElement(r, 2, 2),
+                                  t.getX(), t.getY(), t.getZ(), false,
+                                  pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   /**
+    * Transforms the points stored in {@code xsOriginal}, {@code ysOriginal}, and {@code zsOriginal}
+    * with the given rigid-body transform and stores the result in {@code xsTransformed},
+    * {@code ysTransformed}, and {@code zsTransformed}.
+    *
+    * @param transform             the transform to apply. Not modified.
+    * @param xsOriginal            the x-coordinates of the points to transform. Not modified.
+    * @param ysOriginal            the y-coordinates of the points to transform. Not modified.
+    * @param zsOriginal            the z-coordinates of the points to transform. Not modified.
+    * @param originalStartIndex    the index in the original arrays of the first point to transform.
+    * @param xsTransformed         the array in which the transformed x-coordinates are stored.
+    *                              Modified.
+    * @param ysTransformed         the array in which the transformed y-coordinates are stored.
+    *                              Modified.
+    * @param zsTransformed         the array in which the transformed z-coordinates are stored.
+    *                              Modified.
+    * @param transformedStartIndex the index in the transformed arrays of the first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    */
+   public static void transformPoints(RigidBodyTransformReadOnly transform,
+                                      double[] xsOriginal,
+                                      double[] ysOriginal,
+                                      double[] zsOriginal,
+                                      int originalStartIndex,
+                                      double[] xsTransformed,
+                                      double[] ysTransformed,
+                                      double[] zsTransformed,
+                                      int transformedStartIndex,
+                                      int numberOfPoints)
+   {
+      checkRange(Math.min(xsOriginal.length, Math.min(ysOriginal.length, zsOriginal.length)), originalStartIndex, numberOfPoints);
+      checkRange(Math.min(xsTransformed.length, Math.min(ysTransformed.length, zsTransformed.length)), transformedStartIndex, numberOfPoints);
+
+      Orientation3DReadOnly r = toMatrixOrQuaternion(transform.getRotation());
+      Tuple3DReadOnly t = transform.getTranslation();
+      kernel.transformStructureOfArrays(rotationElement(r, 0, 0), rotationElement(r, 0, 1), rotationElement(r, 0, 2),
+                                        rotationElement(r, 1, 0), rotationElement(r, 1, 1), rotationElement(r, 1, 2),
+                                        rotationElement(r, 2, 0), rotationElement(r, 2, 1), rotationElement(r, 2, 2),
+                                        t.getX(), t.getY(), t.getZ(), false,
+                                        xsOriginal, ysOriginal, zsOriginal, originalStartIndex,
+                                        xsTransformed, ysTransformed, zsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   /**
+    * Transforms the points stored in {@code xsOriginal}, {@code ysOriginal}, and {@code zsOriginal}
+    * with the given rigid-body transform and stores the result in {@code xsTransformed},
+    * {@code ysTransformed}, and {@code zsTransformed}.
+    * <p>
+    * The coefficients of the transform are rounded to single precision and the computation is
+    * performed in single precision.
+    * </p>
+    *
+    * @param transform             the transform to apply. Not modified.
+    * @param xsOriginal            the x-coordinates of the points to transform. Not modified.
+    * @param ysOriginal            the y-coordinates of the points to transform. Not modified.
+    * @param zsOriginal            the z-coordinates of the points to transform. Not modified.
+    * @param originalStartIndex    the index in the original arrays of the first point to transform.
+    * @param xsTransformed         the array in which the transformed x-coordinates are stored.
+    *                              Modified.
+    * @param ysTransformed         the array in which the transformed y-coordinates are stored.
+    *                              Modified.
+    * @param zsTransformed         the array in which the transformed z-coordinates are stored.
+    *                              Modified.
+    * @param transformedStartIndex the index in the transformed arrays of the first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    */
+   public static void transformPoints(RigidBodyTransformReadOnly transform,
+                                      float[] xsOriginal,
+                                      float[] ysOriginal,
+                                      float[] zsOriginal,
+                                      int originalStartIndex,
+                                      float[] xsTransformed,
+                                      float[] ysTransformed,
+                                      float[] zsTransformed,
+                                      int transformedStartIndex,
+                                      int numberOfPoints)
+   {
+      checkRange(Math.min(xsOriginal.length, Math.min(ysOriginal.length, zsOriginal.length)), originalStartIndex, numberOfPoints);
+      checkRange(Math.min(xsTransformed.length, Math.min(ysTransformed.length, zsTransformed.length)), transformedStartIndex, numberOfPoints);
+
+      Orientation3DReadOnly r = toMatrixOrQuaternion(transform.getRotation());
+      Tuple3DReadOnly t = transform.getTranslation();
+      kernel.transformStructureOfArrays(rotationElement(r, 0, 0), rotationElement(r, 0, 1), rotationElement(r, 0, 2),
+                                        rotationElement(r, 1, 0), rotationElement(r, 1, 1), rotationElement(r, 1, 2),
+                                        rotationElement(r, 2, 0), rotationElement(r, 2, 1), rotationElement(r, 2, 2),
+                                        t.getX(), t.getY(), t.getZ(), false,
+                                        xsOriginal, ysOriginal, zsOriginal, originalStartIndex,
+                                        xsTransformed, ysTransformed, zsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   /**
+    * Performs the inverse of the transform on the points stored in {@code pointsOriginal} and stores
+    * the result in {@code pointsTransformed}, both arrays using the interleaved layout.
+    *
+    * @param transform             the transform to invert and apply. Not modified.
+    * @param pointsOriginal        the array containing the coordinates of the points to transform.
+    *                              Not modified.
+    * @param originalStartIndex    the index in {@code pointsOriginal} of the x-coordinate of the first
+    *                              point to transform.
+    * @param pointsTransformed     the array in which the transformed coordinates are stored.
+    *                              Modified.
+    * @param transformedStartIndex the index in {@code pointsTransformed} of the x-coordinate of the
+    *                              first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    */
+   public static void inverseTransformPoints(RigidBodyTransformReadOnly transform,
+                                             double[] pointsOriginal,
+                                             int originalStartIndex,
+                                             double[] pointsTransformed,
+                                             int transformedStartIndex,
+                                             int numberOfPoints)
+   {
+      checkInterleavedRange(pointsOriginal.length, originalStartIndex, numberOfPoints);
+      checkInterleavedRange(pointsTransformed.length, transformedStartIndex, numberOfPoints);
+
+      Orientation3DReadOnly r = toMatrixOrQuaternion(transform.getRotation());
+      Tuple3DReadOnly t = transform.getTranslation();
+      kernel.transformInterleaved(rotationElement(r, 0, 0), rotationElement(r, 1, 0), rotationElement(r, 2, 0),
+                                  rotationElement(r, 0, 1), rotationElement(r, 1, 1), rotationElement(r, 2, 1),
+                                  rotationElement(r, 0, 2), rotationElement(r, 1, 2), rotationElement(r, 2, 2),
+                                  t.getX(), t.getY(), t.getZ(), true,
+                                  pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   /**
+    * Performs the inverse of the transform on the points stored in {@code pointsOriginal} and stores
+    * the result in {@code pointsTransformed}, both arrays using the interleaved layout.
+    * <p>
+    * The coefficients of the transform are rounded to single precision and the computation is
+    * performed in single precision.
+    * </p>
+    *
+    * @param transform             the transform to invert and apply. Not modified.
+    * @param pointsOriginal        the array containing the coordinates of the points to transform.
+    *                              Not modified.
+    * @param originalStartIndex    the index in {@code pointsOriginal} of the x-coordinate of the first
+    *                              point to transform.
+    * @param pointsTransformed     the array in which the transformed coordinates are stored.
+    *                              Modified.
+    * @param transformedStartIndex the index in {@code pointsTransformed} of the x-coordinate of the
+    *                              first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    */
+   public static void inverseTransformPoints(RigidBodyTransformReadOnly transform,
+                                             float[] pointsOriginal,
+                                             int originalStartIndex,
+                                             float[] pointsTransformed,
+                                             int transformedStartIndex,
+                                             int numberOfPoints)
+   {
+      checkInterleavedRange(pointsOriginal.length, originalStartIndex, numberOfPoints);
+      checkInterleavedRange(pointsTransformed.length, transformedStartIndex, numberOfPoints);
+
+      Orientation3DReadOnly r = toMatrixOrQuaternion(transform.getRotation());
+      Tuple3DReadOnly t = transform.getTranslation();
+      kernel.transformInterleaved(rotationElement(r, 0, 0), rotationElement(r, 1, 0), rotationElement(r, 2, 0),
+                                  rotationElement(r, 0, 1), rotationElement(r, 1, 1), rotationElement(r, 2, 1),
+                                  rotationElement(r, 0, 2), rotationElement(r, 1, 2), rotationElement(r, 2, 2),
+                                  t.getX(), t.getY(), t.getZ(), true,
+                                  pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   /**
+    * Performs the inverse of the transform on the points stored in {@code xsOriginal},
+    * {@code ysOriginal}, and {@code zsOriginal} and stores the result in {@code xsTransformed},
+    * {@code ysTransformed}, and {@code zsTransformed}.
+    *
+    * @param transform             the transform to invert and apply. Not modified.
+    * @param xsOriginal            the x-coordinates of the points to transform. Not modified.
+    * @param ysOriginal            the y-coordinates of the points to transform. Not modified.
+    * @param zsOriginal            the z-coordinates of the points to transform. Not modified.
+    * @param originalStartIndex    the index in the original arrays of the first point to transform.
+    * @param xsTransformed         the array in which the transformed x-coordinates are stored.
+    *                              Modified.
+    * @param ysTransformed         the array in which the transformed y-coordinates are stored.
+    *                              Modified.
+    * @param zsTransformed         the array in which the transformed z-coordinates are stored.
+    *                              Modified.
+    * @param transformedStartIndex the index in the transformed arrays of the first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    */
+   public static void inverseTransformPoints(RigidBodyTransformReadOnly transform,
+                                             double[] xsOriginal,
+                                             double[] ysOriginal,
+                                             double[] zsOriginal,
+                                             int originalStartIndex,
+                                             double[] xsTransformed,
+                                             double[] ysTransformed,
+                                             double[] zsTransformed,
+                                             int transformedStartIndex,
+                                             int numberOfPoints)
+   {
+      checkRange(Math.min(xsOriginal.length, Math.min(ysOriginal.length, zsOriginal.length)), originalStartIndex, numberOfPoints);
+      checkRange(Math.min(xsTransformed.length, Math.min(ysTransformed.length, zsTransformed.length)), transformedStartIndex, numberOfPoints);
+
+      Orientation3DReadOnly r = toMatrixOrQuaternion(transform.getRotation());
+      Tuple3DReadOnly t = transform.getTranslation();
+      kernel.transformStructureOfArrays(rotationElement(r, 0, 0), rotationElement(r, 1, 0), rotationElement(r, 2, 0),
+                                        rotationElement(r, 0, 1), rotationElement(r, 1, 1), rotationElement(r, 2, 1),
+                                        rotationElement(r, 0, 2), rotationElement(r, 1, 2), rotationElement(r, 2, 2),
+                                        t.getX(), t.getY(), t.getZ(), true,
+                                        xsOriginal, ysOriginal, zsOriginal, originalStartIndex,
+                                        xsTransformed, ysTransformed, zsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   /**
+    * Performs the inverse of the transform on the points stored in {@code xsOriginal},
+    * {@code ysOriginal}, and {@code zsOriginal} and stores the result in {@code xsTransformed},
+    * {@code ysTransformed}, and {@code zsTransformed}.
+    * <p>
+    * The coefficients of the transform are rounded to single precision and the computation is
+    * performed in single precision.
+    * </p>
+    *
+    * @param transform             the transform to invert and apply. Not modified.
+    * @param xsOriginal            the x-coordinates of the points to transform. Not modified.
+    * @param ysOriginal            the y-coordinates of the points to transform. Not modified.
+    * @param zsOriginal            the z-coordinates of the points to transform. Not modified.
+    * @param originalStartIndex    the index in the original arrays of the first point to transform.
+    * @param xsTransformed         the array in which the transformed x-coordinates are stored.
+    *                              Modified.
+    * @param ysTransformed         the array in which the transformed y-coordinates are stored.
+    *                              Modified.
+    * @param zsTransformed         the array in which the transformed z-coordinates are stored.
+    *                              Modified.
+    * @param transformedStartIndex the index in the transformed arrays of the first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    */
+   public static void inverseTransformPoints(RigidBodyTransformReadOnly transform,
+                                             float[] xsOriginal,
+                                             float[] ysOriginal,
+                                             float[] zsOriginal,
+                                             int originalStartIndex,
+                                             float[] xsTransformed,
+                                             float[] ysTransformed,
+                                             float[] zsTransformed,
+                                             int transformedStartIndex,
+                                             int numberOfPoints)
+   {
+      checkRange(Math.min(xsOriginal.length, Math.min(ysOriginal.length, zsOriginal.length)), originalStartIndex, numberOfPoints);
+      checkRange(Math.min(xsTransformed.length, Math.min(ysTransformed.length, zsTransformed.length)), transformedStartIndex, numberOfPoints);
+
+      Orientation3DReadOnly r = toMatrixOrQuaternion(transform.getRotation());
+      Tuple3DReadOnly t = transform.getTranslation();
+      kernel.transformStructureOfArrays(rotationElement(r, 0, 0), rotationElement(r, 1, 0), rotationElement(r, 2, 0),
+                                        rotationElement(r, 0, 1), rotationElement(r, 1, 1), rotationElement(r, 2, 1),
+                                        rotationElement(r, 0, 2), rotationElement(r, 1, 2), rotationElement(r, 2, 2),
+                                        t.getX(), t.getY(), t.getZ(), true,
+                                        xsOriginal, ysOriginal, zsOriginal, originalStartIndex,
+                                        xsTransformed, ysTransformed, zsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   /**
+    * Transforms the points stored in {@code pointsOriginal} with the given affine transform and stores
+    * the result in {@code pointsTransformed}, both arrays using the interleaved layout.
+    *
+    * @param transform             the transform to apply. Not modified.
+    * @param pointsOriginal        the array containing the coordinates of the points to transform.
+    *                              Not modified.
+    * @param originalStartIndex    the index in {@code pointsOriginal} of the x-coordinate of the first
+    *                              point to transform.
+    * @param pointsTransformed     the array in which the transformed coordinates are stored.
+    *                              Modified.
+    * @param transformedStartIndex the index in {@code pointsTransformed} of the x-coordinate of the
+    *                              first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    */
+   public static void transformPoints(AffineTransformReadOnly transform,
+                                      double[] pointsOriginal,
+                                      int originalStartIndex,
+                                      double[] pointsTransformed,
+                                      int transformedStartIndex,
+                                      int numberOfPoints)
+   {
+      checkInterleavedRange(pointsOriginal.length, originalStartIndex, numberOfPoints);
+      checkInterleavedRange(pointsTransformed.length, transformedStartIndex, numberOfPoints);
+
+      Matrix3DReadOnly m = transform.getLinearTransform();
+      Tuple3DReadOnly t = transform.getTranslation();
+      kernel.transformInterleaved(m.getM00(), m.getM01(), m.getM02(),
+                                  m.getM10(), m.getM11(), m.getM12(),
+                                  m.getM20(), m.getM21(), m.getM22(),
+                                  t.getX(), t.getY(), t.getZ(), false,
+                                  pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   /**
+    * Transforms the points stored in {@code pointsOriginal} with the given affine transform and stores
+    * the result in {@code pointsTransformed}, both arrays using the interleaved layout.
+    * <p>
+    * The coefficients of the transform are rounded to single precision and the computation is
+    * performed in single precision.
+    * </p>
+    *
+    * @param transform             the transform to apply. Not modified.
+    * @param pointsOriginal        the array containing the coordinates of the points to transform.
+    *                              Not modified.
+    * @param originalStartIndex    the index in {@code pointsOriginal} of the x-coordinate of the first
+    *                              point to transform.
+    * @param pointsTransformed     the array in which the transformed coordinates are stored.
+    *                              Modified.
+    * @param transformedStartIndex the index in {@code pointsTransformed} of the x-coordinate of the
+    *                              first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    */
+   public static void transformPoints(AffineTransformReadOnly transform,
+                                      float[] pointsOriginal,
+                                      int originalStartIndex,
+                                      float[] pointsTransformed,
+                                      int transformedStartIndex,
+                                      int numberOfPoints)
+   {
+      checkInterleavedRange(pointsOriginal.length, originalStartIndex, numberOfPoints);
+      checkInterleavedRange(pointsTransformed.length, transformedStartIndex, numberOfPoints);
+
+      Matrix3DReadOnly m = transform.getLinearTransform();
+      Tuple3DReadOnly t = transform.getTranslation();
+      kernel.transformInterleaved(m.getM00(), m.getM01(), m.getM02(),
+                                  m.getM10(), m.getM11(), m.getM12(),
+                                  m.getM20(), m.getM21(), m.getM22(),
+                                  t.getX(), t.getY(), t.getZ(), false,
+                                  pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   /**
+    * Transforms the points stored in {@code xsOriginal}, {@code ysOriginal}, and {@code zsOriginal}
+    * with the given affine transform and stores the result in {@code xsTransformed},
+    * {@code ysTransformed}, and {@code zsTransformed}.
+    *
+    * @param transform             the transform to apply. Not modified.
+    * @param xsOriginal            the x-coordinates of the points to transform. Not modified.
+    * @param ysOriginal            the y-coordinates of the points to transform. Not modified.
+    * @param zsOriginal            the z-coordinates of the points to transform. Not modified.
+    * @param originalStartIndex    the index in the original arrays of the first point to transform.
+    * @param xsTransformed         the array in which the transformed x-coordinates are stored.
+    *                              Modified.
+    * @param ysTransformed         the array in which the transformed y-coordinates are stored.
+    *                              Modified.
+    * @param zsTransformed         the array in which the transformed z-coordinates are stored.
+    *                              Modified.
+    * @param transformedStartIndex the index in the transformed arrays of the first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    */
+   public static void transformPoints(AffineTransformReadOnly transform,
+                                      double[] xsOriginal,
+                                      double[] ysOriginal,
+                                      double[] zsOriginal,
+                                      int originalStartIndex,
+                                      double[] xsTransformed,
+                                      double[] ysTransformed,
+                                      double[] zsTransformed,
+                                      int transformedStartIndex,
+                                      int numberOfPoints)
+   {
+      checkRange(Math.min(xsOriginal.length, Math.min(ysOriginal.length, zsOriginal.length)), originalStartIndex, numberOfPoints);
+      checkRange(Math.min(xsTransformed.length, Math.min(ysTransformed.length, zsTransformed.length)), transformedStartIndex, numberOfPoints);
+
+      Matrix3DReadOnly m = transform.getLinearTransform();
+      Tuple3DReadOnly t = transform.getTranslation();
+      kernel.transformStructureOfArrays(m.getM00(), m.getM01(), m.getM02(),
+                                        m.getM10(), m.getM11(), m.getM12(),
+                                        m.getM20(), m.getM21(), m.getM22(),
+                                        t.getX(), t.getY(), t.getZ(), false,
+                                        xsOriginal, ysOriginal, zsOriginal, originalStartIndex,
+                                        xsTransformed, ysTransformed, zsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   /**
+    * Transforms the points stored in {@code xsOriginal}, {@code ysOriginal}, and {@code zsOriginal}
+    * with the given affine transform and stores the result in {@code xsTransformed},
+    * {@code ysTransformed}, and {@code zsTransformed}.
+    * <p>
+    * The coefficients of the transform are rounded to single precision and the computation is
+    * performed in single precision.
+    * </p>
+    *
+    * @param transform             the transform to apply. Not modified.
+    * @param xsOriginal            the x-coordinates of the points to transform. Not modified.
+    * @param ysOriginal            the y-coordinates of the points to transform. Not modified.
+    * @param zsOriginal            the z-coordinates of the points to transform. Not modified.
+    * @param originalStartIndex    the index in the original arrays of the first point to transform.
+    * @param xsTransformed         the array in which the transformed x-coordinates are stored.
+    *                              Modified.
+    * @param ysTransformed         the array in which the transformed y-coordinates are stored.
+    *                              Modified.
+    * @param zsTransformed         the array in which the transformed z-coordinates are stored.
+    *                              Modified.
+    * @param transformedStartIndex the index in the transformed arrays of the first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    */
+   public static void transformPoints(AffineTransformReadOnly transform,
+                                      float[] xsOriginal,
+                                      float[] ysOriginal,
+                                      float[] zsOriginal,
+                                      int originalStartIndex,
+                                      float[] xsTransformed,
+                                      float[] ysTransformed,
+                                      float[] zsTransformed,
+                                      int transformedStartIndex,
+                                      int numberOfPoints)
+   {
+      checkRange(Math.min(xsOriginal.length, Math.min(ysOriginal.length, zsOriginal.length)), originalStartIndex, numberOfPoints);
+      checkRange(Math.min(xsTransformed.length, Math.min(ysTransformed.length, zsTransformed.length)), transformedStartIndex, numberOfPoints);
+
+      Matrix3DReadOnly m = transform.getLinearTransform();
+      Tuple3DReadOnly t = transform.getTranslation();
+      kernel.transformStructureOfArrays(m.getM00(), m.getM01(), m.getM02(),
+                                        m.getM10(), m.getM11(), m.getM12(),
+                                        m.getM20(), m.getM21(), m.getM22(),
+                                        t.getX(), t.getY(), t.getZ(), false,
+                                        xsOriginal, ysOriginal, zsOriginal, originalStartIndex,
+                                        xsTransformed, ysTransformed, zsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   /**
+    * Performs the inverse of the affine transform on the points stored in {@code pointsOriginal} and
+    * stores the result in {@code pointsTransformed}, both arrays using the interleaved layout.
+    *
+    * @param transform             the transform to invert and apply. Not modified.
+    * @param pointsOriginal        the array containing the coordinates of the points to transform.
+    *                              Not modified.
+    * @param originalStartIndex    the index in {@code pointsOriginal} of the x-coordinate of the first
+    *                              point to transform.
+    * @param pointsTransformed     the array in which the transformed coordinates are stored.
+    *                              Modified.
+    * @param transformedStartIndex the index in {@code pointsTransformed} of the x-coordinate of the
+    *                              first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    * @throws SingularMatrixException   if the linear part of the transform is not invertible.
+    */
+   public static void inverseTransformPoints(AffineTransformReadOnly transform,
+                                             double[] pointsOriginal,
+                                             int originalStartIndex,
+                                             double[] pointsTransformed,
+                                             int transformedStartIndex,
+                                             int numberOfPoints)
+   {
+      checkInterleavedRange(pointsOriginal.length, originalStartIndex, numberOfPoints);
+      checkInterleavedRange(pointsTransformed.length, transformedStartIndex, numberOfPoints);
+
+      Matrix3DReadOnly m = transform.getLinearTransform();
+      double invDet = inverseDeterminant(m);
+      Tuple3DReadOnly t = transform.getTranslation();
+      kernel.transformInterleaved(inverseElement(m, invDet, 0, 0), inverseElement(m, invDet, 0, 1), inverseElement(m, invDet, 0, 2),
+                                  inverseElement(m, invDet, 1, 0), inverseElement(m, invDet, 1, 1), inverseElement(m, invDet, 1, 2),
+                                  inverseElement(m, invDet, 2, 0), inverseElement(m, invDet, 2, 1), inverseElement(m, invDet, 2, 2),
+                                  t.getX(), t.getY(), t.getZ(), true,
+                                  pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   /**
+    * Performs the inverse of the affine transform on the points stored in {@code pointsOriginal} and
+    * stores the result in {@code pointsTransformed}, both arrays using the interleaved layout.
+    * <p>
+    * The coefficients of the transform are rounded to single precision and the computation is
+    * performed in single precision.
+    * </p>
+    *
+    * @param transform             the transform to invert and apply. Not modified.
+    * @param pointsOriginal        the array containing the coordinates of the points to transform.
+    *                              Not modified.
+    * @param originalStartIndex    the index in {@code pointsOriginal} of the x-coordinate of the first
+    *                              point to transform.
+    * @param pointsTransformed     the array in which the transformed coordinates are stored.
+    *                              Modified.
+    * @param transformedStartIndex the index in {@code pointsTransformed} of the x-coordinate of the
+    *                              first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    * @throws SingularMatrixException   if the linear part of the transform is not invertible.
+    */
+   public static void inverseTransformPoints(AffineTransformReadOnly transform,
+                                             float[] pointsOriginal,
+                                             int originalStartIndex,
+                                             float[] pointsTransformed,
+                                             int transformedStartIndex,
+                                             int numberOfPoints)
+   {
+      checkInterleavedRange(pointsOriginal.length, originalStartIndex, numberOfPoints);
+      checkInterleavedRange(pointsTransformed.length, transformedStartIndex, numberOfPoints);
+
+      Matrix3DReadOnly m = transform.getLinearTransform();
+      double invDet = inverseDeterminant(m);
+      Tuple3DReadOnly t = transform.getTranslation();
+      kernel.transformInterleaved(inverseElement(m, invDet, 0, 0), inverseElement(m, invDet, 0, 1), inverseElement(m, invDet, 0, 2),
+                                  inverseElement(m, invDet, 1, 0), inverseElement(m, invDet, 1, 1), inverseElement(m, invDet, 1, 2),
+                                  inverseElement(m, invDet, 2, 0), inverseElement(m, invDet, 2, 1), inverseElement(m, invDet, 2, 2),
+                                  t.getX(), t.getY(), t.getZ(), true,
+                                  pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   /**
+    * Performs the inverse of the affine transform on the points stored in {@code xsOriginal},
+    * {@code ysOriginal}, and {@code zsOriginal} and stores the result in {@code xsTransformed},
+    * {@code ysTransformed}, and {@code zsTransformed}.
+    *
+    * @param transform             the transform to invert and apply. Not modified.
+    * @param xsOriginal            the x-coordinates of the points to transform. Not modified.
+    * @param ysOriginal            the y-coordinates of the points to transform. Not modified.
+    * @param zsOriginal            the z-coordinates of the points to transform. Not modified.
+    * @param originalStartIndex    the index in the original arrays of the first point to transform.
+    * @param xsTransformed         the array in which the transformed x-coordinates are stored.
+    *                              Modified.
+    * @param ysTransformed         the array in which the transformed y-coordinates are stored.
+    *                              Modified.
+    * @param zsTransformed         the array in which the transformed z-coordinates are stored.
+    *                              Modified.
+    * @param transformedStartIndex the index in the transformed arrays of the first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    * @throws SingularMatrixException   if the linear part of the transform is not invertible.
+    */
+   public static void inverseTransformPoints(AffineTransformReadOnly transform,
+                                             double[] xsOriginal,
+                                             double[] ysOriginal,
+                                             double[] zsOriginal,
+                                             int originalStartIndex,
+                                             double[] xsTransformed,
+                                             double[] ysTransformed,
+                                             double[] zsTransformed,
+                                             int transformedStartIndex,
+                                             int numberOfPoints)
+   {
+      checkRange(Math.min(xsOriginal.length, Math.min(ysOriginal.length, zsOriginal.length)), originalStartIndex, numberOfPoints);
+      checkRange(Math.min(xsTransformed.length, Math.min(ysTransformed.length, zsTransformed.length)), transformedStartIndex, numberOfPoints);
+
+      Matrix3DReadOnly m = transform.getLinearTransform();
+      double invDet = inverseDeterminant(m);
+      Tuple3DReadOnly t = transform.getTranslation();
+      kernel.transformStructureOfArrays(inverseElement(m, invDet, 0, 0), inverseElement(m, invDet, 0, 1), inverseElement(m, invDet, 0, 2),
+                                        inverseElement(m, invDet, 1, 0), inverseElement(m, invDet, 1, 1), inverseElement(m, invDet, 1, 2),
+                                        inverseElement(m, invDet, 2, 0), inverseElement(m, invDet, 2, 1), inverseElement(m, invDet, 2, 2),
+                                        t.getX(), t.getY(), t.getZ(), true,
+                                        xsOriginal, ysOriginal, zsOriginal, originalStartIndex,
+                                        xsTransformed, ysTransformed, zsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   /**
+    * Performs the inverse of the affine transform on the points stored in {@code xsOriginal},
+    * {@code ysOriginal}, and {@code zsOriginal} and stores the result in {@code xsTransformed},
+    * {@code ysTransformed}, and {@code zsTransformed}.
+    * <p>
+    * The coefficients of the transform are rounded to single precision and the computation is
+    * performed in single precision.
+    * </p>
+    *
+    * @param transform             the transform to invert and apply. Not modified.
+    * @param xsOriginal            the x-coordinates of the points to transform. Not modified.
+    * @param ysOriginal            the y-coordinates of the points to transform. Not modified.
+    * @param zsOriginal            the z-coordinates of the points to transform. Not modified.
+    * @param originalStartIndex    the index in the original arrays of the first point to transform.
+    * @param xsTransformed         the array in which the transformed x-coordinates are stored.
+    *                              Modified.
+    * @param ysTransformed         the array in which the transformed y-coordinates are stored.
+    *                              Modified.
+    * @param zsTransformed         the array in which the transformed z-coordinates are stored.
+    *                              Modified.
+    * @param transformedStartIndex the index in the transformed arrays of the first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    * @throws SingularMatrixException   if the linear part of the transform is not invertible.
+    */
+   public static void inverseTransformPoints(AffineTransformReadOnly transform,
+                                             float[] xsOriginal,
+                                             float[] ysOriginal,
+                                             float[] zsOriginal,
+                                             int originalStartIndex,
+                                             float[] xsTransformed,
+                                             float[] ysTransformed,
+                                             float[] zsTransformed,
+                                             int transformedStartIndex,
+                                             int numberOfPoints)
+   {
+      checkRange(Math.min(xsOriginal.length, Math.min(ysOriginal.length, zsOriginal.length)), originalStartIndex, numberOfPoints);
+      checkRange(Math.min(xsTransformed.length, Math.min(ysTransformed.length, zsTransformed.length)), transformedStartIndex, numberOfPoints);
+
+      Matrix3DReadOnly m = transform.getLinearTransform();
+      double invDet = inverseDeterminant(m);
+      Tuple3DReadOnly t = transform.getTranslation();
+      kernel.transformStructureOfArrays(inverseElement(m, invDet, 0, 0), inverseElement(m, invDet, 0, 1), inverseElement(m, invDet, 0, 2),
+                                        inverseElement(m, invDet, 1, 0), inverseElement(m, invDet, 1, 1), inverseElement(m, invDet, 1, 2),
+                                        inverseElement(m, invDet, 2, 0), inverseElement(m, invDet, 2, 1), inverseElement(m, invDet, 2, 2),
+                                        t.getX(), t.getY(), t.getZ(), true,
+                                        xsOriginal, ysOriginal, zsOriginal, originalStartIndex,
+                                        xsTransformed, ysTransformed, zsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   /**
+    * Gets the kernel used to transform the points.
+    * <p>
+    * When this class is initialized, the first {@link BulkTransformKernel} registered as a service
+    * that can be loaded is selected. For instance, the {@code euclid-simd} artifact provides a
+    * kernel using the incubating Java Vector API that is loaded when the module
+    * {@code jdk.incubator.vector} is added to the JVM with {@code --add-modules}. When no such kernel
+    * is available, or when the system property {@value #ALTERNATIVE_KERNEL_ENABLED_PROPERTY} is set to
+    * {@code false}, the {@link ScalarBulkTransformKernel} is used.
+    * </p>
+    *
+    * @return the kernel used by this class.
+    */
+   public static BulkTransformKernel getKernel()
+   {
+      return kernel;
+   }
+
+   private static BulkTransformKernel loadKernel()
+   {
+      if (!"false".equalsIgnoreCase(System.getProperty(ALTERNATIVE_KERNEL_ENABLED_PROPERTY)))
+      {
+         Iterator<BulkTransformKernel> iterator = ServiceLoader.load(BulkTransformKernel.class, BulkTransformTools.class.getClassLoader()).iterator();
+
+         while (hasNext(iterator))
+         {
+            try
+            {
+               return iterator.next();
+            }
+            catch (ServiceConfigurationError | LinkageError e)
+            {
+               // The kernel is not supported by this JVM, for instance the module it requires is missing, try the next one.
+            }
+         }
+      }
+
+      return new ScalarBulkTransformKernel();
+   }
+
+   private static boolean hasNext(Iterator<?> iterator)
+   {
+      try
+      {
+         return iterator.hasNext();
+      }
+      catch (ServiceConfigurationError | LinkageError e)
+      {
+         return false;
+      }
+   }
+
+   /**
+    * Rotation matrices and quaternions are read directly, other orientations are converted to a
+    * rotation matrix.
+    */
+   private static Orientation3DReadOnly toMatrixOrQuaternion(Orientation3DReadOnly orientation)
+   {
+      if (orientation instanceof RotationMatrixReadOnly || orientation instanceof QuaternionReadOnly)
+         return orientation;
+      else
+         return new RotationMatrix(orientation);
+   }
+
+   private static double rotationElement(Orientation3DReadOnly orientation, int row, int column)
+   {
+      if (orientation instanceof RotationMatrixReadOnly)
+         return ((RotationMatrixReadOnly) orientation).getElement(row, column);
+
+      QuaternionReadOnly quaternion = (QuaternionReadOnly) orientation;
+      double norm = quaternion.norm();
+
+      if (norm < QuaternionTools.EPS)
+         return row == column ? 1.0 : 0.0;
+
+      norm = 1.0 / norm;
+      double qx = quaternion.getX() * norm;
+      double qy = quaternion.getY() * norm;
+      double qz = quaternion.getZ() * norm;
+      double qs = quaternion.getS() * norm;
+
+      switch (3 * row + column)
+      {
+         case 0:
+            return 1.0 - 2.0 * (qy * qy + qz * qz);
+         case 1:
+            return 2.0 * (qx * qy - qs * qz);
+         case 2:
+            return 2.0 * (qx * qz + qs * qy);
+         case 3:
+            return 2.0 * (qx * qy + qs * qz);
+         case 4:
+            return 1.0 - 2.0 * (qx * qx + qz * qz);
+         case 5:
+            return 2.0 * (qy * qz - qs * qx);
+         case 6:
+            return 2.0 * (qx * qz - qs * qy);
+         case 7:
+            return 2.0 * (qy * qz + qs * qx);
+         default:
+            return 1.0 - 2.0 * (qx * qx + qy * qy);
+      }
+   }
+
+   private static double inverseDeterminant(Matrix3DReadOnly matrix)
+   {
+      double det = matrix.determinant();
+      if (Math.abs(det) < Matrix3DTools.EPS_INVERT)
+         throw new SingularMatrixException(matrix);
+      return 1.0 / det;
+   }
+
+   private static double inverseElement(Matrix3DReadOnly matrix, double invDet, int row, int column)
+   {
+      // The element (row, column) of the inverse is the cofactor (column, row) divided by the determinant.
+      int r0 = column == 0 ? 1 : 0;
+      int r1 = column == 2 ? 1 : 2;
+      int c0 = row == 0 ? 1 : 0;
+      int c1 = row == 2 ? 1 : 2;
+      double minor = matrix.getElement(r0, c0) * matrix.getElement(r1, c1) - matrix.getElement(r0, c1) * matrix.getElement(r1, c0);
+      return ((row + column) % 2 == 0 ? minor : -minor) * invDet;
+   }
+
+   private static void checkInterleavedRange(int arrayLength, int startIndex, int numberOfPoints)
+   {
+      if (startIndex < 0 || numberOfPoints < 0 || startIndex + 3 * numberOfPoints > arrayLength)
+         throw new IndexOutOfBoundsException("The array is too small. Array length = " + arrayLength + ", expected minimum length = "
+               + (startIndex + 3 * numberOfPoints));
+   }
+
+   private static void checkRange(int arrayLength, int startIndex, int numberOfPoints)
+   {
+      if (startIndex < 0 || numberOfPoints < 0 || startIndex + numberOfPoints > arrayLength)
+         throw new IndexOutOfBoundsException("The array is too small. Array length = " + arrayLength + ", expected minimum length = "
+               + (startIndex + numberOfPoints));
+   }
+}
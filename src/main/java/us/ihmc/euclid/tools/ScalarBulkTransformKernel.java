@@ -0,0 +1,210 @@
+package us.ihmc.euclid.tools;
+
+/**
+ * Default implementation of {@link BulkTransformKernel} written with plain Java loops.
+ * <p>
+ * It is used by {@link BulkTransformTools} when no other implementation is available, and it is
+ * used by the other implementations to process the points that do not fill a complete SIMD
+ * register.
+ * </p>
+ */
+public class ScalarBulkTransformKernel implements BulkTransformKernel
+{
+   /**
+    * Creates a new kernel.
+    */
+   public ScalarBulkTransformKernel()
+   {
+   }
+
+   @Override
+   public void transformInterleaved(double m00, double m01, double m02,
+                                    double m10, double m11, double m12,
+                                    double m20, double m21, double m22,
+                                    double tx, double ty, double tz,
+                                    boolean inverse,
+                                    double[] pointsOriginal,
+                                    int originalStartIndex,
+                                    double[] pointsTransformed,
+                                    int transformedStartIndex,
+                                    int numberOfPoints)
+   {
+      // Single induction variable, the output index is derived from it.
+      int endIndex = originalStartIndex + 3 * numberOfPoints;
+      int offset = transformedStartIndex - originalStartIndex;
+
+      if (inverse)
+      {
+         for (int index = originalStartIndex; index < endIndex; index += 3)
+         {
+            double x = pointsOriginal[index] - tx;
+            double y = pointsOriginal[index + 1] - ty;
+            double z = pointsOriginal[index + 2] - tz;
+            int transformedIndex = index + offset;
+            pointsTransformed[transformedIndex] = m00 * x + m01 * y + m02 * z;
+            pointsTransformed[transformedIndex + 1] = m10 * x + m11 * y + m12 * z;
+            pointsTransformed[transformedIndex + 2] = m20 * x + m21 * y + m22 * z;
+         }
+      }
+      else
+      {
+         for (int index = originalStartIndex; index < endIndex; index += 3)
+         {
+            double x = pointsOriginal[index];
+            double y = pointsOriginal[index + 1];
+            double z = pointsOriginal[index + 2];
+            int transformedIndex = index + offset;
+            pointsTransformed[transformedIndex] = m00 * x + m01 * y + m02 * z + tx;
+            pointsTransformed[transformedIndex + 1] = m10 * x + m11 * y + m12 * z + ty;
+            pointsTransformed[transformedIndex + 2] = m20 * x + m21 * y + m22 * z + tz;
+         }
+      }
+   }
+
+   @Override
+   public void transformInterleaved(double m00, double m01, double m02,
+                                    double m10, double m11, double m12,
+                                    double m20, double m21, double m22,
+                                    double tx, double ty, double tz,
+                                    boolean inverse,
+                                    float[] pointsOriginal,
+                                    int originalStartIndex,
+                                    float[] pointsTransformed,
+                                    int transformedStartIndex,
+                                    int numberOfPoints)
+   {
+      // The arithmetic is performed in single precision, converting each coordinate to double and back
+      // makes the loop about twice as slow.
+      float f00 = (float) m00, f01 = (float) m01, f02 = (float) m02;
+      float f10 = (float) m10, f11 = (float) m11, f12 = (float) m12;
+      float f20 = (float) m20, f21 = (float) m21, f22 = (float) m22;
+      float ftx = (float) tx, fty = (float) ty, ftz = (float) tz;
+      int endIndex = originalStartIndex + 3 * numberOfPoints;
+      int offset = transformedStartIndex - originalStartIndex;
+
+      if (inverse)
+      {
+         for (int index = originalStartIndex; index < endIndex; index += 3)
+         {
+            float x = pointsOriginal[index] - ftx;
+            float y = pointsOriginal[index + 1] - fty;
+            float z = pointsOriginal[index + 2] - ftz;
+            int transformedIndex = index + offset;
+            pointsTransformed[transformedIndex] = f00 * x + f01 * y + f02 * z;
+            pointsTransformed[transformedIndex + 1] = f10 * x + f11 * y + f12 * z;
+            pointsTransformed[transformedIndex + 2] = f20 * x + f21 * y + f22 * z;
+         }
+      }
+      else
+      {
+         for (int index = originalStartIndex; index < endIndex; index += 3)
+         {
+            float x = pointsOriginal[index];
+            float y = pointsOriginal[index + 1];
+            float z = pointsOriginal[index + 2];
+            int transformedIndex = index + offset;
+            pointsTransformed[transformedIndex] = f00 * x + f01 * y + f02 * z + ftx;
+            pointsTransformed[transformedIndex + 1] = f10 * x + f11 * y + f12 * z + fty;
+            pointsTransformed[transformedIndex + 2] = f20 * x + f21 * y + f22 * z + ftz;
+         }
+      }
+   }
+
+   @Override
+   public void transformStructureOfArrays(double m00, double m01, double m02,
+                                          double m10, double m11, double m12,
+                                          double m20, double m21, double m22,
+                                          double tx, double ty, double tz,
+                                          boolean inverse,
+                                          double[] xsOriginal,
+                                          double[] ysOriginal,
+                                          double[] zsOriginal,
+                                          int originalStartIndex,
+                                          double[] xsTransformed,
+                                          double[] ysTransformed,
+                                          double[] zsTransformed,
+                                          int transformedStartIndex,
+                                          int numberOfPoints)
+   {
+      int endIndex = originalStartIndex + numberOfPoints;
+      int offset = transformedStartIndex - originalStartIndex;
+
+      if (inverse)
+      {
+         for (int index = originalStartIndex; index < endIndex; index++)
+         {
+            double x = xsOriginal[index] - tx;
+            double y = ysOriginal[index] - ty;
+            double z = zsOriginal[index] - tz;
+            int transformedIndex = index + offset;
+            xsTransformed[transformedIndex] = m00 * x + m01 * y + m02 * z;
+            ysTransformed[transformedIndex] = m10 * x + m11 * y + m12 * z;
+            zsTransformed[transformedIndex] = m20 * x + m21 * y + m22 * z;
+         }
+      }
+      else
+      {
+         for (int index = originalStartIndex; index < endIndex; index++)
+         {
+            double x = xsOriginal[index];
+            double y = ysOriginal[index];
+            double z = zsOriginal[index];
+            int transformedIndex = index + offset;
+            xsTransformed[transformedIndex] = m00 * x + m01 * y + m02 * z + tx;
+            ysTransformed[transformedIndex] = m10 * x + m11 * y + m12 * z + ty;
+            zsTransformed[transformedIndex] = m20 * x + m21 * y + m22 * z + tz;
+         }
+      }
+   }
+
+   @Override
+   public void transformStructureOfArrays(double m00, double m01, double m02,
+                                          double m10, double m11, double m12,
+                                          double m20, double m21, double m22,
+                                          double tx, double ty, double tz,
+                                          boolean inverse,
+                                          float[] xsOriginal,
+                                          float[] ysOriginal,
+                                          float[] zsOriginal,
+                                          int originalStartIndex,
+                                          float[] xsTransformed,
+                                          float[] ysTransformed,
+                                          float[] zsTransformed,
+                                          int transformedStartIndex,
+                                          int numberOfPoints)
+   {
+      float f00 = (float) m00, f01 = (float) m01, f02 = (float) m02;
+      float f10 = (float) m10, f11 = (float) m11, f12 = (float) m12;
+      float f20 = (float) m20, f21 = (float) m21, f22 = (float) m22;
+      float ftx = (float) tx, fty = (float) ty, ftz = (float) tz;
+      int endIndex = originalStartIndex + numberOfPoints;
+      int offset = transformedStartIndex - originalStartIndex;
+
+      if (inverse)
+      {
+         for (int index = originalStartIndex; index < endIndex; index++)
+         {
+            float x = xsOriginal[index] - ftx;
+            float y = ysOriginal[index] - fty;
+            float z = zsOriginal[index] - ftz;
+            int transformedIndex = index + offset;
+            xsTransformed[transformedIndex] = f00 * x + f01 * y + f02 * z;
+            ysTransformed[transformedIndex] = f10 * x + f11 * y + f12 * z;
+            zsTransformed[transformedIndex] = f20 * x + f21 * y + f22 * z;
+         }
+      }
+      else
+      {
+         for (int index = originalStartIndex; index < endIndex; index++)
+         {
+            float x = xsOriginal[index];
+            float y = ysOriginal[index];
+            float z = zsOriginal[index];
+            int transformedIndex = index + offset;
+            xsTransformed[transformedIndex] = f00 * x + f01 * y + f02 * z + ftx;
+            ysTransformed[transformedIndex] = f10 * x + f11 * y + f12 * z + fty;
+            zsTransformed[transformedIndex] = f20 * x + f21 * y + f22 * z + ftz;
+         }
+      }
+   }
+}
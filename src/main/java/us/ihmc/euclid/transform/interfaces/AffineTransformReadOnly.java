@@ -2,6 +2,7 @@ package us.ihmc.euclid.transform.interfaces;
 
 import org.ejml.data.DMatrix;
 
+import us.ihmc.euclid.exceptions.SingularMatrixException;
 import us.ihmc.euclid.interfaces.EuclidGeometry;
 import us.ihmc.euclid.matrix.interfaces.CommonMatrix3DBasics;
 import us.ihmc.euclid.matrix.interfaces.LinearTransform3DReadOnly;
@@ -9,6 +10,7 @@ import us.ihmc.euclid.matrix.interfaces.Matrix3DBasics;
 import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
 import us.ihmc.euclid.orientation.interfaces.Orientation3DBasics;
 import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
+import us.ihmc.euclid.tools.BulkTransformTools;
 import us.ihmc.euclid.tools.EuclidCoreIOTools;
 import us.ihmc.euclid.tools.EuclidCoreTools;
 import us.ihmc.euclid.tools.TupleTools;
@@ -266,6 +268,266 @@ public interface AffineTransformReadOnly extends Transform
       transformed.preMultiplyInvertOther(this);
    }
 
+   /**
+    * Transforms the points stored in {@code pointsOriginal} by this transform and stores the result in
+    * {@code pointsTransformed}, the coordinates being stored as: x0, y0, z0, x1, y1, z1, ...
+    * <p>
+    * The two arrays can be the same to transform the points in place.
+    * </p>
+    *
+    * @param pointsOriginal        the coordinates of the points to transform. Not modified.
+    * @param originalStartIndex    the index of the x-coordinate of the first point to transform.
+    * @param pointsTransformed     the array in which the result is stored. Modified.
+    * @param transformedStartIndex the index of the x-coordinate of the first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    * @see BulkTransformTools
+    */
+   default void transformPoints(double[] pointsOriginal, int originalStartIndex, double[] pointsTransformed, int transformedStartIndex, int numberOfPoints)
+   {
+      BulkTransformTools.transformPoints(this, pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   /**
+    * Transforms the points stored in {@code pointsOriginal} by this transform and stores the result in
+    * {@code pointsTransformed}, the coordinates being stored as: x0, y0, z0, x1, y1, z1, ...
+    * <p>
+    * The two arrays can be the same to transform the points in place.
+    * </p>
+    *
+    * @param pointsOriginal        the coordinates of the points to transform. Not modified.
+    * @param originalStartIndex    the index of the x-coordinate of the first point to transform.
+    * @param pointsTransformed     the array in which the result is stored. Modified.
+    * @param transformedStartIndex the index of the x-coordinate of the first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    * @see BulkTransformTools
+    */
+   default void transformPoints(float[] pointsOriginal, int originalStartIndex, float[] pointsTransformed, int transformedStartIndex, int numberOfPoints)
+   {
+      BulkTransformTools.transformPoints(this, pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   /**
+    * Transforms the points stored as a structure of arrays by this transform and stores the result in
+    * {@code xsTransformed}, {@code ysTransformed}, and {@code zsTransformed}.
+    * <p>
+    * The original and transformed arrays can be the same to transform the points in place.
+    * </p>
+    *
+    * @param xsOriginal            the x-coordinates of the points to transform. Not modified.
+    * @param ysOriginal            the y-coordinates of the points to transform. Not modified.
+    * @param zsOriginal            the z-coordinates of the points to transform. Not modified.
+    * @param originalStartIndex    the index of the first point to transform.
+    * @param xsTransformed         the array in which the transformed x-coordinates are stored.
+    *                              Modified.
+    * @param ysTransformed         the array in which the transformed y-coordinates are stored.
+    *                              Modified.
+    * @param zsTransformed         the array in which the transformed z-coordinates are stored.
+    *                              Modified.
+    * @param transformedStartIndex the index of the first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    * @see BulkTransformTools
+    */
+   default void transformPoints(double[] xsOriginal,
+                                double[] ysOriginal,
+                                double[] zsOriginal,
+                                int originalStartIndex,
+                                double[] xsTransformed,
+                                double[] ysTransformed,
+                                double[] zsTransformed,
+                                int transformedStartIndex,
+                                int numberOfPoints)
+   {
+      BulkTransformTools.transformPoints(this,
+                                         xsOriginal,
+                                         ysOriginal,
+                                         zsOriginal,
+                                         originalStartIndex,
+                                         xsTransformed,
+                                         ysTransformed,
+                                         zsTransformed,
+                                         transformedStartIndex,
+                                         numberOfPoints);
+   }
+
+   /**
+    * Transforms the points stored as a structure of arrays by this transform and stores the result in
+    * {@code xsTransformed}, {@code ysTransformed}, and {@code zsTransformed}.
+    * <p>
+    * The original and transformed arrays can be the same to transform the points in place.
+    * </p>
+    *
+    * @param xsOriginal            the x-coordinates of the points to transform. Not modified.
+    * @param ysOriginal            the y-coordinates of the points to transform. Not modified.
+    * @param zsOriginal            the z-coordinates of the points to transform. Not modified.
+    * @param originalStartIndex    the index of the first point to transform.
+    * @param xsTransformed         the array in which the transformed x-coordinates are stored.
+    *                              Modified.
+    * @param ysTransformed         the array in which the transformed y-coordinates are stored.
+    *                              Modified.
+    * @param zsTransformed         the array in which the transformed z-coordinates are stored.
+    *                              Modified.
+    * @param transformedStartIndex the index of the first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    * @see BulkTransformTools
+    */
+   default void transformPoints(float[] xsOriginal,
+                                float[] ysOriginal,
+                                float[] zsOriginal,
+                                int originalStartIndex,
+                                float[] xsTransformed,
+                                float[] ysTransformed,
+                                float[] zsTransformed,
+                                int transformedStartIndex,
+                                int numberOfPoints)
+   {
+      BulkTransformTools.transformPoints(this,
+                                         xsOriginal,
+                                         ysOriginal,
+                                         zsOriginal,
+                                         originalStartIndex,
+                                         xsTransformed,
+                                         ysTransformed,
+                                         zsTransformed,
+                                         transformedStartIndex,
+                                         numberOfPoints);
+   }
+
+   /**
+    * Performs the inverse of this transform on the points stored in {@code pointsOriginal} and stores the result in
+    * {@code pointsTransformed}, the coordinates being stored as: x0, y0, z0, x1, y1, z1, ...
+    * <p>
+    * The two arrays can be the same to transform the points in place.
+    * </p>
+    *
+    * @param pointsOriginal        the coordinates of the points to transform. Not modified.
+    * @param originalStartIndex    the index of the x-coordinate of the first point to transform.
+    * @param pointsTransformed     the array in which the result is stored. Modified.
+    * @param transformedStartIndex the index of the x-coordinate of the first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    * @throws SingularMatrixException   if the linear part of this transform is not invertible.
+    * @see BulkTransformTools
+    */
+   default void inverseTransformPoints(double[] pointsOriginal, int originalStartIndex, double[] pointsTransformed, int transformedStartIndex, int numberOfPoints)
+   {
+      BulkTransformTools.inverseTransformPoints(this, pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   /**
+    * Performs the inverse of this transform on the points stored in {@code pointsOriginal} and stores the result in
+    * {@code pointsTransformed}, the coordinates being stored as: x0, y0, z0, x1, y1, z1, ...
+    * <p>
+    * The two arrays can be the same to transform the points in place.
+    * </p>
+    *
+    * @param pointsOriginal        the coordinates of the points to transform. Not modified.
+    * @param originalStartIndex    the index of the x-coordinate of the first point to transform.
+    * @param pointsTransformed     the array in which the result is stored. Modified.
+    * @param transformedStartIndex the index of the x-coordinate of the first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    * @throws SingularMatrixException   if the linear part of this transform is not invertible.
+    * @see BulkTransformTools
+    */
+   default void inverseTransformPoints(float[] pointsOriginal, int originalStartIndex, float[] pointsTransformed, int transformedStartIndex, int numberOfPoints)
+   {
+      BulkTransformTools.inverseTransformPoints(this, pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   /**
+    * Performs the inverse of this transform on the points stored as a structure of arrays and stores the result in
+    * {@code xsTransformed}, {@code ysTransformed}, and {@code zsTransformed}.
+    * <p>
+    * The original and transformed arrays can be the same to transform the points in place.
+    * </p>
+    *
+    * @param xsOriginal            the x-coordinates of the points to transform. Not modified.
+    * @param ysOriginal            the y-coordinates of the points to transform. Not modified.
+    * @param zsOriginal            the z-coordinates of the points to transform. Not modified.
+    * @param originalStartIndex    the index of the first point to transform.
+    * @param xsTransformed         the array in which the transformed x-coordinates are stored.
+    *                              Modified.
+    * @param ysTransformed         the array in which the transformed y-coordinates are stored.
+    *                              Modified.
+    * @param zsTransformed         the array in which the transformed z-coordinates are stored.
+    *                              Modified.
+    * @param transformedStartIndex the index of the first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    * @throws SingularMatrixException   if the linear part of this transform is not invertible.
+    * @see BulkTransformTools
+    */
+   default void inverseTransformPoints(double[] xsOriginal,
+                                       double[] ysOriginal,
+                                       double[] zsOriginal,
+                                       int originalStartIndex,
+                                       double[] xsTransformed,
+                                       double[] ysTransformed,
+                                       double[] zsTransformed,
+                                       int transformedStartIndex,
+                                       int numberOfPoints)
+   {
+      BulkTransformTools.inverseTransformPoints(this,
+                                                xsOriginal,
+                                                ysOriginal,
+                                                zsOriginal,
+                                                originalStartIndex,
+                                                xsTransformed,
+                                                ysTransformed,
+                                                zsTransformed,
+                                                transformedStartIndex,
+                                                numberOfPoints);
+   }
+
+   /**
+    * Performs the inverse of this transform on the points stored as a structure of arrays and stores the result in
+    * {@code xsTransformed}, {@code ysTransformed}, and {@code zsTransformed}.
+    * <p>
+    * The original and transformed arrays can be the same to transform the points in place.
+    * </p>
+    *
+    * @param xsOriginal            the x-coordinates of the points to transform. Not modified.
+    * @param ysOriginal            the y-coordinates of the points to transform. Not modified.
+    * @param zsOriginal            the z-coordinates of the points to transform. Not modified.
+    * @param originalStartIndex    the index of the first point to transform.
+    * @param xsTransformed         the array in which the transformed x-coordinates are stored.
+    *                              Modified.
+    * @param ysTransformed         the array in which the transformed y-coordinates are stored.
+    *                              Modified.
+    * @param zsTransformed         the array in which the transformed z-coordinates are stored.
+    *                              Modified.
+    * @param transformedStartIndex the index of the first transformed point.
+    * @param numberOfPoints        the number of points to transform.
+    * @throws IndexOutOfBoundsException if one of the arrays is too small.
+    * @throws SingularMatrixException   if the linear part of this transform is not invertible.
+    * @see BulkTransformTools
+    */
+   default void inverseTransformPoints(float[] xsOriginal,
+                                       float[] ysOriginal,
+                                       float[] zsOriginal,
+                                       int originalStartIndex,
+                                       float[] xsTransformed,
+                                       float[] ysTransformed,
+                                       float[] zsTransformed,
+                                       int transformedStartIndex,
+                                       int numberOfPoints)
+   {
+      BulkTransformTools.inverseTransformPoints(this,
+                                                xsOriginal,
+                                                ysOriginal,
+                                                zsOriginal,
+                                                originalStartIndex,
+                                                xsTransformed,
+                                                ysTransformed,
+                                                zsTransformed,
+                                                transformedStartIndex,
+                                                numberOfPoints);
+   }
+
    /**
     * Packs this transform as a 4-by-4 matrix.
     *
@@ -0,0 +1,214 @@
+package us.ihmc.euclid.tuple3D;
+
+import java.nio.ByteBuffer;
+
+import us.ihmc.euclid.interfaces.EuclidGeometry;
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+
+/**
+ * A 3D point which coordinates are stored as 3 consecutive doubles in a {@link ByteBuffer}.
+ * <p>
+ * This point does not own its coordinates, it is a view of the buffer region starting at
+ * {@link #getOffset()}: reading the point reads the buffer and modifying the point writes into the
+ * buffer. This allows to use the Euclid math directly on the data received from a sensor driver or
+ * shared with another process, such as a point cloud in a direct {@code ByteBuffer}, without copying
+ * it into {@link Point3D} objects.
+ * </p>
+ * <p>
+ * The same instance can be re-pointed to another region, or another buffer, with
+ * {@link #setOffset(int)} and {@link #setBuffer(ByteBuffer, int)} to iterate over all the points of
+ * a buffer without generating garbage.
+ * </p>
+ * <p>
+ * The coordinates are read and written with the absolute methods of the buffer, such that its
+ * position and limit are never modified, and using the byte order of the buffer. Modifying a point
+ * backed by a read-only buffer throws a {@link java.nio.ReadOnlyBufferException}.
+ * </p>
+ */
+public class ByteBufferPoint3D implements Point3DBasics
+{
+   /** The number of bytes used to store one point. */
+   public static final int SIZE_IN_BYTES = 3 * Double.BYTES;
+
+   /** The buffer storing the coordinates. */
+   private ByteBuffer buffer;
+   /** The index in bytes in {@link #buffer} of the x-coordinate. */
+   private int offset;
+
+   /**
+    * Creates a new point backed by the given buffer.
+    * <p>
+    * The buffer is not modified.
+    * </p>
+    *
+    * @param buffer the buffer storing the coordinates. Not modified.
+    * @param offset the index in bytes in {@code buffer} of the x-coordinate.
+    * @throws IndexOutOfBoundsException if the buffer limit is smaller than
+    *                                   {@code offset + SIZE_IN_BYTES}.
+    */
+   public ByteBufferPoint3D(ByteBuffer buffer, int offset)
+   {
+      setBuffer(buffer, offset);
+   }
+
+   /**
+    * Re-points this point to the given buffer region.
+    *
+    * @param buffer the buffer storing the coordinates. Not modified.
+    * @param offset the index in bytes in {@code buffer} of the x-coordinate.
+    * @throws IndexOutOfBoundsException if the buffer limit is smaller than
+    *                                   {@code offset + SIZE_IN_BYTES}.
+    */
+   public void setBuffer(ByteBuffer buffer, int offset)
+   {
+      checkOffset(buffer, offset);
+      this.buffer = buffer;
+      this.offset = offset;
+   }
+
+   /**
+    * Re-points this point to another region of the same buffer.
+    *
+    * @param offset the index in bytes in the buffer of the x-coordinate.
+    * @throws IndexOutOfBoundsException if the buffer limit is smaller than
+    *                                   {@code offset + SIZE_IN_BYTES}.
+    */
+   public void setOffset(int offset)
+   {
+      checkOffset(buffer, offset);
+      this.offset = offset;
+   }
+
+   private static void checkOffset(ByteBuffer buffer, int offset)
+   {
+      if (offset < 0 || offset > buffer.limit() - SIZE_IN_BYTES)
+         throw new IndexOutOfBoundsException("Invalid offset: " + offset + ", buffer limit: " + buffer.limit());
+   }
+
+   /**
+    * Gets the buffer storing the coordinates of this point.
+    *
+    * @return the buffer.
+    */
+   public ByteBuffer getBuffer()
+   {
+      return buffer;
+   }
+
+   /**
+    * Gets the index in bytes in the buffer of the x-coordinate of this point.
+    *
+    * @return the offset.
+    */
+   public int getOffset()
+   {
+      return offset;
+   }
+
+   /**
+    * Sets the x-coordinate of this point.
+    *
+    * @param x the x-coordinate.
+    */
+   @Override
+   public void setX(double x)
+   {
+      buffer.putDouble(offset, x);
+   }
+
+   /**
+    * Sets the y-coordinate of this point.
+    *
+    * @param y the y-coordinate.
+    */
+   @Override
+   public void setY(double y)
+   {
+      buffer.putDouble(offset + Double.BYTES, y);
+   }
+
+   /**
+    * Sets the z-coordinate of this point.
+    *
+    * @param z the z-coordinate.
+    */
+   @Override
+   public void setZ(double z)
+   {
+      buffer.putDouble(offset + 2 * Double.BYTES, z);
+   }
+
+   /**
+    * Returns the value of the x-coordinate of this point.
+    *
+    * @return the x-coordinate's value.
+    */
+   @Override
+   public double getX()
+   {
+      return buffer.getDouble(offset);
+   }
+
+   /**
+    * Returns the value of the y-coordinate of this point.
+    *
+    * @return the y-coordinate's value.
+    */
+   @Override
+   public double getY()
+   {
+      return buffer.getDouble(offset + Double.BYTES);
+   }
+
+   /**
+    * Returns the value of the z-coordinate of this point.
+    *
+    * @return the z-coordinate's value.
+    */
+   @Override
+   public double getZ()
+   {
+      return buffer.getDouble(offset + 2 * Double.BYTES);
+   }
+
+   /**
+    * Tests if the given {@code object}'s class is the same as this, in which case the method returns
+    * {@link #equals(EuclidGeometry)}, it returns {@code false} otherwise.
+    *
+    * @param object the object to compare against this. Not modified.
+    * @return {@code true} if {@code object} and this are exactly equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean equals(Object object)
+   {
+      if (object instanceof Tuple3DReadOnly)
+         return equals((EuclidGeometry) object);
+      else
+         return false;
+   }
+
+   /**
+    * Provides a {@code String} representation of this point 3D as follows: (x, y, z).
+    *
+    * @return the {@code String} representing this point 3D.
+    */
+   @Override
+   public String toString()
+   {
+      return toString(EuclidCoreIOTools.DEFAULT_FORMAT);
+   }
+
+   /**
+    * Calculates and returns a hash code value from the value of each component of this point 3D.
+    *
+    * @return the hash code value for this point 3D.
+    */
+   @Override
+   public int hashCode()
+   {
+      return EuclidHashCodeTools.toIntHashCode(getX(), getY(), getZ());
+   }
+}
@@ -0,0 +1,194 @@
+package us.ihmc.euclid.tuple4D;
+
+import java.nio.ByteBuffer;
+
+import us.ihmc.euclid.interfaces.EuclidGeometry;
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics;
+import us.ihmc.euclid.tuple4D.interfaces.Tuple4DReadOnly;
+
+/**
+ * A quaternion which components are stored as 4 consecutive doubles in a {@link ByteBuffer} in the
+ * order: x, y, z, s.
+ * <p>
+ * This quaternion does not own its components, it is a view of the buffer region starting at
+ * {@link #getOffset()}: reading the quaternion reads the buffer and modifying the quaternion writes
+ * into the buffer. This allows to use the Euclid math directly on the data received from a sensor
+ * driver or shared with another process, such as the orientations measured by an IMU in a direct
+ * {@code ByteBuffer}, without copying it into {@link Quaternion} objects.
+ * </p>
+ * <p>
+ * The same instance can be re-pointed to another region, or another buffer, with
+ * {@link #setOffset(int)} and {@link #setBuffer(ByteBuffer, int)} to iterate over all the
+ * quaternions of a buffer without generating garbage.
+ * </p>
+ * <p>
+ * As for the other implementations of {@link QuaternionBasics}, the setters normalize the
+ * quaternion before writing it into the buffer, except
+ * {@link #setUnsafe(double, double, double, double)}. Pointing this quaternion to a buffer region
+ * does not modify the buffer, if the region holds a non-unitary quaternion, it is the
+ * responsibility of the user to normalize it.
+ * </p>
+ * <p>
+ * The components are read and written with the absolute methods of the buffer, such that its
+ * position and limit are never modified, and using the byte order of the buffer. Modifying a
+ * quaternion backed by a read-only buffer throws a {@link java.nio.ReadOnlyBufferException}.
+ * </p>
+ */
+public class ByteBufferQuaternion implements QuaternionBasics
+{
+   /** The number of bytes used to store one quaternion. */
+   public static final int SIZE_IN_BYTES = 4 * Double.BYTES;
+
+   /** The buffer storing the components. */
+   private ByteBuffer buffer;
+   /** The index in bytes in {@link #buffer} of the x-component. */
+   private int offset;
+
+   /**
+    * Creates a new quaternion backed by the given buffer.
+    * <p>
+    * The buffer is not modified.
+    * </p>
+    *
+    * @param buffer the buffer storing the components. Not modified.
+    * @param offset the index in bytes in {@code buffer} of the x-component.
+    * @throws IndexOutOfBoundsException if the buffer limit is smaller than
+    *                                   {@code offset + SIZE_IN_BYTES}.
+    */
+   public ByteBufferQuaternion(ByteBuffer buffer, int offset)
+   {
+      setBuffer(buffer, offset);
+   }
+
+   /**
+    * Re-points this quaternion to the given buffer region.
+    *
+    * @param buffer the buffer storing the components. Not modified.
+    * @param offset the index in bytes in {@code buffer} of the x-component.
+    * @throws IndexOutOfBoundsException if the buffer limit is smaller than
+    *                                   {@code offset + SIZE_IN_BYTES}.
+    */
+   public void setBuffer(ByteBuffer buffer, int offset)
+   {
+      checkOffset(buffer, offset);
+      this.buffer = buffer;
+      this.offset = offset;
+   }
+
+   /**
+    * Re-points this quaternion to another region of the same buffer.
+    *
+    * @param offset the index in bytes in the buffer of the x-component.
+    * @throws IndexOutOfBoundsException if the buffer limit is smaller than
+    *                                   {@code offset + SIZE_IN_BYTES}.
+    */
+   public void setOffset(int offset)
+   {
+      checkOffset(buffer, offset);
+      this.offset = offset;
+   }
+
+   private static void checkOffset(ByteBuffer buffer, int offset)
+   {
+      if (offset < 0 || offset > buffer.limit() - SIZE_IN_BYTES)
+         throw new IndexOutOfBoundsException("Invalid offset: " + offset + ", buffer limit: " + buffer.limit());
+   }
+
+   /**
+    * Gets the buffer storing the components of this quaternion.
+    *
+    * @return the buffer.
+    */
+   public ByteBuffer getBuffer()
+   {
+      return buffer;
+   }
+
+   /**
+    * Gets the index in bytes in the buffer of the x-component of this quaternion.
+    *
+    * @return the offset.
+    */
+   public int getOffset()
+   {
+      return offset;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void setUnsafe(double qx, double qy, double qz, double qs)
+   {
+      buffer.putDouble(offset, qx);
+      buffer.putDouble(offset + Double.BYTES, qy);
+      buffer.putDouble(offset + 2 * Double.BYTES, qz);
+      buffer.putDouble(offset + 3 * Double.BYTES, qs);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getX()
+   {
+      return buffer.getDouble(offset);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getY()
+   {
+      return buffer.getDouble(offset + Double.BYTES);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getZ()
+   {
+      return buffer.getDouble(offset + 2 * Double.BYTES);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getS()
+   {
+      return buffer.getDouble(offset + 3 * Double.BYTES);
+   }
+
+   /**
+    * Tests if the given {@code object}'s class is the same as this, in which case the method returns
+    * {@link #equals(EuclidGeometry)}, it returns {@code false} otherwise.
+    *
+    * @param object the object to compare against this. Not modified.
+    * @return {@code true} if {@code object} and this are exactly equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean equals(Object object)
+   {
+      if (object instanceof Tuple4DReadOnly)
+         return equals((EuclidGeometry) object);
+      else
+         return false;
+   }
+
+   /**
+    * Provides a {@code String} representation of this quaternion as follows: (x, y, z, s).
+    *
+    * @return the {@code String} representing this quaternion.
+    */
+   @Override
+   public String toString()
+   {
+      return toString(EuclidCoreIOTools.DEFAULT_FORMAT);
+   }
+
+   /**
+    * Calculates and returns a hash code value from the value of each component of this quaternion.
+    *
+    * @return the hash code value for this quaternion.
+    */
+   @Override
+   public int hashCode()
+   {
+      return EuclidHashCodeTools.toIntHashCode(getX(), getY(), getZ(), getS());
+   }
+}
@@ -0,0 +1,238 @@
+package us.ihmc.euclid.shape.collision;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import us.ihmc.euclid.shape.collision.epa.ExpandingPolytopeAlgorithm;
+import us.ihmc.euclid.shape.collision.interfaces.EuclidShape3DCollisionResultBasics;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
+
+/**
+ * Evaluates the collision state of a batch of shape pairs, distributing the work over a
+ * {@link ForkJoinPool}.
+ * <p>
+ * Each pair is evaluated with an {@link ExpandingPolytopeAlgorithm}, which relies on the
+ * {@link us.ihmc.euclid.shape.collision.gjk.GilbertJohnsonKeerthiCollisionDetector} to evaluate the
+ * separated pairs. As these detectors are not thread-safe, the batch is split into contiguous chunks
+ * of pairs and each chunk is evaluated with its own detector.
+ * </p>
+ * <p>
+ * The result of the i<sup>th</sup> pair is always stored in the i<sup>th</sup> result slot and only
+ * depends on the two shapes of the pair, the output is then the same whether the batch is evaluated
+ * in parallel or serially. Batches smaller than the serial threshold are evaluated on the calling
+ * thread, avoiding the overhead of the pool for small workloads.
+ * </p>
+ * <p>
+ * While a batch is being evaluated the shapes are only read, such that the same shape can appear
+ * in several pairs. However, shapes that use a shared intermediate variable supplier, such as
+ * {@link us.ihmc.euclid.shape.primitives.Box3D} configured with
+ * {@link us.ihmc.euclid.shape.primitives.interfaces.IntermediateVariableSupplier#garbageFreeIntermediateVariableSupplier()},
+ * should not appear in more than one pair of a batch evaluated in parallel.
+ * </p>
+ * <p>
+ * This class is not thread-safe, a single batch can be evaluated at a time.
+ * </p>
+ */
+public class BatchCollisionEvaluator
+{
+   /** The default number of pairs below which a batch is evaluated serially. */
+   public static final int DEFAULT_SERIAL_THRESHOLD = 64;
+
+   private final ForkJoinPool pool;
+   /** One task per chunk, each task owns its collision detector and is recycled across batches. */
+   private final ChunkTask[] tasks;
+   private final RootTask rootTask = new RootTask();
+   private int serialThreshold = DEFAULT_SERIAL_THRESHOLD;
+   private boolean wasLastBatchParallel = false;
+
+   /**
+    * Creates a new evaluator that uses the common pool.
+    */
+   public BatchCollisionEvaluator()
+   {
+      this(ForkJoinPool.commonPool());
+   }
+
+   /**
+    * Creates a new evaluator that uses the given pool.
+    * <p>
+    * The batches are split into as many chunks as the parallelism of the pool.
+    * </p>
+    *
+    * @param pool the pool to evaluate the batches with. Reference saved.
+    */
+   public BatchCollisionEvaluator(ForkJoinPool pool)
+   {
+      this(pool, pool.getParallelism());
+   }
+
+   /**
+    * Creates a new evaluator that uses the given pool.
+    *
+    * @param pool           the pool to evaluate the batches with. Reference saved.
+    * @param numberOfChunks the maximum number of chunks a batch is split into, each chunk uses its
+    *                       own collision detector.
+    * @throws IllegalArgumentException if {@code numberOfChunks} is less than 1.
+    */
+   public BatchCollisionEvaluator(ForkJoinPool pool, int numberOfChunks)
+   {
+      if (numberOfChunks < 1)
+         throw new IllegalArgumentException("The number of chunks has to be at least 1, was: " + numberOfChunks);
+
+      this.pool = pool;
+      tasks = new ChunkTask[numberOfChunks];
+      for (int i = 0; i < numberOfChunks; i++)
+         tasks[i] = new ChunkTask();
+   }
+
+   /**
+    * Evaluates the collision state of the first {@code numberOfPairs} pairs.
+    * <p>
+    * The i<sup>th</sup> pair is composed of {@code shapesA[i]} and {@code shapesB[i]} and its result
+    * is stored in {@code resultsToPack[i]}.
+    * </p>
+    * <p>
+    * This algorithm does not evaluate the surface normals.
+    * </p>
+    *
+    * @param shapesA       the first shape of each pair. Not modified.
+    * @param shapesB       the second shape of each pair. Not modified.
+    * @param resultsToPack the preallocated results, one for each pair. Modified.
+    * @param numberOfPairs the number of pairs to evaluate.
+    * @return the number of colliding pairs.
+    * @throws IllegalArgumentException if any of the arrays has less than {@code numberOfPairs}
+    *                                  elements.
+    */
+   public int evaluateCollisions(Shape3DReadOnly[] shapesA,
+                                 Shape3DReadOnly[] shapesB,
+                                 EuclidShape3DCollisionResultBasics[] resultsToPack,
+                                 int numberOfPairs)
+   {
+      if (shapesA.length < numberOfPairs || shapesB.length < numberOfPairs || resultsToPack.length < numberOfPairs)
+         throw new IllegalArgumentException("The arrays are too small for " + numberOfPairs + " pairs: shapesA " + shapesA.length + ", shapesB "
+               + shapesB.length + ", results " + resultsToPack.length);
+
+      int numberOfChunks = numberOfPairs < serialThreshold ? 1 : Math.max(1, Math.min(tasks.length, numberOfPairs));
+
+      for (int i = 0; i < numberOfChunks; i++)
+      {
+         ChunkTask task = tasks[i];
+         task.reinitialize();
+         task.shapesA = shapesA;
+         task.shapesB = shapesB;
+         task.results = resultsToPack;
+         task.start = (int) ((long) numberOfPairs * i / numberOfChunks);
+         task.end = (int) ((long) numberOfPairs * (i + 1) / numberOfChunks);
+      }
+
+      wasLastBatchParallel = numberOfChunks > 1;
+
+      if (wasLastBatchParallel)
+      {
+         rootTask.reinitialize();
+         rootTask.numberOfChunks = numberOfChunks;
+         pool.invoke(rootTask);
+      }
+      else
+      {
+         tasks[0].compute();
+      }
+
+      int numberOfCollisions = 0;
+
+      for (int i = 0; i < numberOfChunks; i++)
+      {
+         ChunkTask task = tasks[i];
+         numberOfCollisions += task.numberOfCollisions;
+         // Releasing the references to the user's data.
+         task.shapesA = null;
+         task.shapesB = null;
+         task.results = null;
+      }
+
+      return numberOfCollisions;
+   }
+
+   /**
+    * Sets the number of pairs below which a batch is evaluated serially on the calling thread.
+    *
+    * @param serialThreshold the new threshold.
+    */
+   public void setSerialThreshold(int serialThreshold)
+   {
+      this.serialThreshold = serialThreshold;
+   }
+
+   /**
+    * Gets the number of pairs below which a batch is evaluated serially on the calling thread.
+    *
+    * @return the threshold.
+    */
+   public int getSerialThreshold()
+   {
+      return serialThreshold;
+   }
+
+   /**
+    * Gets whether the last batch was distributed over the pool or evaluated serially.
+    *
+    * @return {@code true} if the last batch was evaluated in parallel, {@code false} otherwise.
+    */
+   public boolean wasLastBatchParallel()
+   {
+      return wasLastBatchParallel;
+   }
+
+   /**
+    * Gets the maximum number of chunks a batch is split into.
+    *
+    * @return the maximum number of chunks.
+    */
+   public int getNumberOfChunks()
+   {
+      return tasks.length;
+   }
+
+   private class RootTask extends RecursiveAction
+   {
+      private static final long serialVersionUID = -4223574398128767263L;
+      private int numberOfChunks;
+
+      @Override
+      protected void compute()
+      {
+         for (int i = 1; i < numberOfChunks; i++)
+            tasks[i].fork();
+
+         // The first chunk is evaluated by the current thread.
+         tasks[0].compute();
+
+         for (int i = 1; i < numberOfChunks; i++)
+            tasks[i].join();
+      }
+   }
+
+   private static class ChunkTask extends RecursiveAction
+   {
+      private static final long serialVersionUID = 3170659254718539155L;
+
+      private final ExpandingPolytopeAlgorithm detector = new ExpandingPolytopeAlgorithm();
+      private Shape3DReadOnly[] shapesA;
+      private Shape3DReadOnly[] shapesB;
+      private EuclidShape3DCollisionResultBasics[] results;
+      private int start, end;
+      private int numberOfCollisions;
+
+      @Override
+      protected void compute()
+      {
+         numberOfCollisions = 0;
+
+         for (int i = start; i < end; i++)
+         {
+            if (detector.evaluateCollision(shapesA[i], shapesB[i], results[i]))
+               numberOfCollisions++;
+         }
+      }
+   }
+}
@@ -0,0 +1,252 @@
+package us.ihmc.euclid.shape.collision;
+
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+
+/**
+ * Class for holding the contact manifold between two shapes, i.e. the set of contact points
+ * approximating the contact area between the shapes.
+ * <p>
+ * The contact points share a single contact normal, which is the surface normal of the shape B
+ * pointing toward the shape A. Each contact point is described by a pair of points, one on each
+ * shape, and their signed distance along the contact normal, which is negative when the shapes are
+ * penetrating at this contact point.
+ * </p>
+ */
+public class ContactManifold3D
+{
+   /** The maximum number of contact points a manifold can hold. */
+   public static final int MAX_NUMBER_OF_CONTACT_POINTS = 4;
+
+   /** The first shape in the contact. */
+   private Shape3DReadOnly shapeA;
+   /** The second shape in the contact. */
+   private Shape3DReadOnly shapeB;
+   /** The surface normal of the shape B, common to all the contact points. */
+   private final Vector3D normal = new Vector3D();
+
+   private int numberOfContactPoints = 0;
+   private final Point3D[] pointsOnA = new Point3D[MAX_NUMBER_OF_CONTACT_POINTS];
+   private final Point3D[] pointsOnB = new Point3D[MAX_NUMBER_OF_CONTACT_POINTS];
+   private final double[] signedDistances = new double[MAX_NUMBER_OF_CONTACT_POINTS];
+
+   /**
+    * Creates a new empty manifold.
+    */
+   public ContactManifold3D()
+   {
+      for (int i = 0; i < MAX_NUMBER_OF_CONTACT_POINTS; i++)
+      {
+         pointsOnA[i] = new Point3D();
+         pointsOnB[i] = new Point3D();
+      }
+
+      clear();
+   }
+
+   /**
+    * Clone constructor.
+    *
+    * @param other the other manifold to copy. Not modified.
+    */
+   public ContactManifold3D(ContactManifold3D other)
+   {
+      this();
+      set(other);
+   }
+
+   /**
+    * Sets this manifold to {@code other}.
+    *
+    * @param other the other manifold to copy. Not modified.
+    */
+   public void set(ContactManifold3D other)
+   {
+      shapeA = other.shapeA;
+      shapeB = other.shapeB;
+      normal.set(other.normal);
+      numberOfContactPoints = other.numberOfContactPoints;
+
+      for (int i = 0; i < numberOfContactPoints; i++)
+      {
+         pointsOnA[i].set(other.pointsOnA[i]);
+         pointsOnB[i].set(other.pointsOnB[i]);
+         signedDistances[i] = other.signedDistances[i];
+      }
+   }
+
+   /**
+    * Removes all the contact points and sets the shapes to {@code null} and the normal to
+    * {@link Double#NaN}.
+    */
+   public void clear()
+   {
+      shapeA = null;
+      shapeB = null;
+      normal.setToNaN();
+      numberOfContactPoints = 0;
+   }
+
+   /**
+    * Sets the shapes in contact.
+    *
+    * @param shapeA the first shape. Reference saved.
+    * @param shapeB the second shape. Reference saved.
+    */
+   public void setShapes(Shape3DReadOnly shapeA, Shape3DReadOnly shapeB)
+   {
+      this.shapeA = shapeA;
+      this.shapeB = shapeB;
+   }
+
+   /**
+    * Adds a contact point to this manifold.
+    *
+    * @param pointOnA       the contact point on the shape A. Not modified.
+    * @param pointOnB       the contact point on the shape B. Not modified.
+    * @param signedDistance the signed distance between the two points along the contact normal,
+    *                       negative when penetrating.
+    * @throws IllegalStateException if this manifold already holds
+    *                               {@value #MAX_NUMBER_OF_CONTACT_POINTS} contact points.
+    */
+   public void addContactPoint(Point3DReadOnly pointOnA, Point3DReadOnly pointOnB, double signedDistance)
+   {
+      if (numberOfContactPoints == MAX_NUMBER_OF_CONTACT_POINTS)
+         throw new IllegalStateException("The manifold is full.");
+
+      pointsOnA[numberOfContactPoints].set(pointOnA);
+      pointsOnB[numberOfContactPoints].set(pointOnB);
+      signedDistances[numberOfContactPoints] = signedDistance;
+      numberOfContactPoints++;
+   }
+
+   /**
+    * Gets the first shape in the contact.
+    *
+    * @return the first shape.
+    */
+   public Shape3DReadOnly getShapeA()
+   {
+      return shapeA;
+   }
+
+   /**
+    * Gets the second shape in the contact.
+    *
+    * @return the second shape.
+    */
+   public Shape3DReadOnly getShapeB()
+   {
+      return shapeB;
+   }
+
+   /**
+    * Gets the reference to the contact normal, which is the surface normal of the shape B pointing
+    * toward the shape A.
+    *
+    * @return the contact normal.
+    */
+   public Vector3D getNormal()
+   {
+      return normal;
+   }
+
+   /**
+    * Gets the number of contact points in this manifold.
+    *
+    * @return the number of contact points in [0, {@value #MAX_NUMBER_OF_CONTACT_POINTS}].
+    */
+   public int getNumberOfContactPoints()
+   {
+      return numberOfContactPoints;
+   }
+
+   /**
+    * Whether this manifold has no contact point.
+    *
+    * @return {@code true} if this manifold is empty, {@code false} otherwise.
+    */
+   public boolean isEmpty()
+   {
+      return numberOfContactPoints == 0;
+   }
+
+   /**
+    * Gets the read-only reference to the index-th contact point on the shape A.
+    *
+    * @param index the index of the contact point.
+    * @return the contact point on the shape A.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0,
+    *                                   {@link #getNumberOfContactPoints()}[.
+    */
+   public Point3DReadOnly getPointOnA(int index)
+   {
+      checkIndex(index);
+      return pointsOnA[index];
+   }
+
+   /**
+    * Gets the read-only reference to the index-th contact point on the shape B.
+    *
+    * @param index the index of the contact point.
+    * @return the contact point on the shape B.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0,
+    *                                   {@link #getNumberOfContactPoints()}[.
+    */
+   public Point3DReadOnly getPointOnB(int index)
+   {
+      checkIndex(index);
+      return pointsOnB[index];
+   }
+
+   /**
+    * Gets the signed distance of the index-th contact point along the contact normal.
+    *
+    * @param index the index of the contact point.
+    * @return the signed distance, negative when the shapes are penetrating at this point.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0,
+    *                                   {@link #getNumberOfContactPoints()}[.
+    */
+   public double getSignedDistance(int index)
+   {
+      checkIndex(index);
+      return signedDistances[index];
+   }
+
+   /**
+    * Gets the smallest signed distance among the contact points.
+    *
+    * @return the smallest signed distance, {@link Double#NaN} if this manifold is empty.
+    */
+   public double getMinSignedDistance()
+   {
+      if (numberOfContactPoints == 0)
+         return Double.NaN;
+
+      double minSignedDistance = signedDistances[0];
+      for (int i = 1; i < numberOfContactPoints; i++)
+         minSignedDistance = Math.min(minSignedDistance, signedDistances[i]);
+      return minSignedDistance;
+   }
+
+   private void checkIndex(int index)
+   {
+      if (index < 0 || index >= numberOfContactPoints)
+         throw new IndexOutOfBoundsException("Index: " + index + ", number of contact points: " + numberOfContactPoints);
+   }
+
+   @Override
+   public String toString()
+   {
+      String string = "Contact manifold: " + numberOfContactPoints + " contact point(s), normal: " + EuclidCoreIOTools.getTuple3DString(normal);
+      string += "\nShape A: " + (shapeA == null ? "null" : shapeA.getClass().getSimpleName()) + ", Shape B: "
+            + (shapeB == null ? "null" : shapeB.getClass().getSimpleName());
+      for (int i = 0; i < numberOfContactPoints; i++)
+         string += "\n\tpointOnA: " + EuclidCoreIOTools.getTuple3DString(pointsOnA[i]) + ", pointOnB: " + EuclidCoreIOTools.getTuple3DString(pointsOnB[i])
+               + ", distance: " + signedDistances[i];
+      return string;
+   }
+}
@@ -0,0 +1,316 @@
+package us.ihmc.euclid.shape.collision;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import us.ihmc.euclid.geometry.BoundingBox3D;
+import us.ihmc.euclid.shape.convexPolytope.interfaces.ConvexPolytope3DReadOnly;
+import us.ihmc.euclid.shape.convexPolytope.interfaces.Vertex3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+
+/**
+ * Persistent cache of contact manifolds for pairs of shapes, used to avoid regenerating the
+ * manifold of a pair when its shapes have barely moved since the last evaluation.
+ * <p>
+ * For each pair of shapes, the manifold is saved along with a snapshot of the geometry of the two
+ * shapes. The snapshot of a polytope, i.e. {@link ConvexPolytope3DReadOnly}, {@code Box3DReadOnly}, or
+ * {@code Ramp3DReadOnly}, is composed of the coordinates of its vertices, the snapshot of any
+ * other shape is composed of the coordinates of its bounding box and centroid. At the next
+ * evaluation of the same pair, the cached manifold is reused if no coordinate of the snapshots has
+ * changed by more than the position tolerance, which is counted as a hit. Otherwise, the manifold
+ * is regenerated and the snapshots updated, which is counted as a miss.
+ * </p>
+ * <p>
+ * The pairs are identified by the identity of the two shapes and their order.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ */
+public class ContactManifoldCache
+{
+   /** Default tolerance on the displacement of the shapes below which a manifold is reused. */
+   public static final double DEFAULT_POSITION_TOLERANCE = 1.0e-4;
+
+   /** The generator used to compute the manifolds. */
+   private final ContactManifoldGenerator generator;
+   /** The cached entries indexed by shape A and then shape B. */
+   private final Map<Object, Map<Object, Entry>> entries = new IdentityHashMap<>();
+   private double positionTolerance = DEFAULT_POSITION_TOLERANCE;
+
+   /** The number of evaluations that reused the cached manifold. */
+   private long numberOfHits = 0;
+   /** The number of evaluations that regenerated the manifold. */
+   private long numberOfMisses = 0;
+
+   /**
+    * Creates a new cache with its own manifold generator.
+    */
+   public ContactManifoldCache()
+   {
+      this(new ContactManifoldGenerator());
+   }
+
+   /**
+    * Creates a new cache that uses the given manifold generator.
+    *
+    * @param generator the generator to use for computing the manifolds. Reference saved.
+    */
+   public ContactManifoldCache(ContactManifoldGenerator generator)
+   {
+      this.generator = generator;
+   }
+
+   /**
+    * Sets the tolerance on the displacement of the shapes below which a cached manifold is reused.
+    *
+    * @param positionTolerance the tolerance, default value is {@value #DEFAULT_POSITION_TOLERANCE}.
+    */
+   public void setPositionTolerance(double positionTolerance)
+   {
+      this.positionTolerance = positionTolerance;
+   }
+
+   /**
+    * Gets the tolerance on the displacement of the shapes below which a cached manifold is reused.
+    *
+    * @return the tolerance.
+    */
+   public double getPositionTolerance()
+   {
+      return positionTolerance;
+   }
+
+   /**
+    * Evaluates the contact manifold between the two given shapes, reusing the manifold from the
+    * previous evaluation of the same pair if the shapes have not moved by more than the position
+    * tolerance.
+    * <p>
+    * Once the pair has been added to the cache, this method does not generate garbage as long as the
+    * number of vertices of the shapes does not change.
+    * </p>
+    *
+    * @param shapeA         the first shape. Not modified.
+    * @param shapeB         the second shape. Not modified.
+    * @param manifoldToPack the manifold in which the result is stored. Modified.
+    * @return {@code true} if the shapes are colliding, {@code false} otherwise.
+    */
+   public boolean evaluateContactManifold(Shape3DReadOnly shapeA, Shape3DReadOnly shapeB, ContactManifold3D manifoldToPack)
+   {
+      Map<Object, Entry> entriesA = entries.get(shapeA);
+
+      if (entriesA == null)
+      {
+         entriesA = new IdentityHashMap<>();
+         entries.put(shapeA, entriesA);
+      }
+
+      Entry entry = entriesA.get(shapeB);
+
+      if (entry == null)
+      {
+         entry = new Entry();
+         entriesA.put(shapeB, entry);
+      }
+
+      if (entry.isValid && entry.snapshotA.epsilonEquals(shapeA, positionTolerance) && entry.snapshotB.epsilonEquals(shapeB, positionTolerance))
+      {
+         numberOfHits++;
+      }
+      else
+      {
+         numberOfMisses++;
+         entry.snapshotA.set(shapeA);
+         entry.snapshotB.set(shapeB);
+         entry.isColliding = generator.evaluateContactManifold(shapeA, shapeB, entry.manifold);
+         entry.isValid = true;
+      }
+
+      manifoldToPack.set(entry.manifold);
+      return entry.isColliding;
+   }
+
+   /**
+    * Removes the cached manifold for the given pair of shapes.
+    *
+    * @param shapeA the first shape of the pair. Not modified.
+    * @param shapeB the second shape of the pair. Not modified.
+    * @return {@code true} if the pair was in the cache, {@code false} otherwise.
+    */
+   public boolean remove(Object shapeA, Object shapeB)
+   {
+      Map<Object, Entry> entriesA = entries.get(shapeA);
+      if (entriesA == null)
+         return false;
+      boolean removed = entriesA.remove(shapeB) != null;
+      if (entriesA.isEmpty())
+         entries.remove(shapeA);
+      return removed;
+   }
+
+   /**
+    * Removes all the cached manifolds for the pairs involving the given shape.
+    *
+    * @param shape the shape to remove from the cache. Not modified.
+    */
+   public void remove(Object shape)
+   {
+      entries.remove(shape);
+
+      for (Map<Object, Entry> entriesA : entries.values())
+         entriesA.remove(shape);
+      entries.values().removeIf(Map::isEmpty);
+   }
+
+   /**
+    * Removes all the cached manifolds.
+    * <p>
+    * The statistics are not affected, see {@link #resetStatistics()}.
+    * </p>
+    */
+   public void clear()
+   {
+      entries.clear();
+   }
+
+   /**
+    * Resets the hit and miss counters.
+    */
+   public void resetStatistics()
+   {
+      numberOfHits = 0;
+      numberOfMisses = 0;
+   }
+
+   /**
+    * Gets the internal generator used to compute the manifolds.
+    *
+    * @return the manifold generator.
+    */
+   public ContactManifoldGenerator getGenerator()
+   {
+      return generator;
+   }
+
+   /**
+    * Gets the number of evaluations that reused a cached manifold.
+    *
+    * @return the number of hits.
+    */
+   public long getNumberOfHits()
+   {
+      return numberOfHits;
+   }
+
+   /**
+    * Gets the number of evaluations that regenerated the manifold.
+    *
+    * @return the number of misses.
+    */
+   public long getNumberOfMisses()
+   {
+      return numberOfMisses;
+   }
+
+   /**
+    * Gets the ratio of evaluations that reused a cached manifold.
+    *
+    * @return the hit rate in [0, 1], {@link Double#NaN} if there was no evaluation.
+    */
+   public double getHitRate()
+   {
+      long numberOfEvaluations = numberOfHits + numberOfMisses;
+      return numberOfEvaluations == 0 ? Double.NaN : (double) numberOfHits / (double) numberOfEvaluations;
+   }
+
+   /**
+    * Gets the number of pairs currently in the cache.
+    *
+    * @return the number of cached pairs.
+    */
+   public int getNumberOfPairs()
+   {
+      int numberOfPairs = 0;
+      for (Map<Object, Entry> entriesA : entries.values())
+         numberOfPairs += entriesA.size();
+      return numberOfPairs;
+   }
+
+   private static class Entry
+   {
+      private final ContactManifold3D manifold = new ContactManifold3D();
+      private final Snapshot snapshotA = new Snapshot();
+      private final Snapshot snapshotB = new Snapshot();
+      private boolean isColliding = false;
+      private boolean isValid = false;
+   }
+
+   private static class Snapshot
+   {
+      private final BoundingBox3D boundingBox = new BoundingBox3D();
+      private double[] coordinates = new double[0];
+      private int size = 0;
+
+      /**
+       * Tests whether no coordinate of the shape has changed by more than the tolerance since the last
+       * call to {@link #set(Shape3DReadOnly)}.
+       */
+      private boolean epsilonEquals(Shape3DReadOnly shape, double tolerance)
+      {
+         ConvexPolytope3DReadOnly polytope = ContactManifoldGenerator.toConvexPolytope3D(shape);
+
+         if (polytope != null)
+         {
+            List<? extends Vertex3DReadOnly> vertices = polytope.getVertices();
+            if (size != 3 * vertices.size())
+               return false;
+
+            for (int i = 0; i < vertices.size(); i++)
+            {
+               if (!epsilonEquals(3 * i, vertices.get(i), tolerance))
+                  return false;
+            }
+            return true;
+         }
+         else
+         {
+            if (size != 9)
+               return false;
+
+            shape.getBoundingBox(boundingBox);
+            return epsilonEquals(0, boundingBox.getMinPoint(), tolerance) && epsilonEquals(3, boundingBox.getMaxPoint(), tolerance)
+                  && epsilonEquals(6, shape.getCentroid(), tolerance);
+         }
+      }
+
+      private void set(Shape3DReadOnly shape)
+      {
+         ConvexPolytope3DReadOnly polytope = ContactManifoldGenerator.toConvexPolytope3D(shape);
+         size = polytope != null ? 3 * polytope.getNumberOfVertices() : 9;
+         if (coordinates.length < size)
+            coordinates = new double[size];
+
+         if (polytope != null)
+         {
+            List<? extends Vertex3DReadOnly> vertices = polytope.getVertices();
+            for (int i = 0; i < vertices.size(); i++)
+               vertices.get(i).get(3 * i, coordinates);
+         }
+         else
+         {
+            shape.getBoundingBox(boundingBox);
+            boundingBox.getMinPoint().get(0, coordinates);
+            boundingBox.getMaxPoint().get(3, coordinates);
+            shape.getCentroid().get(6, coordinates);
+         }
+      }
+
+      private boolean epsilonEquals(int index, Point3DReadOnly point, double tolerance)
+      {
+         return Math.abs(coordinates[index] - point.getX()) <= tolerance && Math.abs(coordinates[index + 1] - point.getY()) <= tolerance
+               && Math.abs(coordinates[index + 2] - point.getZ()) <= tolerance;
+      }
+   }
+}
@@ -0,0 +1,431 @@
+package us.ihmc.euclid.shape.collision;
+
+import java.util.List;
+
+import us.ihmc.euclid.shape.collision.epa.ExpandingPolytopeAlgorithm;
+import us.ihmc.euclid.shape.convexPolytope.interfaces.ConvexPolytope3DReadOnly;
+import us.ihmc.euclid.shape.convexPolytope.interfaces.Face3DReadOnly;
+import us.ihmc.euclid.shape.convexPolytope.interfaces.Vertex3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Box3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Ramp3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+
+/**
+ * Generates the contact manifold between two shapes.
+ * <p>
+ * The collision is first evaluated with the {@link ExpandingPolytopeAlgorithm} from which the contact
+ * normal is deduced. When both shapes are polytopes, i.e. {@link ConvexPolytope3DReadOnly},
+ * {@link Box3DReadOnly}, or {@link Ramp3DReadOnly}, the face of each shape the most aligned with the
+ * contact normal is found and the best aligned of the two is used as the reference face. The face
+ * of the other shape the most opposed to the reference face is the incident face, it is clipped
+ * against the side planes of the reference face and the clipped vertices that are below the
+ * reference face, or within the contact margin, become the contact points. When more than
+ * {@value ContactManifold3D#MAX_NUMBER_OF_CONTACT_POINTS} points remain, the deepest point is kept
+ * along with the points that maximize the area of the manifold.
+ * </p>
+ * <p>
+ * For other shapes or when the clipping yields no point, the manifold holds the single contact point
+ * found by the {@link ExpandingPolytopeAlgorithm}.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ */
+public class ContactManifoldGenerator
+{
+   /**
+    * Default tolerance on the alignment of the faces used to prefer the face of the shape B as the
+    * reference face, this avoids switching reference face between two evaluations for nearly
+    * parallel faces.
+    */
+   public static final double DEFAULT_REFERENCE_FACE_TOLERANCE = 1.0e-3;
+
+   private final ExpandingPolytopeAlgorithm detector = new ExpandingPolytopeAlgorithm();
+   private final EuclidShape3DCollisionResult collisionResult = new EuclidShape3DCollisionResult();
+
+   private double contactMargin = 0.0;
+   private double referenceFaceTolerance = DEFAULT_REFERENCE_FACE_TOLERANCE;
+
+   private final Vector3D normal = new Vector3D();
+   private final Vector3D sideNormal = new Vector3D();
+   private final Vector3D edge = new Vector3D();
+   private final Vector3D tempVector = new Vector3D();
+   private final Point3D pointOnReference = new Point3D();
+   private final Point3D tempPoint = new Point3D();
+
+   /** Polygon being clipped, swapped with the output polygon after each clipping plane. */
+   private Polygon inputPolygon = new Polygon();
+   private Polygon outputPolygon = new Polygon();
+   private final int[] selectedIndices = new int[ContactManifold3D.MAX_NUMBER_OF_CONTACT_POINTS];
+
+   /**
+    * Creates a new generator.
+    */
+   public ContactManifoldGenerator()
+   {
+   }
+
+   /**
+    * Sets the maximum separation distance for which contact points are still generated.
+    * <p>
+    * A positive margin allows to generate contact points slightly before the shapes touch, default
+    * value is {@code 0.0}.
+    * </p>
+    *
+    * @param contactMargin the contact margin.
+    */
+   public void setContactMargin(double contactMargin)
+   {
+      this.contactMargin = contactMargin;
+   }
+
+   /**
+    * Gets the maximum separation distance for which contact points are still generated.
+    *
+    * @return the contact margin.
+    */
+   public double getContactMargin()
+   {
+      return contactMargin;
+   }
+
+   /**
+    * Sets the tolerance on the alignment of the faces used to prefer the face of the shape B as the
+    * reference face.
+    *
+    * @param referenceFaceTolerance the tolerance, default value is
+    *                               {@value #DEFAULT_REFERENCE_FACE_TOLERANCE}.
+    */
+   public void setReferenceFaceTolerance(double referenceFaceTolerance)
+   {
+      this.referenceFaceTolerance = referenceFaceTolerance;
+   }
+
+   /**
+    * Evaluates the contact manifold between the two given shapes.
+    * <p>
+    * WARNING: This method generates garbage.
+    * </p>
+    *
+    * @param shapeA the first shape. Not modified.
+    * @param shapeB the second shape. Not modified.
+    * @return the contact manifold.
+    */
+   public ContactManifold3D evaluateContactManifold(Shape3DReadOnly shapeA, Shape3DReadOnly shapeB)
+   {
+      ContactManifold3D manifold = new ContactManifold3D();
+      evaluateContactManifold(shapeA, shapeB, manifold);
+      return manifold;
+   }
+
+   /**
+    * Evaluates the contact manifold between the two given shapes.
+    * <p>
+    * The manifold is empty when the shapes are separated by more than the contact margin.
+    * </p>
+    *
+    * @param shapeA         the first shape. Not modified.
+    * @param shapeB         the second shape. Not modified.
+    * @param manifoldToPack the manifold in which the result is stored. Modified.
+    * @return {@code true} if the shapes are colliding, {@code false} otherwise.
+    */
+   public boolean evaluateContactManifold(Shape3DReadOnly shapeA, Shape3DReadOnly shapeB, ContactManifold3D manifoldToPack)
+   {
+      manifoldToPack.clear();
+      manifoldToPack.setShapes(shapeA, shapeB);
+
+      detector.evaluateCollision(shapeA, shapeB, collisionResult);
+      double signedDistance = collisionResult.getSignedDistance();
+
+      if (!(signedDistance <= contactMargin))
+         return false;
+
+      Point3DReadOnly pointOnA = collisionResult.getPointOnA();
+      Point3DReadOnly pointOnB = collisionResult.getPointOnB();
+
+      // The contact normal points from B to A.
+      normal.sub(pointOnA, pointOnB);
+      double distance = normal.norm();
+
+      if (distance > 1.0e-10)
+      {
+         normal.scale((signedDistance < 0.0 ? -1.0 : 1.0) / distance);
+      }
+      else
+      { // The shapes are touching, using the surface normal of B instead.
+         shapeB.evaluatePoint3DCollision(pointOnB, tempPoint, normal);
+         normal.normalize();
+      }
+
+      ConvexPolytope3DReadOnly polytopeA = toConvexPolytope3D(shapeA);
+      ConvexPolytope3DReadOnly polytopeB = toConvexPolytope3D(shapeB);
+
+      if (polytopeA == null || polytopeB == null || polytopeA.getFaces().isEmpty() || polytopeB.getFaces().isEmpty() || normal.containsNaN())
+      {
+         manifoldToPack.getNormal().set(normal);
+         manifoldToPack.addContactPoint(pointOnA, pointOnB, signedDistance);
+         return collisionResult.areShapesColliding();
+      }
+
+      Face3DReadOnly faceA = findMostAlignedFace(polytopeA, normal, -1.0);
+      Face3DReadOnly faceB = findMostAlignedFace(polytopeB, normal, 1.0);
+      boolean isReferenceOnA = -faceA.getNormal().dot(normal) > faceB.getNormal().dot(normal) + referenceFaceTolerance;
+
+      Face3DReadOnly referenceFace = isReferenceOnA ? faceA : faceB;
+      Vector3DReadOnly referenceNormal = referenceFace.getNormal();
+      Face3DReadOnly incidentFace = findMostAlignedFace(isReferenceOnA ? polytopeB : polytopeA, referenceNormal, -1.0);
+
+      clipIncidentFace(referenceFace, incidentFace);
+
+      // Discarding the points that are above the reference face.
+      Point3DReadOnly referenceVertex = referenceFace.getVertex(0);
+      int numberOfCandidates = 0;
+
+      for (int i = 0; i < inputPolygon.size; i++)
+      {
+         tempVector.sub(inputPolygon.vertices[i], referenceVertex);
+         double separation = tempVector.dot(referenceNormal);
+
+         if (separation <= contactMargin)
+         {
+            inputPolygon.vertices[numberOfCandidates].set(inputPolygon.vertices[i]);
+            inputPolygon.separations[numberOfCandidates] = separation;
+            numberOfCandidates++;
+         }
+      }
+
+      if (numberOfCandidates == 0)
+      {
+         manifoldToPack.getNormal().set(normal);
+         manifoldToPack.addContactPoint(pointOnA, pointOnB, signedDistance);
+         return collisionResult.areShapesColliding();
+      }
+
+      int numberOfContactPoints = selectContactPoints(inputPolygon.vertices, inputPolygon.separations, numberOfCandidates, selectedIndices);
+
+      if (isReferenceOnA)
+         manifoldToPack.getNormal().setAndNegate(referenceNormal);
+      else
+         manifoldToPack.getNormal().set(referenceNormal);
+
+      for (int i = 0; i < numberOfContactPoints; i++)
+      {
+         Point3D incidentPoint = inputPolygon.vertices[selectedIndices[i]];
+         double separation = inputPolygon.separations[selectedIndices[i]];
+         pointOnReference.scaleAdd(-separation, referenceNormal, incidentPoint);
+
+         if (isReferenceOnA)
+            manifoldToPack.addContactPoint(pointOnReference, incidentPoint, separation);
+         else
+            manifoldToPack.addContactPoint(incidentPoint, pointOnReference, separation);
+      }
+
+      return manifoldToPack.getMinSignedDistance() < 0.0;
+   }
+
+   /**
+    * Gets the collision result from the last evaluation.
+    *
+    * @return the last collision result.
+    */
+   public EuclidShape3DCollisionResult getCollisionResult()
+   {
+      return collisionResult;
+   }
+
+   /**
+    * Clips the incident face against the side planes of the reference face, the result is stored in
+    * {@link #inputPolygon}.
+    */
+   private void clipIncidentFace(Face3DReadOnly referenceFace, Face3DReadOnly incidentFace)
+   {
+      List<? extends Vertex3DReadOnly> incidentVertices = incidentFace.getVertices();
+      inputPolygon.clear();
+      for (int i = 0; i < incidentVertices.size(); i++)
+         inputPolygon.add(incidentVertices.get(i));
+
+      Vector3DReadOnly referenceNormal = referenceFace.getNormal();
+      Point3DReadOnly referenceCentroid = referenceFace.getCentroid();
+      int numberOfEdges = referenceFace.getNumberOfEdges();
+
+      for (int edgeIndex = 0; edgeIndex < numberOfEdges && inputPolygon.size > 0; edgeIndex++)
+      {
+         Point3DReadOnly edgeStart = referenceFace.getVertex(edgeIndex);
+         Point3DReadOnly edgeEnd = referenceFace.getVertex((edgeIndex + 1) % numberOfEdges);
+         edge.sub(edgeEnd, edgeStart);
+         sideNormal.cross(edge, referenceNormal);
+         // Making the side normal point outside the reference face regardless of the winding.
+         tempVector.sub(referenceCentroid, edgeStart);
+         if (sideNormal.dot(tempVector) > 0.0)
+            sideNormal.negate();
+
+         outputPolygon.clear();
+
+         for (int i = 0; i < inputPolygon.size; i++)
+         {
+            Point3D current = inputPolygon.vertices[i];
+            Point3D next = inputPolygon.vertices[(i + 1) % inputPolygon.size];
+            tempVector.sub(current, edgeStart);
+            double currentDistance = tempVector.dot(sideNormal);
+            tempVector.sub(next, edgeStart);
+            double nextDistance = tempVector.dot(sideNormal);
+
+            if (currentDistance <= 0.0)
+               outputPolygon.add(current);
+
+            if ((currentDistance < 0.0 && nextDistance > 0.0) || (currentDistance > 0.0 && nextDistance < 0.0))
+            {
+               tempPoint.interpolate(current, next, currentDistance / (currentDistance - nextDistance));
+               outputPolygon.add(tempPoint);
+            }
+         }
+
+         Polygon swap = inputPolygon;
+         inputPolygon = outputPolygon;
+         outputPolygon = swap;
+      }
+   }
+
+   /**
+    * Selects up to {@value ContactManifold3D#MAX_NUMBER_OF_CONTACT_POINTS} points among the
+    * candidates: the deepest point, the point the farthest from it, and the points maximizing the
+    * area of the manifold.
+    */
+   private int selectContactPoints(Point3D[] candidates, double[] separations, int numberOfCandidates, int[] selectedIndicesToPack)
+   {
+      if (numberOfCandidates <= selectedIndicesToPack.length)
+      {
+         for (int i = 0; i < numberOfCandidates; i++)
+            selectedIndicesToPack[i] = i;
+         return numberOfCandidates;
+      }
+
+      int first = 0;
+      for (int i = 1; i < numberOfCandidates; i++)
+      {
+         if (separations[i] < separations[first])
+            first = i;
+      }
+
+      int second = -1;
+      double maxDistanceSquared = Double.NEGATIVE_INFINITY;
+      for (int i = 0; i < numberOfCandidates; i++)
+      {
+         double distanceSquared = candidates[i].distanceSquared(candidates[first]);
+         if (i != first && distanceSquared > maxDistanceSquared)
+         {
+            maxDistanceSquared = distanceSquared;
+            second = i;
+         }
+      }
+
+      int third = -1;
+      double maxArea = Double.NEGATIVE_INFINITY;
+      for (int i = 0; i < numberOfCandidates; i++)
+      {
+         if (i == first || i == second)
+            continue;
+         double area = triangleAreaTimesTwo(candidates[first], candidates[second], candidates[i]);
+         if (area > maxArea)
+         {
+            maxArea = area;
+            third = i;
+         }
+      }
+
+      int fourth = -1;
+      maxArea = Double.NEGATIVE_INFINITY;
+      for (int i = 0; i < numberOfCandidates; i++)
+      {
+         if (i == first || i == second || i == third)
+            continue;
+         // This sum is the largest for the point that is the farthest outside of the triangle.
+         double area = triangleAreaTimesTwo(candidates[first], candidates[second], candidates[i])
+               + triangleAreaTimesTwo(candidates[second], candidates[third], candidates[i])
+               + triangleAreaTimesTwo(candidates[third], candidates[first], candidates[i]);
+         if (area > maxArea)
+         {
+            maxArea = area;
+            fourth = i;
+         }
+      }
+
+      selectedIndicesToPack[0] = first;
+      selectedIndicesToPack[1] = second;
+      selectedIndicesToPack[2] = third;
+      selectedIndicesToPack[3] = fourth;
+      return 4;
+   }
+
+   private double triangleAreaTimesTwo(Point3DReadOnly a, Point3DReadOnly b, Point3DReadOnly c)
+   {
+      edge.sub(b, a);
+      tempVector.sub(c, a);
+      sideNormal.cross(edge, tempVector);
+      return sideNormal.norm();
+   }
+
+   private static Face3DReadOnly findMostAlignedFace(ConvexPolytope3DReadOnly polytope, Vector3DReadOnly direction, double sign)
+   {
+      List<? extends Face3DReadOnly> faces = polytope.getFaces();
+      Face3DReadOnly bestFace = faces.get(0);
+      double bestDot = sign * bestFace.getNormal().dot(direction);
+
+      for (int i = 1; i < faces.size(); i++)
+      {
+         Face3DReadOnly face = faces.get(i);
+         double dot = sign * face.getNormal().dot(direction);
+
+         if (dot > bestDot)
+         {
+            bestFace = face;
+            bestDot = dot;
+         }
+      }
+
+      return bestFace;
+   }
+
+   static ConvexPolytope3DReadOnly toConvexPolytope3D(Shape3DReadOnly shape)
+   {
+      if (shape instanceof ConvexPolytope3DReadOnly)
+         return (ConvexPolytope3DReadOnly) shape;
+      if (shape instanceof Box3DReadOnly)
+         return ((Box3DReadOnly) shape).asConvexPolytope();
+      if (shape instanceof Ramp3DReadOnly)
+         return ((Ramp3DReadOnly) shape).asConvexPolytope();
+      return null;
+   }
+
+   private static class Polygon
+   {
+      private Point3D[] vertices = new Point3D[0];
+      private double[] separations = new double[0];
+      private int size = 0;
+
+      private void clear()
+      {
+         size = 0;
+      }
+
+      private void add(Point3DReadOnly vertex)
+      {
+         if (size == vertices.length)
+         {
+            int newCapacity = Math.max(8, 2 * vertices.length);
+            Point3D[] newVertices = new Point3D[newCapacity];
+            System.arraycopy(vertices, 0, newVertices, 0, size);
+            for (int i = size; i < newCapacity; i++)
+               newVertices[i] = new Point3D();
+            vertices = newVertices;
+            separations = new double[newCapacity];
+         }
+
+         vertices[size++].set(vertex);
+      }
+   }
+}
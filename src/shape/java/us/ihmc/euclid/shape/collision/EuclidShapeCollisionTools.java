@@ -4,6 +4,7 @@ import us.ihmc.euclid.geometry.tools.EuclidGeometryTools;
 import us.ihmc.euclid.shape.collision.epa.ExpandingPolytopeAlgorithm;
 import us.ihmc.euclid.shape.collision.gjk.GilbertJohnsonKeerthiCollisionDetector;
 import us.ihmc.euclid.shape.collision.interfaces.EuclidShape3DCollisionResultBasics;
+import us.ihmc.euclid.shape.convexPolytope.interfaces.ConvexPolytope3DReadOnly;
 import us.ihmc.euclid.shape.primitives.interfaces.Box3DReadOnly;
 import us.ihmc.euclid.shape.primitives.interfaces.Capsule3DReadOnly;
 import us.ihmc.euclid.shape.primitives.interfaces.Cylinder3DReadOnly;
@@ -13,6 +14,7 @@ import us.ihmc.euclid.shape.primitives.interfaces.Ramp3DReadOnly;
 import us.ihmc.euclid.shape.primitives.interfaces.Sphere3DReadOnly;
 import us.ihmc.euclid.shape.primitives.interfaces.Torus3DReadOnly;
 import us.ihmc.euclid.shape.tools.EuclidShapeTools;
+import us.ihmc.euclid.tools.EuclidCoreTools;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
@@ -29,6 +31,11 @@ import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
  */
 public class EuclidShapeCollisionTools
 {
+   /** Conjugate of the golden ratio used for the golden-section searches. */
+   private static final double GOLDEN_RATIO_CONJUGATE = 0.5 * (Math.sqrt(5.0) - 1.0);
+   /** Tolerance on the position along the capsule's axis for the capsule-cylinder evaluation. */
+   private static final double CAPSULE_CYLINDER_TOLERANCE = 1.0e-12;
+
    private EuclidShapeCollisionTools()
    {
       // Suppresses default constructor, ensuring non-instantiability.
@@ -135,6 +142,324 @@ public class EuclidShapeCollisionTools
       resultToPack.setShapeB(shapeB);
    }
 
+   /**
+    * Evaluates the collision state between a capsule and a box.
+    * <p>
+    * When the capsule's axis does not intersect the box, the closest points between the axis and the
+    * box are computed by exactly minimizing the distance to the box along the axis, which is a convex
+    * piecewise quadratic function. Otherwise, the penetration is resolved with the separating axis
+    * theorem applied to the axis and the box, for which the 3 face normals of the box and the 3 cross
+    * products between the capsule's axis and the box's axes form the complete set of candidate axes.
+    * </p>
+    *
+    * @param shapeA       the capsule. Not modified.
+    * @param shapeB       the box. Not modified.
+    * @param resultToPack the object in which the collision result is stored. Modified.
+    */
+   public static void evaluateCapsule3DBox3DCollision(Capsule3DReadOnly shapeA, Box3DReadOnly shapeB, EuclidShape3DCollisionResultBasics resultToPack)
+   {
+      resultToPack.setToNaN();
+
+      // Expressing the capsule's axis in the box local frame, using the result as storage.
+      Point3DBasics pointOnA = resultToPack.getPointOnA();
+      Point3DBasics pointOnB = resultToPack.getPointOnB();
+      Vector3DBasics normalOnA = resultToPack.getNormalOnA();
+      Vector3DBasics normalOnB = resultToPack.getNormalOnB();
+      shapeB.getPose().inverseTransform(shapeA.getPosition(), pointOnA);
+      shapeB.getPose().inverseTransform(shapeA.getAxis(), normalOnA);
+
+      double halfLength = shapeA.getHalfLength();
+      double radius = shapeA.getRadius();
+      // The axis is parameterized as: p(t) = a + t * d, with t in [0, 1]
+      double ax = pointOnA.getX() - halfLength * normalOnA.getX();
+      double ay = pointOnA.getY() - halfLength * normalOnA.getY();
+      double az = pointOnA.getZ() - halfLength * normalOnA.getZ();
+      double dx = 2.0 * halfLength * normalOnA.getX();
+      double dy = 2.0 * halfLength * normalOnA.getY();
+      double dz = 2.0 * halfLength * normalOnA.getZ();
+      double hx = 0.5 * shapeB.getSizeX();
+      double hy = 0.5 * shapeB.getSizeY();
+      double hz = 0.5 * shapeB.getSizeZ();
+
+      double t = closestParameterOnLineSegment3DToBox3D(ax, ay, az, dx, dy, dz, hx, hy, hz);
+      double px = ax + t * dx;
+      double py = ay + t * dy;
+      double pz = az + t * dz;
+      double qx = EuclidCoreTools.clamp(px, hx);
+      double qy = EuclidCoreTools.clamp(py, hy);
+      double qz = EuclidCoreTools.clamp(pz, hz);
+      double distanceToAxis = EuclidCoreTools.norm(px - qx, py - qy, pz - qz);
+
+      if (distanceToAxis > 0.0)
+      { // The axis is outside the box, the closest points between the axis and the box define the collision.
+         normalOnB.set(px - qx, py - qy, pz - qz);
+         normalOnB.scale(1.0 / distanceToAxis);
+         pointOnB.set(qx, qy, qz);
+         pointOnA.set(px, py, pz);
+         pointOnA.scaleAdd(-radius, normalOnB, pointOnA);
+
+         double distance = distanceToAxis - radius;
+         resultToPack.setSignedDistance(distance);
+         resultToPack.setShapesAreColliding(distance < 0.0);
+      }
+      else
+      { // The axis intersects the box, looking for the axis of minimum penetration.
+         double minPenetration = Double.POSITIVE_INFINITY;
+         double nx = 0.0, ny = 0.0, nz = 0.0;
+
+         for (int i = 0; i < 6; i++)
+         {
+            double lx, ly, lz;
+
+            if (i < 3)
+            { // Face normals of the box.
+               lx = i == 0 ? 1.0 : 0.0;
+               ly = i == 1 ? 1.0 : 0.0;
+               lz = i == 2 ? 1.0 : 0.0;
+            }
+            else
+            { // Cross products between the axis and the box's axes.
+               lx = i == 3 ? 0.0 : i == 4 ? dz : -dy;
+               ly = i == 3 ? -dz : i == 4 ? 0.0 : dx;
+               lz = i == 3 ? dy : i == 4 ? -dx : 0.0;
+               double norm = EuclidCoreTools.norm(lx, ly, lz);
+               if (norm < 1.0e-12 * (1.0 + 2.0 * halfLength))
+                  continue; // The axis is parallel to this axis of the box.
+               lx /= norm;
+               ly /= norm;
+               lz /= norm;
+            }
+
+            double boxExtent = hx * Math.abs(lx) + hy * Math.abs(ly) + hz * Math.abs(lz);
+            double projectionStart = lx * ax + ly * ay + lz * az;
+            double projectionEnd = projectionStart + lx * dx + ly * dy + lz * dz;
+            // Penetrations when pushing the capsule's axis along +l and along -l respectively.
+            double positivePenetration = boxExtent - Math.min(projectionStart, projectionEnd);
+            double negativePenetration = boxExtent + Math.max(projectionStart, projectionEnd);
+
+            if (positivePenetration < minPenetration)
+            {
+               minPenetration = positivePenetration;
+               nx = lx;
+               ny = ly;
+               nz = lz;
+            }
+
+            if (negativePenetration < minPenetration)
+            {
+               minPenetration = negativePenetration;
+               nx = -lx;
+               ny = -ly;
+               nz = -lz;
+            }
+         }
+
+         normalOnB.set(nx, ny, nz);
+
+         // Once translated by the penetration along the normal, the axis touches the box at the contact point.
+         ax += minPenetration * nx;
+         ay += minPenetration * ny;
+         az += minPenetration * nz;
+         t = closestParameterOnLineSegment3DToBox3D(ax, ay, az, dx, dy, dz, hx, hy, hz);
+         pointOnB.set(EuclidCoreTools.clamp(ax + t * dx, hx), EuclidCoreTools.clamp(ay + t * dy, hy), EuclidCoreTools.clamp(az + t * dz, hz));
+         pointOnA.scaleAdd(-(minPenetration + radius), normalOnB, pointOnB);
+
+         resultToPack.setSignedDistance(-(minPenetration + radius));
+         resultToPack.setShapesAreColliding(true);
+      }
+
+      normalOnA.setAndNegate(normalOnB);
+      shapeB.transformToWorld(pointOnA);
+      shapeB.transformToWorld(pointOnB);
+      shapeB.transformToWorld(normalOnA);
+      shapeB.transformToWorld(normalOnB);
+      resultToPack.setShapeA(shapeA);
+      resultToPack.setShapeB(shapeB);
+   }
+
+   /**
+    * Computes the parameter {@code t} in [0, 1] of the point {@code a + t * d} on a line segment that
+    * is the closest to an axis-aligned box centered at the origin.
+    * <p>
+    * The squared distance to the box along the line segment is a convex piecewise quadratic function
+    * of {@code t} that is continuously differentiable. Its breakpoints are where the line segment
+    * crosses the planes of the box's faces. The minimum lies in the interval delimited by the last
+    * breakpoint with a non-positive derivative and the first breakpoint with a non-negative
+    * derivative, on which the function is a single quadratic.
+    * </p>
+    */
+   private static double closestParameterOnLineSegment3DToBox3D(double ax, double ay, double az, double dx, double dy, double dz, double hx, double hy,
+                                                                double hz)
+   {
+      double lower = 0.0;
+      double upper = 1.0;
+
+      for (int i = 0; i < 6; i++)
+      {
+         double a = i < 2 ? ax : i < 4 ? ay : az;
+         double d = i < 2 ? dx : i < 4 ? dy : dz;
+         double h = i < 2 ? hx : i < 4 ? hy : hz;
+
+         if (d == 0.0)
+            continue;
+
+         double breakpoint = ((i % 2 == 0 ? h : -h) - a) / d;
+
+         if (breakpoint <= lower || breakpoint >= upper)
+            continue;
+
+         double derivative = squaredDistanceToBox3DDerivative(breakpoint, ax, ay, az, dx, dy, dz, hx, hy, hz);
+
+         if (derivative <= 0.0)
+            lower = breakpoint;
+         if (derivative >= 0.0)
+            upper = breakpoint;
+      }
+
+      // On [lower, upper], the squared distance is: sum((k_i + t * d_i)^2) for each axis outside the box.
+      double middle = 0.5 * (lower + upper);
+      double numerator = 0.0;
+      double denominator = 0.0;
+
+      for (int i = 0; i < 3; i++)
+      {
+         double a = i == 0 ? ax : i == 1 ? ay : az;
+         double d = i == 0 ? dx : i == 1 ? dy : dz;
+         double h = i == 0 ? hx : i == 1 ? hy : hz;
+         double p = a + middle * d;
+
+         if (p > h)
+         {
+            numerator += (a - h) * d;
+            denominator += d * d;
+         }
+         else if (p < -h)
+         {
+            numerator += (a + h) * d;
+            denominator += d * d;
+         }
+      }
+
+      if (denominator == 0.0)
+         return middle;
+      else
+         return EuclidCoreTools.clamp(-numerator / denominator, lower, upper);
+   }
+
+   private static double squaredDistanceToBox3DDerivative(double t, double ax, double ay, double az, double dx, double dy, double dz, double hx, double hy,
+                                                          double hz)
+   {
+      double px = ax + t * dx;
+      double py = ay + t * dy;
+      double pz = az + t * dz;
+      return (px - EuclidCoreTools.clamp(px, hx)) * dx + (py - EuclidCoreTools.clamp(py, hy)) * dy + (pz - EuclidCoreTools.clamp(pz, hz)) * dz;
+   }
+
+   /**
+    * Evaluates the collision state between a capsule and a cylinder when the capsule's axis does not
+    * intersect the cylinder.
+    * <p>
+    * The signed distance to the cylinder being a convex function, its restriction to the capsule's
+    * axis is minimized with a golden-section search. When the minimum is positive, the closest point
+    * on the axis defines the exact collision between the capsule and the cylinder. When the axis
+    * intersects the cylinder, this method returns {@code false} and the result is set to
+    * {@link Double#NaN}, in which case a generic algorithm such as {@link ExpandingPolytopeAlgorithm}
+    * should be used.
+    * </p>
+    *
+    * @param shapeA       the capsule. Not modified.
+    * @param shapeB       the cylinder. Not modified.
+    * @param resultToPack the object in which the collision result is stored. Modified.
+    * @return {@code true} if the collision could be evaluated, {@code false} if the capsule's axis
+    *         intersects the cylinder.
+    */
+   public static boolean evaluateCapsule3DCylinder3DCollision(Capsule3DReadOnly shapeA,
+                                                              Cylinder3DReadOnly shapeB,
+                                                              EuclidShape3DCollisionResultBasics resultToPack)
+   {
+      resultToPack.setToNaN();
+      resultToPack.setShapeA(shapeA);
+      resultToPack.setShapeB(shapeB);
+
+      Point3DBasics query = resultToPack.getPointOnA();
+      double lower = -shapeA.getHalfLength();
+      double upper = shapeA.getHalfLength();
+      double tolerance = CAPSULE_CYLINDER_TOLERANCE * Math.max(1.0, upper - lower);
+
+      double x1 = upper - GOLDEN_RATIO_CONJUGATE * (upper - lower);
+      double x2 = lower + GOLDEN_RATIO_CONJUGATE * (upper - lower);
+      double f1 = signedDistanceToCylinder3D(x1, shapeA, shapeB, query);
+      double f2 = signedDistanceToCylinder3D(x2, shapeA, shapeB, query);
+
+      while (upper - lower > tolerance)
+      {
+         if (f1 < f2)
+         {
+            upper = x2;
+            x2 = x1;
+            f2 = f1;
+            x1 = upper - GOLDEN_RATIO_CONJUGATE * (upper - lower);
+            f1 = signedDistanceToCylinder3D(x1, shapeA, shapeB, query);
+         }
+         else
+         {
+            lower = x1;
+            x1 = x2;
+            f1 = f2;
+            x2 = lower + GOLDEN_RATIO_CONJUGATE * (upper - lower);
+            f2 = signedDistanceToCylinder3D(x2, shapeA, shapeB, query);
+         }
+      }
+
+      // The ends of the axis are not sampled by the search.
+      double t = 0.5 * (lower + upper);
+      double minDistance = signedDistanceToCylinder3D(t, shapeA, shapeB, query);
+      double bottomDistance = signedDistanceToCylinder3D(-shapeA.getHalfLength(), shapeA, shapeB, query);
+      if (bottomDistance < minDistance)
+      {
+         t = -shapeA.getHalfLength();
+         minDistance = bottomDistance;
+      }
+      double topDistance = signedDistanceToCylinder3D(shapeA.getHalfLength(), shapeA, shapeB, query);
+      if (topDistance < minDistance)
+      {
+         t = shapeA.getHalfLength();
+         minDistance = topDistance;
+      }
+
+      if (!(minDistance > 0.0))
+      {
+         resultToPack.setToNaN();
+         return false;
+      }
+
+      query.scaleAdd(t, shapeA.getAxis(), shapeA.getPosition());
+      double distanceToAxis = EuclidShapeTools.evaluatePoint3DCylinder3DCollision(query,
+                                                                                  shapeB.getPosition(),
+                                                                                  shapeB.getAxis(),
+                                                                                  shapeB.getLength(),
+                                                                                  shapeB.getRadius(),
+                                                                                  resultToPack.getPointOnB(),
+                                                                                  resultToPack.getNormalOnB());
+      resultToPack.getNormalOnA().setAndNegate(resultToPack.getNormalOnB());
+      resultToPack.getPointOnA().scaleAdd(shapeA.getRadius(), resultToPack.getNormalOnA(), query);
+
+      double distance = distanceToAxis - shapeA.getRadius();
+      resultToPack.setSignedDistance(distance);
+      resultToPack.setShapesAreColliding(distance < 0.0);
+      return true;
+   }
+
+   private static double signedDistanceToCylinder3D(double t, Capsule3DReadOnly capsule3D, Cylinder3DReadOnly cylinder3D, Point3DBasics query)
+   {
+      query.scaleAdd(t, capsule3D.getAxis(), capsule3D.getPosition());
+      return EuclidShapeTools.signedDistanceBetweenPoint3DAndCylinder3D(query,
+                                                                        cylinder3D.getPosition(),
+                                                                        cylinder3D.getAxis(),
+                                                                        cylinder3D.getLength(),
+                                                                        cylinder3D.getRadius());
+   }
+
    /**
     * Evaluates the collision state between a sphere and a capsule.
     *
@@ -475,4 +800,63 @@ public class EuclidShapeCollisionTools
       resultToPack.setShapesAreColliding(distance < 0.0);
       resultToPack.setSignedDistance(distance);
    }
+
+   /**
+    * Evaluates the collision state between a point shape and a convex polytope.
+    *
+    * @param shapeA       the point shape. Not modified.
+    * @param shapeB       the convex polytope. Not modified.
+    * @param resultToPack the object in which the collision result is stored. Modified.
+    */
+   public static void evaluatePointShape3DConvexPolytope3DCollision(PointShape3DReadOnly shapeA,
+                                                                    ConvexPolytope3DReadOnly shapeB,
+                                                                    EuclidShape3DCollisionResultBasics resultToPack)
+   {
+      evaluatePoint3DConvexPolytope3DCollision(shapeA, shapeB, resultToPack);
+      resultToPack.setShapeA(shapeA);
+      resultToPack.setShapeB(shapeB);
+   }
+
+   /**
+    * Evaluates the collision state between a sphere and a convex polytope.
+    *
+    * @param shapeA       the sphere. Not modified.
+    * @param shapeB       the convex polytope. Not modified.
+    * @param resultToPack the object in which the collision result is stored. Modified.
+    */
+   public static void evaluateSphere3DConvexPolytope3DCollision(Sphere3DReadOnly shapeA,
+                                                                ConvexPolytope3DReadOnly shapeB,
+                                                                EuclidShape3DCollisionResultBasics resultToPack)
+   {
+      evaluatePoint3DConvexPolytope3DCollision(shapeA.getPosition(), shapeB, resultToPack);
+      resultToPack.setShapeA(shapeA);
+      resultToPack.setShapeB(shapeB);
+
+      resultToPack.getPointOnA().scaleAdd(shapeA.getRadius(), resultToPack.getNormalOnA(), resultToPack.getPointOnA());
+
+      double distance = resultToPack.getSignedDistance() - shapeA.getRadius();
+      resultToPack.setShapesAreColliding(distance < 0.0);
+      resultToPack.setSignedDistance(distance);
+   }
+
+   private static void evaluatePoint3DConvexPolytope3DCollision(Point3DReadOnly point3D,
+                                                                ConvexPolytope3DReadOnly convexPolytope3D,
+                                                                EuclidShape3DCollisionResultBasics resultToPack)
+   {
+      resultToPack.setToNaN();
+
+      if (convexPolytope3D.isEmpty())
+         return;
+
+      boolean isInside = convexPolytope3D.evaluatePoint3DCollision(point3D, resultToPack.getPointOnB(), resultToPack.getNormalOnB());
+      double distance = point3D.distance(resultToPack.getPointOnB());
+      if (isInside)
+         distance = -distance;
+
+      resultToPack.getPointOnA().set(point3D);
+      resultToPack.getNormalOnA().setAndNegate(resultToPack.getNormalOnB());
+
+      resultToPack.setShapesAreColliding(distance < 0.0);
+      resultToPack.setSignedDistance(distance);
+   }
 }
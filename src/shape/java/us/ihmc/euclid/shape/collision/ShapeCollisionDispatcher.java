@@ -0,0 +1,347 @@
+package us.ihmc.euclid.shape.collision;
+
+import us.ihmc.euclid.shape.collision.epa.ExpandingPolytopeAlgorithm;
+import us.ihmc.euclid.shape.collision.interfaces.EuclidShape3DCollisionResultBasics;
+import us.ihmc.euclid.shape.convexPolytope.interfaces.ConvexPolytope3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Box3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Capsule3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Cylinder3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Ellipsoid3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.PointShape3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Ramp3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Sphere3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Torus3DReadOnly;
+
+/**
+ * Evaluates the collision state between two shapes by dispatching to the analytical routine
+ * available for their types, and falls back to {@link ExpandingPolytopeAlgorithm} otherwise.
+ * <p>
+ * The routines are stored in a table indexed by the {@link ShapeType} of each shape. By default,
+ * the table is filled with the routines provided in {@link EuclidShapeCollisionTools}, each routine
+ * being registered for both orders of the shapes. Additional routines can be registered with
+ * {@link #setCollisionFunction(ShapeType, ShapeType, CollisionFunction)}.
+ * </p>
+ * <p>
+ * Note that the fallback algorithm does not compute the surface normals and can only handle convex
+ * shapes.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ */
+public class ShapeCollisionDispatcher
+{
+   /**
+    * The shape types used to index the dispatch table.
+    */
+   public enum ShapeType
+   {
+      POINT, SPHERE, BOX, CAPSULE, CYLINDER, ELLIPSOID, RAMP, TORUS, CONVEX_POLYTOPE,
+      /** Any shape that is not one of the other types. */
+      OTHER;
+
+      private static final ShapeType[] values = values();
+
+      /**
+       * Gets the type of the given shape.
+       *
+       * @param shape the shape to get the type of. Not modified.
+       * @return the shape type.
+       */
+      public static ShapeType toShapeType(Shape3DReadOnly shape)
+      {
+         if (shape instanceof PointShape3DReadOnly)
+            return POINT;
+         if (shape instanceof Sphere3DReadOnly)
+            return SPHERE;
+         if (shape instanceof Box3DReadOnly)
+            return BOX;
+         if (shape instanceof Capsule3DReadOnly)
+            return CAPSULE;
+         if (shape instanceof Cylinder3DReadOnly)
+            return CYLINDER;
+         if (shape instanceof Ellipsoid3DReadOnly)
+            return ELLIPSOID;
+         if (shape instanceof Ramp3DReadOnly)
+            return RAMP;
+         if (shape instanceof Torus3DReadOnly)
+            return TORUS;
+         if (shape instanceof ConvexPolytope3DReadOnly)
+            return CONVEX_POLYTOPE;
+         return OTHER;
+      }
+   }
+
+   /**
+    * Routine evaluating the collision state between two shapes of given types.
+    */
+   public interface CollisionFunction
+   {
+      /**
+       * Evaluates the collision state between the two shapes.
+       * <p>
+       * A function may only handle part of the configurations of its shapes, in which case it returns
+       * {@code false} and the dispatcher falls back to the generic algorithm.
+       * </p>
+       *
+       * @param shapeA       the first shape. Not modified.
+       * @param shapeB       the second shape. Not modified.
+       * @param resultToPack the object in which the collision result is stored. Modified.
+       * @return {@code true} if the collision state was evaluated, {@code false} if the generic
+       *         algorithm should be used instead.
+       */
+      boolean evaluate(Shape3DReadOnly shapeA, Shape3DReadOnly shapeB, EuclidShape3DCollisionResultBasics resultToPack);
+   }
+
+   private final CollisionFunction[][] collisionFunctions = new CollisionFunction[ShapeType.values.length][ShapeType.values.length];
+   private final ExpandingPolytopeAlgorithm fallbackDetector = new ExpandingPolytopeAlgorithm();
+
+   private long numberOfAnalyticalEvaluations = 0;
+   private long numberOfFallbackEvaluations = 0;
+
+   /**
+    * Creates a new dispatcher with the analytical routines of {@link EuclidShapeCollisionTools}.
+    */
+   public ShapeCollisionDispatcher()
+   {
+      setCollisionFunction(ShapeType.POINT, ShapeType.POINT, (a, b, result) ->
+      {
+         EuclidShapeCollisionTools.evaluatePointShape3DPointShape3DCollision((PointShape3DReadOnly) a, (PointShape3DReadOnly) b, result);
+         return true;
+      });
+      setCollisionFunction(ShapeType.POINT, ShapeType.SPHERE, (a, b, result) ->
+      {
+         EuclidShapeCollisionTools.evaluatePointShape3DSphere3DCollision((PointShape3DReadOnly) a, (Sphere3DReadOnly) b, result);
+         return true;
+      });
+      setCollisionFunction(ShapeType.POINT, ShapeType.BOX, (a, b, result) ->
+      {
+         EuclidShapeCollisionTools.evaluatePointShape3DBox3DCollision((PointShape3DReadOnly) a, (Box3DReadOnly) b, result);
+         return true;
+      });
+      setCollisionFunction(ShapeType.POINT, ShapeType.CAPSULE, (a, b, result) ->
+      {
+         EuclidShapeCollisionTools.evaluatePointShape3DCapsule3DCollision((PointShape3DReadOnly) a, (Capsule3DReadOnly) b, result);
+         return true;
+      });
+      setCollisionFunction(ShapeType.POINT, ShapeType.CYLINDER, (a, b, result) ->
+      {
+         EuclidShapeCollisionTools.evaluatePointShape3DCylinder3DCollision((PointShape3DReadOnly) a, (Cylinder3DReadOnly) b, result);
+         return true;
+      });
+      setCollisionFunction(ShapeType.POINT, ShapeType.ELLIPSOID, (a, b, result) ->
+      {
+         EuclidShapeCollisionTools.evaluatePointShape3DEllipsoid3DCollision((PointShape3DReadOnly) a, (Ellipsoid3DReadOnly) b, result);
+         return true;
+      });
+      setCollisionFunction(ShapeType.POINT, ShapeType.RAMP, (a, b, result) ->
+      {
+         EuclidShapeCollisionTools.evaluatePointShape3DRamp3DCollision((PointShape3DReadOnly) a, (Ramp3DReadOnly) b, result);
+         return true;
+      });
+      setCollisionFunction(ShapeType.POINT, ShapeType.TORUS, (a, b, result) ->
+      {
+         EuclidShapeCollisionTools.evaluatePointShape3DTorus3DCollision((PointShape3DReadOnly) a, (Torus3DReadOnly) b, result);
+         return true;
+      });
+      setCollisionFunction(ShapeType.POINT, ShapeType.CONVEX_POLYTOPE, (a, b, result) ->
+      {
+         EuclidShapeCollisionTools.evaluatePointShape3DConvexPolytope3DCollision((PointShape3DReadOnly) a, (ConvexPolytope3DReadOnly) b, result);
+         return true;
+      });
+
+      setCollisionFunction(ShapeType.SPHERE, ShapeType.SPHERE, (a, b, result) ->
+      {
+         EuclidShapeCollisionTools.evaluateSphere3DSphere3DCollision((Sphere3DReadOnly) a, (Sphere3DReadOnly) b, result);
+         return true;
+      });
+      setCollisionFunction(ShapeType.SPHERE, ShapeType.BOX, (a, b, result) ->
+      {
+         EuclidShapeCollisionTools.evaluateSphere3DBox3DCollision((Sphere3DReadOnly) a, (Box3DReadOnly) b, result);
+         return true;
+      });
+      setCollisionFunction(ShapeType.SPHERE, ShapeType.CAPSULE, (a, b, result) ->
+      {
+         EuclidShapeCollisionTools.evaluateSphere3DCapsule3DCollision((Sphere3DReadOnly) a, (Capsule3DReadOnly) b, result);
+         return true;
+      });
+      setCollisionFunction(ShapeType.SPHERE, ShapeType.CYLINDER, (a, b, result) ->
+      {
+         EuclidShapeCollisionTools.evaluateSphere3DCylinder3DCollision((Sphere3DReadOnly) a, (Cylinder3DReadOnly) b, result);
+         return true;
+      });
+      setCollisionFunction(ShapeType.SPHERE, ShapeType.ELLIPSOID, (a, b, result) ->
+      {
+         EuclidShapeCollisionTools.evaluateSphere3DEllipsoid3DCollision((Sphere3DReadOnly) a, (Ellipsoid3DReadOnly) b, result);
+         return true;
+      });
+      setCollisionFunction(ShapeType.SPHERE, ShapeType.RAMP, (a, b, result) ->
+      {
+         EuclidShapeCollisionTools.evaluateSphere3DRamp3DCollision((Sphere3DReadOnly) a, (Ramp3DReadOnly) b, result);
+         return true;
+      });
+      setCollisionFunction(ShapeType.SPHERE, ShapeType.TORUS, (a, b, result) ->
+      {
+         EuclidShapeCollisionTools.evaluateSphere3DTorus3DCollision((Sphere3DReadOnly) a, (Torus3DReadOnly) b, result);
+         return true;
+      });
+      setCollisionFunction(ShapeType.SPHERE, ShapeType.CONVEX_POLYTOPE, (a, b, result) ->
+      {
+         EuclidShapeCollisionTools.evaluateSphere3DConvexPolytope3DCollision((Sphere3DReadOnly) a, (ConvexPolytope3DReadOnly) b, result);
+         return true;
+      });
+
+      setCollisionFunction(ShapeType.CAPSULE, ShapeType.CAPSULE, (a, b, result) ->
+      {
+         EuclidShapeCollisionTools.evaluateCapsule3DCapsule3DCollision((Capsule3DReadOnly) a, (Capsule3DReadOnly) b, result);
+         return true;
+      });
+      setCollisionFunction(ShapeType.CAPSULE, ShapeType.BOX, (a, b, result) ->
+      {
+         EuclidShapeCollisionTools.evaluateCapsule3DBox3DCollision((Capsule3DReadOnly) a, (Box3DReadOnly) b, result);
+         return true;
+      });
+      // Faster than the generic algorithm even counting the deep configurations it hands over to it, see ShapeCollisionDispatcherBenchmark.
+      setCollisionFunction(ShapeType.CAPSULE,
+                           ShapeType.CYLINDER,
+                           (a, b, result) -> EuclidShapeCollisionTools.evaluateCapsule3DCylinder3DCollision((Capsule3DReadOnly) a,
+                                                                                                            (Cylinder3DReadOnly) b,
+                                                                                                            result));
+   }
+
+   /**
+    * Registers the routine to use for the given pair of shape types.
+    * <p>
+    * The routine is also registered for the swapped pair of types, in which case the shapes are
+    * swapped before calling the routine and swapped back in the result.
+    * </p>
+    *
+    * @param shapeTypeA        the type of the first shape the function expects.
+    * @param shapeTypeB        the type of the second shape the function expects.
+    * @param collisionFunction the routine to register, {@code null} to use the generic algorithm for
+    *                          this pair of types.
+    */
+   public void setCollisionFunction(ShapeType shapeTypeA, ShapeType shapeTypeB, CollisionFunction collisionFunction)
+   {
+      collisionFunctions[shapeTypeA.ordinal()][shapeTypeB.ordinal()] = collisionFunction;
+
+      if (shapeTypeA == shapeTypeB)
+         return;
+
+      if (collisionFunction == null)
+      {
+         collisionFunctions[shapeTypeB.ordinal()][shapeTypeA.ordinal()] = null;
+      }
+      else
+      {
+         collisionFunctions[shapeTypeB.ordinal()][shapeTypeA.ordinal()] = (b, a, result) ->
+         {
+            if (!collisionFunction.evaluate(a, b, result))
+               return false;
+            result.swapShapes();
+            return true;
+         };
+      }
+   }
+
+   /**
+    * Gets the routine registered for the given pair of shape types.
+    *
+    * @param shapeTypeA the type of the first shape.
+    * @param shapeTypeB the type of the second shape.
+    * @return the routine or {@code null} if the generic algorithm is used for this pair of types.
+    */
+   public CollisionFunction getCollisionFunction(ShapeType shapeTypeA, ShapeType shapeTypeB)
+   {
+      return collisionFunctions[shapeTypeA.ordinal()][shapeTypeB.ordinal()];
+   }
+
+   /**
+    * Evaluates the collision state between the two shapes.
+    * <p>
+    * WARNING: This method generates garbage.
+    * </p>
+    *
+    * @param shapeA the first shape. Not modified.
+    * @param shapeB the second shape. Not modified.
+    * @return the collision result.
+    * @throws UnsupportedOperationException if no analytical routine handles the pair and at least one
+    *                                       of the shapes is not convex.
+    */
+   public EuclidShape3DCollisionResult evaluateCollision(Shape3DReadOnly shapeA, Shape3DReadOnly shapeB)
+   {
+      EuclidShape3DCollisionResult result = new EuclidShape3DCollisionResult();
+      evaluateCollision(shapeA, shapeB, result);
+      return result;
+   }
+
+   /**
+    * Evaluates the collision state between the two shapes.
+    *
+    * @param shapeA       the first shape. Not modified.
+    * @param shapeB       the second shape. Not modified.
+    * @param resultToPack the object in which the collision result is stored. Modified.
+    * @return whether the shapes are colliding.
+    * @throws UnsupportedOperationException if no analytical routine handles the pair and at least one
+    *                                       of the shapes is not convex.
+    */
+   public boolean evaluateCollision(Shape3DReadOnly shapeA, Shape3DReadOnly shapeB, EuclidShape3DCollisionResultBasics resultToPack)
+   {
+      CollisionFunction collisionFunction = collisionFunctions[ShapeType.toShapeType(shapeA).ordinal()][ShapeType.toShapeType(shapeB).ordinal()];
+
+      if (collisionFunction != null && collisionFunction.evaluate(shapeA, shapeB, resultToPack))
+      {
+         numberOfAnalyticalEvaluations++;
+         return resultToPack.areShapesColliding();
+      }
+
+      if (!shapeA.isConvex() || !shapeB.isConvex())
+         throw new UnsupportedOperationException("No analytical routine for the pair: " + shapeA.getClass().getSimpleName() + ", "
+               + shapeB.getClass().getSimpleName() + ", and the generic algorithm only supports convex shapes.");
+
+      numberOfFallbackEvaluations++;
+      return fallbackDetector.evaluateCollision(shapeA, shapeB, resultToPack);
+   }
+
+   /**
+    * Gets the number of evaluations performed by an analytical routine since the creation of this
+    * dispatcher or the last call to {@link #resetStatistics()}.
+    *
+    * @return the number of analytical evaluations.
+    */
+   public long getNumberOfAnalyticalEvaluations()
+   {
+      return numberOfAnalyticalEvaluations;
+   }
+
+   /**
+    * Gets the number of evaluations performed by the generic algorithm since the creation of this
+    * dispatcher or the last call to {@link #resetStatistics()}.
+    *
+    * @return the number of fallback evaluations.
+    */
+   public long getNumberOfFallbackEvaluations()
+   {
+      return numberOfFallbackEvaluations;
+   }
+
+   /**
+    * Resets the evaluation counters.
+    */
+   public void resetStatistics()
+   {
+      numberOfAnalyticalEvaluations = 0;
+      numberOfFallbackEvaluations = 0;
+   }
+
+   /**
+    * Gets the algorithm used when no analytical routine is available.
+    *
+    * @return the fallback detector.
+    */
+   public ExpandingPolytopeAlgorithm getFallbackDetector()
+   {
+      return fallbackDetector;
+   }
+}
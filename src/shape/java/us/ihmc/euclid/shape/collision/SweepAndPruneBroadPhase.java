@@ -0,0 +1,625 @@
+package us.ihmc.euclid.shape.collision;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import us.ihmc.euclid.Axis3D;
+import us.ihmc.euclid.geometry.BoundingBox3D;
+import us.ihmc.euclid.geometry.interfaces.BoundingBox3DReadOnly;
+import us.ihmc.euclid.shape.primitives.Box3D;
+import us.ihmc.euclid.shape.primitives.Ramp3D;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DChangeListener;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
+
+/**
+ * Broad-phase collision detection based on the sweep-and-prune algorithm.
+ * <p>
+ * This broad phase maintains the axis-aligned bounding boxes of a collection of shapes and quickly
+ * identifies the pairs of shapes whose bounding boxes overlap. These candidate pairs can then be
+ * passed on to a narrow-phase collision detector such as
+ * {@link us.ihmc.euclid.shape.collision.gjk.GilbertJohnsonKeerthiCollisionDetector} or
+ * {@link EuclidShapeCollisionTools}, avoiding to evaluate every possible pair of shapes.
+ * </p>
+ * <p>
+ * The bounds of the bounding boxes along the sweep axis, the axis on which the shapes are the most
+ * spread out, are stored in a sorted list. At each {@link #update()}, only the bounding boxes of the
+ * shapes that have changed are recomputed and the list is re-sorted with an insertion sort, which is
+ * close to linear when the shapes only move a little between updates. The candidate pairs are then
+ * collected by sweeping along the list, the bounding boxes overlapping along the sweep axis being
+ * tested on the other two axes.
+ * </p>
+ * <p>
+ * The sweep axis is only changed when the shapes become clearly more spread out along another axis,
+ * as the list then has to be fully sorted again. Removing a shape is done in constant time, its
+ * bounds are dropped from the list at the next update.
+ * </p>
+ * <p>
+ * A shape is considered to have changed when:
+ * <ul>
+ * <li>it notifies its {@link Shape3DChangeListener}. The broad phase registers itself to
+ * {@link Box3D} and {@link Ramp3D} when they are added, for any other shape the listener returned
+ * by {@link #add(Shape3DReadOnly)} can be registered to the shape or its pose by the user.
+ * <li>{@link #markDirty(Shape3DReadOnly)} or {@link #markAllDirty()} is called.
+ * </ul>
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ */
+public class SweepAndPruneBroadPhase
+{
+   /**
+    * Ratio by which the variance of the bounding box centers along another axis has to exceed the
+    * variance along the current sweep axis to change the sweep axis.
+    */
+   private static final double SWEEP_AXIS_CHANGE_RATIO = 1.5;
+
+   /** The proxies of the registered shapes. */
+   private final List<Proxy> proxies = new ArrayList<>();
+   /** Map from the shapes to their proxy. */
+   private final Map<Shape3DReadOnly, Proxy> shapeToProxyMap = new IdentityHashMap<>();
+   /** The list of bounds along the sweep axis, sorted at each update. */
+   private Endpoint[] endpoints = new Endpoint[16];
+   /** The number of endpoints in the list, including the endpoints of the shapes removed since the last update. */
+   private int numberOfEndpoints = 0;
+   /** The number of endpoints appended to the list since the last update. */
+   private int numberOfUnsortedEndpoints = 0;
+   /** The number of endpoints of the shapes removed since the last update. */
+   private int numberOfRemovedEndpoints = 0;
+
+   /** The proxies currently overlapping the sweep line. */
+   private Proxy[] activeProxies = new Proxy[16];
+   private int numberOfActiveProxies = 0;
+
+   /** The candidate pairs found during the last update. */
+   private Proxy[] candidatePairsA = new Proxy[16];
+   private Proxy[] candidatePairsB = new Proxy[16];
+   private int numberOfCandidatePairs = 0;
+   /** Whether shapes involved in candidate pairs have been removed since the last update. */
+   private boolean candidatePairsContainRemovedShapes = false;
+
+   /** Counter used to give each proxy a unique id, the id defines the order of the shapes in a pair. */
+   private long nextProxyId = 0;
+   /** The axis used for the last sweep. */
+   private Axis3D sweepAxis = Axis3D.X;
+
+   /**
+    * Creates a new empty broad phase.
+    */
+   public SweepAndPruneBroadPhase()
+   {
+   }
+
+   /**
+    * Adds a shape to this broad phase.
+    * <p>
+    * If the shape is a {@link Box3D} or a {@link Ramp3D}, the broad phase registers itself as a
+    * listener of the shape to get notified when it changes. For any other shape, the returned
+    * listener has to be registered to the shape by the user, or the shape has to be marked as dirty
+    * with {@link #markDirty(Shape3DReadOnly)} whenever it changes.
+    * </p>
+    * <p>
+    * WARNING: This method generates garbage.
+    * </p>
+    *
+    * @param shape the shape to add. Not modified, reference saved.
+    * @return the listener to notify when the shape changes.
+    * @throws IllegalArgumentException if the shape has already been added.
+    */
+   public Shape3DChangeListener add(Shape3DReadOnly shape)
+   {
+      if (shapeToProxyMap.containsKey(shape))
+         throw new IllegalArgumentException("The shape has already been added to this broad phase: " + shape);
+
+      Proxy proxy = new Proxy(shape, nextProxyId++);
+      proxy.index = proxies.size();
+      proxies.add(proxy);
+      shapeToProxyMap.put(shape, proxy);
+
+      if (shape instanceof Box3D)
+         ((Box3D) shape).addChangeListener(proxy);
+      else if (shape instanceof Ramp3D)
+         ((Ramp3D) shape).addChangeListener(proxy);
+
+      if (numberOfEndpoints + 2 > endpoints.length)
+         endpoints = Arrays.copyOf(endpoints, Math.max(numberOfEndpoints + 2, 2 * endpoints.length));
+
+      // The endpoints are appended at the end of the list, they'll be sorted at the next update.
+      endpoints[numberOfEndpoints++] = proxy.minEndpoint;
+      endpoints[numberOfEndpoints++] = proxy.maxEndpoint;
+      numberOfUnsortedEndpoints += 2;
+      return proxy;
+   }
+
+   /**
+    * Removes a shape from this broad phase.
+    * <p>
+    * The candidate pairs involving the shape are no longer reported, its bounds are dropped from the
+    * sorted list at the next {@link #update()}.
+    * </p>
+    *
+    * @param shape the shape to remove. Not modified.
+    * @return {@code true} if the shape was in this broad phase, {@code false} otherwise.
+    */
+   public boolean remove(Shape3DReadOnly shape)
+   {
+      Proxy proxy = shapeToProxyMap.remove(shape);
+
+      if (proxy == null)
+         return false;
+
+      // Swap-remove using the index stored in the proxy.
+      Proxy last = proxies.remove(proxies.size() - 1);
+      if (last != proxy)
+      {
+         proxies.set(proxy.index, last);
+         last.index = proxy.index;
+      }
+      proxy.index = -1;
+      proxy.removed = true;
+
+      if (shape instanceof Box3D)
+         ((Box3D) shape).removeChangeListener(proxy);
+      else if (shape instanceof Ramp3D)
+         ((Ramp3D) shape).removeChangeListener(proxy);
+
+      numberOfRemovedEndpoints += 2;
+      if (numberOfCandidatePairs > 0)
+         candidatePairsContainRemovedShapes = true;
+      return true;
+   }
+
+   /**
+    * Drops the endpoints of the removed shapes from the list, preserving the order of the others.
+    */
+   private void removeDeadEndpoints()
+   {
+      if (numberOfRemovedEndpoints == 0)
+         return;
+
+      int newIndex = 0;
+
+      for (int i = 0; i < numberOfEndpoints; i++)
+      {
+         if (!endpoints[i].proxy.removed)
+            endpoints[newIndex++] = endpoints[i];
+      }
+
+      for (int i = newIndex; i < numberOfEndpoints; i++)
+         endpoints[i] = null;
+
+      numberOfEndpoints = newIndex;
+      numberOfRemovedEndpoints = 0;
+   }
+
+   /**
+    * Drops the candidate pairs involving removed shapes such that the candidate pairs remain valid
+    * until the next update.
+    */
+   private void removeDeadCandidatePairs()
+   {
+      if (!candidatePairsContainRemovedShapes)
+         return;
+
+      int newIndex = 0;
+
+      for (int i = 0; i < numberOfCandidatePairs; i++)
+      {
+         if (!candidatePairsA[i].removed && !candidatePairsB[i].removed)
+         {
+            candidatePairsA[newIndex] = candidatePairsA[i];
+            candidatePairsB[newIndex] = candidatePairsB[i];
+            newIndex++;
+         }
+      }
+
+      for (int i = newIndex; i < numberOfCandidatePairs; i++)
+      {
+         candidatePairsA[i] = null;
+         candidatePairsB[i] = null;
+      }
+
+      numberOfCandidatePairs = newIndex;
+      candidatePairsContainRemovedShapes = false;
+   }
+
+   /**
+    * Removes all the shapes from this broad phase.
+    */
+   public void clear()
+   {
+      while (!proxies.isEmpty())
+         remove(proxies.get(proxies.size() - 1).shape);
+   }
+
+   /**
+    * Tests whether the given shape has been added to this broad phase.
+    *
+    * @param shape the query. Not modified.
+    * @return {@code true} if the shape is in this broad phase, {@code false} otherwise.
+    */
+   public boolean contains(Shape3DReadOnly shape)
+   {
+      return shapeToProxyMap.containsKey(shape);
+   }
+
+   /**
+    * Flags the given shape as changed such that its bounding box is recomputed at the next
+    * {@link #update()}.
+    *
+    * @param shape the shape that has changed. Not modified.
+    * @throws IllegalArgumentException if the shape has not been added to this broad phase.
+    */
+   public void markDirty(Shape3DReadOnly shape)
+   {
+      Proxy proxy = shapeToProxyMap.get(shape);
+      if (proxy == null)
+         throw new IllegalArgumentException("The shape has not been added to this broad phase: " + shape);
+      proxy.dirty = true;
+   }
+
+   /**
+    * Flags all the shapes as changed such that all the bounding boxes are recomputed at the next
+    * {@link #update()}.
+    */
+   public void markAllDirty()
+   {
+      for (int i = 0; i < proxies.size(); i++)
+         proxies.get(i).dirty = true;
+   }
+
+   /**
+    * Updates the bounding boxes of the shapes that have changed since the last update, re-sorts the
+    * list of bounds along the sweep axis, and collects the new candidate pairs.
+    * <p>
+    * Once the internal buffers have grown to accommodate the scene, this method does not generate
+    * garbage given that the shapes' {@link Shape3DReadOnly#getBoundingBox(us.ihmc.euclid.geometry.interfaces.BoundingBox3DBasics)}
+    * does not either. The exceptions are the updates for which the sweep axis changes or for which
+    * most of the shapes have just been added, the list is then fully sorted with
+    * {@link Arrays#sort(Object[], int, int)}.
+    * </p>
+    *
+    * @return the number of candidate pairs.
+    */
+   public int update()
+   {
+      for (int i = 0; i < proxies.size(); i++)
+      {
+         Proxy proxy = proxies.get(i);
+
+         if (proxy.dirty)
+         {
+            proxy.dirty = false;
+            proxy.updateBoundingBox();
+         }
+      }
+
+      Axis3D newSweepAxis = computeSweepAxis();
+      boolean fullSortNeeded = newSweepAxis != sweepAxis || 2 * numberOfUnsortedEndpoints > numberOfEndpoints;
+      sweepAxis = newSweepAxis;
+
+      removeDeadEndpoints();
+
+      for (int i = 0; i < proxies.size(); i++)
+         proxies.get(i).updateEndpoints(sweepAxis);
+
+      if (fullSortNeeded)
+         Arrays.sort(endpoints, 0, numberOfEndpoints);
+      else
+         insertionSort(endpoints, numberOfEndpoints);
+      numberOfUnsortedEndpoints = 0;
+
+      sweep();
+
+      return numberOfCandidatePairs;
+   }
+
+   private static void insertionSort(Endpoint[] endpoints, int numberOfEndpoints)
+   {
+      for (int i = 1; i < numberOfEndpoints; i++)
+      {
+         Endpoint endpoint = endpoints[i];
+         int j = i - 1;
+
+         while (j >= 0 && endpoint.compareTo(endpoints[j]) < 0)
+         {
+            endpoints[j + 1] = endpoints[j];
+            j--;
+         }
+
+         endpoints[j + 1] = endpoint;
+      }
+   }
+
+   /**
+    * Selects the axis with the largest variance of the bounding box centers, such that the sweep
+    * visits as few overlapping intervals as possible. The current sweep axis is kept unless the
+    * variance along the new axis exceeds its variance by {@link #SWEEP_AXIS_CHANGE_RATIO}.
+    */
+   private Axis3D computeSweepAxis()
+   {
+      int numberOfShapes = proxies.size();
+
+      if (numberOfShapes < 2)
+         return sweepAxis;
+
+      double sumX = 0.0, sumY = 0.0, sumZ = 0.0;
+      double sumXSquared = 0.0, sumYSquared = 0.0, sumZSquared = 0.0;
+
+      for (int i = 0; i < numberOfShapes; i++)
+      {
+         BoundingBox3D boundingBox = proxies.get(i).boundingBox;
+         double centerX = 0.5 * (boundingBox.getMinX() + boundingBox.getMaxX());
+         double centerY = 0.5 * (boundingBox.getMinY() + boundingBox.getMaxY());
+         double centerZ = 0.5 * (boundingBox.getMinZ() + boundingBox.getMaxZ());
+         sumX += centerX;
+         sumY += centerY;
+         sumZ += centerZ;
+         sumXSquared += centerX * centerX;
+         sumYSquared += centerY * centerY;
+         sumZSquared += centerZ * centerZ;
+      }
+
+      double varianceX = sumXSquared - sumX * sumX / numberOfShapes;
+      double varianceY = sumYSquared - sumY * sumY / numberOfShapes;
+      double varianceZ = sumZSquared - sumZ * sumZ / numberOfShapes;
+
+      Axis3D largestVarianceAxis;
+      double largestVariance;
+
+      if (varianceX >= varianceY && varianceX >= varianceZ)
+      {
+         largestVarianceAxis = Axis3D.X;
+         largestVariance = varianceX;
+      }
+      else if (varianceY >= varianceZ)
+      {
+         largestVarianceAxis = Axis3D.Y;
+         largestVariance = varianceY;
+      }
+      else
+      {
+         largestVarianceAxis = Axis3D.Z;
+         largestVariance = varianceZ;
+      }
+
+      double sweepAxisVariance = sweepAxis == Axis3D.X ? varianceX : sweepAxis == Axis3D.Y ? varianceY : varianceZ;
+
+      if (largestVariance > SWEEP_AXIS_CHANGE_RATIO * sweepAxisVariance)
+         return largestVarianceAxis;
+      else
+         return sweepAxis;
+   }
+
+   private void sweep()
+   {
+      for (int i = 0; i < numberOfCandidatePairs; i++)
+      {
+         candidatePairsA[i] = null;
+         candidatePairsB[i] = null;
+      }
+
+      numberOfCandidatePairs = 0;
+      candidatePairsContainRemovedShapes = false;
+      numberOfActiveProxies = 0;
+
+      for (int i = 0; i < numberOfEndpoints; i++)
+      {
+         Endpoint endpoint = endpoints[i];
+         Proxy proxy = endpoint.proxy;
+
+         if (endpoint.isMin)
+         {
+            for (int j = 0; j < numberOfActiveProxies; j++)
+            {
+               Proxy other = activeProxies[j];
+
+               // Overlap along the sweep axis is guaranteed, the full test is cheap and handles the other 2 axes.
+               if (proxy.boundingBox.intersectsInclusive(other.boundingBox))
+               {
+                  if (proxy.id < other.id)
+                     addCandidatePair(proxy, other);
+                  else
+                     addCandidatePair(other, proxy);
+               }
+            }
+
+            if (numberOfActiveProxies == activeProxies.length)
+               activeProxies = grow(activeProxies);
+            proxy.activeIndex = numberOfActiveProxies;
+            activeProxies[numberOfActiveProxies++] = proxy;
+         }
+         else
+         {
+            // Swap-remove from the active set.
+            numberOfActiveProxies--;
+            Proxy last = activeProxies[numberOfActiveProxies];
+            activeProxies[proxy.activeIndex] = last;
+            last.activeIndex = proxy.activeIndex;
+            activeProxies[numberOfActiveProxies] = null;
+            proxy.activeIndex = -1;
+         }
+      }
+   }
+
+   private void addCandidatePair(Proxy proxyA, Proxy proxyB)
+   {
+      if (numberOfCandidatePairs == candidatePairsA.length)
+      {
+         candidatePairsA = grow(candidatePairsA);
+         candidatePairsB = grow(candidatePairsB);
+      }
+
+      candidatePairsA[numberOfCandidatePairs] = proxyA;
+      candidatePairsB[numberOfCandidatePairs] = proxyB;
+      numberOfCandidatePairs++;
+   }
+
+   private static Proxy[] grow(Proxy[] array)
+   {
+      Proxy[] newArray = new Proxy[2 * array.length];
+      System.arraycopy(array, 0, newArray, 0, array.length);
+      return newArray;
+   }
+
+   /**
+    * Calls the given consumer for each candidate pair found during the last {@link #update()}.
+    * <p>
+    * For each pair, the first shape is the one that was added first to this broad phase.
+    * </p>
+    *
+    * @param candidatePairConsumer the consumer to pass the candidate pairs to, typically a
+    *                              narrow-phase collision detector.
+    */
+   public void forEachCandidatePair(BiConsumer<? super Shape3DReadOnly, ? super Shape3DReadOnly> candidatePairConsumer)
+   {
+      removeDeadCandidatePairs();
+
+      for (int i = 0; i < numberOfCandidatePairs; i++)
+         candidatePairConsumer.accept(candidatePairsA[i].shape, candidatePairsB[i].shape);
+   }
+
+   /**
+    * Gets the number of candidate pairs found during the last {@link #update()}.
+    *
+    * @return the number of candidate pairs.
+    */
+   public int getNumberOfCandidatePairs()
+   {
+      removeDeadCandidatePairs();
+      return numberOfCandidatePairs;
+   }
+
+   /**
+    * Gets the first shape of the i<sup>th</sup> candidate pair.
+    *
+    * @param index the index of the pair.
+    * @return the first shape of the pair.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, getNumberOfCandidatePairs()[.
+    */
+   public Shape3DReadOnly getCandidatePairShapeA(int index)
+   {
+      checkCandidatePairIndex(index);
+      return candidatePairsA[index].shape;
+   }
+
+   /**
+    * Gets the second shape of the i<sup>th</sup> candidate pair.
+    *
+    * @param index the index of the pair.
+    * @return the second shape of the pair.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, getNumberOfCandidatePairs()[.
+    */
+   public Shape3DReadOnly getCandidatePairShapeB(int index)
+   {
+      checkCandidatePairIndex(index);
+      return candidatePairsB[index].shape;
+   }
+
+   private void checkCandidatePairIndex(int index)
+   {
+      removeDeadCandidatePairs();
+
+      if (index < 0 || index >= numberOfCandidatePairs)
+         throw new IndexOutOfBoundsException("Index: " + index + ", number of candidate pairs: " + numberOfCandidatePairs);
+   }
+
+   /**
+    * Gets the bounding box of the given shape as of the last {@link #update()}.
+    *
+    * @param shape the query. Not modified.
+    * @return the bounding box of the shape, or {@code null} if the shape is not in this broad phase.
+    */
+   public BoundingBox3DReadOnly getBoundingBox(Shape3DReadOnly shape)
+   {
+      Proxy proxy = shapeToProxyMap.get(shape);
+      return proxy == null ? null : proxy.boundingBox;
+   }
+
+   /**
+    * Gets the number of shapes in this broad phase.
+    *
+    * @return the number of shapes.
+    */
+   public int getNumberOfShapes()
+   {
+      return proxies.size();
+   }
+
+   /**
+    * Gets the axis along which the last sweep was performed.
+    *
+    * @return the sweep axis.
+    */
+   public Axis3D getSweepAxis()
+   {
+      return sweepAxis;
+   }
+
+   private static class Proxy implements Shape3DChangeListener
+   {
+      private final Shape3DReadOnly shape;
+      private final long id;
+      private final BoundingBox3D boundingBox = new BoundingBox3D();
+      private final Endpoint minEndpoint = new Endpoint(this, true);
+      private final Endpoint maxEndpoint = new Endpoint(this, false);
+      private boolean dirty = true;
+      private boolean removed = false;
+      /** The index of this proxy in {@link SweepAndPruneBroadPhase#proxies}. */
+      private int index = -1;
+      private int activeIndex = -1;
+
+      private Proxy(Shape3DReadOnly shape, long id)
+      {
+         this.shape = shape;
+         this.id = id;
+      }
+
+      private void updateBoundingBox()
+      {
+         shape.getBoundingBox(boundingBox);
+      }
+
+      private void updateEndpoints(Axis3D sweepAxis)
+      {
+         minEndpoint.value = boundingBox.getMinPoint().getElement(sweepAxis);
+         maxEndpoint.value = boundingBox.getMaxPoint().getElement(sweepAxis);
+      }
+
+      @Override
+      public void changed()
+      {
+         dirty = true;
+      }
+   }
+
+   private static class Endpoint implements Comparable<Endpoint>
+   {
+      private final Proxy proxy;
+      private final boolean isMin;
+      private double value = Double.NaN;
+
+      private Endpoint(Proxy proxy, boolean isMin)
+      {
+         this.proxy = proxy;
+         this.isMin = isMin;
+      }
+
+      @Override
+      public int compareTo(Endpoint other)
+      {
+         if (value < other.value)
+            return -1;
+         if (value > other.value)
+            return 1;
+         // When equal, the min bounds go first such that touching boxes are reported as candidates.
+         if (isMin != other.isMin)
+            return isMin ? -1 : 1;
+         return Long.compare(proxy.id, other.proxy.id);
+      }
+   }
+}
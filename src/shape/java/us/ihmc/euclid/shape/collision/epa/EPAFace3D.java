@@ -31,24 +31,31 @@ import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
 public class EPAFace3D implements Comparable<EPAFace3D>, Face3DReadOnly
 {
    /** The vertices composing this face. */
-   private final EPAVertex3D v0, v1, v2;
+   private EPAVertex3D v0, v1, v2;
    /** The edges composing this face. */
-   private final EPAHalfEdge3D e0, e1, e2;
-   /** Location of the point on this face that is the closest to the origin. */
-   private final Point3DReadOnly closestPointToOrigin;
+   private final EPAHalfEdge3D e0 = new EPAHalfEdge3D(), e1 = new EPAHalfEdge3D(), e2 = new EPAHalfEdge3D();
+   /**
+    * Location of the point on this face that is the closest to the origin, {@code null} when this
+    * face is affinely dependent.
+    */
+   private Point3DReadOnly closestPointToOrigin;
+   /** The storage for {@code closestPointToOrigin}. */
+   private final Point3D closestPointToOriginStorage = new Point3D();
    /**
     * The barycentric coordinates of {@code closestPointToOrigin}. See:
     * <a href="https://en.wikipedia.org/wiki/Barycentric_coordinate_system">link</a>.
     */
-   private final double lambda0, lambda1, lambda2;
+   private double lambda0, lambda1, lambda2;
+   /** Array used to compute the barycentric coordinates. */
+   private final double[] lambdas = new double[3];
    /** Whether this triangle face is affinely dependent. */
-   private final boolean isTriangleAffinelyDependent;
+   private boolean isTriangleAffinelyDependent;
    /** Whether the projection of the origin onto this face is located inside. */
-   private final boolean isClosestPointInternal;
+   private boolean isClosestPointInternal;
    /** The square of the distance between this simplex and the origin. */
-   private final double distanceFromOriginSquared;
+   private double distanceFromOriginSquared;
    /** This face normal. It points towards the outside of the polytope. */
-   private final Vector3D normal;
+   private final Vector3D normal = new Vector3D();
 
    /** Whether this face has been discarded and is no longer part of a polytope. */
    private boolean obsolete = false;
@@ -70,14 +77,23 @@ public class EPAFace3D implements Comparable<EPAFace3D>, Face3DReadOnly
     */
    public static EPAFace3D fromVertexAndTwinEdge(EPAVertex3D vertex, EPAHalfEdge3D twin, double epsilon)
    {
-      EPAVertex3D v0 = twin.getDestination();
-      EPAVertex3D v1 = twin.getOrigin();
-      EPAVertex3D v2 = vertex;
-      EPAFace3D face = new EPAFace3D(v0, v1, v2, epsilon);
-      face.e0.setTwin(twin);
+      EPAFace3D face = new EPAFace3D();
+      face.setFromVertexAndTwinEdge(vertex, twin, epsilon);
       return face;
    }
 
+   /**
+    * Creates a new face which is not attached to any vertex.
+    * <p>
+    * This constructor is meant to be used for preallocating faces that are to be recycled with
+    * {@link #set(EPAVertex3D, EPAVertex3D, EPAVertex3D, double)} or
+    * {@link #setFromVertexAndTwinEdge(EPAVertex3D, EPAHalfEdge3D, double)}.
+    * </p>
+    */
+   public EPAFace3D()
+   {
+   }
+
    /**
     * Creates a new face from 3 given vertices.
     * <p>
@@ -91,13 +107,49 @@ public class EPAFace3D implements Comparable<EPAFace3D>, Face3DReadOnly
     *                dependent or not.
     */
    public EPAFace3D(EPAVertex3D v0, EPAVertex3D v1, EPAVertex3D v2, double epsilon)
+   {
+      set(v0, v1, v2, epsilon);
+   }
+
+   /**
+    * Resets this face from one of its edge's twin and a vertex.
+    * <p>
+    * This face winding is determined to be consistent with the given {@code twin}, i.e. the face edge
+    * linked to it as twin is oriented in opposite direction.
+    * </p>
+    *
+    * @param vertex  one of the face vertex. Not modified, reference saved.
+    * @param twin    the twin of one of the face's edges. Not modified, reference saved.
+    * @param epsilon tolerance used notably for determining whether the triangle face is affinely
+    *                dependent or not.
+    */
+   public void setFromVertexAndTwinEdge(EPAVertex3D vertex, EPAHalfEdge3D twin, double epsilon)
+   {
+      set(twin.getDestination(), twin.getOrigin(), vertex, epsilon);
+      e0.setTwin(twin);
+   }
+
+   /**
+    * Resets this face from 3 given vertices.
+    * <p>
+    * The winding of the face is based on the ordering of the given vertices. This face is no longer
+    * marked as obsolete.
+    * </p>
+    *
+    * @param v0      the first vertex of the face. Not modified.
+    * @param v1      the second vertex of the face. Not modified.
+    * @param v2      the third vertex of the face. Not modified.
+    * @param epsilon tolerance used notably for determining whether the triangle face is affinely
+    *                dependent or not.
+    */
+   public void set(EPAVertex3D v0, EPAVertex3D v1, EPAVertex3D v2, double epsilon)
    {
       this.v0 = v0;
       this.v1 = v1;
       this.v2 = v2;
-      e0 = new EPAHalfEdge3D(v0, v1, this);
-      e1 = new EPAHalfEdge3D(v1, v2, this);
-      e2 = new EPAHalfEdge3D(v2, v0, this);
+      e0.set(v0, v1, this);
+      e1.set(v1, v2, this);
+      e2.set(v2, v0, this);
 
       e0.setNext(e1);
       e1.setNext(e2);
@@ -107,9 +159,11 @@ public class EPAFace3D implements Comparable<EPAFace3D>, Face3DReadOnly
       e1.setPrevious(e0);
       e2.setPrevious(e1);
 
-      normal = EuclidPolytopeTools.crossProductOfLineSegment3Ds(v1, v0, v1, v2);
+      obsolete = false;
+      distanceFromOrigin = Double.NaN;
+
+      EuclidPolytopeTools.crossProductOfLineSegment3Ds(v1, v0, v1, v2, normal);
 
-      double[] lambdas = new double[3];
       BarycentricCoordinatesOutput output = barycentricCoordinatesFrom2Simplex(v0, v1, v2, epsilon, lambdas);
       isTriangleAffinelyDependent = output == BarycentricCoordinatesOutput.AFFINELY_DEPENDENT;
 
@@ -121,11 +175,10 @@ public class EPAFace3D implements Comparable<EPAFace3D>, Face3DReadOnly
 
          isClosestPointInternal = output == BarycentricCoordinatesOutput.INSIDE;
 
-         Point3D point = new Point3D();
-         point.setAndScale(lambda0, v0);
-         point.scaleAdd(lambda1, v1, point);
-         point.scaleAdd(lambda2, v2, point);
-         closestPointToOrigin = point;
+         closestPointToOriginStorage.setAndScale(lambda0, v0);
+         closestPointToOriginStorage.scaleAdd(lambda1, v1, closestPointToOriginStorage);
+         closestPointToOriginStorage.scaleAdd(lambda2, v2, closestPointToOriginStorage);
+         closestPointToOrigin = closestPointToOriginStorage;
          distanceFromOriginSquared = closestPointToOrigin.distanceFromOriginSquared();
       }
       else
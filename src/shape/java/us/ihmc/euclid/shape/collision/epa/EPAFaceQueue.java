@@ -0,0 +1,160 @@
+package us.ihmc.euclid.shape.collision.epa;
+
+import java.util.Arrays;
+
+/**
+ * Priority queue of {@link EPAFace3D} ordered by their distance to the origin and used in the
+ * Expanding Polytope algorithm.
+ * <p>
+ * The queue is implemented as a binary min-heap stored in arrays. The distance squared of each face
+ * is stored next to it in the heap such that sifting through the heap does not require to access
+ * the faces. The arrays are only grown when the queue exceeds its current capacity, making this
+ * queue garbage free once it has been warmed up.
+ * </p>
+ *
+ * @see ExpandingPolytopeAlgorithm
+ */
+public class EPAFaceQueue
+{
+   /** The default initial capacity of the queue. */
+   public static final int DEFAULT_INITIAL_CAPACITY = 64;
+
+   /** The faces in the heap, the face with the smallest distance to the origin is at index 0. */
+   private EPAFace3D[] faces;
+   /** The distance squared to the origin of each face in the heap. */
+   private double[] keys;
+   /** The number of faces currently in the queue. */
+   private int size = 0;
+
+   /**
+    * Creates a new empty queue with the default initial capacity.
+    */
+   public EPAFaceQueue()
+   {
+      this(DEFAULT_INITIAL_CAPACITY);
+   }
+
+   /**
+    * Creates a new empty queue.
+    *
+    * @param initialCapacity the number of faces the queue can hold before having to grow.
+    */
+   public EPAFaceQueue(int initialCapacity)
+   {
+      faces = new EPAFace3D[Math.max(initialCapacity, 1)];
+      keys = new double[faces.length];
+   }
+
+   /**
+    * Removes all the faces from this queue.
+    */
+   public void clear()
+   {
+      Arrays.fill(faces, 0, size, null);
+      size = 0;
+   }
+
+   /**
+    * Adds a face to this queue using its distance squared to the origin as priority.
+    *
+    * @param face the face to add. Not modified, reference saved.
+    */
+   public void add(EPAFace3D face)
+   {
+      if (size == faces.length)
+      {
+         int newCapacity = 2 * faces.length;
+         faces = Arrays.copyOf(faces, newCapacity);
+         keys = Arrays.copyOf(keys, newCapacity);
+      }
+
+      double key = face.getDistanceSquaredToOrigin();
+      int index = size++;
+
+      // Sift up
+      while (index > 0)
+      {
+         int parent = (index - 1) >>> 1;
+         if (keys[parent] <= key)
+            break;
+         faces[index] = faces[parent];
+         keys[index] = keys[parent];
+         index = parent;
+      }
+
+      faces[index] = face;
+      keys[index] = key;
+   }
+
+   /**
+    * Retrieves and removes the face closest to the origin.
+    *
+    * @return the face closest to the origin, or {@code null} if this queue is empty.
+    */
+   public EPAFace3D poll()
+   {
+      if (size == 0)
+         return null;
+
+      EPAFace3D result = faces[0];
+      size--;
+      EPAFace3D lastFace = faces[size];
+      double lastKey = keys[size];
+      faces[size] = null;
+
+      if (size > 0)
+      {
+         int index = 0;
+         int half = size >>> 1;
+
+         // Sift down
+         while (index < half)
+         {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && keys[right] < keys[child])
+               child = right;
+            if (lastKey <= keys[child])
+               break;
+            faces[index] = faces[child];
+            keys[index] = keys[child];
+            index = child;
+         }
+
+         faces[index] = lastFace;
+         keys[index] = lastKey;
+      }
+
+      return result;
+   }
+
+   /**
+    * Retrieves without removing the face closest to the origin.
+    *
+    * @return the face closest to the origin, or {@code null} if this queue is empty.
+    */
+   public EPAFace3D peek()
+   {
+      return size == 0 ? null : faces[0];
+   }
+
+   /**
+    * Whether this queue is empty.
+    *
+    * @return {@code true} if there is no face in this queue, {@code false} otherwise.
+    */
+   public boolean isEmpty()
+   {
+      return size == 0;
+   }
+
+   /**
+    * Gets the number of faces in this queue.
+    *
+    * @return the size of this queue.
+    */
+   public int size()
+   {
+      return size;
+   }
+}
@@ -7,11 +7,10 @@ import static us.ihmc.euclid.shape.collision.gjk.GJKTools.zxTriangleAreaCalculat
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import us.ihmc.euclid.Axis3D;
-import us.ihmc.euclid.axisAngle.AxisAngle;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryTools;
-import us.ihmc.euclid.matrix.RotationMatrix;
 import us.ihmc.euclid.shape.collision.gjk.GJKTools.ProjectedTriangleSignedAreaCalculator;
 import us.ihmc.euclid.shape.collision.gjk.GJKVertex3D;
 import us.ihmc.euclid.shape.collision.interfaces.SupportingVertexHolder;
@@ -20,6 +19,7 @@ import us.ihmc.euclid.tools.EuclidCoreTools;
 import us.ihmc.euclid.tools.TupleTools;
 import us.ihmc.euclid.tuple3D.Vector3D;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
 
 /**
@@ -145,22 +145,24 @@ public class EPATools
       {
          double normSquared = Double.POSITIVE_INFINITY;
          boolean isAlmostInside = true;
+         // The first 2 elements of lambdasToPack are used to compute the candidates, the best candidate is stored in the following variables.
+         double bestLambda1 = 0.0, bestLambda2 = 0.0, bestLambda3 = 0.0;
 
          if (compareSigns(muMax, -C1))
          {
             if (Math.abs(C1) > epsilon)
                isAlmostInside = false;
 
-            double[] candidateOutput = barycentricCoordinatesFrom1Simplex(s2, s3);
-            double lambda2 = candidateOutput[0];
-            double lambda3 = candidateOutput[1];
+            barycentricCoordinatesFrom1Simplex(s2, s3, lambdasToPack);
+            double lambda2 = lambdasToPack[0];
+            double lambda3 = lambdasToPack[1];
             p0x = lambda2 * s2x + lambda3 * s3x;
             p0y = lambda2 * s2y + lambda3 * s3y;
             p0z = lambda2 * s2z + lambda3 * s3z;
             double candidateNormSquared = EuclidCoreTools.normSquared(p0x, p0y, p0z);
-            lambdasToPack[0] = 0.0;
-            lambdasToPack[1] = lambda2;
-            lambdasToPack[2] = lambda3;
+            bestLambda1 = 0.0;
+            bestLambda2 = lambda2;
+            bestLambda3 = lambda3;
             normSquared = candidateNormSquared;
          }
 
@@ -169,18 +171,18 @@ public class EPATools
             if (Math.abs(C2) > epsilon)
                isAlmostInside = false;
 
-            double[] candidateOutput = barycentricCoordinatesFrom1Simplex(s1, s3);
-            double lambda1 = candidateOutput[0];
-            double lambda3 = candidateOutput[1];
+            barycentricCoordinatesFrom1Simplex(s1, s3, lambdasToPack);
+            double lambda1 = lambdasToPack[0];
+            double lambda3 = lambdasToPack[1];
             p0x = lambda1 * s1x + lambda3 * s3x;
             p0y = lambda1 * s1y + lambda3 * s3y;
             p0z = lambda1 * s1z + lambda3 * s3z;
             double candidateNormSquared = EuclidCoreTools.normSquared(p0x, p0y, p0z);
             if (candidateNormSquared < normSquared)
             {
-               lambdasToPack[0] = lambda1;
-               lambdasToPack[1] = 0.0;
-               lambdasToPack[2] = lambda3;
+               bestLambda1 = lambda1;
+               bestLambda2 = 0.0;
+               bestLambda3 = lambda3;
                normSquared = candidateNormSquared;
             }
          }
@@ -190,22 +192,26 @@ public class EPATools
             if (Math.abs(C3) > epsilon)
                isAlmostInside = false;
 
-            double[] candidateOutput = barycentricCoordinatesFrom1Simplex(s1, s2);
-            double lambda1 = candidateOutput[0];
-            double lambda2 = candidateOutput[1];
+            barycentricCoordinatesFrom1Simplex(s1, s2, lambdasToPack);
+            double lambda1 = lambdasToPack[0];
+            double lambda2 = lambdasToPack[1];
             p0x = lambda1 * s1x + lambda2 * s2x;
             p0y = lambda1 * s1y + lambda2 * s2y;
             p0z = lambda1 * s1z + lambda2 * s2z;
             double candidateNormSquared = EuclidCoreTools.normSquared(p0x, p0y, p0z);
             if (candidateNormSquared < normSquared)
             {
-               lambdasToPack[0] = lambda1;
-               lambdasToPack[1] = lambda2;
-               lambdasToPack[2] = 0.0;
+               bestLambda1 = lambda1;
+               bestLambda2 = lambda2;
+               bestLambda3 = 0.0;
                normSquared = candidateNormSquared;
             }
          }
 
+         lambdasToPack[0] = bestLambda1;
+         lambdasToPack[1] = bestLambda2;
+         lambdasToPack[2] = bestLambda3;
+
          return isAlmostInside ? BarycentricCoordinatesOutput.INSIDE : BarycentricCoordinatesOutput.OUTSIDE;
       }
    }
@@ -218,6 +224,21 @@ public class EPATools
     * @return the barycentric coordinates.
     */
    public static double[] barycentricCoordinatesFrom1Simplex(Point3DReadOnly s1, Point3DReadOnly s2)
+   {
+      double[] lambdas = new double[2];
+      barycentricCoordinatesFrom1Simplex(s1, s2, lambdas);
+      return lambdas;
+   }
+
+   /**
+    * Computes the barycentric coordinates of the projection of the origin onto the line segment.
+    *
+    * @param s1            the first vertex of the line segment. Not modified.
+    * @param s2            the second vertex of the line segment. Not modified.
+    * @param lambdasToPack the array used to store the barycentric coordinates in its first 2
+    *                      elements. The array length should be greater or equal to 2. Modified.
+    */
+   public static void barycentricCoordinatesFrom1Simplex(Point3DReadOnly s1, Point3DReadOnly s2, double[] lambdasToPack)
    {
       double s1x = s1.getX(), s1y = s1.getY(), s1z = s1.getZ();
       double s2x = s2.getX(), s2y = s2.getY(), s2z = s2.getZ();
@@ -276,16 +297,19 @@ public class EPATools
 
          if (compareSigns(muMax, C2))
          { // The projection in between the edge endpoints. Computing the barycentric coordinates.
-            return new double[] {C1 / muMax, C2 / muMax};
+            lambdasToPack[0] = C1 / muMax;
+            lambdasToPack[1] = C2 / muMax;
          }
          else
          {
-            return new double[] {0.0, 1.0};
+            lambdasToPack[0] = 0.0;
+            lambdasToPack[1] = 1.0;
          }
       }
       else
       {
-         return new double[] {1.0, 0.0};
+         lambdasToPack[0] = 1.0;
+         lambdasToPack[1] = 0.0;
       }
    }
 
@@ -320,37 +344,81 @@ public class EPATools
                                                               double epsilon)
    {
       List<EPAFace3D> epaPolytope = new ArrayList<>();
+      if (newEPAPolytopeFromGJKSimplex(shapeA, shapeB, gjkVertices, epsilon, EPAVertex3D::new, EPAFace3D::new, new Vector3D(), epaPolytope))
+         return epaPolytope;
+      else
+         return null;
+   }
 
+   /**
+    * Given a simplex defined by {@code gjkVertices}, construct a polytope usable for the initial
+    * iteration of the expanding polytope algorithm.
+    * <p>
+    * This method is garbage free as long as the given suppliers are, the vertices and faces of the new
+    * polytope are obtained from {@code vertexSupplier} and {@code faceSupplier} respectively which
+    * allows to recycle them.
+    * </p>
+    * <p>
+    * In case the simplex provided is a point, or that the generated polytope has a triangle that is
+    * affinely dependent, this method fails and returns {@code false}.
+    * </p>
+    *
+    * @param shapeA                the shape in the collision evaluation used in case additional
+    *                              vertices need to be generated. Not modified.
+    * @param shapeB                the shape in the collision evaluation used in case additional
+    *                              vertices need to be generated. Not modified.
+    * @param gjkVertices           the simplex that is commonly the output of the
+    *                              Gilbert-Johnson-Keerthi algorithm. Not modified.
+    * @param epsilon               tolerance required when constructing faces and notably used to
+    *                              determine whether a triangle is affinely dependent or not.
+    * @param vertexSupplier        the supplier used to obtain the vertices to be set for the new
+    *                              polytope.
+    * @param faceSupplier          the supplier used to obtain the faces to be set for the new
+    *                              polytope.
+    * @param supportDirectionLocal local vector used for intermediate computation. Modified.
+    * @param epaPolytopeToPack     the list in which the faces of the new polytope are added. Modified.
+    * @return {@code true} if the polytope was successfully constructed, {@code false} otherwise.
+    */
+   public static boolean newEPAPolytopeFromGJKSimplex(SupportingVertexHolder shapeA,
+                                                      SupportingVertexHolder shapeB,
+                                                      GJKVertex3D[] gjkVertices,
+                                                      double epsilon,
+                                                      Supplier<EPAVertex3D> vertexSupplier,
+                                                      Supplier<EPAFace3D> faceSupplier,
+                                                      Vector3DBasics supportDirectionLocal,
+                                                      List<EPAFace3D> epaPolytopeToPack)
+   {
       if (gjkVertices == null)
       {
-         return null;
+         return false;
       }
       else if (gjkVertices.length == 4)
       {
-         EPAVertex3D y0 = new EPAVertex3D(gjkVertices[0]);
-         EPAVertex3D y1 = new EPAVertex3D(gjkVertices[1]);
-         EPAVertex3D y2 = new EPAVertex3D(gjkVertices[2]);
-         EPAVertex3D y3 = new EPAVertex3D(gjkVertices[3]);
+         EPAVertex3D y0 = newVertex(vertexSupplier, gjkVertices[0]);
+         EPAVertex3D y1 = newVertex(vertexSupplier, gjkVertices[1]);
+         EPAVertex3D y2 = newVertex(vertexSupplier, gjkVertices[2]);
+         EPAVertex3D y3 = newVertex(vertexSupplier, gjkVertices[3]);
 
          // Estimate the face's normal based on its vertices and knowing the expecting ordering based on the twin-edge: v1, v2, then v3.
-         Vector3D n = EuclidPolytopeTools.crossProductOfLineSegment3Ds(y0, y1, y1, y2);
+         Vector3DBasics n = supportDirectionLocal;
+         EuclidPolytopeTools.crossProductOfLineSegment3Ds(y0, y1, y1, y2, n);
          // As the vertices are clockwise ordered the cross-product of 2 successive edges should be negated to obtain the face's normal.
          n.negate();
 
          if (EuclidGeometryTools.isPoint3DAbovePlane3D(y3, y0, n))
          {
-            EPAFace3D f0 = new EPAFace3D(y3, y0, y1, epsilon);
+            EPAFace3D f0 = newFace(faceSupplier, y3, y0, y1, epsilon);
             if (f0.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f1 = new EPAFace3D(y3, y1, y2, epsilon);
+               return false;
+            EPAFace3D f1 = newFace(faceSupplier, y3, y1, y2, epsilon);
             if (f1.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f2 = new EPAFace3D(y3, y2, y0, epsilon);
+               return false;
+            EPAFace3D f2 = newFace(faceSupplier, y3, y2, y0, epsilon);
             if (f2.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f3 = new EPAFace3D(y0, y2, y1, epsilon);
+               return false;
+            EPAFace3D f3 = newFace(faceSupplier, y0, y2, y1, epsilon);
             if (f3.isTriangleAffinelyDependent())
-               return null;
+               return false;
 
             f0.getEdge1().setTwin(f3.getEdge2()); // e01 <-> e10
             f3.getEdge0().setTwin(f2.getEdge1()); // e02 <-> e20
@@ -360,25 +428,25 @@ public class EPATools
             f0.getEdge2().setTwin(f1.getEdge0()); // e13 <-> e31
             f1.getEdge2().setTwin(f2.getEdge0()); // e23 <-> e32
 
-            epaPolytope.add(f0);
-            epaPolytope.add(f1);
-            epaPolytope.add(f2);
-            epaPolytope.add(f3);
+            epaPolytopeToPack.add(f0);
+            epaPolytopeToPack.add(f1);
+            epaPolytopeToPack.add(f2);
+            epaPolytopeToPack.add(f3);
          }
          else
          {
-            EPAFace3D f0 = new EPAFace3D(y3, y1, y0, epsilon);
+            EPAFace3D f0 = newFace(faceSupplier, y3, y1, y0, epsilon);
             if (f0.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f1 = new EPAFace3D(y3, y2, y1, epsilon);
+               return false;
+            EPAFace3D f1 = newFace(faceSupplier, y3, y2, y1, epsilon);
             if (f1.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f2 = new EPAFace3D(y3, y0, y2, epsilon);
+               return false;
+            EPAFace3D f2 = newFace(faceSupplier, y3, y0, y2, epsilon);
             if (f2.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f3 = new EPAFace3D(y0, y1, y2, epsilon);
+               return false;
+            EPAFace3D f3 = newFace(faceSupplier, y0, y1, y2, epsilon);
             if (f3.isTriangleAffinelyDependent())
-               return null;
+               return false;
 
             f3.getEdge0().setTwin(f0.getEdge1()); // e01 <-> e10
             f2.getEdge1().setTwin(f3.getEdge2()); // e02 <-> e20
@@ -388,48 +456,44 @@ public class EPATools
             f1.getEdge2().setTwin(f0.getEdge0()); // e13 <-> e31
             f2.getEdge2().setTwin(f1.getEdge0()); // e23 <-> e32
 
-            epaPolytope.add(f0);
-            epaPolytope.add(f1);
-            epaPolytope.add(f2);
-            epaPolytope.add(f3);
+            epaPolytopeToPack.add(f0);
+            epaPolytopeToPack.add(f1);
+            epaPolytopeToPack.add(f2);
+            epaPolytopeToPack.add(f3);
          }
       }
       else if (gjkVertices.length == 3)
       {
-         EPAVertex3D y0 = new EPAVertex3D(gjkVertices[0]);
-         EPAVertex3D y1 = new EPAVertex3D(gjkVertices[1]);
-         EPAVertex3D y2 = new EPAVertex3D(gjkVertices[2]);
+         EPAVertex3D y0 = newVertex(vertexSupplier, gjkVertices[0]);
+         EPAVertex3D y1 = newVertex(vertexSupplier, gjkVertices[1]);
+         EPAVertex3D y2 = newVertex(vertexSupplier, gjkVertices[2]);
 
          // Estimate the face's normal based on its vertices and knowing the expecting ordering based on the twin-edge: v1, v2, then v3.
-         Vector3D n = EuclidPolytopeTools.crossProductOfLineSegment3Ds(y0, y1, y1, y2);
+         Vector3DBasics n = supportDirectionLocal;
+         EuclidPolytopeTools.crossProductOfLineSegment3Ds(y0, y1, y1, y2, n);
          // As the vertices are clockwise ordered the cross-product of 2 successive edges should be negated to obtain the face's normal.
          n.negate();
 
-         Point3DReadOnly vertexA, vertexB;
-         EPAVertex3D y3, y4;
-         vertexA = shapeA.getSupportingVertex(n);
-         n.negate();
-         vertexB = shapeB.getSupportingVertex(n);
-         y3 = new EPAVertex3D(vertexA, vertexB);
-         vertexA = shapeA.getSupportingVertex(n);
+         EPAVertex3D y3 = vertexSupplier.get();
+         y3.set(shapeA, shapeB, n);
          n.negate();
-         vertexB = shapeB.getSupportingVertex(n);
-         y4 = new EPAVertex3D(vertexA, vertexB);
+         EPAVertex3D y4 = vertexSupplier.get();
+         y4.set(shapeA, shapeB, n);
 
          if (EuclidPolytopeTools.tetrahedronContainsOrigin(y0, y1, y2, y3))
          {
-            EPAFace3D f0 = new EPAFace3D(y3, y0, y1, epsilon);
+            EPAFace3D f0 = newFace(faceSupplier, y3, y0, y1, epsilon);
             if (f0.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f1 = new EPAFace3D(y3, y1, y2, epsilon);
+               return false;
+            EPAFace3D f1 = newFace(faceSupplier, y3, y1, y2, epsilon);
             if (f1.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f2 = new EPAFace3D(y3, y2, y0, epsilon);
+               return false;
+            EPAFace3D f2 = newFace(faceSupplier, y3, y2, y0, epsilon);
             if (f2.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f3 = new EPAFace3D(y0, y2, y1, epsilon);
+               return false;
+            EPAFace3D f3 = newFace(faceSupplier, y0, y2, y1, epsilon);
             if (f3.isTriangleAffinelyDependent())
-               return null;
+               return false;
 
             f0.getEdge1().setTwin(f3.getEdge2()); // e01 <-> e10
             f3.getEdge0().setTwin(f2.getEdge1()); // e02 <-> e20
@@ -439,25 +503,25 @@ public class EPATools
             f0.getEdge2().setTwin(f1.getEdge0()); // e13 <-> e31
             f1.getEdge2().setTwin(f2.getEdge0()); // e23 <-> e32
 
-            epaPolytope.add(f0);
-            epaPolytope.add(f1);
-            epaPolytope.add(f2);
-            epaPolytope.add(f3);
+            epaPolytopeToPack.add(f0);
+            epaPolytopeToPack.add(f1);
+            epaPolytopeToPack.add(f2);
+            epaPolytopeToPack.add(f3);
          }
          else if (EuclidPolytopeTools.tetrahedronContainsOrigin(y0, y1, y2, y4))
          {
-            EPAFace3D f0 = new EPAFace3D(y4, y1, y0, epsilon);
+            EPAFace3D f0 = newFace(faceSupplier, y4, y1, y0, epsilon);
             if (f0.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f1 = new EPAFace3D(y4, y2, y1, epsilon);
+               return false;
+            EPAFace3D f1 = newFace(faceSupplier, y4, y2, y1, epsilon);
             if (f1.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f2 = new EPAFace3D(y4, y0, y2, epsilon);
+               return false;
+            EPAFace3D f2 = newFace(faceSupplier, y4, y0, y2, epsilon);
             if (f2.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f3 = new EPAFace3D(y0, y1, y2, epsilon);
+               return false;
+            EPAFace3D f3 = newFace(faceSupplier, y0, y1, y2, epsilon);
             if (f3.isTriangleAffinelyDependent())
-               return null;
+               return false;
 
             f3.getEdge0().setTwin(f0.getEdge1()); // e01 <-> e10
             f2.getEdge1().setTwin(f3.getEdge2()); // e02 <-> e20
@@ -467,31 +531,31 @@ public class EPATools
             f1.getEdge2().setTwin(f0.getEdge0()); // e14 <-> e41
             f2.getEdge2().setTwin(f1.getEdge0()); // e24 <-> e42
 
-            epaPolytope.add(f0);
-            epaPolytope.add(f1);
-            epaPolytope.add(f2);
-            epaPolytope.add(f3);
+            epaPolytopeToPack.add(f0);
+            epaPolytopeToPack.add(f1);
+            epaPolytopeToPack.add(f2);
+            epaPolytopeToPack.add(f3);
          }
          else
          {
-            EPAFace3D f0 = new EPAFace3D(y4, y1, y0, epsilon);
+            EPAFace3D f0 = newFace(faceSupplier, y4, y1, y0, epsilon);
             if (f0.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f1 = new EPAFace3D(y4, y2, y1, epsilon);
+               return false;
+            EPAFace3D f1 = newFace(faceSupplier, y4, y2, y1, epsilon);
             if (f1.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f2 = new EPAFace3D(y4, y0, y2, epsilon);
+               return false;
+            EPAFace3D f2 = newFace(faceSupplier, y4, y0, y2, epsilon);
             if (f2.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f3 = new EPAFace3D(y3, y0, y1, epsilon);
+               return false;
+            EPAFace3D f3 = newFace(faceSupplier, y3, y0, y1, epsilon);
             if (f3.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f4 = new EPAFace3D(y3, y1, y2, epsilon);
+               return false;
+            EPAFace3D f4 = newFace(faceSupplier, y3, y1, y2, epsilon);
             if (f4.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f5 = new EPAFace3D(y3, y2, y0, epsilon);
+               return false;
+            EPAFace3D f5 = newFace(faceSupplier, y3, y2, y0, epsilon);
             if (f5.isTriangleAffinelyDependent())
-               return null;
+               return false;
 
             f3.getEdge0().setTwin(f5.getEdge2()); // e30 <-> e03
             f4.getEdge0().setTwin(f3.getEdge2()); // e31 <-> e13
@@ -505,26 +569,27 @@ public class EPATools
             f2.getEdge1().setTwin(f5.getEdge1()); // e02 <-> e20
             f4.getEdge1().setTwin(f1.getEdge1()); // e12 <-> e21
 
-            epaPolytope.add(f0);
-            epaPolytope.add(f1);
-            epaPolytope.add(f2);
-            epaPolytope.add(f3);
-            epaPolytope.add(f4);
-            epaPolytope.add(f5);
+            epaPolytopeToPack.add(f0);
+            epaPolytopeToPack.add(f1);
+            epaPolytopeToPack.add(f2);
+            epaPolytopeToPack.add(f3);
+            epaPolytopeToPack.add(f4);
+            epaPolytopeToPack.add(f5);
          }
       }
       else if (gjkVertices.length == 2)
       {
-         EPAVertex3D y0 = new EPAVertex3D(gjkVertices[0]);
-         EPAVertex3D y1 = new EPAVertex3D(gjkVertices[1]);
+         EPAVertex3D y0 = newVertex(vertexSupplier, gjkVertices[0]);
+         EPAVertex3D y1 = newVertex(vertexSupplier, gjkVertices[1]);
 
-         Vector3D d = new Vector3D();
-         d.sub(y1, y0);
+         double dx = y1.getX() - y0.getX();
+         double dy = y1.getY() - y0.getY();
+         double dz = y1.getZ() - y0.getZ();
 
          Vector3DReadOnly axis = Axis3D.X;
-         double coord = Math.abs(d.getX());
-         double yAbs = Math.abs(d.getY());
-         double zAbs = Math.abs(d.getZ());
+         double coord = Math.abs(dx);
+         double yAbs = Math.abs(dy);
+         double zAbs = Math.abs(dz);
 
          if (yAbs > coord)
          {
@@ -536,44 +601,47 @@ public class EPATools
             axis = Axis3D.Z;
          }
 
-         Vector3D v1 = new Vector3D();
-         v1.cross(d, axis);
-         RotationMatrix r = new RotationMatrix(new AxisAngle(d, 2.0 / 3.0 * Math.PI));
-         Vector3D v2 = new Vector3D();
-         Vector3D v3 = new Vector3D();
-         r.transform(v1, v2);
-         r.transform(v2, v3);
-
-         Point3DReadOnly vertexA, vertexB;
-         EPAVertex3D y2, y3, y4;
-         vertexA = shapeA.getSupportingVertex(v1);
-         v1.negate();
-         vertexB = shapeB.getSupportingVertex(v1);
-         y2 = new EPAVertex3D(vertexA, vertexB);
-         vertexA = shapeA.getSupportingVertex(v2);
-         v2.negate();
-         vertexB = shapeB.getSupportingVertex(v2);
-         y3 = new EPAVertex3D(vertexA, vertexB);
-         vertexA = shapeA.getSupportingVertex(v3);
-         v3.negate();
-         vertexB = shapeB.getSupportingVertex(v3);
-         y4 = new EPAVertex3D(vertexA, vertexB);
+         // v1 = d x axis
+         double v1x = dy * axis.getZ() - dz * axis.getY();
+         double v1y = dz * axis.getX() - dx * axis.getZ();
+         double v1z = dx * axis.getY() - dy * axis.getX();
+         // v1 is orthogonal to d, rotating it around d by 2/3 pi and 4/3 pi only requires w = u x v1, where u is the unit-vector of d.
+         double dNorm = EuclidCoreTools.norm(dx, dy, dz);
+         double ux = dx / dNorm;
+         double uy = dy / dNorm;
+         double uz = dz / dNorm;
+         double wx = uy * v1z - uz * v1y;
+         double wy = uz * v1x - ux * v1z;
+         double wz = ux * v1y - uy * v1x;
+         double cos = -0.5; // = cos(2/3 pi) = cos(4/3 pi)
+         double sin = 0.5 * Math.sqrt(3.0); // = sin(2/3 pi) = -sin(4/3 pi)
+
+         Vector3DBasics supportDirection = supportDirectionLocal;
+         supportDirection.set(v1x, v1y, v1z);
+         EPAVertex3D y2 = vertexSupplier.get();
+         y2.set(shapeA, shapeB, supportDirection);
+         supportDirection.set(cos * v1x + sin * wx, cos * v1y + sin * wy, cos * v1z + sin * wz);
+         EPAVertex3D y3 = vertexSupplier.get();
+         y3.set(shapeA, shapeB, supportDirection);
+         supportDirection.set(cos * v1x - sin * wx, cos * v1y - sin * wy, cos * v1z - sin * wz);
+         EPAVertex3D y4 = vertexSupplier.get();
+         y4.set(shapeA, shapeB, supportDirection);
 
          if (EuclidPolytopeTools.tetrahedronContainsOrigin(y0, y2, y3, y4))
          {
             // Building the faces such that clockwise winding
-            EPAFace3D f0 = new EPAFace3D(y0, y2, y3, epsilon);
+            EPAFace3D f0 = newFace(faceSupplier, y0, y2, y3, epsilon);
             if (f0.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f1 = new EPAFace3D(y0, y3, y4, epsilon);
+               return false;
+            EPAFace3D f1 = newFace(faceSupplier, y0, y3, y4, epsilon);
             if (f1.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f2 = new EPAFace3D(y0, y4, y2, epsilon);
+               return false;
+            EPAFace3D f2 = newFace(faceSupplier, y0, y4, y2, epsilon);
             if (f2.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f3 = new EPAFace3D(y2, y4, y3, epsilon);
+               return false;
+            EPAFace3D f3 = newFace(faceSupplier, y2, y4, y3, epsilon);
             if (f3.isTriangleAffinelyDependent())
-               return null;
+               return false;
 
             f0.getEdge0().setTwin(f2.getEdge2()); // e02 <-> e20
             f1.getEdge0().setTwin(f0.getEdge2()); // e03 <-> e30
@@ -583,26 +651,26 @@ public class EPATools
             f3.getEdge0().setTwin(f2.getEdge1()); // e24 <-> e42
             f1.getEdge1().setTwin(f3.getEdge1()); // e34 <-> e43
 
-            epaPolytope.add(f0);
-            epaPolytope.add(f1);
-            epaPolytope.add(f2);
-            epaPolytope.add(f3);
+            epaPolytopeToPack.add(f0);
+            epaPolytopeToPack.add(f1);
+            epaPolytopeToPack.add(f2);
+            epaPolytopeToPack.add(f3);
          }
          else if (EuclidPolytopeTools.tetrahedronContainsOrigin(y1, y2, y3, y4))
          {
             // Building the faces such that clockwise winding
-            EPAFace3D f0 = new EPAFace3D(y1, y3, y2, epsilon);
+            EPAFace3D f0 = newFace(faceSupplier, y1, y3, y2, epsilon);
             if (f0.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f1 = new EPAFace3D(y1, y4, y3, epsilon);
+               return false;
+            EPAFace3D f1 = newFace(faceSupplier, y1, y4, y3, epsilon);
             if (f1.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f2 = new EPAFace3D(y1, y2, y4, epsilon);
+               return false;
+            EPAFace3D f2 = newFace(faceSupplier, y1, y2, y4, epsilon);
             if (f2.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f3 = new EPAFace3D(y2, y3, y4, epsilon);
+               return false;
+            EPAFace3D f3 = newFace(faceSupplier, y2, y3, y4, epsilon);
             if (f3.isTriangleAffinelyDependent())
-               return null;
+               return false;
 
             f2.getEdge0().setTwin(f0.getEdge2()); // e12 <-> e21
             f0.getEdge0().setTwin(f1.getEdge2()); // e13 <-> e31
@@ -612,31 +680,31 @@ public class EPATools
             f2.getEdge1().setTwin(f3.getEdge2()); // e24 <-> e42
             f3.getEdge1().setTwin(f1.getEdge1()); // e34 <-> e43
 
-            epaPolytope.add(f0);
-            epaPolytope.add(f1);
-            epaPolytope.add(f2);
-            epaPolytope.add(f3);
+            epaPolytopeToPack.add(f0);
+            epaPolytopeToPack.add(f1);
+            epaPolytopeToPack.add(f2);
+            epaPolytopeToPack.add(f3);
          }
          else
          {
-            EPAFace3D f0 = new EPAFace3D(y0, y2, y3, epsilon);
+            EPAFace3D f0 = newFace(faceSupplier, y0, y2, y3, epsilon);
             if (f0.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f1 = new EPAFace3D(y0, y3, y4, epsilon);
+               return false;
+            EPAFace3D f1 = newFace(faceSupplier, y0, y3, y4, epsilon);
             if (f1.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f2 = new EPAFace3D(y0, y4, y2, epsilon);
+               return false;
+            EPAFace3D f2 = newFace(faceSupplier, y0, y4, y2, epsilon);
             if (f2.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f3 = new EPAFace3D(y1, y3, y2, epsilon);
+               return false;
+            EPAFace3D f3 = newFace(faceSupplier, y1, y3, y2, epsilon);
             if (f3.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f4 = new EPAFace3D(y1, y4, y3, epsilon);
+               return false;
+            EPAFace3D f4 = newFace(faceSupplier, y1, y4, y3, epsilon);
             if (f4.isTriangleAffinelyDependent())
-               return null;
-            EPAFace3D f5 = new EPAFace3D(y1, y2, y4, epsilon);
+               return false;
+            EPAFace3D f5 = newFace(faceSupplier, y1, y2, y4, epsilon);
             if (f5.isTriangleAffinelyDependent())
-               return null;
+               return false;
 
             f0.getEdge0().setTwin(f2.getEdge2()); // e02 <-> e20
             f1.getEdge0().setTwin(f0.getEdge2()); // e03 <-> e30
@@ -654,21 +722,36 @@ public class EPATools
             f5.getEdge1().setTwin(f2.getEdge1()); // e24 <-> e42
             f1.getEdge1().setTwin(f4.getEdge1()); // e34 <-> e43
 
-            epaPolytope.add(f0);
-            epaPolytope.add(f1);
-            epaPolytope.add(f2);
-            epaPolytope.add(f3);
-            epaPolytope.add(f4);
-            epaPolytope.add(f5);
+            epaPolytopeToPack.add(f0);
+            epaPolytopeToPack.add(f1);
+            epaPolytopeToPack.add(f2);
+            epaPolytopeToPack.add(f3);
+            epaPolytopeToPack.add(f4);
+            epaPolytopeToPack.add(f5);
          }
       }
       else if (gjkVertices.length == 1)
       {
          // Supposedly this case only occurs when 2 shapes are only touching with 0-depth.
-         return null;
+         return false;
       }
 
-      return epaPolytope;
+      return true;
+   }
+
+
+   private static EPAVertex3D newVertex(Supplier<EPAVertex3D> vertexSupplier, GJKVertex3D gjkVertex)
+   {
+      EPAVertex3D vertex = vertexSupplier.get();
+      vertex.set(gjkVertex);
+      return vertex;
+   }
+
+   private static EPAFace3D newFace(Supplier<EPAFace3D> faceSupplier, EPAVertex3D v0, EPAVertex3D v1, EPAVertex3D v2, double epsilon)
+   {
+      EPAFace3D face = faceSupplier.get();
+      face.set(v0, v1, v2, epsilon);
+      return face;
    }
 
    /**
@@ -6,10 +6,13 @@ import java.util.List;
 
 import us.ihmc.euclid.interfaces.EuclidGeometry;
 import us.ihmc.euclid.shape.collision.gjk.GJKVertex3D;
+import us.ihmc.euclid.shape.collision.interfaces.SupportingVertexHolder;
 import us.ihmc.euclid.shape.convexPolytope.interfaces.Vertex3DReadOnly;
 import us.ihmc.euclid.tools.EuclidCoreIOTools;
 import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.tuple3D.Point3D;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
 
 /**
  * Vertex 3D that belongs to a polytope used in the Expanding Polytope algorithm.
@@ -23,14 +26,30 @@ import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
 public class EPAVertex3D implements Vertex3DReadOnly
 {
    /** The coordinates of this vertex. */
-   private final double x, y, z;
+   private double x, y, z;
    /** The supporting vertex from the first shape. */
-   private final Point3DReadOnly vertexOnShapeA;
+   private final Point3D vertexOnShapeA = new Point3D();
    /** The supporting vertex from the second shape. */
-   private final Point3DReadOnly vertexOnShapeB;
+   private final Point3D vertexOnShapeB = new Point3D();
    /** List of edges that start at this vertex. */
    private final List<EPAHalfEdge3D> associatedEdges = new ArrayList<>();
 
+   /**
+    * Creates a new vertex which coordinates are initialized to {@link Double#NaN}.
+    * <p>
+    * This constructor is meant to be used for preallocating vertices that are to be recycled with
+    * {@link #set(Point3DReadOnly, Point3DReadOnly)}.
+    * </p>
+    */
+   public EPAVertex3D()
+   {
+      vertexOnShapeA.setToNaN();
+      vertexOnShapeB.setToNaN();
+      x = Double.NaN;
+      y = Double.NaN;
+      z = Double.NaN;
+   }
+
    /**
     * Creates a new vertex from a {@code GJKVertex3D} copying its coordinates the supporting vertex
     * from both shapes.
@@ -39,27 +58,84 @@ public class EPAVertex3D implements Vertex3DReadOnly
     */
    public EPAVertex3D(GJKVertex3D gjkVertex3D)
    {
-      vertexOnShapeA = gjkVertex3D.getVertexOnShapeA();
-      vertexOnShapeB = gjkVertex3D.getVertexOnShapeB();
-      x = gjkVertex3D.getX();
-      y = gjkVertex3D.getY();
-      z = gjkVertex3D.getZ();
+      set(gjkVertex3D);
    }
 
    /**
     * Creates a new vertex and initializes its coordinates as follows:<br>
     * {@code this = vertexOnShapeA - vertexOnShapeB}.
     *
-    * @param vertexOnShapeA the supporting vertex from the first shape. Not modified, reference saved.
-    * @param vertexOnShapeB the supporting vertex from the second shape. Not modified, reference saved.
+    * @param vertexOnShapeA the supporting vertex from the first shape. Not modified.
+    * @param vertexOnShapeB the supporting vertex from the second shape. Not modified.
     */
    public EPAVertex3D(Point3DReadOnly vertexOnShapeA, Point3DReadOnly vertexOnShapeB)
    {
-      this.vertexOnShapeA = vertexOnShapeA;
-      this.vertexOnShapeB = vertexOnShapeB;
+      set(vertexOnShapeA, vertexOnShapeB);
+   }
+
+   /**
+    * Sets this vertex from a {@code GJKVertex3D} copying its coordinates the supporting vertex from
+    * both shapes.
+    * <p>
+    * The supporting vertices are copied as the {@code GJKVertex3D} is recycled by the
+    * {@link us.ihmc.euclid.shape.collision.gjk.GilbertJohnsonKeerthiCollisionDetector}. The edges
+    * previously associated to this vertex are cleared.
+    * </p>
+    *
+    * @param gjkVertex3D the GJK vertex to copy. Not modified.
+    */
+   public void set(GJKVertex3D gjkVertex3D)
+   {
+      set(gjkVertex3D.getVertexOnShapeA(), gjkVertex3D.getVertexOnShapeB());
+   }
+
+   /**
+    * Sets the coordinates of this vertex as follows:<br>
+    * {@code this = vertexOnShapeA - vertexOnShapeB}.
+    * <p>
+    * The edges previously associated to this vertex are cleared.
+    * </p>
+    *
+    * @param vertexOnShapeA the supporting vertex from the first shape. Not modified.
+    * @param vertexOnShapeB the supporting vertex from the second shape. Not modified.
+    */
+   public void set(Point3DReadOnly vertexOnShapeA, Point3DReadOnly vertexOnShapeB)
+   {
+      this.vertexOnShapeA.set(vertexOnShapeA);
+      this.vertexOnShapeB.set(vertexOnShapeB);
+      update();
+   }
+
+   /**
+    * Computes the supporting vertex of each shape and sets this vertex as their difference.
+    * <p>
+    * The supporting vertex of {@code shapeA} is evaluated in the given direction, while the one of
+    * {@code shapeB} is evaluated in the opposite direction. The edges previously associated to this
+    * vertex are cleared.
+    * </p>
+    *
+    * @param shapeA           the first shape. Not modified.
+    * @param shapeB           the second shape. Not modified.
+    * @param supportDirection the direction to search for the supporting vertex of {@code shapeA}.
+    *                         Modified during the computation and restored before returning.
+    * @return {@code true} if both supporting vertices were found, {@code false} otherwise.
+    */
+   public boolean set(SupportingVertexHolder shapeA, SupportingVertexHolder shapeB, Vector3DBasics supportDirection)
+   {
+      boolean success = shapeA.getSupportingVertex(supportDirection, vertexOnShapeA);
+      supportDirection.negate();
+      success &= shapeB.getSupportingVertex(supportDirection, vertexOnShapeB);
+      supportDirection.negate();
+      update();
+      return success;
+   }
+
+   private void update()
+   {
       x = vertexOnShapeA.getX() - vertexOnShapeB.getX();
       y = vertexOnShapeA.getY() - vertexOnShapeB.getY();
       z = vertexOnShapeA.getZ() - vertexOnShapeB.getZ();
+      associatedEdges.clear();
    }
 
    /**
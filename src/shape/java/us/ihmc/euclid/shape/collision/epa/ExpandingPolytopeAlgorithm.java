@@ -1,8 +1,9 @@
 package us.ihmc.euclid.shape.collision.epa;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.PriorityQueue;
+import java.util.function.Supplier;
 
 import us.ihmc.euclid.shape.collision.EuclidShape3DCollisionResult;
 import us.ihmc.euclid.shape.collision.gjk.GJKVertex3D;
@@ -15,7 +16,6 @@ import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
 import us.ihmc.euclid.tools.EuclidCoreTools;
 import us.ihmc.euclid.tools.TupleTools;
 import us.ihmc.euclid.tuple3D.Vector3D;
-import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
 
 /**
  * Implementation of the Expanding Polytope algorithm used for collision detection.
@@ -31,6 +31,11 @@ import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
  * the endpoints of the collision and the distance separating them is the penetration depth between
  * the two shapes.
  * </p>
+ * <p>
+ * The vertices and faces of the polytope are recycled from one evaluation to the next, such that
+ * once warmed up, evaluating a collision with shapes that are themselves garbage free does not
+ * generate garbage.
+ * </p>
  *
  * @author Sylvain Bertrand
  */
@@ -61,11 +66,29 @@ public class ExpandingPolytopeAlgorithm
     */
    private EPAFace3D lastResult = null;
 
+   /** The queue of the faces of the polytope sorted by distance to the origin. */
+   private final EPAFaceQueue queue = new EPAFaceQueue();
+   /** Recycled list used to hold the faces of the initial polytope. */
+   private final List<EPAFace3D> initialPolytope = new ArrayList<>();
+   /** Recycled list used to hold the edges composing the silhouette at each iteration. */
+   private final List<EPAHalfEdge3D> silhouette = new ArrayList<>();
+   private final Vector3D supportDirection = new Vector3D();
+
+   /** Pool of vertices, the first {@code numberOfVertices} are used for the current evaluation. */
+   private EPAVertex3D[] vertexPool = new EPAVertex3D[0];
+   private int numberOfVertices = 0;
+   /** Pool of faces, the first {@code numberOfFaces} are used for the current evaluation. */
+   private EPAFace3D[] facePool = new EPAFace3D[0];
+   private int numberOfFaces = 0;
+   private final Supplier<EPAVertex3D> vertexSupplier = this::nextVertex;
+   private final Supplier<EPAFace3D> faceSupplier = this::nextFace;
+
    /**
     * Creates a new collision detector that can be used right away to evaluate collisions.
     */
    public ExpandingPolytopeAlgorithm()
    {
+      ensurePoolCapacity(32, 64);
    }
 
    /**
@@ -187,12 +210,22 @@ public class ExpandingPolytopeAlgorithm
                                     GJKVertex3D[] simplex,
                                     EuclidShape3DCollisionResultBasics resultToPack)
    {
-      PriorityQueue<EPAFace3D> queue = new PriorityQueue<>();
+      queue.clear();
+      initialPolytope.clear();
+      numberOfVertices = 0;
+      numberOfFaces = 0;
       double mu = Double.POSITIVE_INFINITY;
 
-      List<EPAFace3D> initialPolytope = EPATools.newEPAPolytopeFromGJKSimplex(shapeA, shapeB, simplex, epsilon);
+      boolean isInitialPolytopeValid = EPATools.newEPAPolytopeFromGJKSimplex(shapeA,
+                                                                             shapeB,
+                                                                             simplex,
+                                                                             epsilon,
+                                                                             vertexSupplier,
+                                                                             faceSupplier,
+                                                                             supportDirection,
+                                                                             initialPolytope);
 
-      if (initialPolytope == null)
+      if (!isInitialPolytopeValid)
       {
          lastResult = null;
          if (VERBOSE)
@@ -200,8 +233,8 @@ public class ExpandingPolytopeAlgorithm
       }
       else
       {
-         initialPolytope.forEach(queue::add);
-         Vector3D supportDirection = new Vector3D();
+         for (int i = 0; i < initialPolytope.size(); i++)
+            queue.add(initialPolytope.get(i));
          numberOfIterations = 0;
 
          while (numberOfIterations < maxIterations)
@@ -245,16 +278,12 @@ public class ExpandingPolytopeAlgorithm
             else if (supportDirection.getZ() == 0.0)
                supportDirection.setZ(SUPPORT_DIRECTION_ZERO_COMPONENT);
 
-            Point3DReadOnly vertexA = shapeA.getSupportingVertex(supportDirection);
-            supportDirection.negate();
-            Point3DReadOnly vertexB = shapeB.getSupportingVertex(supportDirection);
-
-            EPAVertex3D newVertex = new EPAVertex3D(vertexA, vertexB);
+            EPAVertex3D newVertex = nextVertex();
+            newVertex.set(shapeA, shapeB, supportDirection);
 
             if (entry.contains(newVertex))
             {
                boolean retry = false;
-               supportDirection.negate(); // Undoing the last negate.
 
                if (supportDirection.getX() == SUPPORT_DIRECTION_ZERO_COMPONENT)
                {
@@ -276,12 +305,7 @@ public class ExpandingPolytopeAlgorithm
 
                if (retry)
                {
-                  vertexA = shapeA.getSupportingVertex(supportDirection);
-                  supportDirection.negate();
-                  vertexB = shapeB.getSupportingVertex(supportDirection);
-
-                  newVertex = new EPAVertex3D(vertexA, vertexB);
-
+                  newVertex.set(shapeA, shapeB, supportDirection);
                   terminate = entry.contains(newVertex);
                }
                else
@@ -319,16 +343,17 @@ public class ExpandingPolytopeAlgorithm
             }
 
             entry.markObsolete();
-            List<EPAHalfEdge3D> silhouette = new ArrayList<>();
+            silhouette.clear();
             EPATools.silhouette(entry.getEdge0().getTwin(), newVertex, silhouette);
             EPATools.silhouette(entry.getEdge1().getTwin(), newVertex, silhouette);
             EPATools.silhouette(entry.getEdge2().getTwin(), newVertex, silhouette);
 
             boolean areNewTrianglesFine = true;
 
-            for (EPAHalfEdge3D sentryEdge : silhouette)
+            for (int i = 0; i < silhouette.size(); i++)
             {
-               EPAFace3D newEntry = EPAFace3D.fromVertexAndTwinEdge(newVertex, sentryEdge, epsilon);
+               EPAFace3D newEntry = nextFace();
+               newEntry.setFromVertexAndTwinEdge(newVertex, silhouette.get(i), epsilon);
 
                if (newEntry.isTriangleAffinelyDependent())
                {
@@ -373,9 +398,9 @@ public class ExpandingPolytopeAlgorithm
             if (terminate)
                break;
 
-            for (EPAHalfEdge3D sentryEdge : silhouette)
+            for (int i = 0; i < silhouette.size(); i++)
             {
-               EPAVertex3D vertexOnSilhouette = sentryEdge.getOrigin();
+               EPAVertex3D vertexOnSilhouette = silhouette.get(i).getOrigin();
 
                for (int index = vertexOnSilhouette.getNumberOfAssociatedEdges() - 1; index >= 0; index--)
                { // Remove obsolete edges to limit the growth of the internal list.
@@ -386,7 +411,7 @@ public class ExpandingPolytopeAlgorithm
          }
       }
 
-      if (initialPolytope == null)
+      if (!isInitialPolytopeValid)
       {
          resultToPack.setShapesAreColliding(false);
          resultToPack.setSignedDistance(0.0);
@@ -409,6 +434,39 @@ public class ExpandingPolytopeAlgorithm
       return resultToPack.areShapesColliding();
    }
 
+   private EPAVertex3D nextVertex()
+   {
+      if (numberOfVertices == vertexPool.length)
+         ensurePoolCapacity(2 * vertexPool.length, facePool.length);
+      return vertexPool[numberOfVertices++];
+   }
+
+   private EPAFace3D nextFace()
+   {
+      if (numberOfFaces == facePool.length)
+         ensurePoolCapacity(vertexPool.length, 2 * facePool.length);
+      return facePool[numberOfFaces++];
+   }
+
+   private void ensurePoolCapacity(int vertexCapacity, int faceCapacity)
+   {
+      if (vertexPool.length < vertexCapacity)
+      {
+         int previousLength = vertexPool.length;
+         vertexPool = Arrays.copyOf(vertexPool, vertexCapacity);
+         for (int i = previousLength; i < vertexCapacity; i++)
+            vertexPool[i] = new EPAVertex3D();
+      }
+
+      if (facePool.length < faceCapacity)
+      {
+         int previousLength = facePool.length;
+         facePool = Arrays.copyOf(facePool, faceCapacity);
+         for (int i = previousLength; i < faceCapacity; i++)
+            facePool[i] = new EPAFace3D();
+      }
+   }
+
    /**
     * Gets the internal GJK collision detector that is used when the initial simplex is not provided
     * for an evaluation.
@@ -465,6 +523,9 @@ public class ExpandingPolytopeAlgorithm
    /**
     * Gets the face that is the closest to the origin or at the origin resulting from the last
     * collision evaluation.
+    * <p>
+    * The returned face is recycled by this algorithm and is only valid until the next evaluation.
+    * </p>
     *
     * @return the last evaluation resulting face.
     */
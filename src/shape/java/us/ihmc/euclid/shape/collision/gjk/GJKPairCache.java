@@ -0,0 +1,351 @@
+package us.ihmc.euclid.shape.collision.gjk;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import us.ihmc.euclid.shape.collision.EuclidShape3DCollisionResult;
+import us.ihmc.euclid.shape.collision.interfaces.EuclidShape3DCollisionResultBasics;
+import us.ihmc.euclid.shape.collision.interfaces.SupportingVertexHolder;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
+import us.ihmc.euclid.tuple3D.Vector3D;
+
+/**
+ * Cache of the terminal simplex of the {@link GilbertJohnsonKeerthiCollisionDetector} for pairs of
+ * shapes, used to warm start the collision evaluation of temporally coherent scenes.
+ * <p>
+ * For each pair of shapes, the support directions that generated the vertices of the last terminal
+ * simplex are saved. At the next evaluation of the same pair, the simplex is recomputed from these
+ * directions and the detector resumes from it. When the shapes have only slightly moved in between,
+ * the detector typically terminates after one or two iterations.
+ * </p>
+ * <p>
+ * The pairs are identified by the identity of the two shapes and their order. A pair is added to the
+ * cache the first time it is evaluated, which is counted as a miss, any subsequent evaluation of the
+ * same pair is counted as a hit.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ */
+public class GJKPairCache
+{
+   /** The detector used to evaluate the collisions. */
+   private final GilbertJohnsonKeerthiCollisionDetector detector;
+   /** The cached entries indexed by shape A and then shape B. */
+   private final Map<Object, Map<Object, Entry>> entries = new IdentityHashMap<>();
+
+   /** The number of evaluations that could be warm started. */
+   private long numberOfHits = 0;
+   /** The number of evaluations that could not be warm started. */
+   private long numberOfMisses = 0;
+   /** The total number of iterations the detector performed, hits and misses included. */
+   private long totalNumberOfIterations = 0;
+   /** The total number of iterations the detector performed when warm started. */
+   private long totalNumberOfIterationsOnHits = 0;
+
+   /**
+    * Creates a new cache with its own collision detector.
+    */
+   public GJKPairCache()
+   {
+      this(new GilbertJohnsonKeerthiCollisionDetector());
+   }
+
+   /**
+    * Creates a new cache that uses the given collision detector.
+    *
+    * @param detector the detector to use for evaluating the collisions. Reference saved.
+    */
+   public GJKPairCache(GilbertJohnsonKeerthiCollisionDetector detector)
+   {
+      this.detector = detector;
+   }
+
+   /**
+    * Evaluates the collision state between the two given shapes, warm starting the detector with the
+    * simplex from the previous evaluation of the same pair if available.
+    * <p>
+    * WARNING: This method generates garbage.
+    * </p>
+    *
+    * @param shapeA the first shape to evaluate. Not modified.
+    * @param shapeB the second shape to evaluate. Not modified.
+    * @return the collision result.
+    */
+   public EuclidShape3DCollisionResult evaluateCollision(Shape3DReadOnly shapeA, Shape3DReadOnly shapeB)
+   {
+      EuclidShape3DCollisionResult result = new EuclidShape3DCollisionResult();
+      evaluateCollision(shapeA, shapeB, result);
+      return result;
+   }
+
+   /**
+    * Evaluates the collision state between the two given shapes, warm starting the detector with the
+    * simplex from the previous evaluation of the same pair if available.
+    *
+    * @param shapeA       the first shape to evaluate. Not modified.
+    * @param shapeB       the second shape to evaluate. Not modified.
+    * @param resultToPack the object in which the collision result is stored. Modified.
+    * @return {@code true} if the shapes are colliding, {@code false} otherwise.
+    * @see GilbertJohnsonKeerthiCollisionDetector#evaluateCollision(Shape3DReadOnly, Shape3DReadOnly,
+    *      EuclidShape3DCollisionResultBasics)
+    */
+   public boolean evaluateCollision(Shape3DReadOnly shapeA, Shape3DReadOnly shapeB, EuclidShape3DCollisionResultBasics resultToPack)
+   {
+      Entry entry = prepareDetector(shapeA, shapeB);
+      boolean areColliding = detector.evaluateCollision(shapeA, shapeB, resultToPack);
+      updateEntry(entry);
+      return areColliding;
+   }
+
+   /**
+    * Evaluates the collision state between the two given shapes, warm starting the detector with the
+    * simplex from the previous evaluation of the same pair if available.
+    * <p>
+    * WARNING: This method generates garbage.
+    * </p>
+    *
+    * @param shapeA the first shape to evaluate. Not modified.
+    * @param shapeB the second shape to evaluate. Not modified.
+    * @return the collision result.
+    */
+   public EuclidShape3DCollisionResult evaluateCollision(SupportingVertexHolder shapeA, SupportingVertexHolder shapeB)
+   {
+      EuclidShape3DCollisionResult result = new EuclidShape3DCollisionResult();
+      evaluateCollision(shapeA, shapeB, result);
+      return result;
+   }
+
+   /**
+    * Evaluates the collision state between the two given shapes, warm starting the detector with the
+    * simplex from the previous evaluation of the same pair if available.
+    * <p>
+    * Once the pair has been added to the cache, this method does not generate garbage given that the
+    * shapes do not either.
+    * </p>
+    *
+    * @param shapeA       the first shape to evaluate. Not modified.
+    * @param shapeB       the second shape to evaluate. Not modified.
+    * @param resultToPack the object in which the collision result is stored. Modified.
+    * @return {@code true} if the shapes are colliding, {@code false} otherwise.
+    * @see GilbertJohnsonKeerthiCollisionDetector#evaluateCollision(SupportingVertexHolder,
+    *      SupportingVertexHolder, EuclidShape3DCollisionResultBasics)
+    */
+   public boolean evaluateCollision(SupportingVertexHolder shapeA, SupportingVertexHolder shapeB, EuclidShape3DCollisionResultBasics resultToPack)
+   {
+      Entry entry = prepareDetector(shapeA, shapeB);
+      boolean areColliding = detector.evaluateCollision(shapeA, shapeB, resultToPack);
+      updateEntry(entry);
+      return areColliding;
+   }
+
+   private Entry prepareDetector(Object shapeA, Object shapeB)
+   {
+      Map<Object, Entry> entriesA = entries.get(shapeA);
+
+      if (entriesA == null)
+      {
+         entriesA = new IdentityHashMap<>();
+         entries.put(shapeA, entriesA);
+      }
+
+      Entry entry = entriesA.get(shapeB);
+
+      if (entry == null)
+      {
+         entry = new Entry();
+         entriesA.put(shapeB, entry);
+      }
+
+      if (entry.numberOfSupportDirections > 0)
+      {
+         numberOfHits++;
+         detector.setInitialSimplexSupportDirections(entry.supportDirections, entry.numberOfSupportDirections);
+         entry.isHit = true;
+      }
+      else
+      {
+         numberOfMisses++;
+         entry.isHit = false;
+      }
+
+      return entry;
+   }
+
+   private void updateEntry(Entry entry)
+   {
+      int numberOfIterations = detector.getNumberOfIterations();
+      totalNumberOfIterations += numberOfIterations;
+      if (entry.isHit)
+         totalNumberOfIterationsOnHits += numberOfIterations;
+
+      entry.numberOfSupportDirections = 0;
+      GJKSimplex3D simplex = detector.getSimplex();
+
+      if (simplex == null)
+         return;
+
+      GJKVertex3D[] vertices = simplex.getVertices();
+
+      for (int i = 0; i < vertices.length; i++)
+      {
+         if (vertices[i].getSupportDirection().containsNaN())
+            continue;
+         entry.supportDirections[entry.numberOfSupportDirections++].set(vertices[i].getSupportDirection());
+      }
+   }
+
+   /**
+    * Removes the cached simplex for the given pair of shapes.
+    *
+    * @param shapeA the first shape of the pair. Not modified.
+    * @param shapeB the second shape of the pair. Not modified.
+    * @return {@code true} if the pair was in the cache, {@code false} otherwise.
+    */
+   public boolean remove(Object shapeA, Object shapeB)
+   {
+      Map<Object, Entry> entriesA = entries.get(shapeA);
+      if (entriesA == null)
+         return false;
+      boolean removed = entriesA.remove(shapeB) != null;
+      if (entriesA.isEmpty())
+         entries.remove(shapeA);
+      return removed;
+   }
+
+   /**
+    * Removes all the cached simplices for the pairs involving the given shape.
+    *
+    * @param shape the shape to remove from the cache. Not modified.
+    */
+   public void remove(Object shape)
+   {
+      entries.remove(shape);
+
+      for (Map<Object, Entry> entriesA : entries.values())
+         entriesA.remove(shape);
+      entries.values().removeIf(Map::isEmpty);
+   }
+
+   /**
+    * Removes all the cached simplices.
+    * <p>
+    * The statistics are not affected, see {@link #resetStatistics()}.
+    * </p>
+    */
+   public void clear()
+   {
+      entries.clear();
+   }
+
+   /**
+    * Resets the hit, miss, and iteration counters.
+    */
+   public void resetStatistics()
+   {
+      numberOfHits = 0;
+      numberOfMisses = 0;
+      totalNumberOfIterations = 0;
+      totalNumberOfIterationsOnHits = 0;
+   }
+
+   /**
+    * Gets the internal detector used to evaluate the collisions.
+    *
+    * @return the collision detector.
+    */
+   public GilbertJohnsonKeerthiCollisionDetector getDetector()
+   {
+      return detector;
+   }
+
+   /**
+    * Gets the number of evaluations that were warm started with a cached simplex.
+    *
+    * @return the number of hits.
+    */
+   public long getNumberOfHits()
+   {
+      return numberOfHits;
+   }
+
+   /**
+    * Gets the number of evaluations that could not be warm started, either because the pair was
+    * evaluated for the first time or because the previous evaluation did not produce a simplex.
+    *
+    * @return the number of misses.
+    */
+   public long getNumberOfMisses()
+   {
+      return numberOfMisses;
+   }
+
+   /**
+    * Gets the ratio of evaluations that were warm started.
+    *
+    * @return the hit rate in [0, 1], {@link Double#NaN} if there was no evaluation.
+    */
+   public double getHitRate()
+   {
+      long numberOfEvaluations = numberOfHits + numberOfMisses;
+      return numberOfEvaluations == 0 ? Double.NaN : (double) numberOfHits / (double) numberOfEvaluations;
+   }
+
+   /**
+    * Gets the total number of iterations performed by the detector since the last reset of the
+    * statistics.
+    *
+    * @return the total number of iterations.
+    */
+   public long getTotalNumberOfIterations()
+   {
+      return totalNumberOfIterations;
+   }
+
+   /**
+    * Gets the average number of iterations per evaluation.
+    *
+    * @return the average number of iterations, {@link Double#NaN} if there was no evaluation.
+    */
+   public double getAverageNumberOfIterations()
+   {
+      long numberOfEvaluations = numberOfHits + numberOfMisses;
+      return numberOfEvaluations == 0 ? Double.NaN : (double) totalNumberOfIterations / (double) numberOfEvaluations;
+   }
+
+   /**
+    * Gets the average number of iterations per warm started evaluation.
+    *
+    * @return the average number of iterations on hits, {@link Double#NaN} if there was no hit.
+    */
+   public double getAverageNumberOfIterationsOnHits()
+   {
+      return numberOfHits == 0 ? Double.NaN : (double) totalNumberOfIterationsOnHits / (double) numberOfHits;
+   }
+
+   /**
+    * Gets the number of pairs currently in the cache.
+    *
+    * @return the number of cached pairs.
+    */
+   public int getNumberOfPairs()
+   {
+      int numberOfPairs = 0;
+      for (Map<Object, Entry> entriesA : entries.values())
+         numberOfPairs += entriesA.size();
+      return numberOfPairs;
+   }
+
+   private static class Entry
+   {
+      private final Vector3D[] supportDirections = new Vector3D[GJKSimplex3D.MAX_NUMBER_OF_VERTICES];
+      private int numberOfSupportDirections = 0;
+      private boolean isHit = false;
+
+      private Entry()
+      {
+         for (int i = 0; i < supportDirections.length; i++)
+            supportDirections[i] = new Vector3D();
+      }
+   }
+}
@@ -6,6 +6,7 @@ import us.ihmc.euclid.tools.TupleTools;
 import us.ihmc.euclid.tuple3D.Point3D;
 import us.ihmc.euclid.tuple3D.Vector3D;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
 
 /**
  * Simplex 3D used in the Gilbert-Johnson-Keerthi algorithm.
@@ -18,23 +19,35 @@ import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
  * <li>a tetrahedron, a.k.a 3-simplex.
  * </ul>
  * </p>
+ * <p>
+ * A simplex can be either created with its vertices or be created empty and then updated via the
+ * setters. The latter does not generate garbage and is the method used in
+ * {@link GilbertJohnsonKeerthiCollisionDetector}.
+ * </p>
  *
  * @author Sylvain Bertrand
  * @see GilbertJohnsonKeerthiCollisionDetector
  */
 public class GJKSimplex3D
 {
+   /** The maximum number of vertices a simplex can have, i.e. when it is a tetrahedron. */
+   public static final int MAX_NUMBER_OF_VERTICES = 4;
+
+   /** Preallocated arrays for storing the vertices indexed by the number of vertices. */
+   private final GJKVertex3D[][] verticesStorage = new GJKVertex3D[MAX_NUMBER_OF_VERTICES + 1][];
+   /** Preallocated arrays for storing the barycentric coordinates indexed by the number of vertices. */
+   private final double[][] barycentricCoordinatesStorage = new double[MAX_NUMBER_OF_VERTICES + 1][];
    /** The vertices composing this simplex. */
-   private final GJKVertex3D[] vertices;
+   private GJKVertex3D[] vertices;
    /**
     * The barycentric coordinates of {@code closestPointToOrigin}. See:
     * <a href="https://en.wikipedia.org/wiki/Barycentric_coordinate_system">link</a>.
     */
-   private final double[] barycentricCoordinates;
+   private double[] barycentricCoordinates;
    /** Location of the point on this simplex that is the closest to the origin. */
-   private final Point3D closestPointToOrigin;
+   private final Point3D closestPointToOrigin = new Point3D();
    /** The square of the distance between this simplex and the origin. */
-   private final double distanceFromOriginSquared;
+   private double distanceFromOriginSquared;
 
    /** The distance between this simplex and the origin, evaluated upon request only. */
    private double distanceFromOrigin = Double.NaN;
@@ -48,10 +61,12 @@ public class GJKSimplex3D
     */
    public GJKSimplex3D()
    {
-      vertices = new GJKVertex3D[0];
-      barycentricCoordinates = new double[0];
-      closestPointToOrigin = null;
-      distanceFromOriginSquared = Double.NaN;
+      for (int i = 0; i <= MAX_NUMBER_OF_VERTICES; i++)
+      {
+         verticesStorage[i] = new GJKVertex3D[i];
+         barycentricCoordinatesStorage[i] = new double[i];
+      }
+      clear();
    }
 
    /**
@@ -61,12 +76,8 @@ public class GJKSimplex3D
     */
    public GJKSimplex3D(GJKVertex3D vertex)
    {
-      vertices = new GJKVertex3D[1];
-      barycentricCoordinates = new double[1];
-      vertices[0] = vertex;
-      barycentricCoordinates[0] = 1.0;
-      closestPointToOrigin = new Point3D(vertex);
-      distanceFromOriginSquared = vertex.distanceFromOriginSquared();
+      this();
+      set(vertex);
    }
 
    /**
@@ -79,13 +90,141 @@ public class GJKSimplex3D
     */
    public GJKSimplex3D(GJKVertex3D[] vertices, double[] barycentricCoordinates)
    {
+      this();
       this.vertices = vertices;
       this.barycentricCoordinates = barycentricCoordinates;
+      update();
+   }
+
+   /**
+    * Clears this simplex such that it has no vertices.
+    */
+   public void clear()
+   {
+      vertices = verticesStorage[0];
+      barycentricCoordinates = barycentricCoordinatesStorage[0];
+      closestPointToOrigin.setToNaN();
+      distanceFromOriginSquared = Double.NaN;
+      distanceFromOrigin = Double.NaN;
+      maxDistanceSquaredFromOrigin = Double.NEGATIVE_INFINITY;
+   }
+
+   /**
+    * Sets this simplex to be a 0-simplex.
+    *
+    * @param vertex the vertex defining this simplex. Not modified, reference saved.
+    */
+   public void set(GJKVertex3D vertex)
+   {
+      vertices = verticesStorage[1];
+      barycentricCoordinates = barycentricCoordinatesStorage[1];
+      vertices[0] = vertex;
+      barycentricCoordinates[0] = 1.0;
+      update();
+   }
+
+   /**
+    * Sets this simplex to be a 1-simplex given its vertices and the barycentric coordinates of the
+    * closest point to the origin.
+    *
+    * @param s1      the first vertex. Not modified, reference saved.
+    * @param lambda1 the barycentric coordinate associated to {@code s1}.
+    * @param s2      the second vertex. Not modified, reference saved.
+    * @param lambda2 the barycentric coordinate associated to {@code s2}.
+    */
+   public void set(GJKVertex3D s1, double lambda1, GJKVertex3D s2, double lambda2)
+   {
+      vertices = verticesStorage[2];
+      barycentricCoordinates = barycentricCoordinatesStorage[2];
+      vertices[0] = s1;
+      vertices[1] = s2;
+      barycentricCoordinates[0] = lambda1;
+      barycentricCoordinates[1] = lambda2;
+      update();
+   }
+
+   /**
+    * Sets this simplex to be a 2-simplex given its vertices and the barycentric coordinates of the
+    * closest point to the origin.
+    *
+    * @param s1      the first vertex. Not modified, reference saved.
+    * @param lambda1 the barycentric coordinate associated to {@code s1}.
+    * @param s2      the second vertex. Not modified, reference saved.
+    * @param lambda2 the barycentric coordinate associated to {@code s2}.
+    * @param s3      the third vertex. Not modified, reference saved.
+    * @param lambda3 the barycentric coordinate associated to {@code s3}.
+    */
+   public void set(GJKVertex3D s1, double lambda1, GJKVertex3D s2, double lambda2, GJKVertex3D s3, double lambda3)
+   {
+      vertices = verticesStorage[3];
+      barycentricCoordinates = barycentricCoordinatesStorage[3];
+      vertices[0] = s1;
+      vertices[1] = s2;
+      vertices[2] = s3;
+      barycentricCoordinates[0] = lambda1;
+      barycentricCoordinates[1] = lambda2;
+      barycentricCoordinates[2] = lambda3;
+      update();
+   }
+
+   /**
+    * Sets this simplex to be a 3-simplex given its vertices and the barycentric coordinates of the
+    * closest point to the origin.
+    *
+    * @param s1      the first vertex. Not modified, reference saved.
+    * @param lambda1 the barycentric coordinate associated to {@code s1}.
+    * @param s2      the second vertex. Not modified, reference saved.
+    * @param lambda2 the barycentric coordinate associated to {@code s2}.
+    * @param s3      the third vertex. Not modified, reference saved.
+    * @param lambda3 the barycentric coordinate associated to {@code s3}.
+    * @param s4      the fourth vertex. Not modified, reference saved.
+    * @param lambda4 the barycentric coordinate associated to {@code s4}.
+    */
+   public void set(GJKVertex3D s1, double lambda1, GJKVertex3D s2, double lambda2, GJKVertex3D s3, double lambda3, GJKVertex3D s4, double lambda4)
+   {
+      vertices = verticesStorage[4];
+      barycentricCoordinates = barycentricCoordinatesStorage[4];
+      vertices[0] = s1;
+      vertices[1] = s2;
+      vertices[2] = s3;
+      vertices[3] = s4;
+      barycentricCoordinates[0] = lambda1;
+      barycentricCoordinates[1] = lambda2;
+      barycentricCoordinates[2] = lambda3;
+      barycentricCoordinates[3] = lambda4;
+      update();
+   }
 
-      closestPointToOrigin = new Point3D();
+   /**
+    * Sets this simplex to {@code other}.
+    *
+    * @param other the other simplex to copy. Not modified, vertex references saved.
+    */
+   public void set(GJKSimplex3D other)
+   {
+      int numberOfVertices = other.getNumberOfVertices();
+      vertices = verticesStorage[numberOfVertices];
+      barycentricCoordinates = barycentricCoordinatesStorage[numberOfVertices];
+      System.arraycopy(other.vertices, 0, vertices, 0, numberOfVertices);
+      System.arraycopy(other.barycentricCoordinates, 0, barycentricCoordinates, 0, numberOfVertices);
+      closestPointToOrigin.set(other.closestPointToOrigin);
+      distanceFromOriginSquared = other.distanceFromOriginSquared;
+      distanceFromOrigin = other.distanceFromOrigin;
+      maxDistanceSquaredFromOrigin = other.maxDistanceSquaredFromOrigin;
+   }
+
+   /**
+    * Updates the closest point to the origin and its distance from the current vertices and
+    * barycentric coordinates.
+    */
+   private void update()
+   {
+      closestPointToOrigin.setToZero();
       for (int i = 0; i < getNumberOfVertices(); i++)
          closestPointToOrigin.scaleAdd(barycentricCoordinates[i], vertices[i], closestPointToOrigin);
       distanceFromOriginSquared = closestPointToOrigin.distanceFromOriginSquared();
+      distanceFromOrigin = Double.NaN;
+      maxDistanceSquaredFromOrigin = Double.NEGATIVE_INFINITY;
    }
 
    /**
@@ -107,6 +246,9 @@ public class GJKSimplex3D
 
    /**
     * Gets the coordinates of the point on this simplex that is the closest to the origin.
+    * <p>
+    * The coordinates are set to {@link Double#NaN} when this simplex has no vertices.
+    * </p>
     *
     * @return the reference to the closest point to the origin.
     */
@@ -158,17 +300,36 @@ public class GJKSimplex3D
    /**
     * When this simplex is a triangle, its computes and returns its normal vector, returns {@code null}
     * if this simplex is not triangle.
+    * <p>
+    * WARNING: This method generates garbage.
+    * </p>
     *
     * @return the triangle normal if this is a 2-simplex, {@code null} otherwise.
     */
    public Vector3D getTriangleNormal()
    {
-      if (vertices.length != 3)
+      Vector3D n = new Vector3D();
+      if (getTriangleNormal(n))
+         return n;
+      else
          return null;
-      Vector3D n = EuclidPolytopeTools.crossProductOfLineSegment3Ds(vertices[0], vertices[1], vertices[0], vertices[2]);
-      if (TupleTools.dot(n, closestPointToOrigin) > 0.0)
-         n.negate();
-      return n;
+   }
+
+   /**
+    * When this simplex is a triangle, its computes its normal vector.
+    *
+    * @param normalToPack the vector used to store the triangle normal. Modified.
+    * @return {@code true} if this is a 2-simplex and the normal was computed, {@code false} otherwise
+    *         in which case {@code normalToPack} remains unchanged.
+    */
+   public boolean getTriangleNormal(Vector3DBasics normalToPack)
+   {
+      if (vertices.length != 3)
+         return false;
+      EuclidPolytopeTools.crossProductOfLineSegment3Ds(vertices[0], vertices[1], vertices[0], vertices[2], normalToPack);
+      if (TupleTools.dot(normalToPack, closestPointToOrigin) > 0.0)
+         normalToPack.negate();
+      return true;
    }
 
    /**
@@ -129,6 +129,46 @@ public class GJKTools
          return new GJKSimplex3D(newVertex);
    }
 
+   /**
+    * Finds the smallest simplex that belongs to the simplex defined by the given {@code oldSimplex}
+    * and {@code newVertex} and that is the closest to the origin.
+    * <p>
+    * This method does not generate garbage, see
+    * {@link #simplexClosestToOrigin(GJKVertex3D[], GJKVertex3D)} for more information.
+    * </p>
+    *
+    * @param oldSimplex    the simplex which vertices may be filtered out. The simplex should contain
+    *                      at most 3 vertices. Not modified.
+    * @param newVertex     the vertex that should not be filtered out by this method. Not modified.
+    * @param simplexToPack the simplex used to store the result. Has to be different from
+    *                      {@code oldSimplex}. Modified.
+    * @return {@code true} if the simplex was successfully computed, {@code false} otherwise, in which
+    *         case the state of {@code simplexToPack} is undefined.
+    */
+   public static boolean simplexClosestToOrigin(GJKSimplex3D oldSimplex, GJKVertex3D newVertex, GJKSimplex3D simplexToPack)
+   {
+      GJKVertex3D[] oldVertices = oldSimplex.getVertices();
+
+      if (oldVertices.length == 3)
+      {
+         return simplexClosestToOriginFrom3Simplex(newVertex, oldVertices[2], oldVertices[1], oldVertices[0], simplexToPack);
+      }
+      else if (oldVertices.length == 2)
+      {
+         return simplexClosestToOriginFrom2Simplex(newVertex, oldVertices[1], oldVertices[0], simplexToPack);
+      }
+      else if (oldVertices.length == 1)
+      {
+         simplexClosestToOriginFrom1Simplex(newVertex, oldVertices[0], simplexToPack);
+         return true;
+      }
+      else
+      {
+         simplexToPack.set(newVertex);
+         return true;
+      }
+   }
+
    /**
     * Finds and returns the smallest simplex that belongs to the tetrahedron, defined by the given
     * vertices, that is the closest to the origin.
@@ -150,6 +190,33 @@ public class GJKTools
     * @return the smallest simplex that is the closest to the origin.
     */
    public static GJKSimplex3D simplexClosestToOriginFrom3Simplex(GJKVertex3D s1, GJKVertex3D s2, GJKVertex3D s3, GJKVertex3D s4)
+   {
+      GJKSimplex3D output = new GJKSimplex3D();
+      if (simplexClosestToOriginFrom3Simplex(s1, s2, s3, s4, output))
+         return output;
+      else
+         return null;
+   }
+
+   /**
+    * Finds the smallest simplex that belongs to the tetrahedron, defined by the given vertices, that
+    * is the closest to the origin.
+    * <p>
+    * This method does not generate garbage, see
+    * {@link #simplexClosestToOriginFrom3Simplex(GJKVertex3D, GJKVertex3D, GJKVertex3D, GJKVertex3D)}
+    * for more information.
+    * </p>
+    *
+    * @param s1            the first vertex of the tetrahedron. <b>This method assumes that this vertex
+    *                      should not be filtered out</b>. Not modified.
+    * @param s2            the second vertex of the tetrahedron. Not modified.
+    * @param s3            the third vertex of the tetrahedron. Not modified.
+    * @param s4            the fourth vertex of the tetrahedron. Not modified.
+    * @param simplexToPack the simplex used to store the result. Modified.
+    * @return {@code true} if the simplex was successfully computed, {@code false} otherwise, in which
+    *         case the state of {@code simplexToPack} is undefined.
+    */
+   public static boolean simplexClosestToOriginFrom3Simplex(GJKVertex3D s1, GJKVertex3D s2, GJKVertex3D s3, GJKVertex3D s4, GJKSimplex3D simplexToPack)
    {
       double s1x = s1.getX(), s1y = s1.getY(), s1z = s1.getZ();
       double s2x = s2.getX(), s2y = s2.getY(), s2z = s2.getZ();
@@ -164,72 +231,105 @@ public class GJKTools
 
       if (compareSigns(detM, C41) && compareSigns(detM, C42) && compareSigns(detM, C43) && compareSigns(detM, C44))
       {
-         double[] lambdas = {C41 / detM, C42 / detM, C43 / detM, C44 / detM};
-         GJKVertex3D[] supportVertices = {s1, s2, s3, s4};
-         return new GJKSimplex3D(supportVertices, lambdas);
+         simplexToPack.set(s1, C41 / detM, s2, C42 / detM, s3, C43 / detM, s4, C44 / detM);
+         return true;
       }
       else
       {
          double d = Double.POSITIVE_INFINITY;
-         GJKSimplex3D output = null;
+         // The candidates are evaluated directly in simplexToPack, the best one is re-evaluated at the end if it is not the last one.
+         // The candidates are identified by the index of the vertex that is excluded: 2, 3, or 4.
+         int bestExcludedIndex = -1;
+         int lastExcludedIndex = -1;
 
          double zeroTestEpsilon = 1.0e-13;
 
          if (compareSigns(detM, -C42))
          {
             if (EuclidCoreTools.isZero(detM, zeroTestEpsilon) && EuclidCoreTools.isZero(C42, zeroTestEpsilon))
-               return null;
+               return false;
 
-            GJKSimplex3D candidateOutput = simplexClosestToOriginFrom2Simplex(s1, s3, s4);
-            if (candidateOutput != null)
+            if (simplexClosestToOriginFrom2Simplex(s1, s3, s4, simplexToPack))
             {
-               double candidateNorm = candidateOutput.getDistanceSquaredToOrigin();
+               lastExcludedIndex = 2;
+               double candidateNorm = simplexToPack.getDistanceSquaredToOrigin();
                if (candidateNorm < d)
                {
-                  output = candidateOutput;
+                  bestExcludedIndex = 2;
                   d = candidateNorm;
                }
             }
+            else
+            {
+               lastExcludedIndex = -1;
+            }
          }
 
          if (compareSigns(detM, -C43))
          {
             if (EuclidCoreTools.isZero(detM, zeroTestEpsilon) && EuclidCoreTools.isZero(C43, zeroTestEpsilon))
-               return null;
+               return false;
 
-            GJKSimplex3D candidateOutput = simplexClosestToOriginFrom2Simplex(s1, s2, s4);
-            if (candidateOutput != null)
+            if (simplexClosestToOriginFrom2Simplex(s1, s2, s4, simplexToPack))
             {
-               double candidateNorm = candidateOutput.getDistanceSquaredToOrigin();
+               lastExcludedIndex = 3;
+               double candidateNorm = simplexToPack.getDistanceSquaredToOrigin();
                if (candidateNorm < d)
                {
-                  output = candidateOutput;
+                  bestExcludedIndex = 3;
                   d = candidateNorm;
                }
             }
+            else
+            {
+               lastExcludedIndex = -1;
+            }
          }
 
          if (compareSigns(detM, -C44))
          {
             if (EuclidCoreTools.isZero(detM, zeroTestEpsilon) && EuclidCoreTools.isZero(C44, zeroTestEpsilon))
-               return null;
+               return false;
 
-            GJKSimplex3D candidateOutput = simplexClosestToOriginFrom2Simplex(s1, s2, s3);
-            if (candidateOutput != null)
+            if (simplexClosestToOriginFrom2Simplex(s1, s2, s3, simplexToPack))
             {
-               double candidateNorm = candidateOutput.getDistanceSquaredToOrigin();
+               lastExcludedIndex = 4;
+               double candidateNorm = simplexToPack.getDistanceSquaredToOrigin();
                if (candidateNorm < d)
                {
-                  output = candidateOutput;
+                  bestExcludedIndex = 4;
                   d = candidateNorm;
                }
             }
+            else
+            {
+               lastExcludedIndex = -1;
+            }
          }
 
-         return output;
+         if (bestExcludedIndex == -1)
+            return false;
+         if (bestExcludedIndex != lastExcludedIndex)
+            simplexClosestToOriginFrom3SimplexFace(s1, s2, s3, s4, bestExcludedIndex, simplexToPack);
+         return true;
       }
    }
 
+   private static void simplexClosestToOriginFrom3SimplexFace(GJKVertex3D s1,
+                                                              GJKVertex3D s2,
+                                                              GJKVertex3D s3,
+                                                              GJKVertex3D s4,
+                                                              int excludedIndex,
+                                                              GJKSimplex3D simplexToPack)
+   {
+      if (excludedIndex == 2)
+         simplexClosestToOriginFrom2Simplex(s1, s3, s4, simplexToPack);
+      else if (excludedIndex == 3)
+         simplexClosestToOriginFrom2Simplex(s1, s2, s4, simplexToPack);
+      else
+         simplexClosestToOriginFrom2Simplex(s1, s2, s3, simplexToPack);
+   }
+
    /**
     * Finds and returns the smallest simplex that belongs to the 3D triangle, defined by the given
     * vertices, that is the closest to the origin.
@@ -250,6 +350,32 @@ public class GJKTools
     * @return the smallest simplex that is the closest to the origin.
     */
    public static GJKSimplex3D simplexClosestToOriginFrom2Simplex(GJKVertex3D s1, GJKVertex3D s2, GJKVertex3D s3)
+   {
+      GJKSimplex3D output = new GJKSimplex3D();
+      if (simplexClosestToOriginFrom2Simplex(s1, s2, s3, output))
+         return output;
+      else
+         return null;
+   }
+
+   /**
+    * Finds the smallest simplex that belongs to the 3D triangle, defined by the given vertices, that
+    * is the closest to the origin.
+    * <p>
+    * This method does not generate garbage, see
+    * {@link #simplexClosestToOriginFrom2Simplex(GJKVertex3D, GJKVertex3D, GJKVertex3D)} for more
+    * information.
+    * </p>
+    *
+    * @param s1            the first vertex of the triangle. <b>This method assumes that this vertex
+    *                      should not be filtered out</b>. Not modified.
+    * @param s2            the second vertex of the triangle. Not modified.
+    * @param s3            the third vertex of the triangle. Not modified.
+    * @param simplexToPack the simplex used to store the result. Modified.
+    * @return {@code true} if the simplex was successfully computed, {@code false} otherwise, in which
+    *         case the state of {@code simplexToPack} is undefined.
+    */
+   public static boolean simplexClosestToOriginFrom2Simplex(GJKVertex3D s1, GJKVertex3D s2, GJKVertex3D s3, GJKSimplex3D simplexToPack)
    {
       double s1x = s1.getX(), s1y = s1.getY(), s1z = s1.getZ();
       double s2x = s2.getX(), s2y = s2.getY(), s2z = s2.getZ();
@@ -320,37 +446,36 @@ public class GJKTools
       if (compareSigns(muMax, C1) && compareSigns(muMax, C2) && compareSigns(muMax, C3))
       { // The projection p0 is inside the face. Computing the barycentric coordinates.
          if (Math.abs(C1) < 1.0e-16 && Math.abs(C2) < 1.0e-16 && Math.abs(C3) < 1.0e-16)
-            return null;
+            return false;
 
-         double[] lambdas = {C1 / muMax, C2 / muMax, C3 / muMax};
-         GJKVertex3D[] supportingVerices = {s1, s2, s3};
-         return new GJKSimplex3D(supportingVerices, lambdas);
+         simplexToPack.set(s1, C1 / muMax, s2, C2 / muMax, s3, C3 / muMax);
+         return true;
       }
       else
       { // The projection p0 is outside the face, identifying the closest edge knowing that s1 was just added, so it cannot be rejected.
+         // The candidates are evaluated directly in simplexToPack, the first one is re-evaluated at the end if it is the closest.
          double d = Double.POSITIVE_INFINITY;
-         GJKSimplex3D output = null;
+         boolean isFirstCandidateValid = false;
 
          if (compareSigns(muMax, -C2))
          {
-            GJKSimplex3D candidateOutput = simplexClosestToOriginFrom1Simplex(s1, s3);
-            double candidateNorm = candidateOutput.getDistanceSquaredToOrigin();
-            output = candidateOutput;
-            d = candidateNorm;
+            simplexClosestToOriginFrom1Simplex(s1, s3, simplexToPack);
+            d = simplexToPack.getDistanceSquaredToOrigin();
+            isFirstCandidateValid = true;
          }
 
          if (compareSigns(muMax, -C3))
          {
-            GJKSimplex3D candidateOutput = simplexClosestToOriginFrom1Simplex(s1, s2);
-            double candidateNorm = candidateOutput.getDistanceSquaredToOrigin();
+            simplexClosestToOriginFrom1Simplex(s1, s2, simplexToPack);
+            double candidateNorm = simplexToPack.getDistanceSquaredToOrigin();
             if (candidateNorm < d)
-            {
-               output = candidateOutput;
-               d = candidateNorm;
-            }
+               return true;
+            if (!isFirstCandidateValid)
+               return false;
+            simplexClosestToOriginFrom1Simplex(s1, s3, simplexToPack);
          }
 
-         return output;
+         return isFirstCandidateValid;
       }
    }
 
@@ -373,6 +498,26 @@ public class GJKTools
     * @return the smallest simplex that is the closest to the origin.
     */
    public static GJKSimplex3D simplexClosestToOriginFrom1Simplex(GJKVertex3D s1, GJKVertex3D s2)
+   {
+      GJKSimplex3D output = new GJKSimplex3D();
+      simplexClosestToOriginFrom1Simplex(s1, s2, output);
+      return output;
+   }
+
+   /**
+    * Finds the smallest simplex that belongs to the 3D line segment, defined by the given vertices,
+    * that is the closest to the origin.
+    * <p>
+    * This method does not generate garbage, see
+    * {@link #simplexClosestToOriginFrom1Simplex(GJKVertex3D, GJKVertex3D)} for more information.
+    * </p>
+    *
+    * @param s1            the first vertex of the line segment. <b>This method assumes that this vertex
+    *                      should not be filtered out</b>. Not modified.
+    * @param s2            the second vertex of the line segment. Not modified.
+    * @param simplexToPack the simplex used to store the result. Modified.
+    */
+   public static void simplexClosestToOriginFrom1Simplex(GJKVertex3D s1, GJKVertex3D s2, GJKSimplex3D simplexToPack)
    {
       double s1x = s1.getX(), s1y = s1.getY(), s1z = s1.getZ();
       double s2x = s2.getX(), s2y = s2.getY(), s2z = s2.getZ();
@@ -431,18 +576,16 @@ public class GJKTools
 
          if (compareSigns(muMax, C2))
          { // The projection in between the edge endpoints. Computing the barycentric coordinates.
-            double[] lambdas = {C1 / muMax, C2 / muMax};
-            GJKVertex3D[] supportVertices = {s1, s2};
-            return new GJKSimplex3D(supportVertices, lambdas);
+            simplexToPack.set(s1, C1 / muMax, s2, C2 / muMax);
          }
          else
          { // The projection is outside, since s1 is the new vertex we automatically reject s2.
-            return new GJKSimplex3D(s1);
+            simplexToPack.set(s1);
          }
       }
       else
       { // The projection is outside, since s1 is the new vertex we automatically reject s2.
-         return new GJKSimplex3D(s1);
+         simplexToPack.set(s1);
       }
    }
 
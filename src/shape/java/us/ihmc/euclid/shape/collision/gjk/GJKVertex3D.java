@@ -3,7 +3,9 @@ package us.ihmc.euclid.shape.collision.gjk;
 import us.ihmc.euclid.interfaces.EuclidGeometry;
 import us.ihmc.euclid.tools.EuclidCoreIOTools;
 import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.tuple3D.Vector3D;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
 
 /**
  * Vertex 3D that belongs to a simplex used in the Gilbert-Johnson-Keerthi algorithm.
@@ -17,11 +19,31 @@ import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
 public class GJKVertex3D implements Point3DReadOnly
 {
    /** The coordinates of this vertex. */
-   private final double x, y, z;
+   private double x, y, z;
    /** The supporting vertex from the first shape. */
-   private final Point3DReadOnly vertexOnShapeA;
+   private Point3DReadOnly vertexOnShapeA;
    /** The supporting vertex from the second shape. */
-   private final Point3DReadOnly vertexOnShapeB;
+   private Point3DReadOnly vertexOnShapeB;
+   /**
+    * The direction used to compute the supporting vertex of the first shape, {@link Double#NaN} if
+    * unknown.
+    */
+   private final Vector3D supportDirection = new Vector3D();
+
+   /**
+    * Creates a new vertex which coordinates are initialized to {@link Double#NaN}.
+    * <p>
+    * The vertex is meant to be initialized afterwards via
+    * {@link #set(Point3DReadOnly, Point3DReadOnly)}.
+    * </p>
+    */
+   public GJKVertex3D()
+   {
+      supportDirection.setToNaN();
+      x = Double.NaN;
+      y = Double.NaN;
+      z = Double.NaN;
+   }
 
    /**
     * Creates a new vertex and initializes its coordinates as follows:<br>
@@ -31,6 +53,46 @@ public class GJKVertex3D implements Point3DReadOnly
     * @param vertexOnShapeB the supporting vertex from the second shape. Not modified, reference saved.
     */
    public GJKVertex3D(Point3DReadOnly vertexOnShapeA, Point3DReadOnly vertexOnShapeB)
+   {
+      set(vertexOnShapeA, vertexOnShapeB);
+   }
+
+   /**
+    * Sets the supporting vertices of this vertex and updates its coordinates as follows:<br>
+    * {@code this = vertexOnShapeA - vertexOnShapeB}.
+    *
+    * @param vertexOnShapeA the supporting vertex from the first shape. Not modified, reference saved.
+    * @param vertexOnShapeB the supporting vertex from the second shape. Not modified, reference saved.
+    */
+   public void set(Point3DReadOnly vertexOnShapeA, Point3DReadOnly vertexOnShapeB)
+   {
+      supportDirection.setToNaN();
+      setVertices(vertexOnShapeA, vertexOnShapeB);
+   }
+
+   /**
+    * Sets the supporting vertices of this vertex and the direction used to compute them, and updates
+    * its coordinates as follows:<br>
+    * {@code this = vertexOnShapeA - vertexOnShapeB}.
+    * <p>
+    * The support direction can be used later on to recompute this vertex after the shapes have moved,
+    * see {@link GJKPairCache}.
+    * </p>
+    *
+    * @param vertexOnShapeA   the supporting vertex from the first shape. Not modified, reference
+    *                         saved.
+    * @param vertexOnShapeB   the supporting vertex from the second shape. Not modified, reference
+    *                         saved.
+    * @param supportDirection the direction used to compute {@code vertexOnShapeA}, the opposite
+    *                         direction being used to compute {@code vertexOnShapeB}. Not modified.
+    */
+   public void set(Point3DReadOnly vertexOnShapeA, Point3DReadOnly vertexOnShapeB, Vector3DReadOnly supportDirection)
+   {
+      this.supportDirection.set(supportDirection);
+      setVertices(vertexOnShapeA, vertexOnShapeB);
+   }
+
+   private void setVertices(Point3DReadOnly vertexOnShapeA, Point3DReadOnly vertexOnShapeB)
    {
       this.vertexOnShapeA = vertexOnShapeA;
       this.vertexOnShapeB = vertexOnShapeB;
@@ -59,6 +121,17 @@ public class GJKVertex3D implements Point3DReadOnly
       return vertexOnShapeB;
    }
 
+   /**
+    * Gets the direction used to compute the supporting vertex of the first shape, the opposite
+    * direction being used for the second shape.
+    *
+    * @return the support direction, {@link Double#NaN} if unknown.
+    */
+   public Vector3DReadOnly getSupportDirection()
+   {
+      return supportDirection;
+   }
+
    /** {@inheritDoc} */
    @Override
    public double getX()
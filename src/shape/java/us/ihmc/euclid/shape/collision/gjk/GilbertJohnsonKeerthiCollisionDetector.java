@@ -1,7 +1,5 @@
 package us.ihmc.euclid.shape.collision.gjk;
 
-import static us.ihmc.euclid.shape.collision.gjk.GJKTools.simplexClosestToOrigin;
-
 import us.ihmc.euclid.Axis3D;
 import us.ihmc.euclid.shape.collision.EuclidShape3DCollisionResult;
 import us.ihmc.euclid.shape.collision.epa.ExpandingPolytopeAlgorithm;
@@ -12,8 +10,8 @@ import us.ihmc.euclid.shape.primitives.interfaces.Shape3DPoseReadOnly;
 import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
 import us.ihmc.euclid.tools.EuclidCoreFactories;
 import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tuple3D.Point3D;
 import us.ihmc.euclid.tuple3D.Vector3D;
-import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
 
 /**
@@ -32,6 +30,11 @@ import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
  * is occurring, the {@link ExpandingPolytopeAlgorithm} can then be used to compute the depth of the
  * collision and the collision vector.
  * </p>
+ * <p>
+ * The simplices and their vertices are preallocated and recycled over the iterations and from one
+ * evaluation to the next such that evaluating the collision between two
+ * {@link SupportingVertexHolder}s does not generate garbage.
+ * </p>
  *
  * @author Sylvain Bertrand
  */
@@ -64,6 +67,20 @@ public class GilbertJohnsonKeerthiCollisionDetector
     * evaluation.
     */
    private GJKSimplex3D simplex = null;
+   /**
+    * Preallocated simplices used to store the simplex from the previous iteration and the simplex
+    * being computed at the current iteration. Their roles are swapped at the end of each iteration.
+    */
+   private final GJKSimplex3D simplexBufferA = new GJKSimplex3D(), simplexBufferB = new GJKSimplex3D();
+   /**
+    * Preallocated vertices that are recycled over the iterations. A simplex has at most 4 vertices, a
+    * fifth one is needed to hold the new vertex of the current iteration.
+    */
+   private final GJKVertex3D[] vertexPool = new GJKVertex3D[GJKSimplex3D.MAX_NUMBER_OF_VERTICES + 1];
+   /** The supporting vertices from the first shape used by the vertices of the pool. */
+   private final Point3D[] supportingVertexPoolA = new Point3D[vertexPool.length];
+   /** The supporting vertices from the second shape used by the vertices of the pool. */
+   private final Point3D[] supportingVertexPoolB = new Point3D[vertexPool.length];
    /**
     * Flag to indicate whether the initial support direction has been provided by the user or not.
     */
@@ -79,6 +96,13 @@ public class GilbertJohnsonKeerthiCollisionDetector
    private final Vector3DReadOnly supportDirectionNegated = EuclidCoreFactories.newNegativeLinkedVector3D(supportDirection);
    /** The last support direction used in the previous iteration. */
    private final Vector3D supportDirectionPrevious = new Vector3D();
+   /**
+    * The support directions used to compute the initial simplex of the next evaluation, only the
+    * first {@code numberOfInitialSimplexSupportDirections} are used.
+    */
+   private final Vector3D[] initialSimplexSupportDirections = new Vector3D[GJKSimplex3D.MAX_NUMBER_OF_VERTICES];
+   /** The number of support directions to use for computing the initial simplex. */
+   private int numberOfInitialSimplexSupportDirections = 0;
 
    /**
     * Enumeration representing the possible terminations of the algorithm. This is exposed for
@@ -134,6 +158,15 @@ public class GilbertJohnsonKeerthiCollisionDetector
     */
    public GilbertJohnsonKeerthiCollisionDetector()
    {
+      for (int i = 0; i < initialSimplexSupportDirections.length; i++)
+         initialSimplexSupportDirections[i] = new Vector3D();
+
+      for (int i = 0; i < vertexPool.length; i++)
+      {
+         vertexPool[i] = new GJKVertex3D();
+         supportingVertexPoolA[i] = new Point3D();
+         supportingVertexPoolB[i] = new Point3D();
+      }
    }
 
    /**
@@ -252,27 +285,56 @@ public class GilbertJohnsonKeerthiCollisionDetector
     */
    public boolean evaluateCollision(SupportingVertexHolder shapeA, SupportingVertexHolder shapeB, EuclidShape3DCollisionResultBasics resultToPack)
    {
-      GJKSimplex3D previousOutput = new GJKSimplex3D();
-
-      supportDirection.set(initialSupportDirection);
-      Point3DReadOnly vertexA = shapeA.getSupportingVertex(supportDirection);
-      Point3DReadOnly vertexB = shapeB.getSupportingVertex(supportDirectionNegated);
+      GJKSimplex3D previousOutput = simplexBufferA;
+      GJKSimplex3D output = simplexBufferB;
+      previousOutput.clear();
+
+      if (numberOfInitialSimplexSupportDirections > 0)
+      { // Warm start: recomputing the simplex from a previous evaluation.
+         previousOutput = computeInitialSimplex(shapeA, shapeB);
+         output = previousOutput == simplexBufferA ? simplexBufferB : simplexBufferA;
+      }
 
       boolean areColliding = false;
+      boolean isDone = false;
+      double closestPointNormSquared = 1.0;
 
-      if (vertexA == null || vertexB == null)
+      if (previousOutput.getNumberOfVertices() == 0)
       {
-         simplex = null;
-         areColliding = false;
+         supportDirection.set(initialSupportDirection);
+      }
+      else if (isCollisionDetected(previousOutput))
+      { // The initial simplex already contains the origin.
+         simplex = previousOutput;
+         numberOfIterations = 0;
+         areColliding = true;
+         isDone = true;
+         lastTerminationType = TerminationType.COLLISION_DETECTED;
+         if (VERBOSE)
+            System.out.println(lastTerminationType.getDescription() + " Terminating.");
       }
       else
       {
-         double closestPointNormSquared = 1.0;
+         closestPointNormSquared = previousOutput.getDistanceSquaredToOrigin();
+         computeNextSupportDirection(previousOutput);
+         supportDirectionPrevious.set(supportDirection);
+      }
+
+      int newVertexIndex = nextAvailableVertexIndex(previousOutput);
+      GJKVertex3D newVertex = vertexPool[newVertexIndex];
 
+      if (!isDone && !computeSupportingVertices(shapeA, shapeB, newVertexIndex))
+      {
+         simplex = null;
+         areColliding = false;
+         isDone = true;
+      }
+
+      if (!isDone)
+      {
          for (int i = 0; i < maxIterations; i++)
          {
             numberOfIterations = i;
-            GJKVertex3D newVertex = new GJKVertex3D(vertexA, vertexB);
 
             if (previousOutput.contains(newVertex))
             {
@@ -296,8 +358,7 @@ public class GilbertJohnsonKeerthiCollisionDetector
 
                if (retry)
                {
-                  vertexA = shapeA.getSupportingVertex(supportDirection);
-                  vertexB = shapeB.getSupportingVertex(supportDirectionNegated);
+                  computeSupportingVertices(shapeA, shapeB, newVertexIndex);
                   continue;
                }
 
@@ -322,9 +383,7 @@ public class GilbertJohnsonKeerthiCollisionDetector
                break;
             }
 
-            GJKSimplex3D output = simplexClosestToOrigin(previousOutput.getVertices(), newVertex);
-
-            if (output == null)
+            if (!GJKTools.simplexClosestToOrigin(previousOutput, newVertex, output))
             { // End of process
                simplex = previousOutput;
                supportDirection.set(supportDirectionPrevious);
@@ -355,7 +414,7 @@ public class GilbertJohnsonKeerthiCollisionDetector
 
             closestPointNormSquared = output.getDistanceSquaredToOrigin();
 
-            if (output.getNumberOfVertices() == 4 || closestPointNormSquared <= epsilon * output.getMaxDistanceSquaredToOrigin())
+            if (isCollisionDetected(output))
             { // End of process
                simplex = output;
                areColliding = true;
@@ -366,23 +425,16 @@ public class GilbertJohnsonKeerthiCollisionDetector
             }
 
             supportDirectionPrevious.set(supportDirection);
+            computeNextSupportDirection(output);
 
-            if (closestPointNormSquared < epsilonTriangleNormalSwitch && output.getNumberOfVertices() == 3)
-               supportDirection.set(output.getTriangleNormal());
-            else
-               supportDirection.setAndNegate(output.getClosestPointToOrigin());
-
-            if (Math.abs(supportDirection.getX()) == 0.0)
-               supportDirection.setX(SUPPORT_DIRECTION_ZERO_COMPONENT);
-            else if (Math.abs(supportDirection.getY()) == 0.0)
-               supportDirection.setY(SUPPORT_DIRECTION_ZERO_COMPONENT);
-            else if (Math.abs(supportDirection.getZ()) == 0.0)
-               supportDirection.setZ(SUPPORT_DIRECTION_ZERO_COMPONENT);
-
-            vertexA = shapeA.getSupportingVertex(supportDirection);
-            vertexB = shapeB.getSupportingVertex(supportDirectionNegated);
-
+            // Swapping the two simplices, the vertices of the new previous simplex are preserved for the next iteration.
+            GJKSimplex3D temp = previousOutput;
             previousOutput = output;
+            output = temp;
+
+            newVertexIndex = nextAvailableVertexIndex(previousOutput);
+            newVertex = vertexPool[newVertexIndex];
+            computeSupportingVertices(shapeA, shapeB, newVertexIndex);
          }
       }
 
@@ -408,10 +460,144 @@ public class GilbertJohnsonKeerthiCollisionDetector
 
       isInitialSupportDirectionProvided = false;
       initialSupportDirection.set(Axis3D.Y);
+      numberOfInitialSimplexSupportDirections = 0;
 
       return areColliding;
    }
 
+   /**
+    * Computes the initial simplex from the support directions provided via
+    * {@link #setInitialSimplexSupportDirections(Vector3DReadOnly[], int)}.
+    * <p>
+    * The vertices are added one at a time and the simplex is reduced to its sub-simplex closest to the
+    * origin after each addition. Vertices that would result in a degenerate simplex are skipped.
+    * </p>
+    *
+    * @param shapeA the first shape. Not modified.
+    * @param shapeB the second shape. Not modified.
+    * @return the simplex buffer holding the initial simplex, empty if it could not be computed.
+    */
+   private GJKSimplex3D computeInitialSimplex(SupportingVertexHolder shapeA, SupportingVertexHolder shapeB)
+   {
+      GJKSimplex3D current = simplexBufferA;
+      GJKSimplex3D next = simplexBufferB;
+      current.clear();
+
+      for (int i = 0; i < numberOfInitialSimplexSupportDirections; i++)
+      {
+         supportDirection.set(initialSimplexSupportDirections[i]);
+         int vertexIndex = nextAvailableVertexIndex(current);
+
+         if (!computeSupportingVertices(shapeA, shapeB, vertexIndex))
+         {
+            current.clear();
+            return current;
+         }
+
+         GJKVertex3D vertex = vertexPool[vertexIndex];
+
+         if (current.getNumberOfVertices() == 0)
+         {
+            current.set(vertex);
+         }
+         else if (!current.contains(vertex) && GJKTools.simplexClosestToOrigin(current, vertex, next))
+         {
+            GJKSimplex3D temp = current;
+            current = next;
+            next = temp;
+         }
+
+         if (isCollisionDetected(current))
+            break;
+      }
+
+      return current;
+   }
+
+   /**
+    * Tests whether the given simplex contains the origin, indicating a collision.
+    *
+    * @param simplex the simplex to test. Not modified.
+    * @return {@code true} if the simplex contains the origin, {@code false} otherwise.
+    */
+   private boolean isCollisionDetected(GJKSimplex3D simplex)
+   {
+      return simplex.getNumberOfVertices() == 4 || simplex.getDistanceSquaredToOrigin() <= epsilon * simplex.getMaxDistanceSquaredToOrigin();
+   }
+
+   /**
+    * Updates the support direction for the next iteration given the simplex of the current iteration.
+    *
+    * @param simplex the simplex of the current iteration. Not modified.
+    */
+   private void computeNextSupportDirection(GJKSimplex3D simplex)
+   {
+      if (simplex.getDistanceSquaredToOrigin() < epsilonTriangleNormalSwitch && simplex.getNumberOfVertices() == 3)
+         simplex.getTriangleNormal(supportDirection);
+      else
+         supportDirection.setAndNegate(simplex.getClosestPointToOrigin());
+
+      if (Math.abs(supportDirection.getX()) == 0.0)
+         supportDirection.setX(SUPPORT_DIRECTION_ZERO_COMPONENT);
+      else if (Math.abs(supportDirection.getY()) == 0.0)
+         supportDirection.setY(SUPPORT_DIRECTION_ZERO_COMPONENT);
+      else if (Math.abs(supportDirection.getZ()) == 0.0)
+         supportDirection.setZ(SUPPORT_DIRECTION_ZERO_COMPONENT);
+   }
+
+   /**
+    * Finds the index of a vertex in the pool that is not used by the given simplex.
+    *
+    * @param simplex the simplex which vertices should be preserved. Not modified.
+    * @return the index of a vertex from the pool that can be recycled.
+    */
+   private int nextAvailableVertexIndex(GJKSimplex3D simplex)
+   {
+      GJKVertex3D[] simplexVertices = simplex.getVertices();
+
+      for (int i = 0; i < vertexPool.length; i++)
+      {
+         boolean isUsed = false;
+
+         for (int j = 0; j < simplexVertices.length; j++)
+         {
+            if (vertexPool[i] == simplexVertices[j])
+            {
+               isUsed = true;
+               break;
+            }
+         }
+
+         if (!isUsed)
+            return i;
+      }
+
+      throw new IllegalStateException("Could not find an available vertex, the simplex has more than " + GJKSimplex3D.MAX_NUMBER_OF_VERTICES + " vertices.");
+   }
+
+   /**
+    * Computes the supporting vertices of both shapes given the current support direction and updates
+    * the vertex of the pool at the given index.
+    *
+    * @param shapeA      the first shape. Not modified.
+    * @param shapeB      the second shape. Not modified.
+    * @param vertexIndex the index of the vertex of the pool to update.
+    * @return {@code true} if both supporting vertices were found, {@code false} otherwise.
+    */
+   private boolean computeSupportingVertices(SupportingVertexHolder shapeA, SupportingVertexHolder shapeB, int vertexIndex)
+   {
+      Point3D vertexA = supportingVertexPoolA[vertexIndex];
+      Point3D vertexB = supportingVertexPoolB[vertexIndex];
+
+      if (!shapeA.getSupportingVertex(supportDirection, vertexA))
+         return false;
+      if (!shapeB.getSupportingVertex(supportDirectionNegated, vertexB))
+         return false;
+
+      vertexPool[vertexIndex].set(vertexA, vertexB, supportDirection);
+      return true;
+   }
+
    /**
     * Sets the support direction to use for the first iteration of future evaluations.
     * <p>
@@ -428,6 +614,35 @@ public class GilbertJohnsonKeerthiCollisionDetector
       this.initialSupportDirection.set(initialSupportDirection);
    }
 
+   /**
+    * Sets the support directions to use for computing the initial simplex of the next evaluation.
+    * <p>
+    * This allows to warm start the next evaluation with the simplex resulting from a previous
+    * evaluation, which, for two shapes that have barely moved in between, can reduce the number of
+    * iterations to only one or two. The support directions of the simplex vertices can be obtained via
+    * {@link GJKVertex3D#getSupportDirection()}, see {@link GJKPairCache} which manages this for pairs
+    * of shapes.
+    * </p>
+    * <p>
+    * The support directions are only used for the next evaluation.
+    * </p>
+    *
+    * @param supportDirections         the support directions, one per vertex of the initial simplex.
+    *                                  Not modified.
+    * @param numberOfSupportDirections the number of support directions to use from the given array.
+    * @throws IllegalArgumentException if {@code numberOfSupportDirections} is greater than 4.
+    */
+   public void setInitialSimplexSupportDirections(Vector3DReadOnly[] supportDirections, int numberOfSupportDirections)
+   {
+      if (numberOfSupportDirections > initialSimplexSupportDirections.length)
+         throw new IllegalArgumentException("A simplex cannot have more than " + initialSimplexSupportDirections.length + " vertices, was: "
+               + numberOfSupportDirections);
+
+      for (int i = 0; i < numberOfSupportDirections; i++)
+         initialSimplexSupportDirections[i].set(supportDirections[i]);
+      numberOfInitialSimplexSupportDirections = numberOfSupportDirections;
+   }
+
    /**
     * Sets the limit to the number of iterations in case the algorithm does not succeed to converge.
     *
@@ -502,6 +717,10 @@ public class GilbertJohnsonKeerthiCollisionDetector
    /**
     * Gets the simplex that is the closest to the origin or at the origin resulting from the last
     * collision evaluation.
+    * <p>
+    * The simplex and its vertices are recycled by this detector, they will be modified at the next
+    * evaluation.
+    * </p>
     *
     * @return the last evaluation resulting simplex.
     */
@@ -442,9 +442,9 @@ public interface ConvexPolytope3DReadOnly extends Shape3DReadOnly
 
       while (true)
       {
-         for (HalfEdge3DReadOnly currentEdge : bestVertex.getAssociatedEdges())
-         {
-            Vertex3DReadOnly candidate = currentEdge.getDestination();
+         for (int edgeIndex = 0; edgeIndex < bestVertex.getNumberOfAssociatedEdges(); edgeIndex++)
+         { // Not using an iterator to remain garbage free.
+            Vertex3DReadOnly candidate = bestVertex.getAssociatedEdge(edgeIndex).getDestination();
 
             double dotProduct = candidate.dot(supportDirection);
 
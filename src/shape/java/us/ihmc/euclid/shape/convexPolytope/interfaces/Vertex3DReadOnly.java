@@ -41,9 +41,9 @@ public interface Vertex3DReadOnly extends Point3DReadOnly
     */
    default boolean isEdgeAssociated(HalfEdge3DReadOnly edgeToCheck)
    {
-      for (HalfEdge3DReadOnly associatedEdge : getAssociatedEdges())
+      for (int i = 0; i < getNumberOfAssociatedEdges(); i++)
       {
-         if (edgeToCheck == associatedEdge)
+         if (edgeToCheck == getAssociatedEdge(i))
             return true;
       }
       return false;
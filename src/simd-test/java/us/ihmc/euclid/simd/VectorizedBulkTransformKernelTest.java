@@ -0,0 +1,133 @@
+package us.ihmc.euclid.simd;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.tools.BulkTransformKernel;
+import us.ihmc.euclid.tools.BulkTransformTools;
+import us.ihmc.euclid.tools.ScalarBulkTransformKernel;
+
+public class VectorizedBulkTransformKernelTest
+{
+   @BeforeEach
+   public void assumeVectorModuleIsPresent()
+   {
+      assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(), "The tests require --add-modules jdk.incubator.vector");
+   }
+
+   @Test
+   public void testKernelIsLoaded()
+   {
+      assertTrue(BulkTransformTools.getKernel() instanceof VectorizedBulkTransformKernel);
+   }
+
+   @Test
+   public void testSameResultsAsScalarKernel()
+   {
+      Random random = new Random(4523);
+      BulkTransformKernel expectedKernel = new ScalarBulkTransformKernel();
+      BulkTransformKernel actualKernel = new VectorizedBulkTransformKernel();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         double[] c = new double[12];
+         for (int j = 0; j < c.length; j++)
+            c[j] = 10.0 * random.nextDouble() - 5.0;
+         boolean inverse = random.nextBoolean();
+         int numberOfPoints = random.nextInt(100);
+         int originalStartIndex = random.nextInt(5);
+         int transformedStartIndex = random.nextInt(5);
+         int length = Math.max(originalStartIndex, transformedStartIndex) + 3 * numberOfPoints;
+
+         double[][] original = nextDoubleArrays(random, 3, length);
+         double[][] expected = nextDoubleArrays(random, 3, length);
+         double[][] actual = copy(expected);
+         expectedKernel.transformStructureOfArrays(c[0], c[1], c[2], c[3], c[4], c[5], c[6], c[7], c[8], c[9], c[10], c[11], inverse,
+                                                   original[0], original[1], original[2], originalStartIndex,
+                                                   expected[0], expected[1], expected[2], transformedStartIndex, numberOfPoints);
+         actualKernel.transformStructureOfArrays(c[0], c[1], c[2], c[3], c[4], c[5], c[6], c[7], c[8], c[9], c[10], c[11], inverse,
+                                                 original[0], original[1], original[2], originalStartIndex,
+                                                 actual[0], actual[1], actual[2], transformedStartIndex, numberOfPoints);
+         for (int j = 0; j < 3; j++)
+            assertArrayEquals(expected[j], actual[j]);
+
+         // In-place
+         expected = copy(original);
+         actual = copy(original);
+         expectedKernel.transformStructureOfArrays(c[0], c[1], c[2], c[3], c[4], c[5], c[6], c[7], c[8], c[9], c[10], c[11], inverse,
+                                                   expected[0], expected[1], expected[2], originalStartIndex,
+                                                   expected[0], expected[1], expected[2], originalStartIndex, numberOfPoints);
+         actualKernel.transformStructureOfArrays(c[0], c[1], c[2], c[3], c[4], c[5], c[6], c[7], c[8], c[9], c[10], c[11], inverse,
+                                                 actual[0], actual[1], actual[2], originalStartIndex,
+                                                 actual[0], actual[1], actual[2], originalStartIndex, numberOfPoints);
+         for (int j = 0; j < 3; j++)
+            assertArrayEquals(expected[j], actual[j]);
+
+         float[][] originalFloat = toFloat(original);
+         float[][] expectedFloat = toFloat(nextDoubleArrays(random, 3, length));
+         float[][] actualFloat = copy(expectedFloat);
+         expectedKernel.transformStructureOfArrays(c[0], c[1], c[2], c[3], c[4], c[5], c[6], c[7], c[8], c[9], c[10], c[11], inverse,
+                                                   originalFloat[0], originalFloat[1], originalFloat[2], originalStartIndex,
+                                                   expectedFloat[0], expectedFloat[1], expectedFloat[2], transformedStartIndex, numberOfPoints);
+         actualKernel.transformStructureOfArrays(c[0], c[1], c[2], c[3], c[4], c[5], c[6], c[7], c[8], c[9], c[10], c[11], inverse,
+                                                 originalFloat[0], originalFloat[1], originalFloat[2], originalStartIndex,
+                                                 actualFloat[0], actualFloat[1], actualFloat[2], transformedStartIndex, numberOfPoints);
+         for (int j = 0; j < 3; j++)
+            assertArrayEquals(expectedFloat[j], actualFloat[j]);
+
+         double[] expectedInterleaved = nextDoubleArrays(random, 1, length)[0];
+         double[] actualInterleaved = expectedInterleaved.clone();
+         expectedKernel.transformInterleaved(c[0], c[1], c[2], c[3], c[4], c[5], c[6], c[7], c[8], c[9], c[10], c[11], inverse,
+                                             original[0], originalStartIndex, expectedInterleaved, transformedStartIndex, numberOfPoints);
+         actualKernel.transformInterleaved(c[0], c[1], c[2], c[3], c[4], c[5], c[6], c[7], c[8], c[9], c[10], c[11], inverse,
+                                           original[0], originalStartIndex, actualInterleaved, transformedStartIndex, numberOfPoints);
+         assertArrayEquals(expectedInterleaved, actualInterleaved);
+      }
+   }
+
+   private static double[][] nextDoubleArrays(Random random, int numberOfArrays, int length)
+   {
+      double[][] arrays = new double[numberOfArrays][length];
+      for (double[] array : arrays)
+      {
+         for (int i = 0; i < length; i++)
+            array[i] = 10.0 * random.nextDouble() - 5.0;
+      }
+      return arrays;
+   }
+
+   private static double[][] copy(double[][] arrays)
+   {
+      double[][] copy = new double[arrays.length][];
+      for (int i = 0; i < arrays.length; i++)
+         copy[i] = arrays[i].clone();
+      return copy;
+   }
+
+   private static float[][] copy(float[][] arrays)
+   {
+      float[][] copy = new float[arrays.length][];
+      for (int i = 0; i < arrays.length; i++)
+         copy[i] = arrays[i].clone();
+      return copy;
+   }
+
+   private static float[][] toFloat(double[][] arrays)
+   {
+      float[][] floats = new float[arrays.length][];
+      for (int i = 0; i < arrays.length; i++)
+      {
+         floats[i] = new float[arrays[i].length];
+         for (int j = 0; j < arrays[i].length; j++)
+            floats[i][j] = (float) arrays[i][j];
+      }
+      return floats;
+   }
+}
@@ -0,0 +1,189 @@
+package us.ihmc.euclid.simd;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+import us.ihmc.euclid.tools.BulkTransformKernel;
+import us.ihmc.euclid.tools.BulkTransformTools;
+import us.ihmc.euclid.tools.ScalarBulkTransformKernel;
+
+/**
+ * Implementation of {@link BulkTransformKernel} using the incubating Java Vector API to transform
+ * several points at once with SIMD instructions.
+ * <p>
+ * This kernel is registered as a service and is selected by {@link BulkTransformTools} when the
+ * module {@code jdk.incubator.vector} is added to the JVM, for instance with the JVM argument
+ * {@code --add-modules jdk.incubator.vector}.
+ * </p>
+ * <p>
+ * Only the structure of arrays layout is vectorized, as the coordinates of consecutive points can
+ * be directly loaded in a vector. The interleaved layout would require gathering the coordinates
+ * which was not measurably faster than the scalar loop, it is delegated to
+ * {@link ScalarBulkTransformKernel}, as are the remaining points that do not fill a complete vector.
+ * </p>
+ * <p>
+ * The operations are performed in the same order as in {@link ScalarBulkTransformKernel} and
+ * without fused multiply-add, such that both kernels produce exactly the same results.
+ * </p>
+ */
+public class VectorizedBulkTransformKernel implements BulkTransformKernel
+{
+   private static final VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+   private static final VectorSpecies<Float> FLOAT_SPECIES = FloatVector.SPECIES_PREFERRED;
+
+   private final ScalarBulkTransformKernel scalarKernel = new ScalarBulkTransformKernel();
+
+   /**
+    * Creates a new kernel.
+    *
+    * @throws UnsupportedOperationException if the platform does not provide vectors of at least two
+    *                                       doubles.
+    */
+   public VectorizedBulkTransformKernel()
+   {
+      if (DOUBLE_SPECIES.length() < 2)
+         throw new UnsupportedOperationException("The preferred vector species is too small: " + DOUBLE_SPECIES);
+   }
+
+   @Override
+   public void transformInterleaved(double m00, double m01, double m02,
+                                    double m10, double m11, double m12,
+                                    double m20, double m21, double m22,
+                                    double tx, double ty, double tz,
+                                    boolean inverse,
+                                    double[] pointsOriginal,
+                                    int originalStartIndex,
+                                    double[] pointsTransformed,
+                                    int transformedStartIndex,
+                                    int numberOfPoints)
+   {
+      scalarKernel.transformInterleaved(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, inverse,
+                                        pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   @Override
+   public void transformInterleaved(double m00, double m01, double m02,
+                                    double m10, double m11, double m12,
+                                    double m20, double m21, double m22,
+                                    double tx, double ty, double tz,
+                                    boolean inverse,
+                                    float[] pointsOriginal,
+                                    int originalStartIndex,
+                                    float[] pointsTransformed,
+                                    int transformedStartIndex,
+                                    int numberOfPoints)
+   {
+      scalarKernel.transformInterleaved(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, inverse,
+                                        pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+   }
+
+   @Override
+   public void transformStructureOfArrays(double m00, double m01, double m02,
+                                          double m10, double m11, double m12,
+                                          double m20, double m21, double m22,
+                                          double tx, double ty, double tz,
+                                          boolean inverse,
+                                          double[] xsOriginal,
+                                          double[] ysOriginal,
+                                          double[] zsOriginal,
+                                          int originalStartIndex,
+                                          double[] xsTransformed,
+                                          double[] ysTransformed,
+                                          double[] zsTransformed,
+                                          int transformedStartIndex,
+                                          int numberOfPoints)
+   {
+      int numberOfVectorizedPoints = DOUBLE_SPECIES.loopBound(numberOfPoints);
+      int endIndex = originalStartIndex + numberOfVectorizedPoints;
+      int offset = transformedStartIndex - originalStartIndex;
+
+      if (inverse)
+      {
+         for (int index = originalStartIndex; index < endIndex; index += DOUBLE_SPECIES.length())
+         {
+            DoubleVector x = DoubleVector.fromArray(DOUBLE_SPECIES, xsOriginal, index).sub(tx);
+            DoubleVector y = DoubleVector.fromArray(DOUBLE_SPECIES, ysOriginal, index).sub(ty);
+            DoubleVector z = DoubleVector.fromArray(DOUBLE_SPECIES, zsOriginal, index).sub(tz);
+            int transformedIndex = index + offset;
+            x.mul(m00).add(y.mul(m01)).add(z.mul(m02)).intoArray(xsTransformed, transformedIndex);
+            x.mul(m10).add(y.mul(m11)).add(z.mul(m12)).intoArray(ysTransformed, transformedIndex);
+            x.mul(m20).add(y.mul(m21)).add(z.mul(m22)).intoArray(zsTransformed, transformedIndex);
+         }
+      }
+      else
+      {
+         for (int index = originalStartIndex; index < endIndex; index += DOUBLE_SPECIES.length())
+         {
+            DoubleVector x = DoubleVector.fromArray(DOUBLE_SPECIES, xsOriginal, index);
+            DoubleVector y = DoubleVector.fromArray(DOUBLE_SPECIES, ysOriginal, index);
+            DoubleVector z = DoubleVector.fromArray(DOUBLE_SPECIES, zsOriginal, index);
+            int transformedIndex = index + offset;
+            x.mul(m00).add(y.mul(m01)).add(z.mul(m02)).add(tx).intoArray(xsTransformed, transformedIndex);
+            x.mul(m10).add(y.mul(m11)).add(z.mul(m12)).add(ty).intoArray(ysTransformed, transformedIndex);
+            x.mul(m20).add(y.mul(m21)).add(z.mul(m22)).add(tz).intoArray(zsTransformed, transformedIndex);
+         }
+      }
+
+      scalarKernel.transformStructureOfArrays(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, inverse,
+                                              xsOriginal, ysOriginal, zsOriginal, endIndex,
+                                              xsTransformed, ysTransformed, zsTransformed, endIndex + offset,
+                                              numberOfPoints - numberOfVectorizedPoints);
+   }
+
+   @Override
+   public void transformStructureOfArrays(double m00, double m01, double m02,
+                                          double m10, double m11, double m12,
+                                          double m20, double m21, double m22,
+                                          double tx, double ty, double tz,
+                                          boolean inverse,
+                                          float[] xsOriginal,
+                                          float[] ysOriginal,
+                                          float[] zsOriginal,
+                                          int originalStartIndex,
+                                          float[] xsTransformed,
+                                          float[] ysTransformed,
+                                          float[] zsTransformed,
+                                          int transformedStartIndex,
+                                          int numberOfPoints)
+   {
+      float f00 = (float) m00, f01 = (float) m01, f02 = (float) m02;
+      float f10 = (float) m10, f11 = (float) m11, f12 = (float) m12;
+      float f20 = (float) m20, f21 = (float) m21, f22 = (float) m22;
+      float ftx = (float) tx, fty = (float) ty, ftz = (float) tz;
+      int numberOfVectorizedPoints = FLOAT_SPECIES.loopBound(numberOfPoints);
+      int endIndex = originalStartIndex + numberOfVectorizedPoints;
+      int offset = transformedStartIndex - originalStartIndex;
+
+      if (inverse)
+      {
+         for (int index = originalStartIndex; index < endIndex; index += FLOAT_SPECIES.length())
+         {
+            FloatVector x = FloatVector.fromArray(FLOAT_SPECIES, xsOriginal, index).sub(ftx);
+            FloatVector y = FloatVector.fromArray(FLOAT_SPECIES, ysOriginal, index).sub(fty);
+            FloatVector z = FloatVector.fromArray(FLOAT_SPECIES, zsOriginal, index).sub(ftz);
+            int transformedIndex = index + offset;
+            x.mul(f00).add(y.mul(f01)).add(z.mul(f02)).intoArray(xsTransformed, transformedIndex);
+            x.mul(f10).add(y.mul(f11)).add(z.mul(f12)).intoArray(ysTransformed, transformedIndex);
+            x.mul(f20).add(y.mul(f21)).add(z.mul(f22)).intoArray(zsTransformed, transformedIndex);
+         }
+      }
+      else
+      {
+         for (int index = originalStartIndex; index < endIndex; index += FLOAT_SPECIES.length())
+         {
+            FloatVector x = FloatVector.fromArray(FLOAT_SPECIES, xsOriginal, index);
+            FloatVector y = FloatVector.fromArray(FLOAT_SPECIES, ysOriginal, index);
+            FloatVector z = FloatVector.fromArray(FLOAT_SPECIES, zsOriginal, index);
+            int transformedIndex = index + offset;
+            x.mul(f00).add(y.mul(f01)).add(z.mul(f02)).add(ftx).intoArray(xsTransformed, transformedIndex);
+            x.mul(f10).add(y.mul(f11)).add(z.mul(f12)).add(fty).intoArray(ysTransformed, transformedIndex);
+            x.mul(f20).add(y.mul(f21)).add(z.mul(f22)).add(ftz).intoArray(zsTransformed, transformedIndex);
+         }
+      }
+
+      scalarKernel.transformStructureOfArrays(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, inverse,
+                                              xsOriginal, ysOriginal, zsOriginal, endIndex,
+                                              xsTransformed, ysTransformed, zsTransformed, endIndex + offset,
+                                              numberOfPoints - numberOfVectorizedPoints);
+   }
+}
@@ -0,0 +1,224 @@
+package us.ihmc.euclid.geometry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+
+public class DynamicBoundingBoxTree3DTest
+{
+   private static final int ITERATIONS = 100;
+
+   @Test
+   public void testAgainstBruteForce()
+   {
+      Random random = new Random(4365);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         double margin = random.nextBoolean() ? 0.0 : random.nextDouble() * 0.2;
+         DynamicBoundingBoxTree3D<BoundingBox3D> tree = new DynamicBoundingBoxTree3D<>(margin, 1);
+         List<Integer> leaves = new ArrayList<>();
+         int numberOfLeaves = random.nextInt(200) + 1;
+
+         for (int j = 0; j < numberOfLeaves; j++)
+         {
+            BoundingBox3D boundingBox = EuclidGeometryRandomTools.nextBoundingBox3D(random, 10.0, 2.0);
+            leaves.add(tree.insert(boundingBox, boundingBox));
+         }
+
+         for (int step = 0; step < 5; step++)
+         {
+            tree.validate();
+            assertEquals(leaves.size(), tree.getNumberOfLeaves());
+            assertEquals(2 * leaves.size() - 1, tree.getNumberOfNodes());
+            // The tree should remain reasonably well balanced.
+            assertTrue(tree.getHeight() <= 4.0 * Math.ceil(Math.log(leaves.size()) / Math.log(2.0)) + 1, "Height: " + tree.getHeight());
+
+            assertOverlapQueries(random, tree, leaves);
+            assertRayQueries(random, tree, leaves);
+            assertNearestQueries(random, tree, leaves);
+
+            // Moving some leaves
+            for (int j = 0; j < leaves.size(); j++)
+            {
+               if (random.nextBoolean())
+                  continue;
+               int leaf = leaves.get(j);
+               BoundingBox3D boundingBox = tree.getUserData(leaf);
+               Vector3D translation = EuclidCoreRandomTools.nextVector3D(random, 0.3);
+               boundingBox.getMinPoint().add(translation);
+               boundingBox.getMaxPoint().add(translation);
+               boolean expectedModified = !isInside(boundingBox, tree, leaf);
+               assertEquals(expectedModified, tree.update(leaf, boundingBox));
+               assertTrue(isInside(boundingBox, tree, leaf));
+            }
+
+            // Removing and inserting some leaves
+            for (int j = 0; j < random.nextInt(20); j++)
+            {
+               if (leaves.size() > 1)
+               {
+                  int leaf = leaves.remove(random.nextInt(leaves.size()));
+                  BoundingBox3D boundingBox = tree.getUserData(leaf);
+                  assertTrue(boundingBox == tree.remove(leaf));
+                  assertThrows(IllegalArgumentException.class, () -> tree.remove(leaf));
+               }
+            }
+
+            for (int j = 0; j < random.nextInt(20); j++)
+            {
+               BoundingBox3D boundingBox = EuclidGeometryRandomTools.nextBoundingBox3D(random, 10.0, 2.0);
+               leaves.add(tree.insert(boundingBox, boundingBox));
+            }
+         }
+
+         tree.clear();
+         tree.validate();
+         assertEquals(0, tree.getNumberOfLeaves());
+         assertEquals(-1, tree.getHeight());
+         assertEquals(DynamicBoundingBoxTree3D.NULL_NODE, tree.queryNearest(new Point3D()));
+      }
+   }
+
+   @Test
+   public void testLargeTree()
+   {
+      Random random = new Random(6453);
+      DynamicBoundingBoxTree3D<Object> tree = new DynamicBoundingBoxTree3D<>();
+      int numberOfLeaves = 100000;
+
+      for (int i = 0; i < numberOfLeaves; i++)
+         tree.insert(EuclidGeometryRandomTools.nextBoundingBox3D(random, 100.0, 0.5), null);
+
+      tree.validate();
+      assertEquals(numberOfLeaves, tree.getNumberOfLeaves());
+      assertTrue(tree.getHeight() < 50, "Height: " + tree.getHeight());
+   }
+
+   private static void assertOverlapQueries(Random random, DynamicBoundingBoxTree3D<BoundingBox3D> tree, List<Integer> leaves)
+   {
+      for (int i = 0; i < 10; i++)
+      {
+         BoundingBox3D query = EuclidGeometryRandomTools.nextBoundingBox3D(random, 10.0, 5.0);
+         BoundingBox3D leafBoundingBox = new BoundingBox3D();
+         Set<Integer> expected = new HashSet<>();
+
+         for (int leaf : leaves)
+         {
+            tree.getBoundingBox(leaf, leafBoundingBox);
+            if (leafBoundingBox.intersectsInclusive(query))
+               expected.add(leaf);
+         }
+
+         Set<Integer> actual = new HashSet<>();
+         int numberOfResults = tree.queryOverlaps(query, actual::add);
+         assertEquals(expected, actual);
+         assertEquals(expected.size(), numberOfResults);
+      }
+   }
+
+   private static void assertRayQueries(Random random, DynamicBoundingBoxTree3D<BoundingBox3D> tree, List<Integer> leaves)
+   {
+      for (int i = 0; i < 10; i++)
+      {
+         Point3D rayOrigin = EuclidCoreRandomTools.nextPoint3D(random, 15.0);
+         Vector3D rayDirection = EuclidCoreRandomTools.nextVector3DWithFixedLength(random, 1.0);
+         BoundingBox3D leafBoundingBox = new BoundingBox3D();
+         Set<Integer> expected = new HashSet<>();
+         int expectedClosest = DynamicBoundingBoxTree3D.NULL_NODE;
+         double expectedClosestDistance = Double.POSITIVE_INFINITY;
+         Point3D intersection = new Point3D();
+
+         for (int leaf : leaves)
+         {
+            tree.getBoundingBox(leaf, leafBoundingBox);
+            double distance;
+
+            if (leafBoundingBox.isInsideInclusive(rayOrigin))
+               distance = 0.0;
+            else if (EuclidGeometryTools.intersectionBetweenRay3DAndBoundingBox3D(leafBoundingBox.getMinPoint(),
+                                                                                  leafBoundingBox.getMaxPoint(),
+                                                                                  rayOrigin,
+                                                                                  rayDirection,
+                                                                                  intersection,
+                                                                                  null) > 0)
+               distance = intersection.distance(rayOrigin);
+            else
+               continue;
+
+            expected.add(leaf);
+
+            if (distance < expectedClosestDistance)
+            {
+               expectedClosest = leaf;
+               expectedClosestDistance = distance;
+            }
+         }
+
+         Set<Integer> actual = new HashSet<>();
+         int numberOfResults = tree.queryRay(rayOrigin, rayDirection, actual::add);
+         assertEquals(expected, actual);
+         assertEquals(expected.size(), numberOfResults);
+
+         int actualClosest = tree.queryRayClosest(rayOrigin, rayDirection, intersection);
+
+         if (expectedClosest == DynamicBoundingBoxTree3D.NULL_NODE)
+         {
+            assertEquals(DynamicBoundingBoxTree3D.NULL_NODE, actualClosest);
+            assertTrue(intersection.containsNaN());
+         }
+         else
+         {
+            assertEquals(expectedClosestDistance, intersection.distance(rayOrigin), 1.0e-12);
+         }
+      }
+   }
+
+   private static void assertNearestQueries(Random random, DynamicBoundingBoxTree3D<BoundingBox3D> tree, List<Integer> leaves)
+   {
+      for (int i = 0; i < 10; i++)
+      {
+         Point3D query = EuclidCoreRandomTools.nextPoint3D(random, 15.0);
+         BoundingBox3D leafBoundingBox = new BoundingBox3D();
+         double expectedDistance = Double.POSITIVE_INFINITY;
+
+         for (int leaf : leaves)
+         {
+            tree.getBoundingBox(leaf, leafBoundingBox);
+            expectedDistance = Math.min(expectedDistance, distance(leafBoundingBox, query));
+         }
+
+         int actual = tree.queryNearest(query);
+         tree.getBoundingBox(actual, leafBoundingBox);
+         assertEquals(expectedDistance, distance(leafBoundingBox, query), 1.0e-12);
+      }
+   }
+
+   private static double distance(BoundingBox3D boundingBox, Point3D point)
+   {
+      Point3D closest = new Point3D();
+      closest.setX(Math.max(boundingBox.getMinX(), Math.min(point.getX(), boundingBox.getMaxX())));
+      closest.setY(Math.max(boundingBox.getMinY(), Math.min(point.getY(), boundingBox.getMaxY())));
+      closest.setZ(Math.max(boundingBox.getMinZ(), Math.min(point.getZ(), boundingBox.getMaxZ())));
+      return closest.distance(point);
+   }
+
+   private static boolean isInside(BoundingBox3D boundingBox, DynamicBoundingBoxTree3D<?> tree, int leaf)
+   {
+      BoundingBox3D fattenedBoundingBox = new BoundingBox3D();
+      tree.getBoundingBox(leaf, fattenedBoundingBox);
+      return fattenedBoundingBox.isInsideInclusive(boundingBox.getMinPoint()) && fattenedBoundingBox.isInsideInclusive(boundingBox.getMaxPoint());
+   }
+}
@@ -0,0 +1,202 @@
+package us.ihmc.euclid.geometry;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.geometry.PointCloud3D.PointView;
+import us.ihmc.euclid.geometry.interfaces.Vertex3DSupplier;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+public class PointCloud3DTest
+{
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testAgainstListOfPoints()
+   {
+      Random random = new Random(7812);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         PointCloud3D cloud = new PointCloud3D(random.nextInt(3));
+         List<Point3D> expected = new ArrayList<>();
+         int numberOfOperations = random.nextInt(100);
+
+         for (int j = 0; j < numberOfOperations; j++)
+         {
+            switch (random.nextInt(6))
+            {
+               case 0:
+               {
+                  Point3D point = EuclidCoreRandomTools.nextPoint3D(random);
+                  expected.add(point);
+                  if (random.nextBoolean())
+                     cloud.add(point);
+                  else
+                     cloud.add(point.getX(), point.getY(), point.getZ());
+                  break;
+               }
+               case 1:
+               {
+                  int numberOfPoints = random.nextInt(10);
+                  int startIndex = random.nextInt(5);
+                  double[] coordinates = new double[startIndex + 3 * numberOfPoints];
+                  for (int k = 0; k < numberOfPoints; k++)
+                  {
+                     Point3D point = EuclidCoreRandomTools.nextPoint3D(random);
+                     point.get(startIndex + 3 * k, coordinates);
+                     expected.add(point);
+                  }
+                  cloud.addAll(coordinates, startIndex, numberOfPoints);
+                  break;
+               }
+               case 2:
+               {
+                  int numberOfPoints = random.nextInt(10);
+                  float[] coordinates = new float[3 * numberOfPoints];
+                  for (int k = 0; k < numberOfPoints; k++)
+                  {
+                     Point3D point = EuclidCoreRandomTools.nextPoint3D(random);
+                     point.get(3 * k, coordinates);
+                     expected.add(new Point3D(coordinates[3 * k], coordinates[3 * k + 1], coordinates[3 * k + 2]));
+                  }
+                  cloud.addAll(coordinates, 0, numberOfPoints);
+                  break;
+               }
+               case 3:
+               {
+                  List<Point3D> points = EuclidGeometryRandomTools.nextPointCloud3D(random, 1.0, 1.0, random.nextInt(10));
+                  expected.addAll(points);
+                  cloud.addAll(Vertex3DSupplier.asVertex3DSupplier(points));
+                  break;
+               }
+               case 4:
+               {
+                  if (expected.isEmpty())
+                     break;
+                  int index = random.nextInt(expected.size());
+                  Point3D point = EuclidCoreRandomTools.nextPoint3D(random);
+                  expected.get(index).set(point);
+                  if (random.nextBoolean())
+                     cloud.set(index, point);
+                  else
+                     cloud.getVertex(index).set(point);
+                  break;
+               }
+               default:
+               {
+                  if (expected.isEmpty())
+                     break;
+                  int index = random.nextInt(expected.size());
+                  expected.set(index, expected.get(expected.size() - 1));
+                  expected.remove(expected.size() - 1);
+                  cloud.removeFast(index);
+                  break;
+               }
+            }
+
+            assertEquals(expected.size(), cloud.getNumberOfVertices());
+            assertTrue(cloud.getCapacity() >= cloud.getNumberOfVertices());
+         }
+
+         Vertex3DSupplier expectedSupplier = Vertex3DSupplier.asVertex3DSupplier(expected);
+         assertTrue(cloud.equals(expectedSupplier));
+         assertTrue(expectedSupplier.equals(cloud));
+         assertEquals(expectedSupplier.hashCode(), cloud.hashCode());
+         assertEquals(expectedSupplier.toString(), cloud.toString());
+
+         PointView view = cloud.newPointView();
+         Point3D point = new Point3D();
+
+         for (int j = 0; j < expected.size(); j++)
+         {
+            view.setIndex(j);
+            assertEquals(expected.get(j), view);
+            assertEquals(expected.get(j).getX(), cloud.getX(j));
+            assertEquals(expected.get(j).getY(), cloud.getY(j));
+            assertEquals(expected.get(j).getZ(), cloud.getZ(j));
+            cloud.get(j, point);
+            assertEquals(expected.get(j), point);
+         }
+
+         PointCloud3D copy = new PointCloud3D();
+         copy.set(cloud);
+         assertEquals(cloud, copy);
+         assertEquals(cloud, new PointCloud3D(expectedSupplier));
+         copy.addAll(cloud);
+         assertEquals(2 * expected.size(), copy.getNumberOfVertices());
+
+         cloud.trimToSize();
+         assertEquals(expected.size(), cloud.getCapacity());
+      }
+   }
+
+   @Test
+   public void testClearDoesNotReleaseStorage()
+   {
+      Random random = new Random(3467);
+      PointCloud3D cloud = new PointCloud3D();
+
+      for (int i = 0; i < 100; i++)
+         cloud.add(EuclidCoreRandomTools.nextPoint3D(random));
+
+      int capacity = cloud.getCapacity();
+      cloud.clear();
+      assertEquals(0, cloud.getNumberOfVertices());
+      assertTrue(cloud.isEmpty());
+      assertEquals(capacity, cloud.getCapacity());
+
+      for (int i = 0; i < 100; i++)
+         cloud.add(EuclidCoreRandomTools.nextPoint3D(random));
+      assertEquals(capacity, cloud.getCapacity());
+   }
+
+   @Test
+   public void testApplyTransform()
+   {
+      Random random = new Random(2346);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         List<Point3D> points = EuclidGeometryRandomTools.nextPointCloud3D(random, 1.0, 1.0, random.nextInt(20));
+         PointCloud3D cloud = new PointCloud3D(Vertex3DSupplier.asVertex3DSupplier(points));
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+
+         cloud.applyTransform(transform);
+         for (int j = 0; j < points.size(); j++)
+         {
+            Point3D expected = new Point3D(points.get(j));
+            expected.applyTransform(transform);
+            EuclidCoreTestTools.assertEquals(expected, cloud.getVertex(j), EPSILON);
+         }
+
+         cloud.applyInverseTransform(transform);
+         EuclidCoreTestTools.assertEquals(Vertex3DSupplier.asVertex3DSupplier(points), cloud, EPSILON);
+      }
+   }
+
+   @Test
+   public void testIndexChecks()
+   {
+      PointCloud3D cloud = new PointCloud3D(0);
+      assertThrows(IllegalArgumentException.class, () -> new PointCloud3D(-1));
+      assertThrows(IndexOutOfBoundsException.class, () -> cloud.getVertex(0));
+      cloud.add(1.0, 2.0, 3.0);
+      assertThrows(IndexOutOfBoundsException.class, () -> cloud.getX(1));
+      assertThrows(IndexOutOfBoundsException.class, () -> cloud.set(-1, 0.0, 0.0, 0.0));
+      assertThrows(IndexOutOfBoundsException.class, () -> cloud.newPointView().setIndex(1));
+      assertThrows(IndexOutOfBoundsException.class, () -> cloud.addAll(new double[5], 0, 2));
+      assertThrows(IndexOutOfBoundsException.class, () -> cloud.addAll(new float[6], 1, 2));
+      assertEquals(1, cloud.getNumberOfVertices());
+   }
+}
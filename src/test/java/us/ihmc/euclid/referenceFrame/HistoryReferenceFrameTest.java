@@ -0,0 +1,175 @@
+package us.ihmc.euclid.referenceFrame;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.referenceFrame.tools.ReferenceFrameTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+public class HistoryReferenceFrameTest
+{
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testGetTransformToParent()
+   {
+      Random random = new Random(3463);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root" + i);
+         int capacity = random.nextInt(20) + 2;
+         HistoryReferenceFrame frame = new HistoryReferenceFrame("frame" + i, root, capacity);
+         int numberOfSamples = random.nextInt(3 * capacity) + 2;
+         long[] timestamps = new long[numberOfSamples];
+         RigidBodyTransform[] transforms = new RigidBodyTransform[numberOfSamples];
+         long timestamp = random.nextInt(1000);
+
+         for (int j = 0; j < numberOfSamples; j++)
+         {
+            timestamp += random.nextInt(100) + 1;
+            timestamps[j] = timestamp;
+            transforms[j] = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+            frame.setTransformAndUpdate(timestamp, transforms[j]);
+            EuclidCoreTestTools.assertEquals(transforms[j], frame.getTransformToParent(), EPSILON);
+         }
+
+         int oldest = Math.max(0, numberOfSamples - capacity);
+         assertEquals(Math.min(capacity, numberOfSamples), frame.getNumberOfSamples());
+         assertEquals(timestamps[oldest], frame.getOldestTimestamp());
+         assertEquals(timestamps[numberOfSamples - 1], frame.getNewestTimestamp());
+
+         RigidBodyTransform actual = new RigidBodyTransform();
+
+         for (int j = oldest; j < numberOfSamples; j++)
+         {
+            frame.getTransformToParent(timestamps[j], actual);
+            EuclidCoreTestTools.assertEquals(transforms[j], actual, EPSILON);
+         }
+
+         for (int j = oldest; j < numberOfSamples - 1; j++)
+         {
+            long queryTimestamp = timestamps[j] + random.nextInt((int) (timestamps[j + 1] - timestamps[j]));
+            double alpha = (double) (queryTimestamp - timestamps[j]) / (double) (timestamps[j + 1] - timestamps[j]);
+            Quaternion expectedOrientation = new Quaternion(transforms[j].getRotation());
+            expectedOrientation.interpolate(new Quaternion(transforms[j + 1].getRotation()), alpha);
+            Vector3D expectedTranslation = new Vector3D();
+            expectedTranslation.interpolate(transforms[j].getTranslation(), transforms[j + 1].getTranslation(), alpha);
+
+            frame.getTransformToParent(queryTimestamp, actual);
+            EuclidCoreTestTools.assertEquals(new RigidBodyTransform(expectedOrientation, expectedTranslation), actual, EPSILON);
+         }
+
+         // Outside the history, the timestamp is clamped.
+         frame.getTransformToParent(timestamps[oldest] - 1, actual);
+         EuclidCoreTestTools.assertEquals(transforms[oldest], actual, EPSILON);
+         frame.getTransformToParent(timestamps[numberOfSamples - 1] + 1000, actual);
+         EuclidCoreTestTools.assertEquals(transforms[numberOfSamples - 1], actual, EPSILON);
+
+         // Same timestamp replaces the newest sample, older timestamps are rejected.
+         RigidBodyTransform replacement = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         frame.setTransformAndUpdate(timestamps[numberOfSamples - 1], replacement);
+         assertEquals(Math.min(capacity, numberOfSamples), frame.getNumberOfSamples());
+         frame.getTransformToParent(timestamps[numberOfSamples - 1], actual);
+         EuclidCoreTestTools.assertEquals(replacement, actual, EPSILON);
+         assertThrows(IllegalArgumentException.class, () -> frame.setTransformAndUpdate(timestamps[numberOfSamples - 1] - 1, replacement));
+
+         frame.clearHistory();
+         assertEquals(0, frame.getNumberOfSamples());
+         assertThrows(IllegalStateException.class, () -> frame.getNewestTimestamp());
+         frame.getTransformToParent(timestamps[0], actual);
+         EuclidCoreTestTools.assertEquals(replacement, actual, EPSILON);
+      }
+   }
+
+   @Test
+   public void testFailedUpdateLeavesHistoryUnchanged()
+   {
+      Random random = new Random(8734);
+      ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root");
+      HistoryReferenceFrame frame = new HistoryReferenceFrame("frame", root, 5);
+      RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+      frame.setTransformAndUpdate(10, transform);
+      frame.remove();
+
+      assertThrows(RuntimeException.class, () -> frame.setTransformAndUpdate(20, EuclidCoreRandomTools.nextRigidBodyTransform(random)));
+      assertEquals(1, frame.getNumberOfSamples());
+      assertEquals(10, frame.getNewestTimestamp());
+
+      // The history of a removed frame cannot be queried either.
+      assertThrows(RuntimeException.class, () -> frame.getTransformToParent(10, new RigidBodyTransform()));
+      assertThrows(RuntimeException.class, () -> frame.getTransformToDesiredFrame(10, new RigidBodyTransform(), root));
+   }
+
+   @Test
+   public void testGetTransformToDesiredFrame()
+   {
+      Random random = new Random(8456);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         // root -> base -> history1 -> fixed1 -> history2, and base -> history3
+         ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root" + i);
+         ReferenceFrame base = ReferenceFrameTools.constructFrameWithUnchangingTransformToParent("base" + i,
+                                                                                                 root,
+                                                                                                 EuclidCoreRandomTools.nextRigidBodyTransform(random));
+         HistoryReferenceFrame history1 = new HistoryReferenceFrame("history1" + i, base, 10);
+         ReferenceFrame fixed1 = ReferenceFrameTools.constructFrameWithUnchangingTransformToParent("fixed1" + i,
+                                                                                                   history1,
+                                                                                                   EuclidCoreRandomTools.nextRigidBodyTransform(random));
+         HistoryReferenceFrame history2 = new HistoryReferenceFrame("history2" + i, fixed1, 10);
+         HistoryReferenceFrame history3 = new HistoryReferenceFrame("history3" + i, base, 10);
+         HistoryReferenceFrame[] historyFrames = {history1, history2, history3};
+         RigidBodyTransform[][] transforms = new RigidBodyTransform[historyFrames.length][10];
+
+         for (int j = 0; j < 10; j++)
+         {
+            for (int k = 0; k < historyFrames.length; k++)
+            {
+               transforms[k][j] = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+               historyFrames[k].setTransformAndUpdate(10 * j, transforms[k][j]);
+            }
+         }
+
+         RigidBodyTransform actual = new RigidBodyTransform();
+
+         // At the newest timestamp, the result matches the current state of the frames.
+         history2.getTransformToDesiredFrame(90, actual, history3);
+         EuclidCoreTestTools.assertEquals(history2.getTransformToDesiredFrame(history3), actual, EPSILON);
+         history2.getTransformToDesiredFrame(90, actual, root);
+         EuclidCoreTestTools.assertEquals(history2.getTransformToRoot(), actual, EPSILON);
+
+         for (int j = 0; j < 10; j++)
+         {
+            RigidBodyTransform expected = new RigidBodyTransform(transforms[0][j]);
+            expected.multiply(fixed1.getTransformToParent());
+            expected.multiply(transforms[1][j]);
+            expected.preMultiplyInvertOther(transforms[2][j]);
+
+            history2.getTransformToDesiredFrame(10 * j, actual, history3);
+            EuclidCoreTestTools.assertEquals(expected, actual, EPSILON);
+
+            expected.invert();
+            history3.getTransformToDesiredFrame(10 * j, actual, history2);
+            EuclidCoreTestTools.assertEquals(expected, actual, EPSILON);
+         }
+
+         history2.getTransformToDesiredFrame(random.nextInt(100), actual, history2);
+         EuclidCoreTestTools.assertEquals(new RigidBodyTransform(), actual, EPSILON);
+
+         ReferenceFrame otherRoot = ReferenceFrameTools.constructARootFrame("otherRoot" + i);
+         assertThrows(RuntimeException.class, () -> history2.getTransformToDesiredFrame(0, actual, otherRoot));
+      }
+
+      assertThrows(IllegalArgumentException.class, () -> new HistoryReferenceFrame("frame", ReferenceFrame.getWorldFrame(), 0));
+   }
+}
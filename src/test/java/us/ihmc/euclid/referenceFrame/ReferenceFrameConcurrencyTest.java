@@ -0,0 +1,257 @@
+package us.ihmc.euclid.referenceFrame;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.referenceFrame.tools.ReferenceFrameTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformReadOnly;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+public class ReferenceFrameConcurrencyTest
+{
+   private static final int ITERATIONS = 20;
+   private static final int NUMBER_OF_THREADS = 8;
+   private static final int NUMBER_OF_FRAMES = 40;
+   private static final int NUMBER_OF_QUERIES_PER_THREAD = 5000;
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testConcurrentReadsMatchSingleThreaded() throws Throwable
+   {
+      Random random = new Random(3452);
+      ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root");
+      SettableFrame[] frames = nextSettableFrameTree(random, root);
+      ReferenceFrame[] framesWithRoot = new ReferenceFrame[frames.length + 1];
+      framesWithRoot[0] = root;
+      System.arraycopy(frames, 0, framesWithRoot, 1, frames.length);
+
+      for (int iteration = 0; iteration < ITERATIONS; iteration++)
+      {
+         for (SettableFrame frame : frames)
+            frame.setTransformAndUpdate(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+
+         // Computing the expected transforms with the single-threaded mode.
+         root.setConcurrentAccessEnabled(false);
+         RigidBodyTransform[][] expectedTransforms = new RigidBodyTransform[framesWithRoot.length][framesWithRoot.length];
+         for (int i = 0; i < framesWithRoot.length; i++)
+         {
+            for (int j = 0; j < framesWithRoot.length; j++)
+               expectedTransforms[i][j] = framesWithRoot[i].getTransformToDesiredFrame(framesWithRoot[j]);
+         }
+
+         // Invalidating the transforms to root before switching modes such that all the threads race to compute them.
+         for (SettableFrame frame : frames)
+            frame.update();
+         root.setConcurrentAccessEnabled(true);
+         assertTrue(frames[0].isConcurrentAccessEnabled());
+
+         long seed = random.nextLong();
+         runConcurrently(threadIndex ->
+         {
+            Random threadRandom = new Random(seed + threadIndex);
+            RigidBodyTransform actual = new RigidBodyTransform();
+            Point3D actualPoint = new Point3D();
+
+            for (int query = 0; query < NUMBER_OF_QUERIES_PER_THREAD; query++)
+            {
+               int i = threadRandom.nextInt(framesWithRoot.length);
+               int j = threadRandom.nextInt(framesWithRoot.length);
+               framesWithRoot[i].getTransformToDesiredFrame(actual, framesWithRoot[j]);
+               assertEquals(expectedTransforms[i][j], actual);
+
+               if (i > 0)
+                  assertEquals(expectedTransforms[i][0], framesWithRoot[i].getTransformToRoot());
+
+               Point3D expectedPoint = EuclidCoreRandomTools.nextPoint3D(threadRandom);
+               actualPoint.set(expectedPoint);
+               framesWithRoot[i].transformFromThisToDesiredFrame(framesWithRoot[j], actualPoint);
+               expectedTransforms[i][j].transform(expectedPoint);
+               assertTrue(expectedPoint.epsilonEquals(actualPoint, EPSILON));
+            }
+         });
+      }
+
+      root.setConcurrentAccessEnabled(false);
+      assertFalse(frames[0].isConcurrentAccessEnabled());
+   }
+
+   @Test
+   public void testConcurrentReadsDuringUpdates() throws Throwable
+   {
+      Random random = new Random(9234);
+      int chainLength = 4;
+
+      for (int iteration = 0; iteration < ITERATIONS; iteration++)
+      {
+         ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root" + iteration);
+         SettableFrame[] chain = new SettableFrame[chainLength];
+         // Each frame of the chain switches between 2 transforms.
+         RigidBodyTransform[][] states = new RigidBodyTransform[chainLength][2];
+
+         for (int i = 0; i < chainLength; i++)
+         {
+            chain[i] = new SettableFrame("frame" + i, i == 0 ? root : chain[i - 1]);
+            states[i][0] = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+            states[i][1] = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         }
+
+         // Computing the transform to root of the last frame for every combination of states.
+         List<RigidBodyTransform> possibleTransformsToRoot = new ArrayList<>();
+         for (int combination = 0; combination < (1 << chainLength); combination++)
+         {
+            for (int i = 0; i < chainLength; i++)
+               chain[i].setTransformAndUpdate(states[i][(combination >> i) & 1]);
+            possibleTransformsToRoot.add(new RigidBodyTransform(chain[chainLength - 1].getTransformToRoot()));
+         }
+
+         root.setConcurrentAccessEnabled(true);
+         AtomicBoolean isDone = new AtomicBoolean(false);
+         long seed = random.nextLong();
+
+         runConcurrently(threadIndex ->
+         {
+            Random threadRandom = new Random(seed + threadIndex);
+
+            if (threadIndex == 0)
+            { // The writer
+               for (int query = 0; query < NUMBER_OF_QUERIES_PER_THREAD; query++)
+               {
+                  int i = threadRandom.nextInt(chainLength);
+                  chain[i].setTransformAndUpdate(states[i][threadRandom.nextInt(2)]);
+               }
+               isDone.set(true);
+            }
+            else
+            { // The readers
+               int query = 0;
+               while (!isDone.get() || query < NUMBER_OF_QUERIES_PER_THREAD)
+               {
+                  RigidBodyTransform actual = chain[chainLength - 1].getTransformToRoot();
+                  assertTrue(possibleTransformsToRoot.contains(actual), "Unexpected transform to root:\n" + actual);
+                  query++;
+               }
+            }
+         });
+
+         // Once the writer is done, all the threads have to agree on the last state.
+         RigidBodyTransform expected = new RigidBodyTransform();
+         for (int i = 0; i < chainLength; i++)
+            expected.multiply(chain[i].getTransformToParent());
+         expected.normalizeRotationPart();
+         RigidBodyTransform actual = chain[chainLength - 1].getTransformToRoot();
+         assertTrue(possibleTransformsToRoot.contains(actual));
+         assertTrue(expected.epsilonEquals(actual, EPSILON));
+
+         root.setConcurrentAccessEnabled(false);
+         assertEquals(actual, chain[chainLength - 1].getTransformToRoot());
+      }
+   }
+
+   @Test
+   public void testRootFrame()
+   {
+      ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root");
+      SettableFrame child = new SettableFrame("child", root);
+      root.setConcurrentAccessEnabled(true);
+      assertNull(root.getTransformToRoot());
+
+      // Frames created after enabling the mode are also published.
+      RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(new Random(453));
+      SettableFrame grandChild = new SettableFrame("grandChild", child, transform);
+      assertTrue(transform.epsilonEquals(grandChild.getTransformToRoot(), EPSILON));
+      assertTrue(transform.epsilonEquals(grandChild.getTransformToDesiredFrame(child), EPSILON));
+      assertTrue(transform.epsilonEquals(grandChild.getTransformToParent(), EPSILON));
+   }
+
+   private static SettableFrame[] nextSettableFrameTree(Random random, ReferenceFrame root)
+   {
+      SettableFrame[] frames = new SettableFrame[NUMBER_OF_FRAMES];
+
+      for (int i = 0; i < NUMBER_OF_FRAMES; i++)
+      {
+         ReferenceFrame parent = i == 0 ? root : random.nextInt(4) == 0 ? root : frames[random.nextInt(i)];
+         frames[i] = new SettableFrame("frame" + i, parent);
+      }
+
+      return frames;
+   }
+
+   private static void runConcurrently(ThreadTask task) throws Throwable
+   {
+      AtomicReference<Throwable> error = new AtomicReference<>();
+      CountDownLatch startLatch = new CountDownLatch(1);
+      Thread[] threads = new Thread[NUMBER_OF_THREADS];
+
+      for (int i = 0; i < NUMBER_OF_THREADS; i++)
+      {
+         int threadIndex = i;
+         threads[i] = new Thread(() ->
+         {
+            try
+            {
+               startLatch.await();
+               task.run(threadIndex);
+            }
+            catch (Throwable e)
+            {
+               error.compareAndSet(null, e);
+            }
+         }, "ReferenceFrameConcurrencyTest-" + i);
+         threads[i].start();
+      }
+
+      startLatch.countDown();
+
+      for (Thread thread : threads)
+         thread.join();
+
+      if (error.get() != null)
+         throw error.get();
+   }
+
+   private static interface ThreadTask
+   {
+      void run(int threadIndex) throws Throwable;
+   }
+
+   private static class SettableFrame extends ReferenceFrame
+   {
+      private final RigidBodyTransform transform = new RigidBodyTransform();
+
+      public SettableFrame(String frameName, ReferenceFrame parentFrame)
+      {
+         super(frameName, parentFrame);
+      }
+
+      public SettableFrame(String frameName, ReferenceFrame parentFrame, RigidBodyTransformReadOnly transformToParent)
+      {
+         super(frameName, parentFrame, transformToParent);
+         transform.set(transformToParent);
+      }
+
+      public void setTransformAndUpdate(RigidBodyTransformReadOnly transform)
+      {
+         this.transform.set(transform);
+         update();
+      }
+
+      @Override
+      protected void updateTransformToParent(RigidBodyTransform transformToParent)
+      {
+         transformToParent.set(transform);
+      }
+   }
+}
@@ -2,6 +2,7 @@ package us.ihmc.euclid.referenceFrame;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
@@ -14,6 +15,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.AfterEach;
@@ -22,6 +25,7 @@ import org.junit.jupiter.api.Test;
 
 import us.ihmc.euclid.EuclidMutationTesting;
 import us.ihmc.euclid.EuclidTestConstants;
+import us.ihmc.euclid.referenceFrame.exceptions.ReferenceFrameMismatchException;
 import us.ihmc.euclid.referenceFrame.tools.EuclidFrameRandomTools;
 import us.ihmc.euclid.referenceFrame.tools.ReferenceFrameTools;
 import us.ihmc.euclid.tools.EuclidCoreRandomTools;
@@ -114,6 +118,72 @@ public class ReferenceFrameTest
       assertTrue(averageUsedMemoryInMB < 1.0);
    }
 
+   @Test
+   public void testGarbageCollectedChildrenArePruned()
+   {
+      Random random = new Random(2376);
+      ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root");
+      int[] numberOfChanges = new int[3];
+      root.addListener(change ->
+      {
+         if (change.wasAdded())
+            numberOfChanges[0]++;
+         else if (change.wasRemoved())
+            numberOfChanges[1]++;
+         else if (change.wasGarbageCollected() && change.getTargetParent() == root && change.getTarget() == null)
+            numberOfChanges[2]++;
+      });
+
+      List<ReferenceFrame> keptFrames = new ArrayList<>();
+      int numberOfDroppedFrames = 0;
+
+      for (int i = 0; i < 1000; i++)
+      {
+         ReferenceFrame frame = EuclidFrameRandomTools.nextReferenceFrame("frame" + i, random, root);
+         if (random.nextInt(10) == 0)
+            keptFrames.add(frame);
+         else
+            numberOfDroppedFrames++;
+      }
+
+      assertEquals(1000, numberOfChanges[0]);
+      int expectedNumberOfCollectedFrames = numberOfDroppedFrames;
+      // The garbage collector gives no guarantee on when the frames are collected, polling until they all are.
+      awaitGarbageCollection(() ->
+      {
+         root.pruneGarbageCollectedFrames();
+         return numberOfChanges[2] == expectedNumberOfCollectedFrames;
+      });
+
+      // The remaining children are still in the order they were added.
+      assertEquals(keptFrames.size(), root.getNumberOfChildren());
+      for (int i = 0; i < keptFrames.size(); i++)
+         Assertions.assertSame(keptFrames.get(i), root.getChild(i));
+
+      while (!keptFrames.isEmpty())
+      {
+         keptFrames.remove(random.nextInt(keptFrames.size())).remove();
+         assertEquals(keptFrames.size(), root.getNumberOfChildren());
+         for (int i = 0; i < keptFrames.size(); i++)
+            Assertions.assertSame(keptFrames.get(i), root.getChild(i));
+      }
+
+      assertEquals(1000 - numberOfDroppedFrames, numberOfChanges[1]);
+      assertEquals(numberOfDroppedFrames, numberOfChanges[2]);
+   }
+
+   private static void awaitGarbageCollection(BooleanSupplier condition)
+   {
+      long timeout = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+
+      while (!condition.getAsBoolean())
+      {
+         if (System.nanoTime() > timeout)
+            fail("Timed out waiting for the garbage collector.");
+         runGarbageCollector();
+      }
+   }
+
    private static void runGarbageCollector()
    {
       System.gc();
@@ -337,6 +407,49 @@ public class ReferenceFrameTest
       }
    }
 
+   @Test
+   public void testDirtyPropagation()
+   {
+      Random random = new Random(8732);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root" + i);
+         RandomlyChangingFrame[] treeFrame = nextRandomlyChangingFrameTree("tree" + i + "_", random, root, 100);
+         root.setDirtyPropagationEnabled(random.nextBoolean());
+
+         for (int j = 0; j < 10; j++)
+         {
+            if (random.nextInt(5) == 0)
+            { // Switching modes must not affect the results.
+               treeFrame[random.nextInt(treeFrame.length)].setDirtyPropagationEnabled(!root.isDirtyPropagationEnabled());
+            }
+
+            int numberOfRandomUpdates = random.nextInt(treeFrame.length / 2) + 1;
+            for (int k = 0; k < numberOfRandomUpdates; k++)
+            {
+               treeFrame[random.nextInt(treeFrame.length)].update();
+            }
+
+            for (int k = 0; k < treeFrame.length / 2; k++)
+            {
+               RandomlyChangingFrame frame = treeFrame[random.nextInt(treeFrame.length)];
+               verifyTransformToRootByClimbingTree(frame, frame.getTransformToRoot());
+            }
+         }
+      }
+
+      ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root");
+      RandomlyChangingFrame[] treeFrame = nextRandomlyChangingFrameTree("tree", random, root, 10);
+      treeFrame[5].setDirtyPropagationEnabled(true);
+      assertTrue(root.isDirtyPropagationEnabled());
+      assertTrue(treeFrame[0].isDirtyPropagationEnabled());
+      root.setDirtyPropagationEnabled(false);
+      assertFalse(treeFrame[9].isDirtyPropagationEnabled());
+      root.setDirtyPropagationEnabled(true);
+      assertNull(root.getTransformToRoot());
+   }
+
    @Test
    public void getTransformToSelf()
    {
@@ -351,6 +464,37 @@ public class ReferenceFrameTest
       }
    }
 
+   @Test
+   public void testGetTransformBetweenFramesFarFromRoot()
+   {
+      Random random = new Random(6342);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root" + i);
+         RigidBodyTransform farTransform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         farTransform.getTranslation().scale(1.0e6);
+         ReferenceFrame farFrame = ReferenceFrameTools.constructFrameWithUnchangingTransformToParent("far" + i, root, farTransform);
+         RigidBodyTransform[] branchTransforms = new RigidBodyTransform[4];
+         for (int j = 0; j < branchTransforms.length; j++)
+            branchTransforms[j] = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         ReferenceFrame a1 = ReferenceFrameTools.constructFrameWithUnchangingTransformToParent("a1" + i, farFrame, branchTransforms[0]);
+         ReferenceFrame a2 = ReferenceFrameTools.constructFrameWithUnchangingTransformToParent("a2" + i, a1, branchTransforms[1]);
+         ReferenceFrame b1 = ReferenceFrameTools.constructFrameWithUnchangingTransformToParent("b1" + i, farFrame, branchTransforms[2]);
+         ReferenceFrame b2 = ReferenceFrameTools.constructFrameWithUnchangingTransformToParent("b2" + i, b1, branchTransforms[3]);
+
+         // Composing the branches from the common ancestor is not affected by the large transform to root.
+         RigidBodyTransform expected = new RigidBodyTransform(branchTransforms[0]);
+         expected.multiply(branchTransforms[1]);
+         expected.preMultiplyInvertOther(branchTransforms[2]);
+         expected.preMultiplyInvertOther(branchTransforms[3]);
+         EuclidCoreTestTools.assertEquals(expected, a2.getTransformToDesiredFrame(b2), 1.0e-12);
+
+         expected.invert();
+         EuclidCoreTestTools.assertEquals(expected, b2.getTransformToDesiredFrame(a2), 1.0e-12);
+      }
+   }
+
    @Test
    public void testGetTransformBetweenFrames()
    {
@@ -777,6 +921,53 @@ public class ReferenceFrameTest
       ReferenceFrame.getWorldFrame().setNameRestrictionLevel(ReferenceFrame.DEFAULT_RESTRICTION_LEVEL);
    }
 
+   @Test
+   public void testFindFrameInTree()
+   {
+      Random random = new Random(8731);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root" + i);
+         if (random.nextBoolean())
+            root.setNameRestrictionLevel(FrameNameRestrictionLevel.values()[random.nextInt(FrameNameRestrictionLevel.values().length)]);
+         ReferenceFrame[] frames = EuclidFrameRandomTools.nextReferenceFrameTree("frame", random, root, 30);
+
+         for (ReferenceFrame frame : frames)
+         {
+            ReferenceFrame searchingFrame = frames[random.nextInt(frames.length)];
+            Assertions.assertSame(frame, searchingFrame.findFrameInTreeByName(frame.getName()));
+            Assertions.assertSame(frame, searchingFrame.findFrameInTreeByNameId(frame.getNameId()));
+         }
+
+         // Frames added after the first lookup are also found.
+         ReferenceFrame newFrame = ReferenceFrameTools.constructFrameWithUnchangingTransformToParent("newFrame", frames[random.nextInt(frames.length)],
+                                                                                                    new RigidBodyTransform());
+         Assertions.assertSame(newFrame, root.findFrameInTreeByName("newFrame"));
+         Assertions.assertSame(newFrame, root.findFrameInTreeByNameId(newFrame.getNameId()));
+
+         assertNull(root.findFrameInTreeByName("unknownFrame"));
+         assertNull(root.findFrameInTreeByNameId(root.getNameId() + ReferenceFrame.SEPARATOR + "unknownFrame"));
+         assertNull(root.findFrameInTreeByName(ReferenceFrame.getWorldFrame().getName()));
+
+         // Removed frames are not found.
+         ReferenceFrame removedFrame = frames[random.nextInt(frames.length - 1) + 1];
+         String removedName = removedFrame.getName();
+         String removedNameId = removedFrame.getNameId();
+         removedFrame.remove();
+         assertNull(root.findFrameInTreeByName(removedName));
+         assertNull(root.findFrameInTreeByNameId(removedNameId));
+
+         // A frame with the name of a removed frame can be added again.
+         ReferenceFrame replacement = ReferenceFrameTools.constructFrameWithUnchangingTransformToParent(removedName, root, new RigidBodyTransform());
+         Assertions.assertSame(replacement, root.findFrameInTreeByName(removedName));
+
+         root.clearChildren();
+         assertNull(root.findFrameInTreeByName(removedName));
+         Assertions.assertSame(root, root.findFrameInTreeByName(root.getName()));
+      }
+   }
+
    @Test
    public void testAncestorCheck()
    {
@@ -869,9 +1060,13 @@ public class ReferenceFrameTest
          for (int paramIdx = 0; paramIdx < numberOfParameters; paramIdx++)
          {
             Class<?> parameterClass = method.getParameterTypes()[paramIdx];
-            if (parameterClass.isPrimitive())
+            if (parameterClass == boolean.class)
+            {
+               parameters[paramIdx] = false;
+            }
+            else if (parameterClass.isPrimitive())
             {
-               // Only works for some primitive types. If we add a public method that takes a boolean for example we will need to update this.
+               // Only works for some primitive types. If we add a public method that takes a char for example we will need to update this.
                parameters[paramIdx] = 0;
             }
          }
@@ -914,6 +1109,25 @@ public class ReferenceFrameTest
       });
    }
 
+   @Test
+   public void testFrameChecksEnabled()
+   {
+      // The frame checks can only be disabled when starting the JVM, tests always run with the checks.
+      assertTrue(ReferenceFrame.FRAME_CHECKS_ENABLED);
+      ReferenceFrame frameA = EuclidFrameRandomTools.nextReferenceFrame(new Random(34));
+      Assertions.assertThrows(ReferenceFrameMismatchException.class, () -> new FramePoint3D(frameA).checkReferenceFrameMatch(worldFrame));
+
+      String propertyKey = "euclid.referenceFrame.test.booleanProperty";
+      assertTrue(ReferenceFrame.loadBooleanFromEnvironment(propertyKey, null, true));
+      System.setProperty(propertyKey, "False");
+      assertFalse(ReferenceFrame.loadBooleanFromEnvironment(propertyKey, null, true));
+      System.setProperty(propertyKey, "true");
+      assertTrue(ReferenceFrame.loadBooleanFromEnvironment(propertyKey, null, false));
+      System.setProperty(propertyKey, "notABoolean");
+      assertFalse(ReferenceFrame.loadBooleanFromEnvironment(propertyKey, null, false));
+      System.clearProperty(propertyKey);
+   }
+
    public static void main(String[] args)
    {
       String targetTests = EuclidTestConstants.class.getName();
@@ -0,0 +1,226 @@
+package us.ihmc.euclid.referenceFrame;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.lang.ref.WeakReference;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.referenceFrame.tools.ReferenceFrameTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+public class ReferenceFrameTransformCacheTest
+{
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testAgainstReferenceFrame()
+   {
+      Random random = new Random(9754);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root" + i);
+         RandomFrame[] frames = nextRandomFrameTree(random, root, 30);
+         root.setDirtyPropagationEnabled(random.nextBoolean());
+         ReferenceFrameTransformCache cache = new ReferenceFrameTransformCache(random.nextInt(20) + 1);
+         RigidBodyTransform expected = new RigidBodyTransform();
+         RigidBodyTransform actual = new RigidBodyTransform();
+
+         for (int j = 0; j < 200; j++)
+         {
+            if (random.nextInt(4) == 0)
+            {
+               RandomFrame frame = frames[random.nextInt(frames.length)];
+               frame.randomize(random);
+               frame.update();
+            }
+
+            ReferenceFrame frame = random.nextInt(10) == 0 ? root : frames[random.nextInt(frames.length)];
+            ReferenceFrame desiredFrame = frames[random.nextInt(frames.length)];
+            frame.getTransformToDesiredFrame(expected, desiredFrame);
+            cache.getTransformToDesiredFrame(frame, desiredFrame, actual);
+            EuclidCoreTestTools.assertEquals(expected, actual, EPSILON);
+
+            Point3D expectedPoint = EuclidCoreRandomTools.nextPoint3D(random);
+            Point3D actualPoint = new Point3D(expectedPoint);
+            expected.transform(expectedPoint);
+            cache.transformFromThisToDesiredFrame(frame, desiredFrame, actualPoint);
+            EuclidCoreTestTools.assertEquals(expectedPoint, actualPoint, EPSILON);
+         }
+
+         assertTrue(cache.size() <= cache.getCapacity());
+      }
+   }
+
+   @Test
+   public void testStatistics()
+   {
+      Random random = new Random(3453);
+      ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root");
+      RandomFrame trunk = new RandomFrame("trunk", root);
+      RandomFrame left = new RandomFrame("left", trunk);
+      RandomFrame right = new RandomFrame("right", trunk);
+      RandomFrame leftEnd = new RandomFrame("leftEnd", left);
+      RandomFrame rightEnd = new RandomFrame("rightEnd", right);
+      ReferenceFrameTransformCache cache = new ReferenceFrameTransformCache(2);
+      RigidBodyTransform transform = new RigidBodyTransform();
+
+      assertTrue(Double.isNaN(cache.getHitRate()));
+
+      // Pairs that do not need a multiplication are not cached.
+      cache.getTransformToDesiredFrame(leftEnd, root, transform);
+      cache.getTransformToDesiredFrame(leftEnd, left, transform);
+      cache.getTransformToDesiredFrame(left, leftEnd, transform);
+      cache.getTransformToDesiredFrame(left, left, transform);
+      assertEquals(0, cache.size());
+      assertEquals(0, cache.getNumberOfMisses());
+
+      cache.getTransformToDesiredFrame(leftEnd, rightEnd, transform);
+      cache.getTransformToDesiredFrame(leftEnd, rightEnd, transform);
+      cache.getTransformToDesiredFrame(leftEnd, rightEnd, transform);
+      assertEquals(1, cache.size());
+      assertEquals(1, cache.getNumberOfMisses());
+      assertEquals(2, cache.getNumberOfHits());
+      assertEquals(2.0 / 3.0, cache.getHitRate(), EPSILON);
+
+      // Updating the common ancestor of the pair or a frame above does not change the transform.
+      trunk.randomize(random);
+      trunk.update();
+      cache.getTransformToDesiredFrame(leftEnd, rightEnd, transform);
+      assertEquals(1, cache.getNumberOfMisses());
+      assertEquals(3, cache.getNumberOfHits());
+
+      // Updating any frame in the path between the two frames invalidates the cached transform.
+      right.randomize(random);
+      right.update();
+      cache.getTransformToDesiredFrame(leftEnd, rightEnd, transform);
+      EuclidCoreTestTools.assertEquals(leftEnd.getTransformToDesiredFrame(rightEnd), transform, EPSILON);
+      assertEquals(2, cache.getNumberOfMisses());
+      cache.getTransformToDesiredFrame(leftEnd, rightEnd, transform);
+      assertEquals(4, cache.getNumberOfHits());
+
+      // The pair is directed.
+      cache.getTransformToDesiredFrame(rightEnd, leftEnd, transform);
+      assertEquals(3, cache.getNumberOfMisses());
+      assertEquals(2, cache.size());
+
+      // Evicting the least recently used pair.
+      cache.getTransformToDesiredFrame(leftEnd, rightEnd, transform);
+      cache.getTransformToDesiredFrame(leftEnd, right, transform);
+      assertEquals(1, cache.getNumberOfEvictions());
+      assertEquals(2, cache.size());
+      cache.getTransformToDesiredFrame(leftEnd, rightEnd, transform);
+      assertEquals(6, cache.getNumberOfHits());
+      cache.getTransformToDesiredFrame(rightEnd, leftEnd, transform);
+      assertEquals(5, cache.getNumberOfMisses());
+      assertEquals(2, cache.getNumberOfEvictions());
+
+      cache.resetStatistics();
+      assertEquals(0, cache.getNumberOfHits());
+      assertEquals(0, cache.getNumberOfMisses());
+      assertEquals(0, cache.getNumberOfEvictions());
+      cache.clear();
+      assertEquals(0, cache.size());
+      cache.getTransformToDesiredFrame(leftEnd, rightEnd, transform);
+      assertEquals(1, cache.getNumberOfMisses());
+
+      // Frames from different trees are rejected as usual.
+      ReferenceFrame otherFrame = new RandomFrame("other", ReferenceFrameTools.constructARootFrame("otherRoot"));
+      assertThrows(RuntimeException.class, () -> cache.getTransformToDesiredFrame(leftEnd, otherFrame, transform));
+      assertThrows(IllegalArgumentException.class, () -> new ReferenceFrameTransformCache(0));
+   }
+
+   @Test
+   public void testGarbageCollectedFrames()
+   {
+      Random random = new Random(2376);
+      ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root");
+      RandomFrame trunk = new RandomFrame("trunk", root);
+      RandomFrame left = new RandomFrame("left", trunk);
+      RandomFrame right = new RandomFrame("right", trunk);
+      ReferenceFrameTransformCache cache = new ReferenceFrameTransformCache(2);
+      RigidBodyTransform transform = new RigidBodyTransform();
+
+      cache.getTransformToDesiredFrame(left, right, transform);
+      WeakReference<ReferenceFrame> droppedFrame = cacheTransientFrame(random, cache, trunk, right);
+      assertEquals(2, cache.size());
+
+      // The cache does not keep the dropped frame alive.
+      long timeout = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+
+      while (droppedFrame.get() != null)
+      {
+         if (System.nanoTime() > timeout)
+            fail("Timed out waiting for the garbage collector.");
+         System.gc();
+         Thread.yield();
+      }
+
+      cache.getTransformToDesiredFrame(left, right, transform);
+      assertEquals(1, cache.getNumberOfHits());
+      cache.getTransformToDesiredFrame(right, left, transform);
+      EuclidCoreTestTools.assertEquals(right.getTransformToDesiredFrame(left), transform, EPSILON);
+      assertEquals(2, cache.size());
+      assertEquals(1, cache.getNumberOfEvictions());
+   }
+
+   private static WeakReference<ReferenceFrame> cacheTransientFrame(Random random,
+                                                                    ReferenceFrameTransformCache cache,
+                                                                    ReferenceFrame parentFrame,
+                                                                    ReferenceFrame desiredFrame)
+   {
+      RandomFrame frame = new RandomFrame("transient", parentFrame);
+      frame.randomize(random);
+      frame.update();
+      RigidBodyTransform transform = new RigidBodyTransform();
+      cache.getTransformToDesiredFrame(frame, desiredFrame, transform);
+      EuclidCoreTestTools.assertEquals(frame.getTransformToDesiredFrame(desiredFrame), transform, EPSILON);
+      return new WeakReference<>(frame);
+   }
+
+   private static RandomFrame[] nextRandomFrameTree(Random random, ReferenceFrame root, int numberOfFrames)
+   {
+      RandomFrame[] frames = new RandomFrame[numberOfFrames];
+
+      for (int i = 0; i < numberOfFrames; i++)
+      {
+         int parentIndex = random.nextInt(i + 1) - 1;
+         frames[i] = new RandomFrame(root.getName() + "frame" + i, parentIndex == -1 ? root : frames[parentIndex]);
+         frames[i].randomize(random);
+         frames[i].update();
+      }
+
+      return frames;
+   }
+
+   private static class RandomFrame extends ReferenceFrame
+   {
+      private final RigidBodyTransform transform = new RigidBodyTransform();
+
+      public RandomFrame(String frameName, ReferenceFrame parentFrame)
+      {
+         super(frameName, parentFrame);
+      }
+
+      public void randomize(Random random)
+      {
+         transform.set(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      }
+
+      @Override
+      protected void updateTransformToParent(RigidBodyTransform transformToParent)
+      {
+         transformToParent.set(transform);
+      }
+   }
+}
@@ -0,0 +1,230 @@
+package us.ihmc.euclid.referenceFrame;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.referenceFrame.tools.EuclidFrameRandomTools;
+import us.ihmc.euclid.referenceFrame.tools.ReferenceFrameTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+public class ReferenceFrameTreeSnapshotTest
+{
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testAgainstReferenceFrame()
+   {
+      Random random = new Random(34664);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root" + i);
+         ReferenceFrame[] frames = EuclidFrameRandomTools.nextReferenceFrameTree("frame", random, root, 20);
+         // Capturing a subtree that does not start at the root.
+         ReferenceFrame subtreeRoot = random.nextBoolean() ? root : frames[1];
+         ReferenceFrameTreeSnapshotBuffer buffer = new ReferenceFrameTreeSnapshotBuffer(subtreeRoot);
+
+         try (ReferenceFrameTreeSnapshot snapshot = buffer.acquire())
+         {
+            assertSame(subtreeRoot, snapshot.getRootFrame());
+            assertEquals(ReferenceFrameTools.collectFramesInSubtree(subtreeRoot).size(), snapshot.getNumberOfFrames());
+            assertEquals(-1, snapshot.getParentIndex(0));
+
+            for (int index = 1; index < snapshot.getNumberOfFrames(); index++)
+            {
+               ReferenceFrame frame = snapshot.getFrame(index);
+               assertEquals(index, snapshot.indexOf(frame));
+               assertSame(frame.getParent(), snapshot.getFrame(snapshot.getParentIndex(index)));
+               assertTrue(snapshot.getParentIndex(index) < index);
+               EuclidCoreTestTools.assertEquals(frame.getTransformToParent(), snapshot.getTransformToParent(frame), EPSILON);
+               EuclidCoreTestTools.assertEquals(frame.getTransformToDesiredFrame(subtreeRoot), snapshot.getTransformToRoot(frame), EPSILON);
+            }
+
+            RigidBodyTransform actual = new RigidBodyTransform();
+
+            for (int j = 0; j < 20; j++)
+            {
+               ReferenceFrame frameA = snapshot.getFrame(random.nextInt(snapshot.getNumberOfFrames()));
+               ReferenceFrame frameB = snapshot.getFrame(random.nextInt(snapshot.getNumberOfFrames()));
+               RigidBodyTransform expected = frameA.getTransformToDesiredFrame(frameB);
+               snapshot.getTransformToDesiredFrame(frameA, frameB, actual);
+               EuclidCoreTestTools.assertEquals(expected, actual, EPSILON);
+
+               Point3D expectedPoint = EuclidCoreRandomTools.nextPoint3D(random);
+               Point3D actualPoint = new Point3D(expectedPoint);
+               expected.transform(expectedPoint);
+               snapshot.transformFromThisToDesiredFrame(frameA, frameB, actualPoint);
+               EuclidCoreTestTools.assertEquals(expectedPoint, actualPoint, EPSILON);
+            }
+
+            if (subtreeRoot != root)
+            {
+               assertFalse(snapshot.contains(root));
+               assertEquals(-1, snapshot.indexOf(root));
+               assertThrows(IllegalArgumentException.class, () -> snapshot.getTransformToRoot(root));
+            }
+         }
+      }
+   }
+
+   @Test
+   public void testDoubleBuffering()
+   {
+      ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root");
+      RigidBodyTransform transformToParent = new RigidBodyTransform();
+      ReferenceFrame frame = new ReferenceFrame("frame", root)
+      {
+         @Override
+         protected void updateTransformToParent(RigidBodyTransform transformToParentToPack)
+         {
+            transformToParentToPack.set(transformToParent);
+         }
+      };
+
+      ReferenceFrameTreeSnapshotBuffer buffer = new ReferenceFrameTreeSnapshotBuffer(root);
+      assertEquals(0, buffer.getSequenceNumber());
+
+      ReferenceFrameTreeSnapshot first = buffer.acquire();
+      first.release();
+      buffer.capture();
+      ReferenceFrameTreeSnapshot second = buffer.acquire();
+      second.release();
+      assertNotSame(first, second);
+      buffer.capture();
+      // Nobody is holding onto the first snapshot, it is recycled.
+      assertSame(first, buffer.acquire());
+      first.release();
+      assertEquals(2, buffer.getNumberOfAllocatedSnapshots());
+
+      // A held snapshot is not modified by the following captures.
+      ReferenceFrameTreeSnapshot held = buffer.acquire();
+      long heldSequenceNumber = held.getSequenceNumber();
+      RigidBodyTransform heldTransform = new RigidBodyTransform(held.getTransformToRoot(frame));
+
+      for (int i = 0; i < 5; i++)
+      {
+         transformToParent.getTranslation().setX(i + 1.0);
+         frame.update();
+         buffer.capture();
+      }
+
+      assertEquals(heldSequenceNumber, held.getSequenceNumber());
+      assertEquals(heldTransform, held.getTransformToRoot(frame));
+      assertEquals(3, buffer.getNumberOfAllocatedSnapshots());
+      held.release();
+      assertThrows(IllegalStateException.class, () -> held.release());
+
+      try (ReferenceFrameTreeSnapshot snapshot = buffer.acquire())
+      {
+         assertEquals(5.0, snapshot.getTransformToRoot(frame).getTranslation().getX());
+      }
+
+      // Frames added after construction are only captured after refreshing the frames.
+      ReferenceFrame newFrame = ReferenceFrameTools.constructFrameWithUnchangingTranslationFromParent("newFrame",
+                                                                                                     frame,
+                                                                                                     EuclidCoreRandomTools.nextVector3D(new Random(4)));
+      buffer.capture();
+      try (ReferenceFrameTreeSnapshot snapshot = buffer.acquire())
+      {
+         assertFalse(snapshot.contains(newFrame));
+      }
+      buffer.refreshFrames();
+      buffer.capture();
+      try (ReferenceFrameTreeSnapshot snapshot = buffer.acquire())
+      {
+         assertTrue(snapshot.contains(newFrame));
+      }
+   }
+
+   @Test
+   public void testConcurrentReaders() throws Throwable
+   {
+      int numberOfReaders = 6;
+      int numberOfCaptures = 20000;
+      int chainLength = 10;
+      ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root");
+      ReferenceFrame[] chain = new ReferenceFrame[chainLength];
+      double[] offset = new double[1];
+
+      for (int i = 0; i < chainLength; i++)
+      {
+         chain[i] = new ReferenceFrame("frame" + i, i == 0 ? root : chain[i - 1])
+         {
+            @Override
+            protected void updateTransformToParent(RigidBodyTransform transformToParent)
+            {
+               transformToParent.getTranslation().set(offset[0], 1.0, 0.0);
+            }
+         };
+         chain[i].update();
+      }
+
+      ReferenceFrameTreeSnapshotBuffer buffer = new ReferenceFrameTreeSnapshotBuffer(root);
+      AtomicBoolean isDone = new AtomicBoolean(false);
+      AtomicReference<Throwable> error = new AtomicReference<>();
+      Thread[] readers = new Thread[numberOfReaders];
+
+      for (int i = 0; i < numberOfReaders; i++)
+      {
+         readers[i] = new Thread(() ->
+         {
+            try
+            {
+               RigidBodyTransform transform = new RigidBodyTransform();
+
+               while (!isDone.get())
+               {
+                  try (ReferenceFrameTreeSnapshot snapshot = buffer.acquire())
+                  {
+                     // All the frames are updated with the same offset before each capture, the snapshot has to agree on it.
+                     double expectedOffset = snapshot.getTransformToParent(chain[0]).getTranslation().getX();
+
+                     for (int j = 1; j < chainLength; j++)
+                        assertEquals(expectedOffset, snapshot.getTransformToParent(chain[j]).getTranslation().getX());
+
+                     snapshot.getTransformToDesiredFrame(chain[chainLength - 1], root, transform);
+                     assertEquals(chainLength * expectedOffset, transform.getTranslation().getX(), EPSILON);
+                     assertEquals(chainLength, transform.getTranslation().getY(), EPSILON);
+                  }
+               }
+            }
+            catch (Throwable e)
+            {
+               error.compareAndSet(null, e);
+            }
+         });
+         readers[i].start();
+      }
+
+      for (int capture = 0; capture < numberOfCaptures; capture++)
+      {
+         offset[0] = capture;
+         for (ReferenceFrame frame : chain)
+            frame.update();
+         buffer.capture();
+      }
+
+      isDone.set(true);
+      for (Thread reader : readers)
+         reader.join();
+
+      if (error.get() != null)
+         throw error.get();
+
+      assertEquals(numberOfCaptures, buffer.getSequenceNumber());
+   }
+}
@@ -0,0 +1,216 @@
+package us.ihmc.euclid.referenceFrame;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.referenceFrame.tools.ReferenceFrameTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+public class ReferenceFrameTreeUpdaterTest
+{
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testUpdate()
+   {
+      Random random = new Random(65433);
+      ForkJoinPool pool = new ForkJoinPool(4);
+
+      try
+      {
+         for (int i = 0; i < ITERATIONS; i++)
+         {
+            ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root" + i);
+            List<RandomFrame> frames = nextRandomFrameTree(random, root, 50);
+            int mode = random.nextInt(3);
+            root.setDirtyPropagationEnabled(mode == 1);
+            root.setConcurrentAccessEnabled(mode == 2);
+
+            ReferenceFrameTreeUpdater updater;
+            if (random.nextBoolean())
+               updater = new ReferenceFrameTreeUpdater(root);
+            else
+               updater = new ReferenceFrameTreeUpdater(root, pool, random.nextInt(10) + 1);
+            assertEquals(frames.size() + 1, updater.getNumberOfFrames());
+
+            for (int j = 0; j < 5; j++)
+            {
+               for (RandomFrame frame : frames)
+                  frame.randomize(random);
+
+               long treeVersion = root.treeVersion;
+               updater.update();
+               // The frames can be updated from different threads, none of them should be missed.
+               assertEquals(treeVersion + frames.size(), root.treeVersion);
+
+               for (RandomFrame frame : frames)
+               {
+                  EuclidCoreTestTools.assertEquals(frame.transform, frame.getTransformToParent(), EPSILON);
+                  EuclidCoreTestTools.assertGeometricallyEquals(computeTransformToRootByClimbingTree(frame), frame.getTransformToRoot(), EPSILON);
+               }
+
+               // Updating individual frames afterwards has to invalidate the eagerly computed transforms.
+               for (int k = 0; k < 5; k++)
+               {
+                  RandomFrame frame = frames.get(random.nextInt(frames.size()));
+                  frame.randomize(random);
+                  frame.update();
+               }
+
+               for (RandomFrame frame : frames)
+                  EuclidCoreTestTools.assertGeometricallyEquals(computeTransformToRootByClimbingTree(frame), frame.getTransformToRoot(), EPSILON);
+            }
+         }
+      }
+      finally
+      {
+         pool.shutdown();
+      }
+   }
+
+   @Test
+   public void testUpdateSubtree()
+   {
+      Random random = new Random(2342);
+      ForkJoinPool pool = new ForkJoinPool(4);
+
+      try
+      {
+         for (int i = 0; i < ITERATIONS; i++)
+         {
+            ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root" + i);
+            List<RandomFrame> frames = nextRandomFrameTree(random, root, 30);
+            RandomFrame subtreeRoot = frames.get(random.nextInt(frames.size()));
+            List<ReferenceFrame> subtree = ReferenceFrameTools.collectFramesInSubtree(subtreeRoot);
+            ReferenceFrameTreeUpdater updater = random.nextBoolean() ? new ReferenceFrameTreeUpdater(subtreeRoot)
+                  : new ReferenceFrameTreeUpdater(subtreeRoot, pool, 1);
+            assertEquals(subtree.size(), updater.getNumberOfFrames());
+
+            for (RandomFrame frame : frames)
+            {
+               frame.randomize(random);
+               frame.update();
+            }
+
+            for (RandomFrame frame : frames)
+               frame.getTransformToRoot();
+
+            for (ReferenceFrame frame : subtree)
+               ((RandomFrame) frame).randomize(random);
+            updater.update();
+
+            for (RandomFrame frame : frames)
+            {
+               EuclidCoreTestTools.assertEquals(frame.transform, frame.getTransformToParent(), EPSILON);
+               EuclidCoreTestTools.assertGeometricallyEquals(computeTransformToRootByClimbingTree(frame), frame.getTransformToRoot(), EPSILON);
+            }
+         }
+      }
+      finally
+      {
+         pool.shutdown();
+      }
+   }
+
+   @Test
+   public void testRefreshFrames()
+   {
+      Random random = new Random(7567);
+      ForkJoinPool pool = new ForkJoinPool(2);
+
+      try
+      {
+         ReferenceFrame root = ReferenceFrameTools.constructARootFrame("root");
+         RandomFrame left = new RandomFrame("left", root);
+         RandomFrame right = new RandomFrame("right", root);
+         ReferenceFrameTreeUpdater updater = new ReferenceFrameTreeUpdater(root, pool, 2);
+         assertEquals(3, updater.getNumberOfFrames());
+         assertEquals(0, updater.getNumberOfParallelSubtrees());
+
+         RandomFrame leftChild = new RandomFrame("leftChild", left);
+         RandomFrame rightChild = new RandomFrame("rightChild", right);
+         leftChild.randomize(random);
+         rightChild.randomize(random);
+         updater.update();
+         // The new frames are not known to the updater yet.
+         EuclidCoreTestTools.assertEquals(new RigidBodyTransform(), leftChild.getTransformToParent(), EPSILON);
+
+         updater.refreshFrames();
+         assertEquals(5, updater.getNumberOfFrames());
+         assertEquals(2, updater.getNumberOfParallelSubtrees());
+         updater.update();
+         EuclidCoreTestTools.assertEquals(leftChild.transform, leftChild.getTransformToParent(), EPSILON);
+         EuclidCoreTestTools.assertGeometricallyEquals(computeTransformToRootByClimbingTree(rightChild), rightChild.getTransformToRoot(), EPSILON);
+
+         rightChild.remove();
+         assertThrows(RuntimeException.class, () -> updater.update());
+      }
+      finally
+      {
+         pool.shutdown();
+      }
+
+      assertThrows(IllegalArgumentException.class, () -> new ReferenceFrameTreeUpdater(ReferenceFrame.getWorldFrame(), ForkJoinPool.commonPool(), 0));
+   }
+
+   private static List<RandomFrame> nextRandomFrameTree(Random random, ReferenceFrame root, int numberOfFrames)
+   {
+      List<ReferenceFrame> parents = new ArrayList<>();
+      List<RandomFrame> frames = new ArrayList<>();
+      parents.add(root);
+
+      for (int i = 0; i < numberOfFrames; i++)
+      {
+         RandomFrame frame = new RandomFrame(root.getName() + "frame" + i, parents.get(random.nextInt(parents.size())));
+         parents.add(frame);
+         frames.add(frame);
+      }
+
+      return frames;
+   }
+
+   private static RigidBodyTransform computeTransformToRootByClimbingTree(RandomFrame frame)
+   {
+      RigidBodyTransform transformToRoot = new RigidBodyTransform();
+      ReferenceFrame ancestor = frame;
+
+      while (ancestor instanceof RandomFrame)
+      {
+         transformToRoot.preMultiply(((RandomFrame) ancestor).transform);
+         ancestor = ancestor.getParent();
+      }
+
+      return transformToRoot;
+   }
+
+   private static class RandomFrame extends ReferenceFrame
+   {
+      private final RigidBodyTransform transform = new RigidBodyTransform();
+
+      public RandomFrame(String frameName, ReferenceFrame parentFrame)
+      {
+         super(frameName, parentFrame);
+      }
+
+      public void randomize(Random random)
+      {
+         transform.set(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      }
+
+      @Override
+      protected void updateTransformToParent(RigidBodyTransform transformToParent)
+      {
+         transformToParent.set(transform);
+      }
+   }
+}
@@ -0,0 +1,143 @@
+package us.ihmc.euclid.referenceFrame.tools;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.referenceFrame.FramePoint3D;
+import us.ihmc.euclid.referenceFrame.FramePose3D;
+import us.ihmc.euclid.referenceFrame.FrameVector3D;
+import us.ihmc.euclid.referenceFrame.ReferenceFrame;
+import us.ihmc.euclid.referenceFrame.exceptions.ReferenceFrameMismatchException;
+import us.ihmc.euclid.referenceFrame.interfaces.FrameChangeable;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+public class EuclidFrameChangeToolsTest
+{
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testChangeFrame()
+   {
+      Random random = new Random(4587);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ReferenceFrame[] frames = EuclidFrameRandomTools.nextReferenceFrameTree(random);
+         ReferenceFrame sourceFrame = frames[random.nextInt(frames.length)];
+         ReferenceFrame desiredFrame = frames[random.nextInt(frames.length)];
+         int numberOfObjects = random.nextInt(20);
+         List<FrameChangeable> actual = new ArrayList<>();
+         List<FrameChangeable> expected = new ArrayList<>();
+
+         for (int j = 0; j < numberOfObjects; j++)
+         {
+            FrameChangeable object = nextFrameChangeable(random, sourceFrame);
+            actual.add(object);
+            expected.add(copy(object));
+            expected.get(j).changeFrame(desiredFrame);
+         }
+
+         FrameChangeable[] actualArray = actual.stream().map(EuclidFrameChangeToolsTest::copy).toArray(FrameChangeable[]::new);
+
+         if (random.nextBoolean())
+         {
+            EuclidFrameChangeTools.changeFrame(actual, desiredFrame);
+            EuclidFrameChangeTools.changeFrame(actualArray, desiredFrame);
+         }
+         else
+         {
+            EuclidFrameChangeTools.changeFrame(actual, desiredFrame, new RigidBodyTransform());
+            EuclidFrameChangeTools.changeFrame(actualArray, desiredFrame, new RigidBodyTransform());
+         }
+
+         for (int j = 0; j < numberOfObjects; j++)
+         {
+            assertFrameChangeableEquals(expected.get(j), actual.get(j));
+            assertFrameChangeableEquals(expected.get(j), actualArray[j]);
+         }
+      }
+
+      ReferenceFrame[] frames = EuclidFrameRandomTools.nextReferenceFrameTree(random);
+      List<FrameChangeable> mixedFrames = new ArrayList<>();
+      mixedFrames.add(EuclidFrameRandomTools.nextFramePoint3D(random, frames[1]));
+      mixedFrames.add(EuclidFrameRandomTools.nextFramePoint3D(random, frames[2]));
+      FramePoint3D unchanged = new FramePoint3D((FramePoint3D) mixedFrames.get(0));
+      assertThrows(ReferenceFrameMismatchException.class, () -> EuclidFrameChangeTools.changeFrame(mixedFrames, frames[0]));
+      assertThrows(ReferenceFrameMismatchException.class, () -> EuclidFrameChangeTools.changeFrame(mixedFrames.toArray(new FrameChangeable[0]), frames[0]));
+      // Nothing is transformed when the frames do not match.
+      assertFrameChangeableEquals(unchanged, mixedFrames.get(0));
+   }
+
+   @Test
+   public void testChangeFrameGroupingBySourceFrame()
+   {
+      Random random = new Random(2359);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ReferenceFrame[] frames = EuclidFrameRandomTools.nextReferenceFrameTree(random);
+         ReferenceFrame desiredFrame = frames[random.nextInt(frames.length)];
+         int numberOfObjects = random.nextInt(50);
+         List<FrameChangeable> actual = new ArrayList<>();
+         List<FrameChangeable> expected = new ArrayList<>();
+
+         for (int j = 0; j < numberOfObjects; j++)
+         {
+            ReferenceFrame sourceFrame = frames[random.nextInt(frames.length)];
+            FrameChangeable object = nextFrameChangeable(random, sourceFrame);
+            actual.add(object);
+            expected.add(copy(object));
+            expected.get(j).changeFrame(desiredFrame);
+         }
+
+         FrameChangeable[] actualArray = actual.stream().map(EuclidFrameChangeToolsTest::copy).toArray(FrameChangeable[]::new);
+         EuclidFrameChangeTools.changeFrameGroupingBySourceFrame(actual, desiredFrame);
+         EuclidFrameChangeTools.changeFrameGroupingBySourceFrame(actualArray, desiredFrame);
+
+         for (int j = 0; j < numberOfObjects; j++)
+         {
+            assertFrameChangeableEquals(expected.get(j), actual.get(j));
+            assertFrameChangeableEquals(expected.get(j), actualArray[j]);
+         }
+      }
+   }
+
+   private static FrameChangeable nextFrameChangeable(Random random, ReferenceFrame referenceFrame)
+   {
+      switch (random.nextInt(3))
+      {
+         case 0:
+            return EuclidFrameRandomTools.nextFramePoint3D(random, referenceFrame);
+         case 1:
+            return EuclidFrameRandomTools.nextFrameVector3D(random, referenceFrame);
+         default:
+            return EuclidFrameRandomTools.nextFramePose3D(random, referenceFrame);
+      }
+   }
+
+   private static FrameChangeable copy(FrameChangeable original)
+   {
+      if (original instanceof FramePoint3D)
+         return new FramePoint3D((FramePoint3D) original);
+      else if (original instanceof FrameVector3D)
+         return new FrameVector3D((FrameVector3D) original);
+      else
+         return new FramePose3D((FramePose3D) original);
+   }
+
+   private static void assertFrameChangeableEquals(FrameChangeable expected, FrameChangeable actual)
+   {
+      if (expected instanceof FramePoint3D)
+         EuclidFrameTestTools.assertEquals((FramePoint3D) expected, (FramePoint3D) actual, EPSILON);
+      else if (expected instanceof FrameVector3D)
+         EuclidFrameTestTools.assertEquals((FrameVector3D) expected, (FrameVector3D) actual, EPSILON);
+      else
+         EuclidFrameTestTools.assertGeometricallyEquals((FramePose3D) expected, (FramePose3D) actual, EPSILON);
+   }
+}
@@ -0,0 +1,91 @@
+package us.ihmc.euclid.shape.collision;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.shape.collision.epa.ExpandingPolytopeAlgorithm;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DBasics;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
+import us.ihmc.euclid.shape.tools.EuclidShapeRandomTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+class BatchCollisionEvaluatorTest
+{
+   private static final int ITERATIONS = 20;
+
+   @Test
+   void testAgainstSerialEvaluation()
+   {
+      Random random = new Random(9823);
+      ForkJoinPool pool = new ForkJoinPool(4);
+
+      try
+      {
+         BatchCollisionEvaluator batchEvaluator = new BatchCollisionEvaluator(pool);
+         batchEvaluator.setSerialThreshold(16);
+
+         for (int i = 0; i < ITERATIONS; i++)
+         {
+            int numberOfPairs = random.nextInt(300);
+            Shape3DReadOnly[] shapesA = new Shape3DReadOnly[numberOfPairs + random.nextInt(10)];
+            Shape3DReadOnly[] shapesB = new Shape3DReadOnly[shapesA.length];
+            EuclidShape3DCollisionResult[] results = new EuclidShape3DCollisionResult[shapesA.length];
+
+            for (int j = 0; j < shapesA.length; j++)
+            {
+               Shape3DBasics shapeA = EuclidShapeRandomTools.nextConvexShape3D(random);
+               Shape3DBasics shapeB = EuclidShapeRandomTools.nextConvexShape3D(random);
+               // Bringing the shapes closer to each other to get a mix of colliding and non-colliding cases.
+               RigidBodyTransform translation = new RigidBodyTransform();
+               translation.getTranslation().sub(shapeB.getCentroid(), shapeA.getCentroid());
+               translation.getTranslation().scale(random.nextDouble());
+               shapeA.applyTransform(translation);
+               shapesA[j] = shapeA;
+               shapesB[j] = shapeB;
+               results[j] = new EuclidShape3DCollisionResult();
+            }
+
+            int numberOfCollisions = batchEvaluator.evaluateCollisions(shapesA, shapesB, results, numberOfPairs);
+            assertEquals(numberOfPairs >= batchEvaluator.getSerialThreshold(), batchEvaluator.wasLastBatchParallel(), "Number of pairs: " + numberOfPairs);
+
+            ExpandingPolytopeAlgorithm serialDetector = new ExpandingPolytopeAlgorithm();
+            int expectedNumberOfCollisions = 0;
+
+            for (int j = 0; j < numberOfPairs; j++)
+            {
+               EuclidShape3DCollisionResult expected = serialDetector.evaluateCollision(shapesA[j], shapesB[j]);
+               if (expected.areShapesColliding())
+                  expectedNumberOfCollisions++;
+               // Each pair is evaluated independently, the results are expected to be the same bit for bit.
+               assertEquals(expected, results[j], "Iteration " + i + ", pair " + j);
+            }
+
+            assertEquals(expectedNumberOfCollisions, numberOfCollisions);
+
+            // The slots after the pairs should not have been touched.
+            for (int j = numberOfPairs; j < results.length; j++)
+               assertEquals(new EuclidShape3DCollisionResult(), results[j]);
+         }
+      }
+      finally
+      {
+         pool.shutdown();
+      }
+   }
+
+   @Test
+   void testArguments()
+   {
+      assertThrows(IllegalArgumentException.class, () -> new BatchCollisionEvaluator(ForkJoinPool.commonPool(), 0));
+
+      BatchCollisionEvaluator batchEvaluator = new BatchCollisionEvaluator();
+      assertThrows(IllegalArgumentException.class,
+                   () -> batchEvaluator.evaluateCollisions(new Shape3DReadOnly[2], new Shape3DReadOnly[3], new EuclidShape3DCollisionResult[3], 3));
+      assertEquals(0, batchEvaluator.evaluateCollisions(new Shape3DReadOnly[0], new Shape3DReadOnly[0], new EuclidShape3DCollisionResult[0], 0));
+      assertFalse(batchEvaluator.wasLastBatchParallel());
+   }
+}
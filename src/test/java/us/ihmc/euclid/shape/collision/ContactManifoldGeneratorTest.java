@@ -0,0 +1,270 @@
+package us.ihmc.euclid.shape.collision;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.Axis3D;
+import us.ihmc.euclid.shape.primitives.Box3D;
+import us.ihmc.euclid.shape.primitives.Sphere3D;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DBasics;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
+import us.ihmc.euclid.shape.tools.EuclidShapeRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+class ContactManifoldGeneratorTest
+{
+   private static final int ITERATIONS = 200;
+   private static final double EPSILON = 1.0e-7;
+
+   @Test
+   void testBoxRestingOnBox()
+   {
+      Random random = new Random(3453);
+      ContactManifoldGenerator generator = new ContactManifoldGenerator();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // The bottom face of the box A is entirely above the top face of the box B.
+         Box3D boxB = new Box3D(3.0, 3.0, 1.0);
+         Box3D boxA = new Box3D(EuclidCoreRandomTools.nextDouble(random, 0.2, 1.0),
+                                EuclidCoreRandomTools.nextDouble(random, 0.2, 1.0),
+                                EuclidCoreRandomTools.nextDouble(random, 0.5, 1.0));
+         double depth = EuclidCoreRandomTools.nextDouble(random, 0.0, 0.1);
+         boxA.getOrientation().setToYawOrientation(EuclidCoreRandomTools.nextDouble(random, Math.PI));
+         boxA.getPosition().set(EuclidCoreRandomTools.nextDouble(random, 0.5), EuclidCoreRandomTools.nextDouble(random, 0.5), 0.5 + 0.5 * boxA.getSizeZ() - depth);
+
+         RigidBodyTransform transform = new RigidBodyTransform(EuclidCoreRandomTools.nextQuaternion(random), EuclidCoreRandomTools.nextVector3D(random, 5.0));
+         boxA.applyTransform(transform);
+         boxB.applyTransform(transform);
+
+         ContactManifold3D manifold = generator.evaluateContactManifold(boxA, boxB);
+         assertTrue(manifold.getShapeA() == boxA);
+         assertTrue(manifold.getShapeB() == boxB);
+         assertEquals(4, manifold.getNumberOfContactPoints(), "Iteration: " + i);
+         EuclidCoreTestTools.assertEquals(boxB.getPose().getZAxis(), manifold.getNormal(), EPSILON);
+
+         for (int j = 0; j < manifold.getNumberOfContactPoints(); j++)
+         {
+            assertEquals(-depth, manifold.getSignedDistance(j), EPSILON);
+            // The contact points are the vertices of the bottom face of the box A.
+            Point3D pointOnA = new Point3D(manifold.getPointOnA(j));
+            boxA.getPose().inverseTransform(pointOnA);
+            assertEquals(0.5 * boxA.getSizeX(), Math.abs(pointOnA.getX()), EPSILON);
+            assertEquals(0.5 * boxA.getSizeY(), Math.abs(pointOnA.getY()), EPSILON);
+            assertEquals(-0.5 * boxA.getSizeZ(), pointOnA.getZ(), EPSILON);
+
+            Point3D pointOnB = new Point3D(manifold.getPointOnB(j));
+            boxB.getPose().inverseTransform(pointOnB);
+            assertEquals(0.5, pointOnB.getZ(), EPSILON);
+         }
+      }
+   }
+
+   @Test
+   void testBoxOverhangingBox()
+   {
+      Random random = new Random(6574);
+      ContactManifoldGenerator generator = new ContactManifoldGenerator();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // The box A lies on top of the box B and extends past one of its edges, swapping the order of the shapes.
+         Box3D boxB = new Box3D(1.0, 1.0, 1.0);
+         Box3D boxA = new Box3D(1.0, 1.0, 1.0);
+         double depth = EuclidCoreRandomTools.nextDouble(random, 0.001, 0.1);
+         boxA.getPosition().set(EuclidCoreRandomTools.nextDouble(random, 0.3, 0.7), 0.0, 1.0 - depth);
+
+         ContactManifold3D manifold = generator.evaluateContactManifold(boxB, boxA);
+         assertEquals(4, manifold.getNumberOfContactPoints(), "Iteration: " + i);
+         EuclidCoreTestTools.assertEquals(new Vector3D(Axis3D.Z.negated()), manifold.getNormal(), EPSILON);
+
+         for (int j = 0; j < manifold.getNumberOfContactPoints(); j++)
+         {
+            assertEquals(-depth, manifold.getSignedDistance(j), EPSILON);
+            // The contact area is the overlap of the top face of the box B and the bottom face of the box A.
+            assertInOverlap(manifold.getPointOnA(j), boxA.getPosition().getX() - 0.5, 0.5, 0.5);
+            assertInOverlap(manifold.getPointOnB(j), boxA.getPosition().getX() - 0.5, 0.5, 0.5 - depth);
+         }
+      }
+   }
+
+   @Test
+   void testRandomShapes()
+   {
+      Random random = new Random(8976);
+      ContactManifoldGenerator generator = new ContactManifoldGenerator();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Shape3DBasics shapeA = nextPolytopeShape(random);
+         Shape3DBasics shapeB = nextPolytopeShape(random);
+         Vector3D translation = new Vector3D();
+         translation.sub(shapeB.getCentroid(), shapeA.getCentroid());
+         translation.scale(EuclidCoreRandomTools.nextDouble(random, 0.0, 1.5));
+         shapeA.applyTransform(new RigidBodyTransform(new Quaternion(), translation));
+
+         ContactManifold3D manifold = new ContactManifold3D();
+         boolean colliding = generator.evaluateContactManifold(shapeA, shapeB, manifold);
+         EuclidShape3DCollisionResult collisionResult = generator.getCollisionResult();
+
+         if (!collisionResult.areShapesColliding())
+         {
+            assertFalse(colliding);
+            assertTrue(manifold.isEmpty());
+            continue;
+         }
+
+         assertTrue(colliding, "Iteration: " + i);
+         assertTrue(manifold.getNumberOfContactPoints() >= 1, "Iteration: " + i);
+         assertEquals(1.0, manifold.getNormal().norm(), EPSILON);
+         // The manifold is at least as deep as the penetration.
+         assertTrue(manifold.getMinSignedDistance() <= collisionResult.getSignedDistance() + EPSILON, "Iteration: " + i);
+
+         for (int j = 0; j < manifold.getNumberOfContactPoints(); j++)
+         {
+            assertTrue(manifold.getSignedDistance(j) <= 0.0, "Iteration: " + i);
+            assertOnSurface(shapeA, manifold.getPointOnA(j));
+            assertOnSurface(shapeB, manifold.getPointOnB(j));
+            Vector3D fromBToA = new Vector3D();
+            fromBToA.sub(manifold.getPointOnA(j), manifold.getPointOnB(j));
+            assertEquals(Math.abs(manifold.getSignedDistance(j)), fromBToA.norm(), EPSILON);
+         }
+      }
+   }
+
+   @Test
+   void testContactMarginAndNonPolytopeShapes()
+   {
+      ContactManifoldGenerator generator = new ContactManifoldGenerator();
+      Box3D boxA = new Box3D(1.0, 1.0, 1.0);
+      Box3D boxB = new Box3D(1.0, 1.0, 1.0);
+      boxA.getPosition().setZ(1.01);
+
+      assertFalse(generator.evaluateContactManifold(boxA, boxB).getNumberOfContactPoints() > 0);
+
+      generator.setContactMargin(0.02);
+      ContactManifold3D manifold = new ContactManifold3D();
+      assertFalse(generator.evaluateContactManifold(boxA, boxB, manifold));
+      assertEquals(4, manifold.getNumberOfContactPoints());
+      assertEquals(0.01, manifold.getMinSignedDistance(), EPSILON);
+
+      // Only a single contact point can be found with curved shapes.
+      Sphere3D sphere = new Sphere3D(0.0, 0.0, 0.9, 0.5);
+      assertTrue(generator.evaluateContactManifold(sphere, boxB, manifold));
+      assertEquals(1, manifold.getNumberOfContactPoints());
+      assertEquals(-0.1, manifold.getSignedDistance(0), EPSILON);
+      EuclidCoreTestTools.assertEquals(new Point3D(0.0, 0.0, 0.4), manifold.getPointOnA(0), EPSILON);
+      EuclidCoreTestTools.assertEquals(new Point3D(0.0, 0.0, 0.5), manifold.getPointOnB(0), EPSILON);
+
+      assertThrows(IndexOutOfBoundsException.class, () -> manifold.getPointOnA(1));
+   }
+
+   @Test
+   void testCache()
+   {
+      Random random = new Random(2342);
+      ContactManifoldCache cache = new ContactManifoldCache();
+      ContactManifoldGenerator generator = new ContactManifoldGenerator();
+      double tolerance = cache.getPositionTolerance();
+
+      Box3D boxA = new Box3D(1.0, 1.0, 1.0);
+      Box3D boxB = new Box3D(2.0, 2.0, 1.0);
+      boxA.getPosition().setZ(0.95);
+
+      ContactManifold3D actual = new ContactManifold3D();
+      assertTrue(cache.evaluateContactManifold(boxA, boxB, actual));
+      assertEquals(0, cache.getNumberOfHits());
+      assertEquals(1, cache.getNumberOfMisses());
+      assertEquals(1, cache.getNumberOfPairs());
+      ContactManifold3D expected = generator.evaluateContactManifold(boxA, boxB);
+      assertManifoldEquals(expected, actual);
+      Point3D positionAtLastMiss = new Point3D(boxA.getPosition());
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Random walk of the box A, the manifold is only regenerated when the box has moved too much since the last regeneration.
+         boxA.getPosition().add(EuclidCoreRandomTools.nextVector3D(random, tolerance));
+         Vector3D displacement = new Vector3D();
+         displacement.sub(boxA.getPosition(), positionAtLastMiss);
+         boolean expectedHit = Math.abs(displacement.getX()) <= 0.999 * tolerance && Math.abs(displacement.getY()) <= 0.999 * tolerance
+               && Math.abs(displacement.getZ()) <= 0.999 * tolerance;
+         boolean expectedMiss = Math.abs(displacement.getX()) > 1.001 * tolerance || Math.abs(displacement.getY()) > 1.001 * tolerance
+               || Math.abs(displacement.getZ()) > 1.001 * tolerance;
+
+         long numberOfHits = cache.getNumberOfHits();
+         cache.evaluateContactManifold(boxA, boxB, actual);
+         boolean isHit = cache.getNumberOfHits() > numberOfHits;
+
+         if (expectedHit)
+            assertTrue(isHit, "Iteration: " + i);
+         if (expectedMiss)
+            assertFalse(isHit, "Iteration: " + i);
+
+         if (!isHit)
+         {
+            positionAtLastMiss.set(boxA.getPosition());
+            expected = generator.evaluateContactManifold(boxA, boxB);
+         }
+
+         assertManifoldEquals(expected, actual);
+      }
+
+      assertTrue(cache.getNumberOfHits() > 0);
+      assertTrue(cache.getNumberOfMisses() > 1);
+      assertEquals((double) cache.getNumberOfHits() / (cache.getNumberOfHits() + cache.getNumberOfMisses()), cache.getHitRate());
+
+      cache.evaluateContactManifold(boxB, boxA, actual);
+      assertEquals(2, cache.getNumberOfPairs());
+      assertTrue(cache.remove(boxB, boxA));
+      assertFalse(cache.remove(boxB, boxA));
+      cache.evaluateContactManifold(boxB, boxA, actual);
+      cache.remove(boxA);
+      assertEquals(0, cache.getNumberOfPairs());
+   }
+
+   private static Shape3DBasics nextPolytopeShape(Random random)
+   {
+      switch (random.nextInt(3))
+      {
+         case 0:
+            return EuclidShapeRandomTools.nextBox3D(random);
+         case 1:
+            return EuclidShapeRandomTools.nextRamp3D(random);
+         default:
+            return EuclidShapeRandomTools.nextConvexPolytope3D(random);
+      }
+   }
+
+   private static void assertInOverlap(Point3DReadOnly point, double minX, double maxX, double z)
+   {
+      assertTrue(point.getX() >= minX - EPSILON && point.getX() <= maxX + EPSILON, "point: " + point);
+      assertTrue(Math.abs(point.getY()) <= 0.5 + EPSILON, "point: " + point);
+      assertEquals(z, point.getZ(), EPSILON);
+   }
+
+   private static void assertManifoldEquals(ContactManifold3D expected, ContactManifold3D actual)
+   {
+      assertTrue(expected.getShapeA() == actual.getShapeA());
+      assertTrue(expected.getShapeB() == actual.getShapeB());
+      assertEquals(expected.getNormal(), actual.getNormal());
+      assertEquals(expected.getNumberOfContactPoints(), actual.getNumberOfContactPoints());
+
+      for (int i = 0; i < expected.getNumberOfContactPoints(); i++)
+      {
+         assertEquals(expected.getPointOnA(i), actual.getPointOnA(i));
+         assertEquals(expected.getPointOnB(i), actual.getPointOnB(i));
+         assertEquals(expected.getSignedDistance(i), actual.getSignedDistance(i));
+      }
+   }
+
+   private static void assertOnSurface(Shape3DReadOnly shape, Point3DReadOnly point)
+   {
+      assertEquals(0.0, shape.signedDistance(point), 1.0e-6, shape.getClass().getSimpleName() + ", point: " + point);
+   }
+}
@@ -0,0 +1,67 @@
+package us.ihmc.euclid.shape.collision;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.shape.collision.epa.EPAFace3D;
+import us.ihmc.euclid.shape.collision.epa.EPAFaceQueue;
+import us.ihmc.euclid.shape.collision.epa.EPAVertex3D;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+
+class EPAFaceQueueTest
+{
+   private static final int ITERATIONS = 1000;
+
+   @Test
+   void testAgainstPriorityQueue()
+   {
+      Random random = new Random(4366);
+      EPAFaceQueue queue = new EPAFaceQueue(1);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         PriorityQueue<EPAFace3D> expectedQueue = new PriorityQueue<>();
+         queue.clear();
+         assertTrue(queue.isEmpty());
+         assertNull(queue.poll());
+
+         int numberOfOperations = random.nextInt(200);
+
+         for (int j = 0; j < numberOfOperations; j++)
+         {
+            if (expectedQueue.isEmpty() || random.nextDouble() < 0.7)
+            {
+               EPAFace3D face = nextEPAFace3D(random);
+               expectedQueue.add(face);
+               queue.add(face);
+            }
+            else
+            {
+               EPAFace3D expected = expectedQueue.poll();
+               EPAFace3D actual = queue.poll();
+               assertEquals(expected.getDistanceSquaredToOrigin(), actual.getDistanceSquaredToOrigin(), "Iteration " + i);
+            }
+
+            assertEquals(expectedQueue.size(), queue.size());
+            if (!expectedQueue.isEmpty())
+               assertEquals(expectedQueue.peek().getDistanceSquaredToOrigin(), queue.peek().getDistanceSquaredToOrigin());
+         }
+
+         while (!expectedQueue.isEmpty())
+            assertEquals(expectedQueue.poll().getDistanceSquaredToOrigin(), queue.poll().getDistanceSquaredToOrigin());
+         assertTrue(queue.isEmpty());
+      }
+   }
+
+   private static EPAFace3D nextEPAFace3D(Random random)
+   {
+      EPAVertex3D v0 = new EPAVertex3D(EuclidCoreRandomTools.nextPoint3D(random, 10.0), EuclidCoreRandomTools.nextPoint3D(random, 1.0));
+      EPAVertex3D v1 = new EPAVertex3D(EuclidCoreRandomTools.nextPoint3D(random, 10.0), EuclidCoreRandomTools.nextPoint3D(random, 1.0));
+      EPAVertex3D v2 = new EPAVertex3D(EuclidCoreRandomTools.nextPoint3D(random, 10.0), EuclidCoreRandomTools.nextPoint3D(random, 1.0));
+      return new EPAFace3D(v0, v1, v2, 1.0e-12);
+   }
+}
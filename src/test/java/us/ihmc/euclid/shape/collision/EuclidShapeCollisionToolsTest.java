@@ -6,6 +6,8 @@ import us.ihmc.euclid.geometry.Bound;
 import us.ihmc.euclid.geometry.Plane3D;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryTools;
+import us.ihmc.euclid.shape.collision.epa.ExpandingPolytopeAlgorithm;
+import us.ihmc.euclid.shape.convexPolytope.ConvexPolytope3D;
 import us.ihmc.euclid.shape.primitives.Box3D;
 import us.ihmc.euclid.shape.primitives.Capsule3D;
 import us.ihmc.euclid.shape.primitives.Cylinder3D;
@@ -16,14 +18,19 @@ import us.ihmc.euclid.shape.primitives.Sphere3D;
 import us.ihmc.euclid.shape.primitives.Torus3D;
 import us.ihmc.euclid.shape.primitives.interfaces.Box3DReadOnly;
 import us.ihmc.euclid.shape.primitives.interfaces.Ramp3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DBasics;
 import us.ihmc.euclid.shape.primitives.interfaces.Shape3DPoseReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
 import us.ihmc.euclid.shape.tools.EuclidEllipsoid3DTools;
 import us.ihmc.euclid.shape.tools.EuclidShapeRandomTools;
 import us.ihmc.euclid.shape.tools.EuclidShapeTestTools;
 import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
 import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
 import us.ihmc.euclid.tuple3D.Point3D;
 import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
@@ -33,6 +40,9 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
 
 /*
@@ -1416,6 +1426,150 @@ public class EuclidShapeCollisionToolsTest
       }
    }
 
+   @Test
+   public void testCapsule3DBox3D() throws Exception
+   {
+      Random random = new Random(34656);
+      ExpandingPolytopeAlgorithm epa = new ExpandingPolytopeAlgorithm();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Comparing against EPA, which is exact for the penetrating case as both shapes are defined by their vertices and a radius.
+         Capsule3D capsule3D = EuclidShapeRandomTools.nextCapsule3D(random);
+         Box3D box3D = EuclidShapeRandomTools.nextBox3D(random);
+         moveShapeATowardShapeB(random, capsule3D, box3D);
+
+         EuclidShape3DCollisionResult actual = new EuclidShape3DCollisionResult();
+         EuclidShapeCollisionTools.evaluateCapsule3DBox3DCollision(capsule3D, box3D, actual);
+         EuclidShape3DCollisionResult expected = epa.evaluateCollision(capsule3D, box3D);
+
+         assertCollisionResultConsistent("Iteration: " + i, capsule3D, box3D, actual);
+         assertEquals(expected.areShapesColliding(), actual.areShapesColliding(), "Iteration: " + i);
+         assertEquals(expected.getSignedDistance(), actual.getSignedDistance(), 1.0e-7, "Iteration: " + i);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Capsule's axis parallel to one of the box's axes, the edge-edge axes are degenerate.
+         Box3D box3D = EuclidShapeRandomTools.nextBox3D(random);
+         Axis3D axis = Axis3D.values[random.nextInt(3)];
+         Capsule3D capsule3D = new Capsule3D(EuclidCoreRandomTools.nextPoint3D(random, 1.0),
+                                             axis,
+                                             EuclidCoreRandomTools.nextDouble(random, 0.0, 2.0),
+                                             EuclidCoreRandomTools.nextDouble(random, 0.01, 1.0));
+         capsule3D.applyTransform(box3D.getPose());
+
+         EuclidShape3DCollisionResult actual = new EuclidShape3DCollisionResult();
+         EuclidShapeCollisionTools.evaluateCapsule3DBox3DCollision(capsule3D, box3D, actual);
+         EuclidShape3DCollisionResult expected = epa.evaluateCollision(capsule3D, box3D);
+
+         assertCollisionResultConsistent("Iteration: " + i, capsule3D, box3D, actual);
+         assertEquals(expected.getSignedDistance(), actual.getSignedDistance(), 1.0e-7, "Iteration: " + i);
+      }
+   }
+
+   @Test
+   public void testCapsule3DCylinder3D() throws Exception
+   {
+      Random random = new Random(9865);
+      ExpandingPolytopeAlgorithm epa = new ExpandingPolytopeAlgorithm();
+      int numberOfEvaluations = 0;
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Capsule3D capsule3D = EuclidShapeRandomTools.nextCapsule3D(random);
+         Cylinder3D cylinder3D = EuclidShapeRandomTools.nextCylinder3D(random);
+         moveShapeATowardShapeB(random, capsule3D, cylinder3D);
+
+         EuclidShape3DCollisionResult actual = new EuclidShape3DCollisionResult();
+         boolean success = EuclidShapeCollisionTools.evaluateCapsule3DCylinder3DCollision(capsule3D, cylinder3D, actual);
+
+         // The evaluation is only possible when the capsule's axis does not intersect the cylinder.
+         Point3D pointOnAxis = new Point3D();
+         boolean axisIntersects = false;
+         for (int j = 0; j <= 100; j++)
+         {
+            pointOnAxis.scaleAdd(-capsule3D.getHalfLength() + 0.02 * j * capsule3D.getHalfLength(), capsule3D.getAxis(), capsule3D.getPosition());
+            axisIntersects |= cylinder3D.signedDistance(pointOnAxis) < 0.0;
+         }
+
+         if (!success)
+         {
+            assertTrue(Double.isNaN(actual.getSignedDistance()), "Iteration: " + i);
+            continue;
+         }
+
+         assertFalse(axisIntersects, "Iteration: " + i);
+         numberOfEvaluations++;
+
+         // EPA is not exact with curved shapes.
+         EuclidShape3DCollisionResult expected = epa.evaluateCollision(capsule3D, cylinder3D);
+         assertCollisionResultConsistent("Iteration: " + i, capsule3D, cylinder3D, actual);
+         assertEquals(expected.getSignedDistance(), actual.getSignedDistance(), 5.0e-4, "Iteration: " + i);
+         assertTrue(actual.getSignedDistance() <= expected.getSignedDistance() + 1.0e-9, "Iteration: " + i);
+      }
+
+      assertTrue(numberOfEvaluations > ITERATIONS / 4);
+   }
+
+   @Test
+   public void testSphere3DConvexPolytope3D() throws Exception
+   {
+      Random random = new Random(2343);
+      ExpandingPolytopeAlgorithm epa = new ExpandingPolytopeAlgorithm();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Sphere3D sphere3D = EuclidShapeRandomTools.nextSphere3D(random);
+         ConvexPolytope3D convexPolytope3D = EuclidShapeRandomTools.nextConvexPolytope3D(random);
+         moveShapeATowardShapeB(random, sphere3D, convexPolytope3D);
+
+         EuclidShape3DCollisionResult actual = new EuclidShape3DCollisionResult();
+         EuclidShapeCollisionTools.evaluateSphere3DConvexPolytope3DCollision(sphere3D, convexPolytope3D, actual);
+         EuclidShape3DCollisionResult expected = epa.evaluateCollision(sphere3D, convexPolytope3D);
+
+         assertCollisionResultConsistent("Iteration: " + i, sphere3D, convexPolytope3D, actual);
+         assertEquals(expected.getSignedDistance(), actual.getSignedDistance(), 1.0e-7, "Iteration: " + i);
+
+         PointShape3D pointShape3D = new PointShape3D(sphere3D.getPosition());
+         EuclidShape3DCollisionResult pointResult = new EuclidShape3DCollisionResult();
+         EuclidShapeCollisionTools.evaluatePointShape3DConvexPolytope3DCollision(pointShape3D, convexPolytope3D, pointResult);
+         assertEquals(actual.getSignedDistance() + sphere3D.getRadius(), pointResult.getSignedDistance(), EPSILON);
+         EuclidCoreTestTools.assertEquals(actual.getPointOnB(), pointResult.getPointOnB(), EPSILON);
+         EuclidCoreTestTools.assertEquals(sphere3D.getPosition(), pointResult.getPointOnA(), EPSILON);
+      }
+
+      EuclidShape3DCollisionResult result = new EuclidShape3DCollisionResult();
+      EuclidShapeCollisionTools.evaluateSphere3DConvexPolytope3DCollision(new Sphere3D(), new ConvexPolytope3D(), result);
+      assertTrue(result.containsNaN());
+   }
+
+   private static void moveShapeATowardShapeB(Random random, Shape3DBasics shapeA, Shape3DReadOnly shapeB)
+   {
+      // Getting a mix of colliding and non-colliding configurations.
+      Vector3D translation = new Vector3D();
+      translation.sub(shapeB.getCentroid(), shapeA.getCentroid());
+      translation.scale(EuclidCoreRandomTools.nextDouble(random, 0.0, 1.2));
+      shapeA.applyTransform(new RigidBodyTransform(new Quaternion(), translation));
+   }
+
+   private static void assertCollisionResultConsistent(String messagePrefix, Shape3DReadOnly shapeA, Shape3DReadOnly shapeB, EuclidShape3DCollisionResult result)
+   {
+      assertTrue(result.getShapeA() == shapeA, messagePrefix);
+      assertTrue(result.getShapeB() == shapeB, messagePrefix);
+      assertEquals(result.getSignedDistance() < 0.0, result.areShapesColliding(), messagePrefix);
+      // The points are on the surface of their respective shape.
+      assertEquals(0.0, shapeA.signedDistance(result.getPointOnA()), 1.0e-9, messagePrefix);
+      assertEquals(0.0, shapeB.signedDistance(result.getPointOnB()), 1.0e-9, messagePrefix);
+      assertEquals(Math.abs(result.getSignedDistance()), result.getPointOnA().distance(result.getPointOnB()), 1.0e-9, messagePrefix);
+      // The normals are opposite unit vectors aligned with the points.
+      assertEquals(1.0, result.getNormalOnB().norm(), 1.0e-9, messagePrefix);
+      Vector3D negatedNormalOnA = new Vector3D();
+      negatedNormalOnA.setAndNegate(result.getNormalOnA());
+      EuclidCoreTestTools.assertEquals(result.getNormalOnB(), negatedNormalOnA, 1.0e-12);
+      Vector3D fromBToA = new Vector3D();
+      fromBToA.sub(result.getPointOnA(), result.getPointOnB());
+      assertEquals(result.getSignedDistance(), fromBToA.dot(result.getNormalOnB()), 1.0e-9, messagePrefix);
+   }
+
    public static Vector3DReadOnly getAxis(Axis3D axis, Shape3DPoseReadOnly shape3DPose)
    {
       switch (axis)
@@ -22,6 +22,7 @@ import us.ihmc.euclid.shape.primitives.Ellipsoid3D;
 import us.ihmc.euclid.shape.primitives.PointShape3D;
 import us.ihmc.euclid.shape.primitives.Ramp3D;
 import us.ihmc.euclid.shape.primitives.Sphere3D;
+import us.ihmc.euclid.shape.primitives.interfaces.IntermediateVariableSupplier;
 import us.ihmc.euclid.shape.primitives.interfaces.Shape3DBasics;
 import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
 import us.ihmc.euclid.shape.tools.EuclidShapeRandomTools;
@@ -36,9 +37,14 @@ import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
 import us.ihmc.euclid.tuple4D.Quaternion;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
 
+import com.sun.management.ThreadMXBean;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ExpandingPolytopeAlgorithmTest
@@ -46,6 +52,72 @@ class ExpandingPolytopeAlgorithmTest
    private static final int ITERATIONS = 5000;
    private static final double EPSILON = 1.0e-12;
 
+   /**
+    * Tests that once warmed up, the algorithm does not allocate any memory when evaluating collisions
+    * between garbage-free shapes.
+    */
+   @Test
+   void testGarbageFree()
+   {
+      Random random = new Random(3453);
+      ExpandingPolytopeAlgorithm epa = new ExpandingPolytopeAlgorithm();
+      EuclidShape3DCollisionResult result = new EuclidShape3DCollisionResult();
+
+      List<SupportingVertexHolder> shapes = new ArrayList<>();
+
+      for (int i = 0; i < 20; i++)
+      {
+         Box3D box = EuclidShapeRandomTools.nextBox3D(random, 0.5, 1.0);
+         box.setIntermediateVariableSupplier(IntermediateVariableSupplier.garbageFreeIntermediateVariableSupplier());
+         box.getPosition().set(EuclidCoreRandomTools.nextPoint3D(random, 0.5));
+         shapes.add(box);
+         Capsule3D capsule = EuclidShapeRandomTools.nextCapsule3D(random, 0.5, 1.0, 0.1, 0.5);
+         capsule.getPosition().set(EuclidCoreRandomTools.nextPoint3D(random, 0.5));
+         shapes.add(capsule);
+         Sphere3D sphere = EuclidShapeRandomTools.nextSphere3D(random, 0.1, 0.5);
+         sphere.getPosition().set(EuclidCoreRandomTools.nextPoint3D(random, 0.5));
+         shapes.add(sphere);
+         ConvexPolytope3D polytope = EuclidShapeRandomTools.nextConvexPolytope3D(random);
+         polytope.applyTransform(new RigidBodyTransform(new Quaternion(), EuclidCoreRandomTools.nextVector3D(random, 0.5)));
+         shapes.add(polytope);
+      }
+
+      int numberOfCollisions = 0;
+
+      for (int warmup = 0; warmup < 20; warmup++)
+      {
+         for (int i = 0; i < shapes.size(); i++)
+         {
+            for (int j = 0; j < shapes.size(); j++)
+            {
+               if (i != j && epa.evaluateCollision(shapes.get(i), shapes.get(j), result))
+                  numberOfCollisions++;
+            }
+         }
+      }
+
+      // Making sure most evaluations actually run the expanding polytope algorithm.
+      assertTrue(numberOfCollisions > 5 * shapes.size() * shapes.size(), "Number of collisions: " + numberOfCollisions);
+
+      ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+      long threadId = Thread.currentThread().getId();
+      // Estimating the memory allocated by the measurement itself.
+      long measurementOverhead = -threadMXBean.getThreadAllocatedBytes(threadId) + threadMXBean.getThreadAllocatedBytes(threadId);
+      long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+
+      for (int i = 0; i < shapes.size(); i++)
+      {
+         for (int j = 0; j < shapes.size(); j++)
+         {
+            if (i != j)
+               epa.evaluateCollision(shapes.get(i), shapes.get(j), result);
+         }
+      }
+
+      long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore - measurementOverhead;
+      assertEquals(0L, allocatedBytes, "The algorithm allocated " + allocatedBytes + " bytes");
+   }
+
    @Test
    void testNonCollidingCubeAndTetrahedron()
    {
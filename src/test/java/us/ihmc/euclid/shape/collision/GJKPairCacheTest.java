@@ -0,0 +1,141 @@
+package us.ihmc.euclid.shape.collision;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.shape.collision.gjk.GJKPairCache;
+import us.ihmc.euclid.shape.collision.gjk.GilbertJohnsonKeerthiCollisionDetector;
+import us.ihmc.euclid.shape.primitives.interfaces.PointShape3DReadOnly;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DBasics;
+import us.ihmc.euclid.shape.tools.EuclidShapeRandomTools;
+import us.ihmc.euclid.shape.tools.EuclidShapeTestTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+class GJKPairCacheTest
+{
+   private static final boolean VERBOSE = false;
+   private static final int ITERATIONS = 500;
+
+   @Test
+   void testTemporallyCoherentScene()
+   {
+      Random random = new Random(45645);
+      double distanceEpsilon = 1.0e-4;
+      // When 2 "flat-ish" shapes are closest on their part with low curvature, the closest points can shift along the surface.
+      double pointTangentialEpsilon = 1.0e-2;
+      int numberOfTicks = 20;
+
+      GilbertJohnsonKeerthiCollisionDetector coldDetector = new GilbertJohnsonKeerthiCollisionDetector();
+      GJKPairCache cache = new GJKPairCache();
+      long coldTotalNumberOfIterations = 0;
+      int numberOfCollidingEvaluations = 0;
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Shape3DBasics shapeA = EuclidShapeRandomTools.nextConvexShape3D(random);
+         Shape3DBasics shapeB = EuclidShapeRandomTools.nextConvexShape3D(random);
+
+         if (shapeA instanceof PointShape3DReadOnly && shapeB instanceof PointShape3DReadOnly)
+         { // Points cannot collide, skipping
+            i--;
+            continue;
+         }
+
+         // Bringing the shapes closer to each other to get a mix of colliding and non-colliding cases.
+         RigidBodyTransform translation = new RigidBodyTransform();
+         translation.getTranslation().sub(shapeB.getCentroid(), shapeA.getCentroid());
+         translation.getTranslation().scale(random.nextDouble());
+         shapeA.applyTransform(translation);
+
+         for (int tick = 0; tick < numberOfTicks; tick++)
+         {
+            // Moving the shapes by a few millimeters and milliradians at each tick.
+            shapeA.applyTransform(nextSmallTransform(random));
+            shapeB.applyTransform(nextSmallTransform(random));
+
+            EuclidShape3DCollisionResult expectedResult = coldDetector.evaluateCollision(shapeA, shapeB);
+            coldTotalNumberOfIterations += coldDetector.getNumberOfIterations();
+            EuclidShape3DCollisionResult actualResult = cache.evaluateCollision(shapeA, shapeB);
+
+            assertEquals(expectedResult.areShapesColliding(), actualResult.areShapesColliding(), "Iteration " + i + ", tick " + tick);
+            if (expectedResult.areShapesColliding())
+               numberOfCollidingEvaluations++;
+            else
+               EuclidShapeTestTools.assertEuclidShape3DCollisionResultGeometricallyEquals("Iteration " + i + ", tick " + tick,
+                                                                                          expectedResult,
+                                                                                          actualResult,
+                                                                                          distanceEpsilon,
+                                                                                          pointTangentialEpsilon,
+                                                                                          0.0);
+         }
+      }
+
+      int numberOfEvaluations = ITERATIONS * numberOfTicks;
+      assertEquals(numberOfEvaluations, cache.getNumberOfHits() + cache.getNumberOfMisses());
+      assertEquals(ITERATIONS, cache.getNumberOfPairs());
+      // Each pair is a miss on its first evaluation.
+      assertTrue(cache.getNumberOfMisses() >= ITERATIONS);
+      assertTrue(cache.getHitRate() > 0.9, "Hit rate: " + cache.getHitRate());
+      // Making sure both colliding and non-colliding cases are covered.
+      assertTrue(numberOfCollidingEvaluations > numberOfEvaluations / 10);
+      assertTrue(numberOfCollidingEvaluations < 9 * numberOfEvaluations / 10);
+
+      double coldAverageNumberOfIterations = (double) coldTotalNumberOfIterations / (double) numberOfEvaluations;
+
+      if (VERBOSE)
+      {
+         System.out.println("Average number of iterations, cold: " + coldAverageNumberOfIterations + ", warm: " + cache.getAverageNumberOfIterations()
+               + ", warm on hits: " + cache.getAverageNumberOfIterationsOnHits());
+      }
+
+      // Colliding pairs and separated polytopes terminate almost immediately when warm started, but separated curved shapes still converge
+      // linearly towards the closest points, which limits the overall gain.
+      assertTrue(cache.getAverageNumberOfIterationsOnHits() < 0.75 * coldAverageNumberOfIterations);
+
+      cache.resetStatistics();
+      assertEquals(0, cache.getNumberOfHits());
+      assertEquals(0, cache.getNumberOfMisses());
+      assertEquals(0, cache.getTotalNumberOfIterations());
+      assertTrue(Double.isNaN(cache.getHitRate()));
+      cache.clear();
+      assertEquals(0, cache.getNumberOfPairs());
+   }
+
+   @Test
+   void testRemove()
+   {
+      Random random = new Random(3465);
+      GJKPairCache cache = new GJKPairCache();
+
+      Shape3DBasics shapeA = EuclidShapeRandomTools.nextConvexShape3D(random);
+      Shape3DBasics shapeB = EuclidShapeRandomTools.nextConvexShape3D(random);
+      Shape3DBasics shapeC = EuclidShapeRandomTools.nextConvexShape3D(random);
+
+      cache.evaluateCollision(shapeA, shapeB);
+      cache.evaluateCollision(shapeB, shapeA);
+      cache.evaluateCollision(shapeA, shapeC);
+      cache.evaluateCollision(shapeB, shapeC);
+      assertEquals(4, cache.getNumberOfPairs());
+
+      assertTrue(cache.remove(shapeB, shapeA));
+      assertFalse(cache.remove(shapeB, shapeA));
+      assertEquals(3, cache.getNumberOfPairs());
+
+      cache.remove(shapeC);
+      assertEquals(1, cache.getNumberOfPairs());
+      assertTrue(cache.remove(shapeA, shapeB));
+      assertEquals(0, cache.getNumberOfPairs());
+   }
+
+   private static RigidBodyTransform nextSmallTransform(Random random)
+   {
+      RigidBodyTransform transform = new RigidBodyTransform();
+      transform.getRotation().setRotationVector(EuclidCoreRandomTools.nextVector3D(random, 0.005));
+      transform.getTranslation().set(EuclidCoreRandomTools.nextVector3D(random, 0.005));
+      return transform;
+   }
+}
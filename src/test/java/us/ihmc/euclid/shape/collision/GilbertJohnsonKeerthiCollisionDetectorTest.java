@@ -21,6 +21,7 @@ import us.ihmc.euclid.shape.primitives.Ellipsoid3D;
 import us.ihmc.euclid.shape.primitives.PointShape3D;
 import us.ihmc.euclid.shape.primitives.Ramp3D;
 import us.ihmc.euclid.shape.primitives.Sphere3D;
+import us.ihmc.euclid.shape.primitives.interfaces.IntermediateVariableSupplier;
 import us.ihmc.euclid.shape.primitives.interfaces.PointShape3DReadOnly;
 import us.ihmc.euclid.shape.primitives.interfaces.Shape3DBasics;
 import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
@@ -37,6 +38,7 @@ import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
 import us.ihmc.euclid.tuple4D.Quaternion;
 
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -45,6 +47,8 @@ import java.util.Random;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
+import com.sun.management.ThreadMXBean;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class GilbertJohnsonKeerthiCollisionDetectorTest
@@ -161,6 +165,65 @@ class GilbertJohnsonKeerthiCollisionDetectorTest
       }
    }
 
+   /**
+    * Tests that once warmed up, the detector does not allocate any memory when evaluating collisions
+    * between garbage-free shapes.
+    */
+   @Test
+   void testGarbageFree()
+   {
+      Random random = new Random(2365467);
+      GilbertJohnsonKeerthiCollisionDetector detector = new GilbertJohnsonKeerthiCollisionDetector();
+      EuclidShape3DCollisionResult result = new EuclidShape3DCollisionResult();
+
+      List<SupportingVertexHolder> shapes = new ArrayList<>();
+
+      for (int i = 0; i < 20; i++)
+      {
+         Box3D box = EuclidShapeRandomTools.nextBox3D(random);
+         box.setIntermediateVariableSupplier(IntermediateVariableSupplier.garbageFreeIntermediateVariableSupplier());
+         shapes.add(box);
+         shapes.add(EuclidShapeRandomTools.nextCapsule3D(random));
+         shapes.add(EuclidShapeRandomTools.nextSphere3D(random));
+         shapes.add(EuclidShapeRandomTools.nextConvexPolytope3D(random));
+      }
+
+      int numberOfCollisions = 0;
+
+      for (int warmup = 0; warmup < 50; warmup++)
+      {
+         for (SupportingVertexHolder shapeA : shapes)
+         {
+            for (SupportingVertexHolder shapeB : shapes)
+            {
+               if (detector.evaluateCollision(shapeA, shapeB, result))
+                  numberOfCollisions++;
+            }
+         }
+      }
+
+      // Making sure both colliding and non-colliding cases are covered.
+      assertTrue(numberOfCollisions > 0);
+      assertTrue(numberOfCollisions < 50 * shapes.size() * shapes.size());
+
+      ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+      long threadId = Thread.currentThread().getId();
+      // Estimating the memory allocated by the measurement itself.
+      long measurementOverhead = -threadMXBean.getThreadAllocatedBytes(threadId) + threadMXBean.getThreadAllocatedBytes(threadId);
+      long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+
+      for (int i = 0; i < shapes.size(); i++)
+      {
+         for (int j = 0; j < shapes.size(); j++)
+         {
+            detector.evaluateCollision(shapes.get(i), shapes.get(j), result);
+         }
+      }
+
+      long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore - measurementOverhead;
+      assertEquals(0L, allocatedBytes, "The detector allocated " + allocatedBytes + " bytes");
+   }
+
    @Test
    void testSimpleCollisionWithNonCollidingCubeAndTetrahedron()
    {
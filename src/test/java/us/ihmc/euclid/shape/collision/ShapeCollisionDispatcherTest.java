@@ -0,0 +1,153 @@
+package us.ihmc.euclid.shape.collision;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.shape.collision.ShapeCollisionDispatcher.ShapeType;
+import us.ihmc.euclid.shape.collision.epa.ExpandingPolytopeAlgorithm;
+import us.ihmc.euclid.shape.primitives.Box3D;
+import us.ihmc.euclid.shape.primitives.Capsule3D;
+import us.ihmc.euclid.shape.primitives.Cylinder3D;
+import us.ihmc.euclid.shape.primitives.Sphere3D;
+import us.ihmc.euclid.shape.primitives.Torus3D;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DBasics;
+import us.ihmc.euclid.shape.tools.EuclidShapeRandomTools;
+import us.ihmc.euclid.shape.tools.EuclidShapeTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+class ShapeCollisionDispatcherTest
+{
+   private static final int ITERATIONS = 500;
+
+   @Test
+   void testShapeType()
+   {
+      Random random = new Random(4576);
+      assertEquals(ShapeType.POINT, ShapeType.toShapeType(EuclidShapeRandomTools.nextPointShape3D(random)));
+      assertEquals(ShapeType.SPHERE, ShapeType.toShapeType(EuclidShapeRandomTools.nextSphere3D(random)));
+      assertEquals(ShapeType.BOX, ShapeType.toShapeType(EuclidShapeRandomTools.nextBox3D(random)));
+      assertEquals(ShapeType.CAPSULE, ShapeType.toShapeType(EuclidShapeRandomTools.nextCapsule3D(random)));
+      assertEquals(ShapeType.CYLINDER, ShapeType.toShapeType(EuclidShapeRandomTools.nextCylinder3D(random)));
+      assertEquals(ShapeType.ELLIPSOID, ShapeType.toShapeType(EuclidShapeRandomTools.nextEllipsoid3D(random)));
+      assertEquals(ShapeType.RAMP, ShapeType.toShapeType(EuclidShapeRandomTools.nextRamp3D(random)));
+      assertEquals(ShapeType.TORUS, ShapeType.toShapeType(EuclidShapeRandomTools.nextTorus3D(random)));
+      assertEquals(ShapeType.CONVEX_POLYTOPE, ShapeType.toShapeType(EuclidShapeRandomTools.nextConvexPolytope3D(random)));
+   }
+
+   @Test
+   void testAgainstExpandingPolytopeAlgorithm()
+   {
+      Random random = new Random(23478);
+      ShapeCollisionDispatcher dispatcher = new ShapeCollisionDispatcher();
+      ExpandingPolytopeAlgorithm epa = new ExpandingPolytopeAlgorithm();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Shape3DBasics shapeA = EuclidShapeRandomTools.nextConvexShape3D(random);
+         Shape3DBasics shapeB = EuclidShapeRandomTools.nextConvexShape3D(random);
+         RigidBodyTransform translation = new RigidBodyTransform();
+         translation.getTranslation().sub(shapeB.getCentroid(), shapeA.getCentroid());
+         translation.getTranslation().scale(random.nextDouble());
+         shapeA.applyTransform(translation);
+
+         long numberOfFallbackEvaluations = dispatcher.getNumberOfFallbackEvaluations();
+         EuclidShape3DCollisionResult actual = dispatcher.evaluateCollision(shapeA, shapeB);
+         EuclidShape3DCollisionResult expected = epa.evaluateCollision(shapeA, shapeB);
+         String message = "Iteration: " + i + ", shapes: " + shapeA.getClass().getSimpleName() + ", " + shapeB.getClass().getSimpleName();
+
+         assertTrue(actual.getShapeA() == shapeA, message);
+         assertTrue(actual.getShapeB() == shapeB, message);
+
+         if (dispatcher.getNumberOfFallbackEvaluations() > numberOfFallbackEvaluations)
+         { // The fallback is the exact same algorithm.
+            assertEquals(expected, actual, message);
+         }
+         else
+         { // EPA is not exact with curved shapes.
+            assertEquals(expected.getSignedDistance(), actual.getSignedDistance(), 5.0e-3 * (1.0 + Math.abs(expected.getSignedDistance())), message);
+         }
+      }
+
+      assertEquals(ITERATIONS, dispatcher.getNumberOfAnalyticalEvaluations() + dispatcher.getNumberOfFallbackEvaluations());
+      assertTrue(dispatcher.getNumberOfAnalyticalEvaluations() > 0);
+      assertTrue(dispatcher.getNumberOfFallbackEvaluations() > 0);
+      dispatcher.resetStatistics();
+      assertEquals(0, dispatcher.getNumberOfAnalyticalEvaluations());
+      assertEquals(0, dispatcher.getNumberOfFallbackEvaluations());
+   }
+
+   @Test
+   void testSwappedShapes()
+   {
+      Random random = new Random(7563);
+      ShapeCollisionDispatcher dispatcher = new ShapeCollisionDispatcher();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         Shape3DBasics shapeA = random.nextBoolean() ? EuclidShapeRandomTools.nextCapsule3D(random) : EuclidShapeRandomTools.nextSphere3D(random);
+         Shape3DBasics shapeB = EuclidShapeRandomTools.nextConvexShape3D(random);
+         RigidBodyTransform translation = new RigidBodyTransform();
+         translation.getTranslation().sub(shapeB.getCentroid(), shapeA.getCentroid());
+         translation.getTranslation().scale(random.nextDouble());
+         shapeA.applyTransform(translation);
+
+         long numberOfFallbackEvaluations = dispatcher.getNumberOfFallbackEvaluations();
+         EuclidShape3DCollisionResult expected = dispatcher.evaluateCollision(shapeA, shapeB);
+         EuclidShape3DCollisionResult actual = dispatcher.evaluateCollision(shapeB, shapeA);
+         actual.swapShapes();
+
+         // The generic algorithm does not give the same result bit for bit when the shapes are swapped.
+         if (dispatcher.getNumberOfFallbackEvaluations() > numberOfFallbackEvaluations)
+            continue;
+
+         EuclidShapeTestTools.assertEuclidShape3DCollisionResultEquals("Iteration: " + i, expected, actual, 1.0e-12);
+      }
+   }
+
+   @Test
+   void testRouting()
+   {
+      ShapeCollisionDispatcher dispatcher = new ShapeCollisionDispatcher();
+      assertNotNull(dispatcher.getCollisionFunction(ShapeType.CAPSULE, ShapeType.BOX));
+      assertNotNull(dispatcher.getCollisionFunction(ShapeType.BOX, ShapeType.CAPSULE));
+      assertNotNull(dispatcher.getCollisionFunction(ShapeType.CONVEX_POLYTOPE, ShapeType.SPHERE));
+      assertNull(dispatcher.getCollisionFunction(ShapeType.BOX, ShapeType.BOX));
+
+      // The capsule's axis intersects the cylinder, the capsule-cylinder routine cannot handle it.
+      Capsule3D capsule = new Capsule3D(1.0, 0.1);
+      Cylinder3D cylinder = new Cylinder3D(1.0, 0.5);
+      assertTrue(dispatcher.evaluateCollision(cylinder, capsule, new EuclidShape3DCollisionResult()));
+      assertEquals(0, dispatcher.getNumberOfAnalyticalEvaluations());
+      assertEquals(1, dispatcher.getNumberOfFallbackEvaluations());
+
+      capsule.getPosition().setX(2.0);
+      assertFalse(dispatcher.evaluateCollision(cylinder, capsule, new EuclidShape3DCollisionResult()));
+      assertEquals(1, dispatcher.getNumberOfAnalyticalEvaluations());
+
+      // Overriding a routine for both orders.
+      dispatcher.setCollisionFunction(ShapeType.BOX, ShapeType.SPHERE, (shapeA, shapeB, result) ->
+      {
+         result.setToZero();
+         result.setShapeA(shapeA);
+         result.setShapeB(shapeB);
+         result.setShapesAreColliding(true);
+         return true;
+      });
+      Box3D box = new Box3D();
+      Sphere3D sphere = new Sphere3D(10.0, 0.0, 0.0, 1.0);
+      EuclidShape3DCollisionResult result = new EuclidShape3DCollisionResult();
+      assertTrue(dispatcher.evaluateCollision(sphere, box, result));
+      assertTrue(result.getShapeA() == sphere);
+      assertTrue(result.getShapeB() == box);
+
+      dispatcher.setCollisionFunction(ShapeType.BOX, ShapeType.SPHERE, null);
+      assertNull(dispatcher.getCollisionFunction(ShapeType.SPHERE, ShapeType.BOX));
+      assertFalse(dispatcher.evaluateCollision(sphere, box, result));
+
+      // The generic algorithm cannot handle non-convex shapes.
+      assertThrows(UnsupportedOperationException.class, () -> dispatcher.evaluateCollision(new Torus3D(), new Box3D()));
+   }
+}
@@ -0,0 +1,211 @@
+package us.ihmc.euclid.shape.collision;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.Axis3D;
+import us.ihmc.euclid.geometry.BoundingBox3D;
+import us.ihmc.euclid.shape.primitives.Box3D;
+import us.ihmc.euclid.shape.primitives.Ramp3D;
+import us.ihmc.euclid.shape.primitives.Sphere3D;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DBasics;
+import us.ihmc.euclid.shape.primitives.interfaces.Shape3DReadOnly;
+import us.ihmc.euclid.shape.tools.EuclidShapeRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+class SweepAndPruneBroadPhaseTest
+{
+   private static final int ITERATIONS = 100;
+
+   @Test
+   void testAgainstBruteForce()
+   {
+      Random random = new Random(3453);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         SweepAndPruneBroadPhase broadPhase = new SweepAndPruneBroadPhase();
+         List<Shape3DBasics> shapes = new ArrayList<>();
+         int numberOfShapes = random.nextInt(60) + 1;
+
+         for (int j = 0; j < numberOfShapes; j++)
+         {
+            Shape3DBasics shape = EuclidShapeRandomTools.nextConvexShape3D(random);
+            shape.applyTransform(new RigidBodyTransform(EuclidCoreRandomTools.nextQuaternion(random), EuclidCoreRandomTools.nextVector3D(random, 5.0)));
+            shapes.add(shape);
+            broadPhase.add(shape);
+         }
+
+         assertEquals(numberOfShapes, broadPhase.getNumberOfShapes());
+
+         for (int tick = 0; tick < 10; tick++)
+         {
+            int numberOfCandidatePairs = broadPhase.update();
+            assertEquals(numberOfCandidatePairs, broadPhase.getNumberOfCandidatePairs());
+            assertCandidatePairsEqual("Iteration " + i + ", tick " + tick, computeExpectedPairs(shapes), broadPhase);
+
+            for (int j = 0; j < shapes.size(); j++)
+            {
+               Shape3DBasics shape = shapes.get(j);
+               shape.applyTransform(new RigidBodyTransform(EuclidCoreRandomTools.nextQuaternion(random, 0.1), EuclidCoreRandomTools.nextVector3D(random, 0.3)));
+               // Box3D and Ramp3D notify the broad phase on their own.
+               if (!(shape instanceof Box3D) && !(shape instanceof Ramp3D))
+                  broadPhase.markDirty(shape);
+            }
+
+            if (random.nextBoolean() && shapes.size() > 1)
+            {
+               Shape3DBasics removedShape = shapes.remove(random.nextInt(shapes.size()));
+               assertTrue(broadPhase.remove(removedShape));
+               assertFalse(broadPhase.remove(removedShape));
+               assertFalse(broadPhase.contains(removedShape));
+
+               // The pairs are still valid without the removed shape.
+               for (int pairIndex = 0; pairIndex < broadPhase.getNumberOfCandidatePairs(); pairIndex++)
+               {
+                  assertTrue(broadPhase.getCandidatePairShapeA(pairIndex) != removedShape);
+                  assertTrue(broadPhase.getCandidatePairShapeB(pairIndex) != removedShape);
+               }
+            }
+
+            if (random.nextBoolean())
+            {
+               Shape3DBasics newShape = EuclidShapeRandomTools.nextConvexShape3D(random);
+               newShape.applyTransform(new RigidBodyTransform(EuclidCoreRandomTools.nextQuaternion(random), EuclidCoreRandomTools.nextVector3D(random, 5.0)));
+               shapes.add(newShape);
+               broadPhase.add(newShape);
+            }
+         }
+
+         broadPhase.clear();
+         assertEquals(0, broadPhase.getNumberOfShapes());
+         assertEquals(0, broadPhase.update());
+      }
+   }
+
+   @Test
+   void testChangeListener()
+   {
+      SweepAndPruneBroadPhase broadPhase = new SweepAndPruneBroadPhase();
+      Box3D box = new Box3D(1.0, 1.0, 1.0);
+      Sphere3D sphere = new Sphere3D(5.0, 0.0, 0.0, 0.5);
+      broadPhase.add(box);
+      broadPhase.add(sphere);
+      assertThrows(IllegalArgumentException.class, () -> broadPhase.add(box));
+
+      assertEquals(0, broadPhase.update());
+
+      // The box notifies the broad phase when moved.
+      box.getPosition().setX(4.5);
+      assertEquals(1, broadPhase.update());
+      assertTrue(broadPhase.getCandidatePairShapeA(0) == box);
+      assertTrue(broadPhase.getCandidatePairShapeB(0) == sphere);
+
+      // The sphere is not observable and has to be marked dirty.
+      sphere.getPosition().setX(10.0);
+      assertEquals(1, broadPhase.update());
+      broadPhase.markDirty(sphere);
+      assertEquals(0, broadPhase.update());
+
+      // Once removed, the box does not notify the broad phase anymore.
+      broadPhase.remove(box);
+      box.getPosition().setX(10.0);
+      broadPhase.add(box);
+      assertEquals(1, broadPhase.update());
+      assertTrue(broadPhase.getCandidatePairShapeA(0) == sphere);
+      assertTrue(broadPhase.getCandidatePairShapeB(0) == box);
+
+      assertThrows(IllegalArgumentException.class, () -> broadPhase.markDirty(new Sphere3D()));
+      assertThrows(IndexOutOfBoundsException.class, () -> broadPhase.getCandidatePairShapeA(1));
+   }
+
+   @Test
+   void testSweepAxis()
+   {
+      Random random = new Random(6745);
+      SweepAndPruneBroadPhase broadPhase = new SweepAndPruneBroadPhase();
+      List<Sphere3D> spheres = new ArrayList<>();
+
+      for (int i = 0; i < 50; i++)
+      {
+         Sphere3D sphere = new Sphere3D(random.nextDouble(), 20.0 * random.nextDouble(), random.nextDouble(), 0.5);
+         spheres.add(sphere);
+         broadPhase.add(sphere);
+      }
+
+      broadPhase.update();
+      assertEquals(Axis3D.Y, broadPhase.getSweepAxis());
+      assertCandidatePairsEqual("", computeExpectedPairs(spheres), broadPhase);
+
+      // Slightly more spread out along z, the sweep axis is kept.
+      for (Sphere3D sphere : spheres)
+         sphere.getPosition().setZ(1.1 * sphere.getPosition().getY());
+      broadPhase.markAllDirty();
+      broadPhase.update();
+      assertEquals(Axis3D.Y, broadPhase.getSweepAxis());
+      assertCandidatePairsEqual("", computeExpectedPairs(spheres), broadPhase);
+
+      // Clearly more spread out along z.
+      for (Sphere3D sphere : spheres)
+         sphere.getPosition().setZ(2.0 * sphere.getPosition().getY());
+      broadPhase.markAllDirty();
+      broadPhase.update();
+      assertEquals(Axis3D.Z, broadPhase.getSweepAxis());
+      assertCandidatePairsEqual("", computeExpectedPairs(spheres), broadPhase);
+   }
+
+   private static Set<List<Shape3DReadOnly>> computeExpectedPairs(List<? extends Shape3DReadOnly> shapes)
+   {
+      Set<List<Shape3DReadOnly>> expectedPairs = new HashSet<>();
+
+      for (int i = 0; i < shapes.size(); i++)
+      {
+         BoundingBox3D boundingBoxA = new BoundingBox3D();
+         shapes.get(i).getBoundingBox(boundingBoxA);
+
+         for (int j = i + 1; j < shapes.size(); j++)
+         {
+            BoundingBox3D boundingBoxB = new BoundingBox3D();
+            shapes.get(j).getBoundingBox(boundingBoxB);
+
+            if (boundingBoxA.intersectsInclusive(boundingBoxB))
+               expectedPairs.add(newPair(shapes.get(i), shapes.get(j)));
+         }
+      }
+
+      return expectedPairs;
+   }
+
+   private static void assertCandidatePairsEqual(String messagePrefix, Set<List<Shape3DReadOnly>> expectedPairs, SweepAndPruneBroadPhase broadPhase)
+   {
+      Set<List<Shape3DReadOnly>> actualPairs = new HashSet<>();
+      broadPhase.forEachCandidatePair((shapeA, shapeB) -> assertTrue(actualPairs.add(newPair(shapeA, shapeB)), messagePrefix + ", duplicate pair"));
+      assertEquals(broadPhase.getNumberOfCandidatePairs(), actualPairs.size(), messagePrefix);
+      assertEquals(expectedPairs, actualPairs, messagePrefix);
+   }
+
+   private static List<Shape3DReadOnly> newPair(Shape3DReadOnly shapeA, Shape3DReadOnly shapeB)
+   {
+      // Using the identity hash code to get an order independent pair.
+      List<Shape3DReadOnly> pair = new ArrayList<>();
+      if (System.identityHashCode(shapeA) <= System.identityHashCode(shapeB))
+      {
+         pair.add(shapeA);
+         pair.add(shapeB);
+      }
+      else
+      {
+         pair.add(shapeB);
+         pair.add(shapeA);
+      }
+      return pair;
+   }
+}
@@ -0,0 +1,303 @@
+package us.ihmc.euclid.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+public class BulkQuaternionToolsTest
+{
+   private static final double EPSILON = 1.0e-15;
+
+   @Test
+   public void testMultiply()
+   {
+      Random random = new Random(8923);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int numberOfQuaternions = random.nextInt(20);
+         int startIndex1 = random.nextInt(5);
+         int startIndex2 = random.nextInt(5);
+         int startIndexToPack = random.nextInt(5);
+         Quaternion[] quaternions1 = nextQuaternions(random, numberOfQuaternions);
+         Quaternion[] quaternions2 = nextQuaternions(random, numberOfQuaternions);
+         double[] array1 = toArray(quaternions1, startIndex1);
+         double[] array2 = toArray(quaternions2, startIndex2);
+         double[] arrayToPack = new double[startIndexToPack + 4 * numberOfQuaternions];
+
+         BulkQuaternionTools.multiply(array1, startIndex1, array2, startIndex2, arrayToPack, startIndexToPack, numberOfQuaternions);
+
+         Quaternion expected = new Quaternion();
+
+         for (int j = 0; j < numberOfQuaternions; j++)
+         {
+            QuaternionTools.multiply(quaternions1[j], quaternions2[j], expected);
+            assertQuaternionEquals(expected, arrayToPack, startIndexToPack + 4 * j);
+         }
+
+         Quaternion q1 = EuclidCoreRandomTools.nextQuaternion(random);
+         BulkQuaternionTools.multiply(q1, array2, startIndex2, arrayToPack, startIndexToPack, numberOfQuaternions);
+
+         for (int j = 0; j < numberOfQuaternions; j++)
+         {
+            QuaternionTools.multiply(q1, quaternions2[j], expected);
+            assertQuaternionEquals(expected, arrayToPack, startIndexToPack + 4 * j);
+         }
+
+         Quaternion q2 = EuclidCoreRandomTools.nextQuaternion(random);
+         BulkQuaternionTools.multiply(array1, startIndex1, q2, arrayToPack, startIndexToPack, numberOfQuaternions);
+
+         for (int j = 0; j < numberOfQuaternions; j++)
+         {
+            QuaternionTools.multiply(quaternions1[j], q2, expected);
+            assertQuaternionEquals(expected, arrayToPack, startIndexToPack + 4 * j);
+         }
+
+         // In place
+         BulkQuaternionTools.multiply(q1, array1, startIndex1, array1, startIndex1, numberOfQuaternions);
+
+         for (int j = 0; j < numberOfQuaternions; j++)
+         {
+            QuaternionTools.multiply(q1, quaternions1[j], expected);
+            assertQuaternionEquals(expected, array1, startIndex1 + 4 * j);
+         }
+      }
+   }
+
+   @Test
+   public void testNormalize()
+   {
+      Random random = new Random(3453);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int numberOfQuaternions = random.nextInt(20);
+         int startIndex = random.nextInt(5);
+         double[] array = new double[startIndex + 4 * numberOfQuaternions];
+         Quaternion[] expected = new Quaternion[numberOfQuaternions];
+
+         for (int j = 0; j < numberOfQuaternions; j++)
+         {
+            double x = EuclidCoreRandomTools.nextDouble(random, 10.0);
+            double y = EuclidCoreRandomTools.nextDouble(random, 10.0);
+            double z = EuclidCoreRandomTools.nextDouble(random, 10.0);
+            double s = EuclidCoreRandomTools.nextDouble(random, 10.0);
+            expected[j] = new Quaternion();
+            expected[j].setUnsafe(x, y, z, s);
+            expected[j].normalize();
+            System.arraycopy(new double[] {x, y, z, s}, 0, array, startIndex + 4 * j, 4);
+         }
+
+         BulkQuaternionTools.normalize(array, startIndex, numberOfQuaternions);
+
+         for (int j = 0; j < numberOfQuaternions; j++)
+            assertQuaternionEquals(expected[j], array, startIndex + 4 * j);
+      }
+
+      double[] array = {0.0, 0.0, 0.0, 0.0, 1.0, Double.NaN, 2.0, 3.0};
+      BulkQuaternionTools.normalize(array, 0, 2);
+      assertQuaternionEquals(new Quaternion(), array, 0);
+      assertEquals(1.0, array[4]);
+      assertEquals(Double.NaN, array[5]);
+      assertEquals(2.0, array[6]);
+      assertEquals(3.0, array[7]);
+   }
+
+   @Test
+   public void testConjugate()
+   {
+      Random random = new Random(6572);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int numberOfQuaternions = random.nextInt(20);
+         int startIndex = random.nextInt(5);
+         Quaternion[] quaternions = nextQuaternions(random, numberOfQuaternions);
+         double[] array = toArray(quaternions, startIndex);
+
+         BulkQuaternionTools.conjugate(array, startIndex, numberOfQuaternions);
+
+         for (int j = 0; j < numberOfQuaternions; j++)
+         {
+            Quaternion expected = new Quaternion(quaternions[j]);
+            expected.conjugate();
+            assertQuaternionEquals(expected, array, startIndex + 4 * j);
+         }
+      }
+   }
+
+   @Test
+   public void testTransform()
+   {
+      Random random = new Random(2341);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int numberOfTuples = random.nextInt(20);
+         int quaternionsStartIndex = random.nextInt(5);
+         int originalStartIndex = random.nextInt(5);
+         int transformedStartIndex = random.nextInt(5);
+         Quaternion[] quaternions = nextQuaternions(random, numberOfTuples);
+         double[] quaternionArray = toArray(quaternions, quaternionsStartIndex);
+         Vector3D[] tuples = new Vector3D[numberOfTuples];
+         double[] tupleArray = new double[originalStartIndex + 3 * numberOfTuples];
+         double[] transformedArray = new double[transformedStartIndex + 3 * numberOfTuples];
+
+         for (int j = 0; j < numberOfTuples; j++)
+         {
+            tuples[j] = EuclidCoreRandomTools.nextVector3D(random, 10.0);
+            tuples[j].get(originalStartIndex + 3 * j, tupleArray);
+         }
+
+         Quaternion quaternion = random.nextInt(10) == 0 ? new Quaternion(0.0, 0.0, 0.0, 0.0) : EuclidCoreRandomTools.nextQuaternion(random);
+         Vector3D expected = new Vector3D();
+
+         BulkQuaternionTools.transform(quaternion, tupleArray, originalStartIndex, transformedArray, transformedStartIndex, numberOfTuples);
+
+         for (int j = 0; j < numberOfTuples; j++)
+         {
+            QuaternionTools.transform(quaternion, tuples[j], expected);
+            assertTupleEquals(expected, transformedArray, transformedStartIndex + 3 * j);
+         }
+
+         BulkQuaternionTools.inverseTransform(quaternion, tupleArray, originalStartIndex, transformedArray, transformedStartIndex, numberOfTuples);
+
+         for (int j = 0; j < numberOfTuples; j++)
+         {
+            QuaternionTools.inverseTransform(quaternion, tuples[j], expected);
+            assertTupleEquals(expected, transformedArray, transformedStartIndex + 3 * j);
+         }
+
+         BulkQuaternionTools.transform(quaternionArray,
+                                       quaternionsStartIndex,
+                                       tupleArray,
+                                       originalStartIndex,
+                                       transformedArray,
+                                       transformedStartIndex,
+                                       numberOfTuples);
+
+         for (int j = 0; j < numberOfTuples; j++)
+         {
+            QuaternionTools.transform(quaternions[j], tuples[j], expected);
+            assertTupleEquals(expected, transformedArray, transformedStartIndex + 3 * j);
+         }
+
+         // In place
+         BulkQuaternionTools.transform(quaternion, tupleArray, originalStartIndex, tupleArray, originalStartIndex, numberOfTuples);
+
+         for (int j = 0; j < numberOfTuples; j++)
+         {
+            QuaternionTools.transform(quaternion, tuples[j], expected);
+            assertTupleEquals(expected, tupleArray, originalStartIndex + 3 * j);
+         }
+      }
+   }
+
+   @Test
+   public void testInterpolate()
+   {
+      Random random = new Random(9812);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int numberOfQuaternions = random.nextInt(20);
+         int startIndex0 = random.nextInt(5);
+         int startIndexF = random.nextInt(5);
+         int startIndexToPack = random.nextInt(5);
+         Quaternion[] quaternions0 = nextQuaternions(random, numberOfQuaternions);
+         Quaternion[] quaternionsF = nextQuaternions(random, numberOfQuaternions);
+
+         if (numberOfQuaternions > 0)
+            quaternionsF[0].set(quaternions0[0]); // Exercises the linear interpolation case.
+
+         double[] array0 = toArray(quaternions0, startIndex0);
+         double[] arrayF = toArray(quaternionsF, startIndexF);
+         double[] arrayToPack = new double[startIndexToPack + 4 * numberOfQuaternions];
+         double alpha = EuclidCoreRandomTools.nextDouble(random, -0.5, 1.5);
+         Quaternion expected = new Quaternion();
+
+         BulkQuaternionTools.interpolate(array0, startIndex0, arrayF, startIndexF, alpha, arrayToPack, startIndexToPack, numberOfQuaternions);
+
+         for (int j = 0; j < numberOfQuaternions; j++)
+         {
+            QuaternionTools.interpolate(quaternions0[j], quaternionsF[j], alpha, expected);
+            assertQuaternionEquals(expected, arrayToPack, startIndexToPack + 4 * j);
+         }
+
+         int alphasStartIndex = random.nextInt(5);
+         double[] alphas = new double[alphasStartIndex + numberOfQuaternions];
+
+         for (int j = 0; j < numberOfQuaternions; j++)
+            alphas[alphasStartIndex + j] = EuclidCoreRandomTools.nextDouble(random, -0.5, 1.5);
+
+         Quaternion q0 = EuclidCoreRandomTools.nextQuaternion(random);
+         Quaternion qf = random.nextInt(10) == 0 ? new Quaternion(q0) : EuclidCoreRandomTools.nextQuaternion(random);
+
+         BulkQuaternionTools.interpolate(q0, qf, alphas, alphasStartIndex, arrayToPack, startIndexToPack, numberOfQuaternions);
+
+         for (int j = 0; j < numberOfQuaternions; j++)
+         {
+            QuaternionTools.interpolate(q0, qf, alphas[alphasStartIndex + j], expected);
+            assertQuaternionEquals(expected, arrayToPack, startIndexToPack + 4 * j);
+         }
+      }
+   }
+
+   @Test
+   public void testIndexChecks()
+   {
+      Quaternion quaternion = new Quaternion();
+      double[] quaternions = new double[7];
+      double[] tuples = new double[5];
+      assertThrows(IndexOutOfBoundsException.class, () -> BulkQuaternionTools.multiply(quaternions, 0, quaternions, 0, quaternions, 0, 2));
+      assertThrows(IndexOutOfBoundsException.class, () -> BulkQuaternionTools.multiply(quaternion, quaternions, 0, new double[8], 5, 1));
+      assertThrows(IndexOutOfBoundsException.class, () -> BulkQuaternionTools.multiply(quaternions, -1, quaternion, quaternions, 0, 1));
+      assertThrows(IndexOutOfBoundsException.class, () -> BulkQuaternionTools.normalize(quaternions, 4, 1));
+      assertThrows(IndexOutOfBoundsException.class, () -> BulkQuaternionTools.conjugate(quaternions, 0, -1));
+      assertThrows(IndexOutOfBoundsException.class, () -> BulkQuaternionTools.transform(quaternion, tuples, 0, tuples, 0, 2));
+      assertThrows(IndexOutOfBoundsException.class, () -> BulkQuaternionTools.inverseTransform(quaternion, tuples, 0, tuples, 3, 1));
+      assertThrows(IndexOutOfBoundsException.class, () -> BulkQuaternionTools.transform(quaternions, 4, tuples, 0, tuples, 0, 1));
+      assertThrows(IndexOutOfBoundsException.class,
+                   () -> BulkQuaternionTools.interpolate(quaternions, 0, quaternions, 0, 0.5, new double[8], 0, 2));
+      assertThrows(IndexOutOfBoundsException.class,
+                   () -> BulkQuaternionTools.interpolate(quaternion, quaternion, new double[1], 0, new double[8], 0, 2));
+   }
+
+   private static Quaternion[] nextQuaternions(Random random, int numberOfQuaternions)
+   {
+      Quaternion[] quaternions = new Quaternion[numberOfQuaternions];
+      for (int i = 0; i < numberOfQuaternions; i++)
+         quaternions[i] = EuclidCoreRandomTools.nextQuaternion(random);
+      return quaternions;
+   }
+
+   private static double[] toArray(Quaternion[] quaternions, int startIndex)
+   {
+      double[] array = new double[startIndex + 4 * quaternions.length];
+      for (int i = 0; i < quaternions.length; i++)
+         quaternions[i].get(startIndex + 4 * i, array);
+      return array;
+   }
+
+   private static void assertQuaternionEquals(Quaternion expected, double[] actual, int index)
+   {
+      assertEquals(expected.getX(), actual[index], EPSILON);
+      assertEquals(expected.getY(), actual[index + 1], EPSILON);
+      assertEquals(expected.getZ(), actual[index + 2], EPSILON);
+      assertEquals(expected.getS(), actual[index + 3], EPSILON);
+   }
+
+   private static void assertTupleEquals(Vector3D expected, double[] actual, int index)
+   {
+      assertEquals(expected.getX(), actual[index], EPSILON);
+      assertEquals(expected.getY(), actual[index + 1], EPSILON);
+      assertEquals(expected.getZ(), actual[index + 2], EPSILON);
+   }
+}
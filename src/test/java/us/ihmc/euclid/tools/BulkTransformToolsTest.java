@@ -0,0 +1,316 @@
+package us.ihmc.euclid.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static us.ihmc.euclid.EuclidTestConstants.ITERATIONS;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.exceptions.SingularMatrixException;
+import us.ihmc.euclid.transform.AffineTransform;
+import us.ihmc.euclid.transform.QuaternionBasedTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.transform.interfaces.AffineTransformReadOnly;
+import us.ihmc.euclid.transform.interfaces.RigidBodyTransformReadOnly;
+import us.ihmc.euclid.transform.interfaces.Transform;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+public class BulkTransformToolsTest
+{
+   private static final double EPSILON = 1.0e-12;
+   private static final double FLOAT_EPSILON = 1.0e-5;
+
+   @Test
+   public void testKernel()
+   {
+      // The alternative kernels are tested against the scalar one in their own source set, these tests cover the scalar kernel.
+      assertTrue(BulkTransformTools.getKernel() instanceof ScalarBulkTransformKernel);
+   }
+
+   @Test
+   public void testRigidBodyTransform()
+   {
+      Random random = new Random(3478);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         RigidBodyTransformReadOnly transform = random.nextBoolean() ? EuclidCoreRandomTools.nextRigidBodyTransform(random)
+               : EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         assertBulkTransformMatchesPointTransform(random, transform);
+      }
+
+      // Zero quaternion, treated as the identity rotation by the point transform.
+      assertBulkTransformMatchesPointTransform(random, new QuaternionBasedTransform(new Quaternion(0.0, 0.0, 0.0, 0.0), new Point3D(1.0, 2.0, 3.0)));
+   }
+
+   @Test
+   public void testAffineTransform()
+   {
+      Random random = new Random(9845);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         AffineTransform transform = EuclidCoreRandomTools.nextAffineTransform(random);
+         assertBulkTransformMatchesPointTransform(random, transform);
+      }
+
+      AffineTransform singular = new AffineTransform();
+      singular.getLinearTransform().set(1.0, 0.0, 0.0, 0.0, 1.0, 0.0, 0.0, 0.0, 0.0);
+      assertThrows(SingularMatrixException.class, () -> singular.inverseTransformPoints(new double[3], 0, new double[3], 0, 1));
+   }
+
+   @Test
+   public void testIndexChecks()
+   {
+      RigidBodyTransform transform = new RigidBodyTransform();
+      double[] points = {1.0, 2.0, 3.0, 4.0, 5.0};
+      assertThrows(IndexOutOfBoundsException.class, () -> transform.transformPoints(points, 0, points, 0, 2));
+      assertThrows(IndexOutOfBoundsException.class, () -> transform.transformPoints(points, 0, new double[5], 3, 1));
+      assertThrows(IndexOutOfBoundsException.class, () -> transform.transformPoints(points, -1, points, 0, 1));
+      assertThrows(IndexOutOfBoundsException.class,
+                   () -> transform.inverseTransformPoints(new float[2], new float[3], new float[3], 0, new float[3], new float[3], new float[3], 0, 3));
+      assertThrows(IndexOutOfBoundsException.class,
+                   () -> new AffineTransform().transformPoints(points, 0, points, 0, 2));
+   }
+
+   private static void assertBulkTransformMatchesPointTransform(Random random, Transform transform)
+   {
+      int numberOfPoints = random.nextInt(50);
+      int originalStartIndex = random.nextInt(5);
+      int transformedStartIndex = random.nextInt(5);
+
+      Point3D[] points = new Point3D[numberOfPoints];
+      Point3D[] expectedTransformed = new Point3D[numberOfPoints];
+      Point3D[] expectedInverseTransformed = new Point3D[numberOfPoints];
+
+      double[] interleaved = new double[originalStartIndex + 3 * numberOfPoints];
+      float[] interleavedFloat = new float[originalStartIndex + 3 * numberOfPoints];
+      double[] xs = new double[originalStartIndex + numberOfPoints];
+      double[] ys = new double[originalStartIndex + numberOfPoints];
+      double[] zs = new double[originalStartIndex + numberOfPoints];
+      float[] xsFloat = new float[originalStartIndex + numberOfPoints];
+      float[] ysFloat = new float[originalStartIndex + numberOfPoints];
+      float[] zsFloat = new float[originalStartIndex + numberOfPoints];
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         points[i] = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+         expectedTransformed[i] = new Point3D(points[i]);
+         transform.transform(expectedTransformed[i]);
+         expectedInverseTransformed[i] = new Point3D(points[i]);
+         transform.inverseTransform(expectedInverseTransformed[i]);
+
+         points[i].get(originalStartIndex + 3 * i, interleaved);
+         points[i].get(originalStartIndex + 3 * i, interleavedFloat);
+         xs[originalStartIndex + i] = points[i].getX();
+         ys[originalStartIndex + i] = points[i].getY();
+         zs[originalStartIndex + i] = points[i].getZ();
+         xsFloat[originalStartIndex + i] = (float) points[i].getX();
+         ysFloat[originalStartIndex + i] = (float) points[i].getY();
+         zsFloat[originalStartIndex + i] = (float) points[i].getZ();
+      }
+
+      for (boolean inverse : new boolean[] {false, true})
+      {
+         Point3D[] expected = inverse ? expectedInverseTransformed : expectedTransformed;
+
+         // Into an output buffer.
+         double[] interleavedTransformed = new double[transformedStartIndex + 3 * numberOfPoints];
+         float[] interleavedFloatTransformed = new float[transformedStartIndex + 3 * numberOfPoints];
+         double[][] soaTransformed = new double[3][transformedStartIndex + numberOfPoints];
+         float[][] soaFloatTransformed = new float[3][transformedStartIndex + numberOfPoints];
+
+         transformPoints(transform, inverse, interleaved, originalStartIndex, interleavedTransformed, transformedStartIndex, numberOfPoints);
+         transformPoints(transform,
+                         inverse,
+                         interleavedFloat,
+                         originalStartIndex,
+                         interleavedFloatTransformed,
+                         transformedStartIndex,
+                         numberOfPoints);
+         transformPoints(transform, inverse, xs, ys, zs, originalStartIndex, soaTransformed, transformedStartIndex, numberOfPoints);
+         transformPoints(transform, inverse, xsFloat, ysFloat, zsFloat, originalStartIndex, soaFloatTransformed, transformedStartIndex, numberOfPoints);
+
+         for (int i = 0; i < numberOfPoints; i++)
+         {
+            int index = transformedStartIndex + 3 * i;
+            assertPointEquals(expected[i], interleavedTransformed[index], interleavedTransformed[index + 1], interleavedTransformed[index + 2], EPSILON);
+            assertPointEquals(expected[i],
+                              interleavedFloatTransformed[index],
+                              interleavedFloatTransformed[index + 1],
+                              interleavedFloatTransformed[index + 2],
+                              FLOAT_EPSILON);
+            index = transformedStartIndex + i;
+            assertPointEquals(expected[i], soaTransformed[0][index], soaTransformed[1][index], soaTransformed[2][index], EPSILON);
+            assertPointEquals(expected[i], soaFloatTransformed[0][index], soaFloatTransformed[1][index], soaFloatTransformed[2][index], FLOAT_EPSILON);
+         }
+
+         // In place.
+         double[] interleavedInPlace = interleaved.clone();
+         double[][] soaInPlace = {xs.clone(), ys.clone(), zs.clone()};
+         transformPoints(transform, inverse, interleavedInPlace, originalStartIndex, interleavedInPlace, originalStartIndex, numberOfPoints);
+         transformPoints(transform, inverse, soaInPlace[0], soaInPlace[1], soaInPlace[2], originalStartIndex, soaInPlace, originalStartIndex, numberOfPoints);
+
+         for (int i = 0; i < numberOfPoints; i++)
+         {
+            int index = originalStartIndex + 3 * i;
+            assertPointEquals(expected[i], interleavedInPlace[index], interleavedInPlace[index + 1], interleavedInPlace[index + 2], EPSILON);
+            index = originalStartIndex + i;
+            assertPointEquals(expected[i], soaInPlace[0][index], soaInPlace[1][index], soaInPlace[2][index], EPSILON);
+         }
+      }
+   }
+
+   private static void transformPoints(Transform transform,
+                                       boolean inverse,
+                                       double[] pointsOriginal,
+                                       int originalStartIndex,
+                                       double[] pointsTransformed,
+                                       int transformedStartIndex,
+                                       int numberOfPoints)
+   {
+      if (transform instanceof RigidBodyTransformReadOnly)
+      {
+         RigidBodyTransformReadOnly rigidBodyTransform = (RigidBodyTransformReadOnly) transform;
+         if (inverse)
+            rigidBodyTransform.inverseTransformPoints(pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+         else
+            rigidBodyTransform.transformPoints(pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+      }
+      else
+      {
+         AffineTransformReadOnly affineTransform = (AffineTransformReadOnly) transform;
+         if (inverse)
+            affineTransform.inverseTransformPoints(pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+         else
+            affineTransform.transformPoints(pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+      }
+   }
+
+   private static void transformPoints(Transform transform,
+                                       boolean inverse,
+                                       float[] pointsOriginal,
+                                       int originalStartIndex,
+                                       float[] pointsTransformed,
+                                       int transformedStartIndex,
+                                       int numberOfPoints)
+   {
+      if (transform instanceof RigidBodyTransformReadOnly)
+      {
+         RigidBodyTransformReadOnly rigidBodyTransform = (RigidBodyTransformReadOnly) transform;
+         if (inverse)
+            rigidBodyTransform.inverseTransformPoints(pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+         else
+            rigidBodyTransform.transformPoints(pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+      }
+      else
+      {
+         AffineTransformReadOnly affineTransform = (AffineTransformReadOnly) transform;
+         if (inverse)
+            affineTransform.inverseTransformPoints(pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+         else
+            affineTransform.transformPoints(pointsOriginal, originalStartIndex, pointsTransformed, transformedStartIndex, numberOfPoints);
+      }
+   }
+
+   private static void transformPoints(Transform transform,
+                                       boolean inverse,
+                                       double[] xs,
+                                       double[] ys,
+                                       double[] zs,
+                                       int originalStartIndex,
+                                       double[][] transformed,
+                                       int transformedStartIndex,
+                                       int numberOfPoints)
+   {
+      if (transform instanceof RigidBodyTransformReadOnly)
+      {
+         RigidBodyTransformReadOnly rigidBodyTransform = (RigidBodyTransformReadOnly) transform;
+         if (inverse)
+            rigidBodyTransform.inverseTransformPoints(xs,
+                                                      ys,
+                                                      zs,
+                                                      originalStartIndex,
+                                                      transformed[0],
+                                                      transformed[1],
+                                                      transformed[2],
+                                                      transformedStartIndex,
+                                                      numberOfPoints);
+         else
+            rigidBodyTransform.transformPoints(xs, ys, zs, originalStartIndex, transformed[0], transformed[1], transformed[2], transformedStartIndex, numberOfPoints);
+      }
+      else
+      {
+         AffineTransformReadOnly affineTransform = (AffineTransformReadOnly) transform;
+         if (inverse)
+            affineTransform.inverseTransformPoints(xs,
+                                                   ys,
+                                                   zs,
+                                                   originalStartIndex,
+                                                   transformed[0],
+                                                   transformed[1],
+                                                   transformed[2],
+                                                   transformedStartIndex,
+                                                   numberOfPoints);
+         else
+            affineTransform.transformPoints(xs, ys, zs, originalStartIndex, transformed[0], transformed[1], transformed[2], transformedStartIndex, numberOfPoints);
+      }
+   }
+
+   private static void transformPoints(Transform transform,
+                                       boolean inverse,
+                                       float[] xs,
+                                       float[] ys,
+                                       float[] zs,
+                                       int originalStartIndex,
+                                       float[][] transformed,
+                                       int transformedStartIndex,
+                                       int numberOfPoints)
+   {
+      if (transform instanceof RigidBodyTransformReadOnly)
+      {
+         RigidBodyTransformReadOnly rigidBodyTransform = (RigidBodyTransformReadOnly) transform;
+         if (inverse)
+            rigidBodyTransform.inverseTransformPoints(xs,
+                                                      ys,
+                                                      zs,
+                                                      originalStartIndex,
+                                                      transformed[0],
+                                                      transformed[1],
+                                                      transformed[2],
+                                                      transformedStartIndex,
+                                                      numberOfPoints);
+         else
+            rigidBodyTransform.transformPoints(xs, ys, zs, originalStartIndex, transformed[0], transformed[1], transformed[2], transformedStartIndex, numberOfPoints);
+      }
+      else
+      {
+         AffineTransformReadOnly affineTransform = (AffineTransformReadOnly) transform;
+         if (inverse)
+            affineTransform.inverseTransformPoints(xs,
+                                                   ys,
+                                                   zs,
+                                                   originalStartIndex,
+                                                   transformed[0],
+                                                   transformed[1],
+                                                   transformed[2],
+                                                   transformedStartIndex,
+                                                   numberOfPoints);
+         else
+            affineTransform.transformPoints(xs, ys, zs, originalStartIndex, transformed[0], transformed[1], transformed[2], transformedStartIndex, numberOfPoints);
+      }
+   }
+
+   private static void assertPointEquals(Point3D expected, double x, double y, double z, double epsilon)
+   {
+      // Relative to the magnitude of the coordinates, the points are generated in [-10, 10].
+      double scaledEpsilon = epsilon * Math.max(1.0, expected.norm());
+      assertEquals(expected.getX(), x, scaledEpsilon);
+      assertEquals(expected.getY(), y, scaledEpsilon);
+      assertEquals(expected.getZ(), z, scaledEpsilon);
+   }
+}
@@ -0,0 +1,116 @@
+package us.ihmc.euclid.tuple3D;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+
+public class ByteBufferPoint3D32Test extends Point3DBasicsTest<ByteBufferPoint3D32>
+{
+   private int numberOfTuplesCreated = 0;
+
+   @Test
+   public void testBufferView()
+   {
+      Random random = new Random(36721L);
+      int numberOfElements = 20;
+      int offset = 7;
+      ByteBuffer buffer = ByteBuffer.allocateDirect(offset + numberOfElements * ByteBufferPoint3D32.SIZE_IN_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+      Point3D32[] expected = new Point3D32[numberOfElements];
+
+      for (int i = 0; i < numberOfElements; i++)
+      {
+         expected[i] = EuclidCoreRandomTools.nextPoint3D32(random);
+         int index = offset + i * ByteBufferPoint3D32.SIZE_IN_BYTES;
+         buffer.putFloat(index, expected[i].getX32());
+         buffer.putFloat(index + Float.BYTES, expected[i].getY32());
+         buffer.putFloat(index + 2 * Float.BYTES, expected[i].getZ32());
+      }
+
+      ByteBufferPoint3D32 cursor = new ByteBufferPoint3D32(buffer, offset);
+
+      for (int i = 0; i < numberOfElements; i++)
+      {
+         int index = offset + i * ByteBufferPoint3D32.SIZE_IN_BYTES;
+         cursor.setOffset(index);
+         assertEquals(index, cursor.getOffset());
+         EuclidCoreTestTools.assertEquals(expected[i], cursor, 0.0);
+
+         // Modifying the view writes into the buffer.
+         Point3D translation = EuclidCoreRandomTools.nextPoint3D(random);
+         cursor.add(translation);
+         expected[i].add(translation);
+         assertEquals(expected[i].getX32(), buffer.getFloat(index));
+         assertEquals(expected[i].getY32(), buffer.getFloat(index + Float.BYTES));
+         assertEquals(expected[i].getZ32(), buffer.getFloat(index + 2 * Float.BYTES));
+      }
+
+      assertEquals(0, buffer.position());
+      assertEquals(buffer.capacity(), buffer.limit());
+
+      assertThrows(IndexOutOfBoundsException.class, () -> cursor.setOffset(-1));
+      assertThrows(IndexOutOfBoundsException.class, () -> cursor.setOffset(buffer.limit() - ByteBufferPoint3D32.SIZE_IN_BYTES + 1));
+      assertThrows(IndexOutOfBoundsException.class, () -> new ByteBufferPoint3D32(ByteBuffer.allocate(ByteBufferPoint3D32.SIZE_IN_BYTES - 1), 0));
+      assertEquals(buffer.limit() - ByteBufferPoint3D32.SIZE_IN_BYTES, cursor.getOffset());
+
+      ByteBufferPoint3D32 readOnly = new ByteBufferPoint3D32(buffer.asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN), offset);
+      EuclidCoreTestTools.assertEquals(expected[0], readOnly, 0.0);
+      assertThrows(ReadOnlyBufferException.class, () -> readOnly.setX(0.0));
+
+      ByteBuffer otherBuffer = ByteBuffer.allocate(ByteBufferPoint3D32.SIZE_IN_BYTES);
+      cursor.setBuffer(otherBuffer, 0);
+      cursor.set(expected[1]);
+      assertEquals(otherBuffer, cursor.getBuffer());
+      EuclidCoreTestTools.assertEquals(expected[1], new ByteBufferPoint3D32(otherBuffer, 0), 0.0);
+   }
+
+   @Override
+   public ByteBufferPoint3D32 createEmptyTuple()
+   {
+      return new ByteBufferPoint3D32(ByteBuffer.allocate(ByteBufferPoint3D32.SIZE_IN_BYTES), 0);
+   }
+
+   @Override
+   public ByteBufferPoint3D32 createRandomTuple(Random random)
+   {
+      ByteBufferPoint3D32 tuple = newTuple();
+      tuple.set(EuclidCoreRandomTools.nextPoint3D32(random));
+      return tuple;
+   }
+
+   @Override
+   public ByteBufferPoint3D32 createTuple(double x, double y, double z)
+   {
+      ByteBufferPoint3D32 tuple = new ByteBufferPoint3D32(ByteBuffer.allocate(ByteBufferPoint3D32.SIZE_IN_BYTES), 0);
+      tuple.set(x, y, z);
+      return tuple;
+   }
+
+   /**
+    * Cycles through the offsets, byte orders, and heap or direct buffers without consuming the random
+    * generator, such that the random sequences of the inherited tests are preserved.
+    */
+   private ByteBufferPoint3D32 newTuple()
+   {
+      int offset = numberOfTuplesCreated % 8;
+      ByteBuffer buffer = numberOfTuplesCreated % 3 == 0 ? ByteBuffer.allocateDirect(offset + ByteBufferPoint3D32.SIZE_IN_BYTES)
+            : ByteBuffer.allocate(offset + ByteBufferPoint3D32.SIZE_IN_BYTES);
+      buffer.order(numberOfTuplesCreated % 2 == 0 ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+      numberOfTuplesCreated++;
+      return new ByteBufferPoint3D32(buffer, offset);
+   }
+
+   @Override
+   public double getEpsilon()
+   {
+      return 1.0e-6;
+   }
+}
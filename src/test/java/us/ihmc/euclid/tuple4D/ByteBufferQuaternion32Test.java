@@ -0,0 +1,120 @@
+package us.ihmc.euclid.tuple4D;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+
+public class ByteBufferQuaternion32Test extends QuaternionBasicsTest<ByteBufferQuaternion32>
+{
+   private int numberOfTuplesCreated = 0;
+
+   @Test
+   public void testBufferView()
+   {
+      Random random = new Random(36723L);
+      int numberOfElements = 20;
+      int offset = 7;
+      ByteBuffer buffer = ByteBuffer.allocateDirect(offset + numberOfElements * ByteBufferQuaternion32.SIZE_IN_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+      Quaternion32[] expected = new Quaternion32[numberOfElements];
+
+      for (int i = 0; i < numberOfElements; i++)
+      {
+         expected[i] = EuclidCoreRandomTools.nextQuaternion32(random);
+         int index = offset + i * ByteBufferQuaternion32.SIZE_IN_BYTES;
+         buffer.putFloat(index, expected[i].getX32());
+         buffer.putFloat(index + Float.BYTES, expected[i].getY32());
+         buffer.putFloat(index + 2 * Float.BYTES, expected[i].getZ32());
+         buffer.putFloat(index + 3 * Float.BYTES, expected[i].getS32());
+      }
+
+      ByteBufferQuaternion32 cursor = new ByteBufferQuaternion32(buffer, offset);
+
+      for (int i = 0; i < numberOfElements; i++)
+      {
+         int index = offset + i * ByteBufferQuaternion32.SIZE_IN_BYTES;
+         cursor.setOffset(index);
+         assertEquals(index, cursor.getOffset());
+         EuclidCoreTestTools.assertEquals(expected[i], cursor, 0.0);
+
+         // Modifying the view writes into the buffer.
+         Quaternion rotation = EuclidCoreRandomTools.nextQuaternion(random);
+         cursor.multiply(rotation);
+         expected[i].multiply(rotation);
+         assertEquals(expected[i].getX32(), buffer.getFloat(index));
+         assertEquals(expected[i].getY32(), buffer.getFloat(index + Float.BYTES));
+         assertEquals(expected[i].getZ32(), buffer.getFloat(index + 2 * Float.BYTES));
+         assertEquals(expected[i].getS32(), buffer.getFloat(index + 3 * Float.BYTES));
+      }
+
+      assertEquals(0, buffer.position());
+      assertEquals(buffer.capacity(), buffer.limit());
+
+      assertThrows(IndexOutOfBoundsException.class, () -> cursor.setOffset(-1));
+      assertThrows(IndexOutOfBoundsException.class, () -> cursor.setOffset(buffer.limit() - ByteBufferQuaternion32.SIZE_IN_BYTES + 1));
+      assertThrows(IndexOutOfBoundsException.class, () -> new ByteBufferQuaternion32(ByteBuffer.allocate(ByteBufferQuaternion32.SIZE_IN_BYTES - 1), 0));
+      assertEquals(buffer.limit() - ByteBufferQuaternion32.SIZE_IN_BYTES, cursor.getOffset());
+
+      ByteBufferQuaternion32 readOnly = new ByteBufferQuaternion32(buffer.asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN), offset);
+      EuclidCoreTestTools.assertEquals(expected[0], readOnly, 0.0);
+      assertThrows(ReadOnlyBufferException.class, () -> readOnly.setToZero());
+
+      ByteBuffer otherBuffer = ByteBuffer.allocate(ByteBufferQuaternion32.SIZE_IN_BYTES);
+      cursor.setBuffer(otherBuffer, 0);
+      cursor.set(expected[1]);
+      assertEquals(otherBuffer, cursor.getBuffer());
+      EuclidCoreTestTools.assertEquals(expected[1], new ByteBufferQuaternion32(otherBuffer, 0), 0.0);
+   }
+
+   @Override
+   public ByteBufferQuaternion32 createEmptyTuple()
+   {
+      ByteBufferQuaternion32 quaternion = new ByteBufferQuaternion32(ByteBuffer.allocate(ByteBufferQuaternion32.SIZE_IN_BYTES), 0);
+      quaternion.setToZero();
+      return quaternion;
+   }
+
+   @Override
+   public ByteBufferQuaternion32 createRandomTuple(Random random)
+   {
+      ByteBufferQuaternion32 tuple = newTuple();
+      tuple.set(EuclidCoreRandomTools.nextQuaternion32(random));
+      return tuple;
+   }
+
+   @Override
+   public ByteBufferQuaternion32 createTuple(double x, double y, double z, double s)
+   {
+      ByteBufferQuaternion32 tuple = new ByteBufferQuaternion32(ByteBuffer.allocate(ByteBufferQuaternion32.SIZE_IN_BYTES), 0);
+      tuple.setUnsafe(x, y, z, s);
+      return tuple;
+   }
+
+   /**
+    * Cycles through the offsets, byte orders, and heap or direct buffers without consuming the random
+    * generator, such that the random sequences of the inherited tests are preserved.
+    */
+   private ByteBufferQuaternion32 newTuple()
+   {
+      int offset = numberOfTuplesCreated % 8;
+      ByteBuffer buffer = numberOfTuplesCreated % 3 == 0 ? ByteBuffer.allocateDirect(offset + ByteBufferQuaternion32.SIZE_IN_BYTES)
+            : ByteBuffer.allocate(offset + ByteBufferQuaternion32.SIZE_IN_BYTES);
+      buffer.order(numberOfTuplesCreated % 2 == 0 ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+      numberOfTuplesCreated++;
+      return new ByteBufferQuaternion32(buffer, offset);
+   }
+
+   @Override
+   public double getEpsilon()
+   {
+      return 1.0e-6;
+   }
+}
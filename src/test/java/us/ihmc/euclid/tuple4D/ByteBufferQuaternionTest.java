@@ -0,0 +1,120 @@
+package us.ihmc.euclid.tuple4D;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+
+public class ByteBufferQuaternionTest extends QuaternionBasicsTest<ByteBufferQuaternion>
+{
+   private int numberOfTuplesCreated = 0;
+
+   @Test
+   public void testBufferView()
+   {
+      Random random = new Random(36724L);
+      int numberOfElements = 20;
+      int offset = 7;
+      ByteBuffer buffer = ByteBuffer.allocateDirect(offset + numberOfElements * ByteBufferQuaternion.SIZE_IN_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+      Quaternion[] expected = new Quaternion[numberOfElements];
+
+      for (int i = 0; i < numberOfElements; i++)
+      {
+         expected[i] = EuclidCoreRandomTools.nextQuaternion(random);
+         int index = offset + i * ByteBufferQuaternion.SIZE_IN_BYTES;
+         buffer.putDouble(index, expected[i].getX());
+         buffer.putDouble(index + Double.BYTES, expected[i].getY());
+         buffer.putDouble(index + 2 * Double.BYTES, expected[i].getZ());
+         buffer.putDouble(index + 3 * Double.BYTES, expected[i].getS());
+      }
+
+      ByteBufferQuaternion cursor = new ByteBufferQuaternion(buffer, offset);
+
+      for (int i = 0; i < numberOfElements; i++)
+      {
+         int index = offset + i * ByteBufferQuaternion.SIZE_IN_BYTES;
+         cursor.setOffset(index);
+         assertEquals(index, cursor.getOffset());
+         EuclidCoreTestTools.assertEquals(expected[i], cursor, 0.0);
+
+         // Modifying the view writes into the buffer.
+         Quaternion rotation = EuclidCoreRandomTools.nextQuaternion(random);
+         cursor.multiply(rotation);
+         expected[i].multiply(rotation);
+         assertEquals(expected[i].getX(), buffer.getDouble(index));
+         assertEquals(expected[i].getY(), buffer.getDouble(index + Double.BYTES));
+         assertEquals(expected[i].getZ(), buffer.getDouble(index + 2 * Double.BYTES));
+         assertEquals(expected[i].getS(), buffer.getDouble(index + 3 * Double.BYTES));
+      }
+
+      assertEquals(0, buffer.position());
+      assertEquals(buffer.capacity(), buffer.limit());
+
+      assertThrows(IndexOutOfBoundsException.class, () -> cursor.setOffset(-1));
+      assertThrows(IndexOutOfBoundsException.class, () -> cursor.setOffset(buffer.limit() - ByteBufferQuaternion.SIZE_IN_BYTES + 1));
+      assertThrows(IndexOutOfBoundsException.class, () -> new ByteBufferQuaternion(ByteBuffer.allocate(ByteBufferQuaternion.SIZE_IN_BYTES - 1), 0));
+      assertEquals(buffer.limit() - ByteBufferQuaternion.SIZE_IN_BYTES, cursor.getOffset());
+
+      ByteBufferQuaternion readOnly = new ByteBufferQuaternion(buffer.asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN), offset);
+      EuclidCoreTestTools.assertEquals(expected[0], readOnly, 0.0);
+      assertThrows(ReadOnlyBufferException.class, () -> readOnly.setToZero());
+
+      ByteBuffer otherBuffer = ByteBuffer.allocate(ByteBufferQuaternion.SIZE_IN_BYTES);
+      cursor.setBuffer(otherBuffer, 0);
+      cursor.set(expected[1]);
+      assertEquals(otherBuffer, cursor.getBuffer());
+      EuclidCoreTestTools.assertEquals(expected[1], new ByteBufferQuaternion(otherBuffer, 0), 0.0);
+   }
+
+   @Override
+   public ByteBufferQuaternion createEmptyTuple()
+   {
+      ByteBufferQuaternion quaternion = new ByteBufferQuaternion(ByteBuffer.allocate(ByteBufferQuaternion.SIZE_IN_BYTES), 0);
+      quaternion.setToZero();
+      return quaternion;
+   }
+
+   @Override
+   public ByteBufferQuaternion createRandomTuple(Random random)
+   {
+      ByteBufferQuaternion tuple = newTuple();
+      tuple.set(EuclidCoreRandomTools.nextQuaternion(random));
+      return tuple;
+   }
+
+   @Override
+   public ByteBufferQuaternion createTuple(double x, double y, double z, double s)
+   {
+      ByteBufferQuaternion tuple = new ByteBufferQuaternion(ByteBuffer.allocate(ByteBufferQuaternion.SIZE_IN_BYTES), 0);
+      tuple.setUnsafe(x, y, z, s);
+      return tuple;
+   }
+
+   /**
+    * Cycles through the offsets, byte orders, and heap or direct buffers without consuming the random
+    * generator, such that the random sequences of the inherited tests are preserved.
+    */
+   private ByteBufferQuaternion newTuple()
+   {
+      int offset = numberOfTuplesCreated % 8;
+      ByteBuffer buffer = numberOfTuplesCreated % 3 == 0 ? ByteBuffer.allocateDirect(offset + ByteBufferQuaternion.SIZE_IN_BYTES)
+            : ByteBuffer.allocate(offset + ByteBufferQuaternion.SIZE_IN_BYTES);
+      buffer.order(numberOfTuplesCreated % 2 == 0 ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+      numberOfTuplesCreated++;
+      return new ByteBufferQuaternion(buffer, offset);
+   }
+
+   @Override
+   public double getEpsilon()
+   {
+      return 1.0e-14;
+   }
+}